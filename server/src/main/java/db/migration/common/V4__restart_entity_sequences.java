@@ -0,0 +1,61 @@
+package db.migration.common;
+
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V4__restart_entity_sequences extends BaseJavaMigration {
+
+    private static final int ALLOCATION_SIZE = 50;
+
+    private static final List<EntitySequence> SEQUENCES = List.of(
+        new EntitySequence("user_seq", "users", "user_id"),
+        new EntitySequence("user_stack_seq", "user_stack", "id"),
+        new EntitySequence("position_seq", "positions", "position_id"),
+        new EntitySequence("stack_seq", "stacks", "stack_id"),
+        new EntitySequence("free_board_seq", "free_boards", "free_board_id"),
+        new EntitySequence("comment_seq", "comments", "comment_id"),
+        new EntitySequence("like_seq", "likes", "id"),
+        new EntitySequence("recruit_board_seq", "recruit_board", "recruit_board_id"),
+        new EntitySequence("board_position_seq", "board_position", "board_position_id"),
+        new EntitySequence("board_stack_seq", "board_stack", "board_stack_id"),
+        new EntitySequence("applicant_seq", "applicant", "applicant_id"),
+        new EntitySequence("recruit_comment_seq", "recruit_comments", "recruit_comment_id"),
+        new EntitySequence("recruit_like_seq", "recruit_likes", "recruit_like_id"),
+        new EntitySequence("penalty_seq", "penalties", "id"),
+        new EntitySequence("notification_seq", "notifications", "id"),
+        new EntitySequence("board_daily_stat_seq", "board_daily_stats", "id"),
+        new EntitySequence("deletion_job_seq", "deletion_jobs", "deletion_job_id"));
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            for (EntitySequence sequence : SEQUENCES) {
+                long start = findMaxId(statement, sequence) + ALLOCATION_SIZE;
+                statement.execute("create sequence if not exists " + sequence.name
+                    + " start with " + start + " increment by " + ALLOCATION_SIZE);
+                statement.execute("alter sequence " + sequence.name
+                    + " restart with " + start + " increment by " + ALLOCATION_SIZE);
+            }
+        }
+    }
+
+    private long findMaxId(Statement statement, EntitySequence sequence) throws Exception {
+        try (ResultSet resultSet = statement.executeQuery(
+            "select coalesce(max(" + sequence.idColumn + "), 0) from " + sequence.table)) {
+            resultSet.next();
+            return resultSet.getLong(1);
+        }
+    }
+
+    @RequiredArgsConstructor
+    private static class EntitySequence {
+
+        private final String name;
+        private final String table;
+        private final String idColumn;
+    }
+}
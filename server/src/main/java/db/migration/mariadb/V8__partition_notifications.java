@@ -0,0 +1,46 @@
+package db.migration.mariadb;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+import org.flywaydb.core.api.migration.BaseJavaMigration;
+import org.flywaydb.core.api.migration.Context;
+
+public class V8__partition_notifications extends BaseJavaMigration {
+
+    private static final int FUTURE_PARTITIONS = 3;
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    @Override
+    public void migrate(Context context) throws Exception {
+        try (Statement statement = context.getConnection().createStatement()) {
+            statement.execute("update notifications set created_at = current_timestamp(6) where created_at is null");
+            statement.execute("alter table notifications "
+                + "drop foreign key fk_notifications_user, "
+                + "drop foreign key fk_notifications_sending_user, "
+                + "modify created_at datetime(6) not null, "
+                + "drop primary key, "
+                + "add primary key (id, created_at)");
+            statement.execute("alter table notifications partition by range columns (created_at) ("
+                + String.join(", ", partitions(LocalDate.now().withDayOfMonth(1))) + ")");
+            statement.execute("create index notification_category_created_index on notifications (category, created_at)");
+        }
+    }
+
+    private List<String> partitions(LocalDate currentMonth) {
+        List<String> partitions = new ArrayList<>();
+        partitions.add(partition(currentMonth.minusMonths(1), currentMonth));
+        for (int i = 0; i <= FUTURE_PARTITIONS; i++) {
+            LocalDate month = currentMonth.plusMonths(i);
+            partitions.add(partition(month, month.plusMonths(1)));
+        }
+        partitions.add("partition pmax values less than (maxvalue)");
+        return partitions;
+    }
+
+    private String partition(LocalDate month, LocalDate lessThan) {
+        return "partition " + month.format(PARTITION_NAME) + " values less than ('" + lessThan + "')";
+    }
+}
@@ -0,0 +1,79 @@
+package sideeffect.project.common.aop;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.aspectj.lang.JoinPoint;
+import org.aspectj.lang.annotation.AfterReturning;
+import org.aspectj.lang.annotation.Aspect;
+import org.springframework.stereotype.Component;
+import sideeffect.project.domain.stats.StatMetric;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.applicant.ApplicantResponse;
+import sideeffect.project.dto.comment.CommentRequest;
+import sideeffect.project.dto.comment.RecruitCommentRequest;
+import sideeffect.project.dto.like.LikeResponse;
+import sideeffect.project.dto.like.LikeResult;
+import sideeffect.project.dto.like.RecruitLikeResponse;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.service.BoardStatsService;
+import sideeffect.project.service.TrendingService;
+
+@Slf4j
+@Aspect
+@Component
+@RequiredArgsConstructor
+public class BoardActivityAspect {
+
+    private final BoardStatsService boardStatsService;
+    private final TrendingService trendingService;
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.FreeBoardService.findBoard(..)) && args(boardId, ..)", argNames = "joinPoint,boardId")
+    public void afterFindFreeBoard(JoinPoint joinPoint, Long boardId) {
+        record(BoardType.FREE, boardId, StatMetric.VIEWS, 1);
+    }
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.RecruitBoardService.findRecruitBoard(..)) && args(boardId, ..)", argNames = "joinPoint,boardId")
+    public void afterFindRecruitBoard(JoinPoint joinPoint, Long boardId) {
+        record(BoardType.RECRUIT, boardId, StatMetric.VIEWS, 1);
+    }
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.LikeService.toggleLike(..))", returning = "response")
+    public void afterToggleFreeLike(JoinPoint joinPoint, LikeResponse response) {
+        record(BoardType.FREE, response.getBoardId(), StatMetric.LIKES, likeDelta(response.getMessage()));
+    }
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.RecruitLikeService.toggleLike(..))", returning = "response")
+    public void afterToggleRecruitLike(JoinPoint joinPoint, RecruitLikeResponse response) {
+        record(BoardType.RECRUIT, response.getRecruitBoardId(), StatMetric.LIKES, likeDelta(response.getMessage()));
+    }
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.CommentService.registerComment(..)) && args(request, user)", argNames = "joinPoint,request,user")
+    public void afterRegisterFreeComment(JoinPoint joinPoint, CommentRequest request, User user) {
+        record(BoardType.FREE, request.getBoardId(), StatMetric.COMMENTS, 1);
+    }
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.RecruitCommentService.registerComment(..)) && args(request, user)", argNames = "joinPoint,request,user")
+    public void afterRegisterRecruitComment(JoinPoint joinPoint, RecruitCommentRequest request, User user) {
+        record(BoardType.RECRUIT, request.getBoardId(), StatMetric.COMMENTS, 1);
+    }
+
+    @AfterReturning(value = "execution(* sideeffect.project.service.ApplicantService.register(..))", returning = "response")
+    public void afterRegisterApplicant(JoinPoint joinPoint, ApplicantResponse response) {
+        record(BoardType.RECRUIT, response.getRecruitBoardId(), StatMetric.APPLICATIONS, 1);
+    }
+
+    private long likeDelta(String message) {
+        return LikeResult.LIKE.getMessage().equals(message) ? 1 : -1;
+    }
+
+    private void record(BoardType type, Long boardId, StatMetric metric, long delta) {
+        try {
+            boardStatsService.record(type, boardId, metric, delta);
+            if (type == BoardType.RECRUIT) {
+                trendingService.record(type, boardId, metric, delta);
+            }
+        } catch (RuntimeException e) {
+            log.warn("게시판 통계 기록 실패 type={}, boardId={}, metric={}", type, boardId, metric, e);
+        }
+    }
+}
@@ -0,0 +1,33 @@
+package sideeffect.project.common.cache;
+
+import java.time.Duration;
+import java.util.function.Function;
+import org.springframework.stereotype.Component;
+import sideeffect.project.dto.freeboard.DetailedFreeBoardResponse;
+import sideeffect.project.dto.recruit.DetailedRecruitBoardResponse;
+
+@Component
+public class BoardDetailCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(1);
+    private static final int MAXIMUM_SIZE = 1000;
+
+    private final NearCache<Long, DetailedFreeBoardResponse> freeBoards = new NearCache<>(TIME_TO_LIVE, MAXIMUM_SIZE);
+    private final NearCache<Long, DetailedRecruitBoardResponse> recruitBoards = new NearCache<>(TIME_TO_LIVE, MAXIMUM_SIZE);
+
+    public DetailedFreeBoardResponse getFreeBoard(Long boardId, Function<Long, DetailedFreeBoardResponse> loader) {
+        return freeBoards.get(boardId, loader);
+    }
+
+    public DetailedRecruitBoardResponse getRecruitBoard(Long boardId, Function<Long, DetailedRecruitBoardResponse> loader) {
+        return recruitBoards.get(boardId, loader);
+    }
+
+    public void evictFreeBoard(Long boardId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> freeBoards.evict(boardId));
+    }
+
+    public void evictRecruitBoard(Long boardId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> recruitBoards.evict(boardId));
+    }
+}
@@ -0,0 +1,190 @@
+package sideeffect.project.common.cache;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.function.Function;
+
+public class NearCache<K, V> {
+
+    private final ConcurrentMap<K, Entry<V>> entries = new ConcurrentHashMap<>();
+    private final ConcurrentMap<K, CompletableFuture<V>> loadings = new ConcurrentHashMap<>();
+    private final long timeToLiveMillis;
+    private final int maximumSize;
+    private final Clock clock;
+
+    public NearCache(Duration timeToLive, int maximumSize) {
+        this(timeToLive, maximumSize, Clock.systemUTC());
+    }
+
+    public NearCache(Duration timeToLive, int maximumSize, Clock clock) {
+        this.timeToLiveMillis = timeToLive.toMillis();
+        this.maximumSize = maximumSize;
+        this.clock = clock;
+    }
+
+    public V get(K key, Function<K, V> loader) {
+        Entry<V> entry = entries.get(key);
+        if (entry != null && !entry.isExpired(clock.millis())) {
+            return entry.getValue();
+        }
+
+        CompletableFuture<V> loading = new CompletableFuture<>();
+        CompletableFuture<V> inFlight = loadings.putIfAbsent(key, loading);
+        if (inFlight != null) {
+            return await(inFlight);
+        }
+        return load(key, loader, loading);
+    }
+
+    public Map<K, V> getAll(Collection<K> keys, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> values = new HashMap<>();
+        Map<K, CompletableFuture<V>> owned = new HashMap<>();
+        Map<K, CompletableFuture<V>> inFlights = new HashMap<>();
+        long now = clock.millis();
+        for (K key : new LinkedHashSet<>(keys)) {
+            Entry<V> entry = entries.get(key);
+            if (entry != null && !entry.isExpired(now)) {
+                values.put(key, entry.getValue());
+                continue;
+            }
+            CompletableFuture<V> loading = new CompletableFuture<>();
+            CompletableFuture<V> inFlight = loadings.putIfAbsent(key, loading);
+            if (inFlight != null) {
+                inFlights.put(key, inFlight);
+            } else {
+                owned.put(key, loading);
+            }
+        }
+
+        if (!owned.isEmpty()) {
+            values.putAll(loadAll(owned, loader));
+        }
+        inFlights.forEach((key, inFlight) -> {
+            V value = await(inFlight);
+            if (value != null) {
+                values.put(key, value);
+            }
+        });
+        return values;
+    }
+
+    public void evict(K key) {
+        loadings.compute(key, (k, loading) -> {
+            entries.remove(k);
+            return null;
+        });
+    }
+
+    public void clear() {
+        loadings.clear();
+        entries.clear();
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    private V load(K key, Function<K, V> loader, CompletableFuture<V> loading) {
+        try {
+            V value = loader.apply(key);
+            publish(key, value, loading);
+            loading.complete(value);
+            return value;
+        } catch (RuntimeException e) {
+            loadings.remove(key, loading);
+            loading.completeExceptionally(e);
+            throw e;
+        }
+    }
+
+    private Map<K, V> loadAll(Map<K, CompletableFuture<V>> owned, Function<Set<K>, Map<K, V>> loader) {
+        Map<K, V> loaded;
+        try {
+            loaded = loader.apply(owned.keySet());
+        } catch (RuntimeException e) {
+            owned.forEach((key, loading) -> {
+                loadings.remove(key, loading);
+                loading.completeExceptionally(e);
+            });
+            throw e;
+        }
+
+        Map<K, V> values = new HashMap<>();
+        owned.forEach((key, loading) -> {
+            V value = loaded.get(key);
+            if (value == null) {
+                loadings.remove(key, loading);
+            } else {
+                publish(key, value, loading);
+                values.put(key, value);
+            }
+            loading.complete(value);
+        });
+        return values;
+    }
+
+    private void publish(K key, V value, CompletableFuture<V> loading) {
+        loadings.computeIfPresent(key, (k, current) -> {
+            if (current != loading) {
+                return current;
+            }
+            evictIfFull();
+            entries.put(k, new Entry<>(value, clock.millis() + timeToLiveMillis));
+            return null;
+        });
+    }
+
+    private void evictIfFull() {
+        if (entries.size() < maximumSize) {
+            return;
+        }
+        long now = clock.millis();
+        entries.values().removeIf(entry -> entry.isExpired(now));
+
+        Iterator<K> keys = entries.keySet().iterator();
+        while (entries.size() >= maximumSize && keys.hasNext()) {
+            keys.next();
+            keys.remove();
+        }
+    }
+
+    private V await(CompletableFuture<V> loading) {
+        try {
+            return loading.join();
+        } catch (CompletionException e) {
+            if (e.getCause() instanceof RuntimeException) {
+                throw (RuntimeException) e.getCause();
+            }
+            throw e;
+        }
+    }
+
+    private static class Entry<V> {
+
+        private final V value;
+        private final long expiresAt;
+
+        Entry(V value, long expiresAt) {
+            this.value = value;
+            this.expiresAt = expiresAt;
+        }
+
+        V getValue() {
+            return value;
+        }
+
+        boolean isExpired(long now) {
+            return now >= expiresAt;
+        }
+    }
+}
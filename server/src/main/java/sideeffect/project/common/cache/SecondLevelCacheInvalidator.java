@@ -0,0 +1,185 @@
+package sideeffect.project.common.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Cache;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.AbstractCollectionEvent;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCollectionRecreateEvent;
+import org.hibernate.event.spi.PostCollectionRecreateEventListener;
+import org.hibernate.event.spi.PostCollectionRemoveEvent;
+import org.hibernate.event.spi.PostCollectionRemoveEventListener;
+import org.hibernate.event.spi.PostCollectionUpdateEvent;
+import org.hibernate.event.spi.PostCollectionUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostDeleteEventListener;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.event.spi.PostUpdateEventListener;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sideeffect.project.redis.CacheInvalidationRedisRepository;
+
+/**
+ * 엔티티 이벤트로 생긴 2차 캐시 변경만 다른 노드에 전파한다.
+ * JPQL 벌크 수정과 삭제는 캐시하지 않는 엔티티에만 실행하고,
+ * JDBC로 캐시된 테이블을 지우거나 옮기면 단계에 캐시를 선언해 evictEntity, evictCollection으로 무효화한다.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheInvalidator implements MessageListener, PostUpdateEventListener,
+    PostDeleteEventListener, PostCollectionRecreateEventListener, PostCollectionUpdateEventListener,
+    PostCollectionRemoveEventListener {
+
+    private static final String DELIMITER = ":";
+    private static final String ENTITY = "E";
+    private static final String COLLECTION = "C";
+
+    private final String nodeId = UUID.randomUUID().toString();
+    private final EntityManagerFactory entityManagerFactory;
+    private final CacheInvalidationRedisRepository cacheInvalidationRedisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void registerListeners() {
+        EventListenerRegistry registry = sessionFactory().getServiceRegistry().getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_UPDATE, this);
+        registry.appendListeners(EventType.POST_DELETE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_RECREATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_UPDATE, this);
+        registry.appendListeners(EventType.POST_COLLECTION_REMOVE, this);
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(CacheInvalidationRedisRepository.CHANNEL));
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        if (event.getPersister().canWriteToCache()) {
+            publishAfterCommit(ENTITY, event.getPersister().getEntityName(), event.getId());
+        }
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        if (event.getPersister().canWriteToCache()) {
+            publishAfterCommit(ENTITY, event.getPersister().getEntityName(), event.getId());
+        }
+    }
+
+    @Override
+    public void onPostRecreateCollection(PostCollectionRecreateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostUpdateCollection(PostCollectionUpdateEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public void onPostRemoveCollection(PostCollectionRemoveEvent event) {
+        onCollectionChange(event);
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return false;
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        String[] invalidation = new String(message.getBody(), StandardCharsets.UTF_8).split(DELIMITER, 4);
+        if (invalidation.length != 4 || nodeId.equals(invalidation[0])) {
+            return;
+        }
+        Cache cache = sessionFactory().getCache();
+        Long id = Long.valueOf(invalidation[3]);
+        if (ENTITY.equals(invalidation[1])) {
+            cache.evictEntityData(invalidation[2], id);
+            return;
+        }
+        cache.evictCollectionData(invalidation[2], id);
+    }
+
+    public void evictEntity(String entityName, Object id) {
+        sessionFactory().getCache().evictEntityData(entityName, id);
+        publishAfterCommit(ENTITY, entityName, id);
+    }
+
+    public void evictCollection(String role, Object ownerId) {
+        sessionFactory().getCache().evictCollectionData(role, ownerId);
+        publishAfterCommit(COLLECTION, role, ownerId);
+    }
+
+    private void onCollectionChange(AbstractCollectionEvent event) {
+        String role = event.getCollection().getRole();
+        Object ownerId = event.getAffectedOwnerIdOrNull();
+        if (role == null || ownerId == null) {
+            return;
+        }
+        if (sessionFactory().getMappingMetamodel().getCollectionDescriptor(role).hasCache()) {
+            publishAfterCommit(COLLECTION, role, ownerId);
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private void publishAfterCommit(String type, String name, Object id) {
+        String invalidation = String.join(DELIMITER, nodeId, type, name, String.valueOf(id));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(List.of(invalidation));
+            return;
+        }
+        List<String> pending = (List<String>) TransactionSynchronizationManager.getResource(this);
+        if (pending == null) {
+            pending = new ArrayList<>();
+            TransactionSynchronizationManager.bindResource(this, pending);
+            TransactionSynchronizationManager.registerSynchronization(new PendingInvalidations(pending));
+        }
+        pending.add(invalidation);
+    }
+
+    private void publish(List<String> invalidations) {
+        try {
+            cacheInvalidationRedisRepository.publish(invalidations);
+        } catch (RuntimeException e) {
+            log.warn("2차 캐시 무효화 전파 실패 count={}", invalidations.size(), e);
+        }
+    }
+
+    private SessionFactoryImplementor sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class);
+    }
+
+    @RequiredArgsConstructor
+    private class PendingInvalidations implements TransactionSynchronization {
+
+        private final List<String> invalidations;
+
+        @Override
+        public void afterCompletion(int status) {
+            TransactionSynchronizationManager.unbindResourceIfPossible(SecondLevelCacheInvalidator.this);
+            if (status == STATUS_COMMITTED) {
+                publish(invalidations);
+            }
+        }
+    }
+}
@@ -0,0 +1,50 @@
+package sideeffect.project.common.cache;
+
+import java.time.Duration;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import sideeffect.project.dto.user.UserSummary;
+import sideeffect.project.repository.UserRepository;
+
+@Component
+@RequiredArgsConstructor
+public class UserSummaryCache {
+
+    private static final Duration TIME_TO_LIVE = Duration.ofMinutes(10);
+    private static final int MAXIMUM_SIZE = 10000;
+
+    private final UserRepository userRepository;
+    private final NearCache<Long, UserSummary> summaries = new NearCache<>(TIME_TO_LIVE, MAXIMUM_SIZE);
+
+    public UserSummary get(Long userId) {
+        return getAll(List.of(userId)).get(userId);
+    }
+
+    public Map<Long, UserSummary> getAll(Collection<Long> userIds) {
+        return summaries.getAll(userIds.stream().filter(Objects::nonNull).collect(Collectors.toSet()), this::load);
+    }
+
+    public <T> void populate(List<T> items, Function<T, Long> userIdGetter, BiConsumer<T, UserSummary> updater) {
+        if (items.isEmpty()) {
+            return;
+        }
+        Map<Long, UserSummary> users = getAll(items.stream().map(userIdGetter).collect(Collectors.toList()));
+        items.forEach(item -> updater.accept(item, users.get(userIdGetter.apply(item))));
+    }
+
+    public void evict(Long userId) {
+        CacheEvictions.evictNowAndAfterCommit(() -> summaries.evict(userId));
+    }
+
+    private Map<Long, UserSummary> load(Collection<Long> userIds) {
+        return userRepository.findSummaries(userIds).stream()
+            .collect(Collectors.toMap(UserSummary::getId, Function.identity()));
+    }
+}
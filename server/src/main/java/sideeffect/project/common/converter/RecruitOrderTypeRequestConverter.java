@@ -0,0 +1,20 @@
+package sideeffect.project.common.converter;
+
+import static org.springframework.util.StringUtils.hasText;
+import static sideeffect.project.dto.recruit.RecruitOrderType.LATEST;
+
+import org.springframework.core.convert.converter.Converter;
+import org.springframework.stereotype.Component;
+import sideeffect.project.dto.recruit.RecruitOrderType;
+
+@Component
+public class RecruitOrderTypeRequestConverter implements Converter<String, RecruitOrderType> {
+
+    @Override
+    public RecruitOrderType convert(String source) {
+        if (!hasText(source)) {
+            return LATEST;
+        }
+        return RecruitOrderType.parse(source);
+    }
+}
@@ -0,0 +1,20 @@
+package sideeffect.project.common.domain;
+
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.function.Function;
+
+public final class CollectionSync {
+
+    private CollectionSync() {
+    }
+
+    public static <E, K> void sync(Collection<E> elements, Collection<K> keys, Function<E, K> keyExtractor,
+        Function<K, E> factory) {
+        Set<K> additions = new LinkedHashSet<>(keys);
+        elements.removeIf(element -> !additions.contains(keyExtractor.apply(element)));
+        elements.forEach(element -> additions.remove(keyExtractor.apply(element)));
+        additions.forEach(key -> elements.add(factory.apply(key)));
+    }
+}
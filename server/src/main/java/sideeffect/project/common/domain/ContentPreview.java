@@ -0,0 +1,16 @@
+package sideeffect.project.common.domain;
+
+import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
+
+public final class ContentPreview {
+
+    public static final int LENGTH = 100;
+
+    private ContentPreview() {
+    }
+
+    public static StringExpression of(StringExpression content) {
+        return Expressions.stringTemplate("substring({0}, 1, {1})", content, LENGTH);
+    }
+}
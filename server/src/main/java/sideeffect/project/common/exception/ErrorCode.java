@@ -9,6 +9,7 @@ public enum ErrorCode {
     USER_UNAUTHENTICATION(400, "U_005", "유효하지 않은 이메일이거나 비밀번호가 틀립니다"),
     USER_FILE_UPLOAD_FAILED(500, "U_006", "이미지 업로드에 문제가 발생했습니다."),
     USER_SOCIAL_ACCESS_TOKEN_EXPIRED(401, "U_007", "소셜 서버의 액세스 토큰이 만료되었습니다"),
+    USER_SOCIAL_SERVER_UNAVAILABLE(503, "U_008", "소셜 서버와 통신할 수 없습니다"),
 
     ACCESS_TOKEN_ERROR(401, "AT_006", "비정상적인 액세스 토큰입니다"),
     ACCESS_TOKEN_UNSUPPORTED(401, "AT_002", "지원하지 않는 액세스 토큰 형식입니다"),
@@ -16,10 +17,12 @@ public enum ErrorCode {
     ACCESS_TOKEN_SIGNATURE_FAILED(401, "AT_004", "유효하지 않은 서명입니다"),
     ACCESS_TOKEN_EXPIRED(401, "AT_001", "엑세스 토큰이 만료되었습니다"),
     ACCESS_TOKEN_ILLEGAL_STATE(401, "AT_005", "엑세스 토큰이 비어있습니다"),
+    ACCESS_TOKEN_REVOKED(401, "AT_007", "로그아웃된 엑세스 토큰입니다"),
     REFRESH_TOKEN_NOT_FOUND(401, "RT_001", "유효하지 않은 리프레쉬 토큰입니다"),
     REFRESH_TOKEN_NOT_REQUEST(401, "RT_002", "토큰이 전달되지 않았습니다."),
 
     NOTIFICATION_NOT_FOUND(400, "N_001", "해당 알림을 찾을 수 없습니다."),
+    NOTIFICATION_INVALID_BULK_TARGET(400, "N_002", "일괄 처리할 알림 목록이나 기준 알림 중 하나만 지정해야 합니다."),
 
     FREE_BOARD_NOT_FOUND(400, "FB_001", "해당 게시판을 찾을 수 없습니다."),
     FREE_BOARD_UNAUTHORIZED(403, "FB_002", "해당 게시판에 대한 권한이 없습니다."),
@@ -57,6 +60,8 @@ public enum ErrorCode {
 
     INVALID_FILTER_VALUE(400, "F_001", "게시판 조회 필터를 잘못입력했습니다."),
 
+    BOARD_STATS_INVALID_PERIOD(400, "BS_001", "통계 조회 기간이 잘못되었습니다."),
+
     FILE_NOT_FOUND(400, "FI_001", "파일을 찾을 수 없습니다.");
 
     private final String code;
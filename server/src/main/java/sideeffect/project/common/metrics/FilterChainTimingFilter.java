@@ -0,0 +1,56 @@
+package sideeffect.project.common.metrics;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.util.concurrent.TimeUnit;
+import lombok.AccessLevel;
+import lombok.RequiredArgsConstructor;
+import org.springframework.web.filter.OncePerRequestFilter;
+import sideeffect.project.config.security.PublicRoutes;
+
+@RequiredArgsConstructor(access = AccessLevel.PRIVATE)
+public class FilterChainTimingFilter extends OncePerRequestFilter {
+
+    private static final String START_ATTRIBUTE = FilterChainTimingFilter.class.getName() + ".start";
+    private static final String METRIC_NAME = "http.server.filter-chain";
+
+    private final MeterRegistry meterRegistry;
+    private final boolean start;
+
+    public static FilterChainTimingFilter start(MeterRegistry meterRegistry) {
+        return new FilterChainTimingFilter(meterRegistry, true);
+    }
+
+    public static FilterChainTimingFilter stop(MeterRegistry meterRegistry) {
+        return new FilterChainTimingFilter(meterRegistry, false);
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+        throws ServletException, IOException {
+        if (start) {
+            request.setAttribute(START_ATTRIBUTE, System.nanoTime());
+        } else {
+            record(request);
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private void record(HttpServletRequest request) {
+        Object startedAt = request.getAttribute(START_ATTRIBUTE);
+        if (startedAt == null) {
+            return;
+        }
+        meterRegistry.timer(METRIC_NAME, "chain", PublicRoutes.chainNameOf(request))
+            .record(System.nanoTime() - (Long) startedAt, TimeUnit.NANOSECONDS);
+    }
+
+    @Override
+    protected String getAlreadyFilteredAttributeName() {
+        return super.getAlreadyFilteredAttributeName() + (start ? ".start" : ".stop");
+    }
+}
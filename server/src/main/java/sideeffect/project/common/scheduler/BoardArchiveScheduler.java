@@ -0,0 +1,40 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.service.BoardArchiveService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardArchiveScheduler {
+
+    private static final String LOCK_NAME = "board-archive";
+    private static final Duration LOCK_TIMEOUT = Duration.ofHours(1);
+
+    private final SchedulerLock schedulerLock;
+    private final BoardArchiveService boardArchiveService;
+
+    @Value("${archive.recruit-board.closed-days:90}")
+    private long closedDays;
+
+    @Scheduled(fixedDelayString = "${archive.delay:3600000}", initialDelayString = "${archive.delay:3600000}")
+    public void archive() {
+        schedulerLock.runWithLock(LOCK_NAME, LOCK_TIMEOUT, () -> {
+            try {
+                LocalDateTime closedBefore = LocalDateTime.now().minusDays(closedDays);
+                for (ArchiveTarget target : ArchiveTarget.values()) {
+                    boardArchiveService.archive(target, closedBefore);
+                }
+            } catch (RuntimeException e) {
+                log.error("게시판 보관 실패", e);
+            }
+        });
+    }
+}
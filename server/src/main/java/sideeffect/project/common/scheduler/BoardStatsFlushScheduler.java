@@ -0,0 +1,46 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideeffect.project.redis.BoardStatsRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.StatChange;
+import sideeffect.project.service.BoardStatsService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class BoardStatsFlushScheduler {
+
+    private static final String LOCK_NAME = "board-stats-flush:";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(1);
+
+    private final SchedulerLock schedulerLock;
+    private final BoardStatsRedisRepository boardStatsRedisRepository;
+    private final BoardStatsService boardStatsService;
+
+    @Scheduled(fixedDelayString = "${stats.flush-delay:60000}")
+    public void flush() {
+        for (BoardType type : BoardType.values()) {
+            schedulerLock.runWithLock(LOCK_NAME + type.getValue(), LOCK_TIMEOUT, () -> {
+                try {
+                    flushPending(type);
+                } catch (RuntimeException e) {
+                    log.error("게시판 통계 반영 실패 type={}", type, e);
+                }
+            });
+        }
+    }
+
+    private void flushPending(BoardType type) {
+        List<StatChange> changes = boardStatsRedisRepository.drainPending(type);
+        if (!changes.isEmpty()) {
+            boardStatsService.flush(type, changes);
+        }
+        boardStatsRedisRepository.completeFlush(type);
+    }
+}
@@ -0,0 +1,18 @@
+package sideeffect.project.common.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideeffect.project.service.DeletionJobRunner;
+
+@Component
+@RequiredArgsConstructor
+public class DeletionJobScheduler {
+
+    private final DeletionJobRunner deletionJobRunner;
+
+    @Scheduled(fixedDelayString = "${deletion.resume-delay:60000}", initialDelayString = "${deletion.resume-delay:60000}")
+    public void resume() {
+        deletionJobRunner.resume();
+    }
+}
@@ -0,0 +1,66 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.LikeChange;
+import sideeffect.project.service.LikeFlushService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LikeFlushScheduler {
+
+    private static final String LOCK_NAME = "like-flush:";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(1);
+
+    private final SchedulerLock schedulerLock;
+    private final BoardLikeRedisRepository boardLikeRedisRepository;
+    private final LikeFlushService likeFlushService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        for (BoardType type : BoardType.values()) {
+            runWithLock(type, () -> {
+                flushPending(type);
+                if (!boardLikeRedisRepository.isLoaded(type)) {
+                    likeFlushService.loadLikes(type);
+                    boardLikeRedisRepository.markLoaded(type);
+                }
+            });
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${like.flush-delay:1000}")
+    public void flush() {
+        for (BoardType type : BoardType.values()) {
+            runWithLock(type, () -> flushPending(type));
+        }
+    }
+
+    private void flushPending(BoardType type) {
+        List<LikeChange> changes = boardLikeRedisRepository.drainPending(type);
+        if (changes.isEmpty()) {
+            return;
+        }
+        likeFlushService.flush(type, changes);
+        boardLikeRedisRepository.completeFlush(type);
+    }
+
+    private void runWithLock(BoardType type, Runnable task) {
+        schedulerLock.runWithLock(LOCK_NAME + type.getValue(), LOCK_TIMEOUT, () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("추천 반영 실패 type={}", type, e);
+            }
+        });
+    }
+}
@@ -0,0 +1,46 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideeffect.project.service.NotificationRetentionService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class NotificationRetentionScheduler {
+
+    private static final String LOCK_NAME = "notification-retention";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(30);
+
+    private final SchedulerLock schedulerLock;
+    private final NotificationRetentionService notificationRetentionService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void preparePartitions() {
+        schedulerLock.runWithLock(LOCK_NAME, LOCK_TIMEOUT, () -> {
+            try {
+                notificationRetentionService.preparePartitions(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.error("알림 파티션 준비 실패", e);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${notification.retention.purge-delay:3600000}",
+        initialDelayString = "${notification.retention.purge-delay:3600000}")
+    public void purge() {
+        schedulerLock.runWithLock(LOCK_NAME, LOCK_TIMEOUT, () -> {
+            try {
+                notificationRetentionService.purge(LocalDateTime.now());
+            } catch (RuntimeException e) {
+                log.error("알림 보관 기간 정리 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,36 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+import sideeffect.project.redis.RefreshTokenRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class RefreshTokenMigrationScheduler {
+
+    private static final String LOCK_NAME = "refresh-token-migration";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(5);
+    private static final int BATCH_SIZE = 500;
+
+    private final SchedulerLock schedulerLock;
+    private final RefreshTokenRepository refreshTokenRepository;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        schedulerLock.runWithLock(LOCK_NAME, LOCK_TIMEOUT, () -> {
+            try {
+                int migrated = refreshTokenRepository.migrateLegacyTokens(BATCH_SIZE);
+                if (migrated > 0) {
+                    log.info("refresh token 이전 완료 count={}", migrated);
+                }
+            } catch (RuntimeException e) {
+                log.error("refresh token 이전 실패", e);
+            }
+        });
+    }
+}
@@ -0,0 +1,31 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import sideeffect.project.redis.SchedulerLockRedisRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class SchedulerLock {
+
+    private final SchedulerLockRedisRepository schedulerLockRedisRepository;
+
+    public boolean runWithLock(String name, Duration timeout, Runnable task) {
+        Optional<String> token = schedulerLockRedisRepository.tryLock(name, timeout);
+        if (token.isEmpty()) {
+            return false;
+        }
+        try {
+            task.run();
+        } finally {
+            if (!schedulerLockRedisRepository.unlock(name, token.get())) {
+                log.warn("스케줄러 락이 만료되어 해제하지 못함 lock={}", name);
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,54 @@
+package sideeffect.project.common.scheduler;
+
+import java.time.Duration;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.TrendingRedisRepository;
+import sideeffect.project.service.TrendingService;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TrendingScheduler {
+
+    private static final String LOCK_NAME = "trending:";
+    private static final Duration LOCK_TIMEOUT = Duration.ofMinutes(5);
+    private static final BoardType TYPE = BoardType.RECRUIT;
+
+    private final SchedulerLock schedulerLock;
+    private final TrendingRedisRepository trendingRedisRepository;
+    private final TrendingService trendingService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        runWithLock(() -> {
+            if (!trendingRedisRepository.isLoaded(TYPE)) {
+                trendingService.load(TYPE);
+                trendingRedisRepository.markLoaded(TYPE);
+            }
+        });
+    }
+
+    @Scheduled(fixedDelayString = "${trending.prune-delay:3600000}")
+    public void prune() {
+        runWithLock(() -> {
+            long removed = trendingService.prune(TYPE);
+            log.debug("인기 점수 정리 type={}, removed={}", TYPE, removed);
+        });
+    }
+
+    private void runWithLock(Runnable task) {
+        schedulerLock.runWithLock(LOCK_NAME + TYPE.getValue(), LOCK_TIMEOUT, () -> {
+            try {
+                task.run();
+            } catch (RuntimeException e) {
+                log.error("인기 점수 갱신 실패 type={}", TYPE, e);
+            }
+        });
+    }
+}
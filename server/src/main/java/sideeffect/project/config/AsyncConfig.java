@@ -1,10 +1,14 @@
 package sideeffect.project.config;
 
 import java.util.concurrent.Executor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.scheduling.annotation.AsyncConfigurerSupport;
 import org.springframework.scheduling.annotation.EnableAsync;
 import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.concurrent.DelegatingSecurityContextRunnable;
+import sideeffect.project.service.MypageAssembler;
 
 @Configuration
 @EnableAsync
@@ -20,4 +24,30 @@ public class AsyncConfig extends AsyncConfigurerSupport {
         executor.initialize();
         return executor;
     }
+
+    @Bean
+    public ThreadPoolTaskExecutor mypageExecutor(
+        @Value("${mypage.executor.concurrency:10}") int concurrency,
+        @Value("${mypage.executor.pool-size:${datasource.replica.hikari.maximum-pool-size:${spring.datasource.hikari.maximum-pool-size:10}}}") int poolSize) {
+        int tasks = concurrency * MypageAssembler.SECTIONS;
+        int threads = Math.max(MypageAssembler.SECTIONS, Math.min(tasks, poolSize));
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(Math.max(tasks, threads));
+        executor.setThreadNamePrefix("mypage-");
+        executor.setTaskDecorator(DelegatingSecurityContextRunnable::new);
+        executor.initialize();
+        return executor;
+    }
+
+    @Bean
+    public ThreadPoolTaskExecutor deletionExecutor() {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(1);
+        executor.setMaxPoolSize(2);
+        executor.setQueueCapacity(100);
+        executor.setThreadNamePrefix("deletion-");
+        return executor;
+    }
 }
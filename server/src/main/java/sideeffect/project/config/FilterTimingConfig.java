@@ -0,0 +1,30 @@
+package sideeffect.project.config;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.boot.web.servlet.FilterRegistrationBean;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.Ordered;
+import sideeffect.project.common.metrics.FilterChainTimingFilter;
+
+@Configuration
+public class FilterTimingConfig {
+
+    @Bean
+    public FilterRegistrationBean<FilterChainTimingFilter> filterChainTimingStartFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FilterChainTimingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setName("filterChainTimingStartFilter");
+        registrationBean.setFilter(FilterChainTimingFilter.start(meterRegistry));
+        registrationBean.setOrder(Ordered.HIGHEST_PRECEDENCE);
+        return registrationBean;
+    }
+
+    @Bean
+    public FilterRegistrationBean<FilterChainTimingFilter> filterChainTimingStopFilter(MeterRegistry meterRegistry) {
+        FilterRegistrationBean<FilterChainTimingFilter> registrationBean = new FilterRegistrationBean<>();
+        registrationBean.setName("filterChainTimingStopFilter");
+        registrationBean.setFilter(FilterChainTimingFilter.stop(meterRegistry));
+        registrationBean.setOrder(Ordered.LOWEST_PRECEDENCE);
+        return registrationBean;
+    }
+}
@@ -0,0 +1,13 @@
+package sideeffect.project.config.datasource;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+@Getter
+@RequiredArgsConstructor
+public enum DataSourceType {
+    PRIMARY("primary"),
+    REPLICA("replica");
+
+    private final String value;
+}
@@ -0,0 +1,40 @@
+package sideeffect.project.config.datasource;
+
+import java.time.Clock;
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class ReadYourWritesTracker {
+
+    private static final int CLEANUP_THRESHOLD = 10_000;
+
+    private final Map<Long, Long> stickyUntil = new ConcurrentHashMap<>();
+    private final long windowMillis;
+    private final Clock clock;
+
+    public ReadYourWritesTracker(Duration window, Clock clock) {
+        this.windowMillis = window.toMillis();
+        this.clock = clock;
+    }
+
+    public void markWritten(Long userId) {
+        long now = clock.millis();
+        if (stickyUntil.size() >= CLEANUP_THRESHOLD) {
+            stickyUntil.values().removeIf(until -> until <= now);
+        }
+        stickyUntil.put(userId, now + windowMillis);
+    }
+
+    public boolean isSticky(Long userId) {
+        Long until = stickyUntil.get(userId);
+        if (until == null) {
+            return false;
+        }
+        if (until > clock.millis()) {
+            return true;
+        }
+        stickyUntil.remove(userId, until);
+        return false;
+    }
+}
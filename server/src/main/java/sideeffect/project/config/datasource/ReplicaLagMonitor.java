@@ -0,0 +1,56 @@
+package sideeffect.project.config.datasource;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import java.sql.Connection;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import javax.sql.DataSource;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+
+@Slf4j
+public class ReplicaLagMonitor {
+
+    private final DataSource replicaDataSource;
+    private final ReplicaProperties properties;
+    private volatile double lagSeconds = Double.NaN;
+    private volatile boolean available;
+
+    public ReplicaLagMonitor(DataSource replicaDataSource, ReplicaProperties properties, MeterRegistry meterRegistry) {
+        this.replicaDataSource = replicaDataSource;
+        this.properties = properties;
+        Gauge.builder("datasource.replica.lag", this, monitor -> monitor.lagSeconds)
+            .baseUnit("seconds")
+            .register(meterRegistry);
+        Gauge.builder("datasource.replica.available", this, monitor -> monitor.available ? 1 : 0)
+            .register(meterRegistry);
+    }
+
+    @Scheduled(fixedDelayString = "${datasource.replica.lag-check-delay:5000}")
+    public void check() {
+        double lag = readLag();
+        lagSeconds = lag;
+        available = !Double.isNaN(lag) && lag <= properties.getMaxLag().toSeconds();
+    }
+
+    public boolean isAvailable() {
+        return available;
+    }
+
+    private double readLag() {
+        try (Connection connection = replicaDataSource.getConnection();
+            Statement statement = connection.createStatement();
+            ResultSet resultSet = statement.executeQuery(properties.getLagQuery())) {
+            if (!resultSet.next()) {
+                return Double.NaN;
+            }
+            long lag = resultSet.getLong(properties.getLagColumn());
+            return resultSet.wasNull() ? Double.NaN : lag;
+        } catch (SQLException e) {
+            log.warn("레플리카 지연 확인 실패", e);
+            return Double.NaN;
+        }
+    }
+}
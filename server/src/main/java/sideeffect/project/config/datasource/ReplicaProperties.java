@@ -0,0 +1,21 @@
+package sideeffect.project.config.datasource;
+
+import java.time.Duration;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.replica")
+public class ReplicaProperties {
+
+    private String url;
+    private String username;
+    private String password;
+    private String driverClassName;
+    private Duration maxLag = Duration.ofSeconds(5);
+    private Duration stickyWindow = Duration.ofSeconds(5);
+    private String lagQuery = "SHOW SLAVE STATUS";
+    private String lagColumn = "Seconds_Behind_Master";
+}
@@ -0,0 +1,67 @@
+package sideeffect.project.config.datasource;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.datasource.lookup.AbstractRoutingDataSource;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sideeffect.project.security.UserDetailsImpl;
+
+@RequiredArgsConstructor
+public class ReplicaRoutingDataSource extends AbstractRoutingDataSource {
+
+    private static final String ROUTING_METRIC = "datasource.routing";
+    private static final String FALLBACK_METRIC = "datasource.replica.fallback";
+
+    private final ReplicaLagMonitor replicaLagMonitor;
+    private final ReadYourWritesTracker readYourWritesTracker;
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    protected Object determineCurrentLookupKey() {
+        Long userId = currentUserId();
+        if (!TransactionSynchronizationManager.isCurrentTransactionReadOnly()) {
+            markWrittenOnCommit(userId);
+            return route(DataSourceType.PRIMARY);
+        }
+        if (userId != null && readYourWritesTracker.isSticky(userId)) {
+            return fallback("sticky");
+        }
+        if (!replicaLagMonitor.isAvailable()) {
+            return fallback("lag");
+        }
+        return route(DataSourceType.REPLICA);
+    }
+
+    private void markWrittenOnCommit(Long userId) {
+        if (userId == null || !TransactionSynchronizationManager.isSynchronizationActive()) {
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                readYourWritesTracker.markWritten(userId);
+            }
+        });
+    }
+
+    private DataSourceType fallback(String reason) {
+        meterRegistry.counter(FALLBACK_METRIC, "reason", reason).increment();
+        return route(DataSourceType.PRIMARY);
+    }
+
+    private DataSourceType route(DataSourceType type) {
+        meterRegistry.counter(ROUTING_METRIC, "target", type.getValue()).increment();
+        return type;
+    }
+
+    private Long currentUserId() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication == null || !(authentication.getPrincipal() instanceof UserDetailsImpl userDetails)) {
+            return null;
+        }
+        return userDetails.getUser().getId();
+    }
+}
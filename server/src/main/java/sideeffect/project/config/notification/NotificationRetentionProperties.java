@@ -0,0 +1,30 @@
+package sideeffect.project.config.notification;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.Map;
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import sideeffect.project.domain.notification.NotificationType;
+
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "notification.retention")
+public class NotificationRetentionProperties {
+
+    private Duration defaultTtl = Duration.ofDays(90);
+    private Map<NotificationType, Duration> ttl = new HashMap<>();
+    private int futurePartitions = 3;
+
+    public Duration ttlOf(NotificationType type) {
+        return type == null ? defaultTtl : ttl.getOrDefault(type, defaultTtl);
+    }
+
+    public Duration maxTtl() {
+        return Arrays.stream(NotificationType.values())
+            .map(this::ttlOf)
+            .reduce(defaultTtl, (left, right) -> left.compareTo(right) >= 0 ? left : right);
+    }
+}
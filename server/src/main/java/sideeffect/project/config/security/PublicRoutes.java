@@ -0,0 +1,28 @@
+package sideeffect.project.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.http.HttpMethod;
+import org.springframework.security.web.util.matcher.AntPathRequestMatcher;
+import org.springframework.security.web.util.matcher.OrRequestMatcher;
+import org.springframework.security.web.util.matcher.RequestMatcher;
+
+public final class PublicRoutes {
+
+    public static final String CHAIN_NAME = "public";
+    public static final String DEFAULT_CHAIN_NAME = "default";
+
+    public static final RequestMatcher REQUEST_MATCHER = new OrRequestMatcher(
+        new AntPathRequestMatcher("/api/*/image/*", HttpMethod.GET.name()),
+        new AntPathRequestMatcher("/docs/**"));
+
+    private PublicRoutes() {
+    }
+
+    public static boolean matches(HttpServletRequest request) {
+        return REQUEST_MATCHER.matches(request);
+    }
+
+    public static String chainNameOf(HttpServletRequest request) {
+        return matches(request) ? CHAIN_NAME : DEFAULT_CHAIN_NAME;
+    }
+}
@@ -1,11 +1,14 @@
 package sideeffect.project.controller;
 
 import java.io.IOException;
+import java.time.LocalDate;
 import java.util.List;
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -23,6 +26,7 @@ import sideeffect.project.common.annotation.ValidImageFile;
 import sideeffect.project.common.exception.BaseException;
 import sideeffect.project.common.exception.ErrorCode;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.comment.CommentScrollResponse;
 import sideeffect.project.dto.freeboard.FreeBoardKeyWordRequest;
 import sideeffect.project.dto.freeboard.FreeBoardRequest;
 import sideeffect.project.dto.freeboard.DetailedFreeBoardResponse;
@@ -31,7 +35,10 @@ import sideeffect.project.dto.freeboard.FreeBoardScrollRequest;
 import sideeffect.project.dto.freeboard.FreeBoardScrollResponse;
 import sideeffect.project.dto.freeboard.OrderType;
 import sideeffect.project.dto.freeboard.RankResponse;
+import sideeffect.project.dto.stats.BoardStatsResponse;
 import sideeffect.project.security.LoginUser;
+import sideeffect.project.service.BoardStatsService;
+import sideeffect.project.service.CommentService;
 import sideeffect.project.service.FreeBoardService;
 
 @Validated
@@ -41,10 +48,28 @@ import sideeffect.project.service.FreeBoardService;
 public class FreeBoardController {
 
     private final FreeBoardService freeBoardService;
+    private final BoardStatsService boardStatsService;
+    private final CommentService commentService;
 
     @GetMapping("/{id}")
-    public DetailedFreeBoardResponse findBoard(@PathVariable Long id, @LoginUser User user) {
-        return freeBoardService.findBoard(id, user);
+    public DetailedFreeBoardResponse findBoard(@PathVariable Long id, @LoginUser User user,
+        HttpServletRequest request) {
+        return freeBoardService.findBoard(id, user, request.getRemoteAddr());
+    }
+
+    @GetMapping("/{id}/comments")
+    public CommentScrollResponse findBoardComments(@PathVariable Long id,
+        @RequestParam(required = false) Long lastId,
+        @RequestParam(defaultValue = "20") int size) {
+        return commentService.findBoardComments(id, lastId, size);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/{id}/stats")
+    public BoardStatsResponse findBoardStats(@PathVariable Long id, @LoginUser User user,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+        @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return boardStatsService.findFreeBoardStats(user.getId(), id, from, to);
     }
 
     @GetMapping("/scroll")
@@ -71,7 +96,7 @@ public class FreeBoardController {
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
     @PostMapping
     public FreeBoardResponse registerBoard(@Valid @RequestBody FreeBoardRequest request, @LoginUser User user) {
-        return FreeBoardResponse.of(freeBoardService.register(user, request));
+        return freeBoardService.register(user, request);
     }
 
     @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
@@ -1,11 +1,14 @@
 package sideeffect.project.controller;
 
+import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.web.bind.annotation.*;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.ErrorCode;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.notification.NotificationBulkResponse;
+import sideeffect.project.dto.notification.NotificationIdsRequest;
 import sideeffect.project.dto.notification.NotificationResponse;
 import sideeffect.project.dto.notification.NotificationScrollResponse;
 import sideeffect.project.security.EmptyUser;
@@ -26,6 +29,26 @@ public class NotificationController {
         return notificationService.view(user);
     }
 
+    @PostMapping("/watch-all")
+    public NotificationBulkResponse watchAll(@LoginUser User user){
+        validateLogin(user);
+        return notificationService.watchAll(user);
+    }
+
+    @PostMapping("/watch")
+    public NotificationBulkResponse watch(@LoginUser User user, @Valid @RequestBody NotificationIdsRequest request){
+        validateLogin(user);
+        return notificationService.watch(user, request.getIds());
+    }
+
+    @DeleteMapping
+    public NotificationBulkResponse deleteAll(@LoginUser User user,
+                                              @RequestParam(required = false) List<Long> ids,
+                                              @RequestParam(required = false) Long beforeId){
+        validateLogin(user);
+        return notificationService.deleteAll(user, ids, beforeId);
+    }
+
     @PostMapping("/{id}")
     public String watch(@LoginUser User user, @PathVariable Long id){
         return notificationService.watch(user, id);
@@ -43,7 +66,11 @@ public class NotificationController {
 
     @GetMapping("/view-count")
     public int viewCount(@LoginUser User user){
-        if(user instanceof EmptyUser) throw new AuthException(ErrorCode.USER_UNAUTHORIZED);
+        validateLogin(user);
         return notificationService.getViewCount(user);
     }
+
+    private void validateLogin(User user){
+        if(user instanceof EmptyUser) throw new AuthException(ErrorCode.USER_UNAUTHORIZED);
+    }
 }
@@ -7,8 +7,6 @@ import org.springframework.http.HttpStatus;
 import org.springframework.http.MediaType;
 import org.springframework.http.ResponseCookie;
 import org.springframework.http.ResponseEntity;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
@@ -17,8 +15,8 @@ import sideeffect.project.domain.token.RefreshToken;
 import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.user.RefreshTokenResponse;
+import sideeffect.project.security.IssuedTokens;
 import sideeffect.project.security.RefreshTokenProvider;
-import sideeffect.project.security.UserDetailsImpl;
 import sideeffect.project.service.OauthService;
 
 
@@ -38,11 +36,10 @@ public class OauthController {
         ProviderType providerType = ProviderType.valueOf(provider.toUpperCase());
         User user = oauthService.login(token, providerType);
 
-        RefreshToken refreshToken = refreshTokenProvider.createRefreshToken(createToken(user));
-        String accessToken = refreshTokenProvider.issueAccessToken(refreshToken.getRefreshToken());
+        IssuedTokens tokens = refreshTokenProvider.issueTokens(user);
 
-        HttpHeaders headers = createHeaders(refreshToken, accessToken);
-        return new ResponseEntity<>(RefreshTokenResponse.of(refreshToken), headers, HttpStatus.OK);
+        HttpHeaders headers = createHeaders(tokens.getRefreshToken(), tokens.getAccessToken());
+        return new ResponseEntity<>(RefreshTokenResponse.of(tokens.getRefreshToken()), headers, HttpStatus.OK);
     }
 
     private HttpHeaders createHeaders(RefreshToken refreshToken, String accessToken) {
@@ -53,12 +50,6 @@ public class OauthController {
         return headers;
     }
 
-    private Authentication createToken(User user) {
-        UserDetailsImpl userDetails = UserDetailsImpl.of(user);
-        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(),
-            userDetails.getAuthorities());
-    }
-
     private ResponseCookie createCookie(String refreshToken) {
         return ResponseCookie.from("token", refreshToken)
             .sameSite("None")
@@ -3,6 +3,7 @@ package sideeffect.project.controller;
 import lombok.RequiredArgsConstructor;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.MediaType;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.validation.annotation.Validated;
@@ -12,14 +13,20 @@ import sideeffect.project.common.annotation.ValidImageFile;
 import sideeffect.project.common.exception.BaseException;
 import sideeffect.project.common.exception.ErrorCode;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.comment.RecruitCommentScrollResponse;
 import sideeffect.project.dto.like.RecruitLikeResponse;
 import sideeffect.project.dto.recruit.*;
+import sideeffect.project.dto.stats.BoardStatsResponse;
 import sideeffect.project.security.LoginUser;
+import sideeffect.project.service.BoardStatsService;
 import sideeffect.project.service.RecruitBoardService;
+import sideeffect.project.service.RecruitCommentService;
 import sideeffect.project.service.RecruitLikeService;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import java.io.IOException;
+import java.time.LocalDate;
 
 
 @Validated
@@ -30,10 +37,27 @@ public class RecruitBoardController {
 
     private final RecruitBoardService recruitBoardService;
     private final RecruitLikeService recruitLikeService;
+    private final BoardStatsService boardStatsService;
+    private final RecruitCommentService recruitCommentService;
 
     @GetMapping("/{id}")
-    public DetailedRecruitBoardResponse findRecruitBoard(@PathVariable Long id, @LoginUser User user) {
-        return recruitBoardService.findRecruitBoard(id, user);
+    public DetailedRecruitBoardResponse findRecruitBoard(@PathVariable Long id, @LoginUser User user, HttpServletRequest request) {
+        return recruitBoardService.findRecruitBoard(id, user, request.getRemoteAddr());
+    }
+
+    @GetMapping("/{id}/comments")
+    public RecruitCommentScrollResponse findRecruitBoardComments(@PathVariable Long id,
+                                                                 @RequestParam(required = false) Long lastId,
+                                                                 @RequestParam(defaultValue = "20") int size) {
+        return recruitCommentService.findBoardComments(id, lastId, size);
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @GetMapping("/{id}/stats")
+    public BoardStatsResponse findRecruitBoardStats(@PathVariable Long id, @LoginUser User user,
+                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+                                                    @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        return boardStatsService.findRecruitBoardStats(user.getId(), id, from, to);
     }
 
     @GetMapping("/all")
@@ -5,9 +5,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseCookie;
+import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.security.LoginUser;
 import sideeffect.project.security.RefreshTokenProvider;
 
 @Slf4j
@@ -30,10 +33,24 @@ public class RefreshTokenController {
     }
 
     @DeleteMapping("/at-issue")
-    public void logout(@CookieValue(value = "token", required = false) String refreshToken, HttpServletResponse response) {
+    public void logout(@CookieValue(value = "token", required = false) String refreshToken,
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        HttpServletResponse response) {
         if (refreshToken != null) {
             refreshTokenProvider.deleteToken(refreshToken);
         }
+        refreshTokenProvider.revokeAccessToken(authorization);
+
+        response.addHeader(HttpHeaders.SET_COOKIE, createBlankCookie().toString());
+    }
+
+    @PreAuthorize("hasRole('USER') or hasRole('ADMIN')")
+    @DeleteMapping("/sessions")
+    public void logoutAll(@LoginUser User user,
+        @RequestHeader(value = HttpHeaders.AUTHORIZATION, required = false) String authorization,
+        HttpServletResponse response) {
+        refreshTokenProvider.deleteAllTokens(user.getId());
+        refreshTokenProvider.revokeAccessToken(authorization);
 
         response.addHeader(HttpHeaders.SET_COOKIE, createBlankCookie().toString());
     }
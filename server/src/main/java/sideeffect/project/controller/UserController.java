@@ -5,8 +5,6 @@ import lombok.extern.slf4j.Slf4j;
 import org.springframework.core.io.Resource;
 import org.springframework.core.io.UrlResource;
 import org.springframework.http.*;
-import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
-import org.springframework.security.core.Authentication;
 import org.springframework.web.bind.annotation.*;
 import org.springframework.web.multipart.MultipartFile;
 import sideeffect.project.common.annotation.ValidImageFile;
@@ -20,8 +18,8 @@ import sideeffect.project.dto.user.UserEditResponse;
 import sideeffect.project.dto.user.UserRequest;
 import sideeffect.project.dto.user.UserResponse;
 import sideeffect.project.security.LoginUser;
+import sideeffect.project.security.IssuedTokens;
 import sideeffect.project.security.RefreshTokenProvider;
-import sideeffect.project.security.UserDetailsImpl;
 import sideeffect.project.service.UserService;
 
 import java.io.IOException;
@@ -39,11 +37,10 @@ public class UserController {
     public ResponseEntity<RefreshTokenResponse> join(@RequestBody UserRequest request){
 
         User user = userService.join(request);
-        RefreshToken refreshToken = refreshTokenProvider.createRefreshToken(createToken(user));
-        String accessToken = refreshTokenProvider.issueAccessToken(refreshToken.getRefreshToken());
+        IssuedTokens tokens = refreshTokenProvider.issueTokens(user);
 
-        HttpHeaders headers = createHeaders(refreshToken, accessToken);
-        return new ResponseEntity<>(RefreshTokenResponse.of(refreshToken), headers, HttpStatus.OK);
+        HttpHeaders headers = createHeaders(tokens.getRefreshToken(), tokens.getAccessToken());
+        return new ResponseEntity<>(RefreshTokenResponse.of(tokens.getRefreshToken()), headers, HttpStatus.OK);
     }
 
     @GetMapping("/mypage/{id}")
@@ -65,6 +62,7 @@ public class UserController {
     @DeleteMapping("/{id}")
     public String delete(@LoginUser User user, @PathVariable Long id){
         userService.delete(user, id);
+        refreshTokenProvider.deleteAllTokens(id);
         return "delete success";
     }
 
@@ -100,12 +98,6 @@ public class UserController {
         return headers;
     }
 
-    private Authentication createToken(User user) {
-        UserDetailsImpl userDetails = UserDetailsImpl.of(user);
-        return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(),
-                userDetails.getAuthorities());
-    }
-
     private ResponseCookie createCookie(String refreshToken) {
         return ResponseCookie.from("token", refreshToken)
                 .sameSite("None")
@@ -17,7 +17,7 @@ import jakarta.persistence.*;
 public class Applicant extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "applicant_id")
     private Long id;
 
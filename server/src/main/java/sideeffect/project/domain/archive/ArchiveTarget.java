@@ -0,0 +1,6 @@
+package sideeffect.project.domain.archive;
+
+public enum ArchiveTarget {
+    FREE_BOARD,
+    RECRUIT_BOARD
+}
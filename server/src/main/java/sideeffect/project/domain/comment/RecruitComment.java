@@ -18,7 +18,7 @@ import jakarta.persistence.*;
 public class RecruitComment extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "recruit_comment_id")
     private Long id;
 
@@ -0,0 +1,63 @@
+package sideeffect.project.domain.deletion;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDateTime;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sideeffect.project.common.domain.BaseTimeEntity;
+
+@Entity
+@Table(
+    name = "deletion_jobs",
+    indexes = @Index(name = "deletion_status_index", columnList = "status, heartbeat_at")
+)
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class DeletionJob extends BaseTimeEntity {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    @Column(name = "deletion_job_id")
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "target_type", nullable = false)
+    private DeletionTarget targetType;
+
+    @Column(name = "target_id", nullable = false)
+    private Long targetId;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false)
+    private DeletionStatus status;
+
+    @Column(name = "current_step")
+    private String currentStep;
+
+    @Column(name = "deleted_rows")
+    private long deletedRows;
+
+    private int attempts;
+
+    @Column(name = "heartbeat_at")
+    private LocalDateTime heartbeatAt;
+
+    private DeletionJob(DeletionTarget targetType, Long targetId) {
+        this.targetType = targetType;
+        this.targetId = targetId;
+        this.status = DeletionStatus.PENDING;
+    }
+
+    public static DeletionJob of(DeletionTarget targetType, Long targetId) {
+        return new DeletionJob(targetType, targetId);
+    }
+}
@@ -0,0 +1,8 @@
+package sideeffect.project.domain.deletion;
+
+public enum DeletionStatus {
+    PENDING,
+    RUNNING,
+    COMPLETED,
+    FAILED
+}
@@ -0,0 +1,6 @@
+package sideeffect.project.domain.deletion;
+
+public enum DeletionTarget {
+    USER,
+    RECRUIT_BOARD
+}
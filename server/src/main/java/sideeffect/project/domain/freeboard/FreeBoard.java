@@ -4,6 +4,7 @@ import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import jakarta.persistence.Basic;
 import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
@@ -48,7 +49,7 @@ public class FreeBoard extends BaseTimeEntity {
 
     @Id
     @Column(name = "free_board_id")
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     private int views;
@@ -58,6 +59,7 @@ public class FreeBoard extends BaseTimeEntity {
     @Column(name = "project_url")
     private String projectUrl;
 
+    @Basic(fetch = FetchType.LAZY)
     private String content;
 
     private String imgUrl;
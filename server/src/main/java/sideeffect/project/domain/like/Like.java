@@ -34,7 +34,7 @@ import sideeffect.project.domain.user.User;
 public class Like {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -55,6 +55,13 @@ public class Like {
         return like;
     }
 
+    public static Like of(User user, FreeBoard freeBoard) {
+        Like like = new Like();
+        like.user = user;
+        like.freeBoard = freeBoard;
+        return like;
+    }
+
     public void setUser(User user) {
         this.user = user;
         user.addLike(this);
@@ -20,7 +20,7 @@ import jakarta.persistence.*;
 public class RecruitLike {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "recruit_like_id")
     private Long id;
 
@@ -40,6 +40,14 @@ public class RecruitLike {
         return recruitLike;
     }
 
+    public static RecruitLike of(User user, RecruitBoard recruitBoard) {
+        RecruitLike recruitLike = new RecruitLike();
+        recruitLike.user = user;
+        recruitLike.recruitBoard = recruitBoard;
+
+        return recruitLike;
+    }
+
     public void setUser(User user) {
         this.user = user;
         user.addRecruitLike(this);
@@ -2,11 +2,15 @@ package sideeffect.project.domain.notification;
 
 import lombok.*;
 import org.springframework.data.annotation.CreatedDate;
+import org.springframework.data.annotation.LastModifiedDate;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 import sideeffect.project.domain.user.User;
 
 import jakarta.persistence.*;
 import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.LinkedHashSet;
+import java.util.Set;
 
 @Entity
 @Getter
@@ -16,7 +20,10 @@ import java.time.LocalDateTime;
 @EntityListeners(value = AuditingEntityListener.class)
 public class Notification {
 
-    @Id @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private static final String ACTOR_DELIMITER = ",";
+    static final int MAX_TRACKED_ACTORS = 50;
+
+    @Id @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     private String title;
@@ -29,9 +36,21 @@ public class Notification {
     @Column(name = "category")
     private NotificationType notificationType;
 
+    @Column(name = "collapse_key")
+    private String collapseKey;
+
+    @Column(name = "actor_count")
+    private int actorCount;
+
+    @Column(name = "actor_ids")
+    private String actorIds;
+
     @CreatedDate
     private LocalDateTime createdAt;
 
+    @LastModifiedDate
+    private LocalDateTime updatedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
@@ -50,9 +69,34 @@ public class Notification {
         this.user = user;
         this.sendingUser = sendingUser;
         this.notificationType = notificationType;
+        this.collapseKey = notificationType != null && notificationType.isCollapsible() ? notificationType.name() + ":" + link : null;
+        this.actorCount = 1;
+        this.actorIds = sendingUser == null || sendingUser.getId() == null ? null : String.valueOf(sendingUser.getId());
+    }
+
+    public void absorb(Notification previous){
+        Set<String> actors = previous.actors();
+        String actor = sendingUser == null || sendingUser.getId() == null ? null : String.valueOf(sendingUser.getId());
+        boolean newActor = actor == null || !actors.contains(actor);
+        if(newActor && actor != null && actors.size() < MAX_TRACKED_ACTORS) actors.add(actor);
+        this.actorIds = actors.isEmpty() ? null : String.join(ACTOR_DELIMITER, actors);
+        this.actorCount = previous.actorCount + (newActor ? 1 : 0);
     }
 
     public void watched(){
         this.watched = true;
     }
+
+    public boolean isCollapsed(){
+        return this.actorCount > 1 && this.notificationType != null && this.notificationType.isCollapsible();
+    }
+
+    private Set<String> actors(){
+        if(actorIds == null){
+            Set<String> actors = new LinkedHashSet<>();
+            if(sendingUser != null && sendingUser.getId() != null) actors.add(String.valueOf(sendingUser.getId()));
+            return actors;
+        }
+        return new LinkedHashSet<>(Arrays.asList(actorIds.split(ACTOR_DELIMITER)));
+    }
 }
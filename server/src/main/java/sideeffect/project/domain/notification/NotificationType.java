@@ -1,5 +1,22 @@
 package sideeffect.project.domain.notification;
 
 public enum NotificationType {
-    COMMENT, APPROVE, REJECT, REGISTER
+    COMMENT("님 외 %d명이 댓글을 달았습니다"),
+    APPROVE(null),
+    REJECT(null),
+    REGISTER("님 외 %d명이 지원했습니다");
+
+    private final String collapsedContents;
+
+    NotificationType(String collapsedContents) {
+        this.collapsedContents = collapsedContents;
+    }
+
+    public boolean isCollapsible() {
+        return collapsedContents != null;
+    }
+
+    public String collapsedContents(int others) {
+        return String.format(collapsedContents, others);
+    }
 }
@@ -25,7 +25,7 @@ import sideeffect.project.domain.user.User;
 @Entity
 @Getter
 @Table(name = "penalties",
-    indexes = @Index(name = "board_user_index", columnList = "recruit_board_id, user_id", unique = true)
+    indexes = @Index(name = "penalty_board_user_index", columnList = "recruit_board_id, user_id", unique = true)
 )
 @EntityListeners(value = AuditingEntityListener.class)
 @AllArgsConstructor
@@ -33,7 +33,7 @@ import sideeffect.project.domain.user.User;
 public class Penalty {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.*;
 
 @Entity
@@ -16,12 +18,14 @@ import jakarta.persistence.*;
                 )
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "position")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Position {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "position_id")
     private Long id;
 
@@ -7,18 +7,22 @@ import lombok.NoArgsConstructor;
 import sideeffect.project.domain.applicant.Applicant;
 import sideeffect.project.domain.position.Position;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.List;
 
 @Entity
 @Table(name = "BOARD_POSITION")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board-position")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardPosition {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "board_position_id")
     private Long id;
 
@@ -6,16 +6,20 @@ import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sideeffect.project.domain.stack.Stack;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.*;
 
 @Entity
 @Table(name = "BOARD_STACK")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "board-stack")
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class BoardStack {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "board_stack_id")
     private Long id;
 
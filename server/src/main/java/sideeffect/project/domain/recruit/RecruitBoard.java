@@ -4,26 +4,42 @@ import lombok.AccessLevel;
 import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.Where;
 import sideeffect.project.common.domain.BaseTimeEntity;
+import sideeffect.project.common.domain.CollectionSync;
 import sideeffect.project.domain.comment.RecruitComment;
 import sideeffect.project.domain.like.RecruitLike;
 import sideeffect.project.domain.penalty.Penalty;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.domain.user.User;
 
 import jakarta.persistence.*;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
+import java.util.function.Function;
 
 @Entity
 @Table(name = "RECRUIT_BOARD")
+@Where(clause = "deleted = false")
+@NamedEntityGraph(name = "RecruitBoard.detail",
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode(value = "boardPositions", subgraph = "boardPositions")
+        },
+        subgraphs = @NamedSubgraph(name = "boardPositions", attributeNodes = @NamedAttributeNode("position")))
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class RecruitBoard extends BaseTimeEntity {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "recruit_board_id")
     private Long id;
 
@@ -32,6 +48,7 @@ public class RecruitBoard extends BaseTimeEntity {
     @Column(name = "project_name")
     private String projectName;
 
+    @Basic(fetch = FetchType.LAZY)
     private String contents;
 
     @Column(name = "img_src")
@@ -39,13 +56,20 @@ public class RecruitBoard extends BaseTimeEntity {
 
     private int views;
 
+    private boolean deleted;
+
+    @Column(name = "closed_at")
+    private LocalDateTime closedAt;
+
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id")
     private User user;
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recruit-board-positions")
     @OneToMany(mappedBy = "recruitBoard", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     private List<BoardPosition> boardPositions = new ArrayList<>();
 
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "recruit-board-stacks")
     @OneToMany(mappedBy = "recruitBoard", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     private List<BoardStack> boardStacks = new ArrayList<>();
 
@@ -68,14 +92,23 @@ public class RecruitBoard extends BaseTimeEntity {
         this.views = 0;
     }
 
-    public void updateBoardPositions(List<BoardPosition> boardPositions) {
-        this.boardPositions.clear();
-        this.boardPositions.addAll(boardPositions);
+    public void updateBoardPositions(Collection<PositionType> positionTypes,
+                                     Function<PositionType, BoardPosition> boardPositionFactory) {
+        CollectionSync.sync(this.boardPositions, positionTypes,
+                boardPosition -> boardPosition.getPosition().getPositionType(),
+                boardPositionFactory.andThen(boardPosition -> {
+                    boardPosition.setRecruitBoard(this);
+                    return boardPosition;
+                }));
     }
 
-    public void updateBoardStacks(List<BoardStack> boardStacks) {
-        this.boardStacks.clear();
-        this.boardStacks.addAll(boardStacks);
+    public void updateBoardStacks(Collection<StackType> stackTypes, Function<StackType, BoardStack> boardStackFactory) {
+        CollectionSync.sync(this.boardStacks, stackTypes,
+                boardStack -> boardStack.getStack().getStackType(),
+                boardStackFactory.andThen(boardStack -> {
+                    boardStack.setRecruitBoard(this);
+                    return boardStack;
+                }));
     }
 
     public void addBoardPosition(BoardPosition boardPosition) {
@@ -120,6 +153,20 @@ public class RecruitBoard extends BaseTimeEntity {
         this.views++;
     }
 
+    public void markDeleted() {
+        this.deleted = true;
+    }
+
+    public void refreshClosedAt() {
+        boolean closed = !this.boardPositions.isEmpty() && this.boardPositions.stream()
+                .allMatch(boardPosition -> boardPosition.getCurrentNumber() == boardPosition.getTargetNumber());
+        if (!closed) {
+            this.closedAt = null;
+        } else if (this.closedAt == null) {
+            this.closedAt = LocalDateTime.now();
+        }
+    }
+
     public void associateUser(User user) {
         if (this.user != null) {
             this.user.deleteRecruitBoard(this);
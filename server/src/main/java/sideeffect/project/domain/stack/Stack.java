@@ -5,6 +5,8 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.*;
 
 @Entity
@@ -17,11 +19,13 @@ import jakarta.persistence.*;
                 )
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_ONLY, region = "stack")
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class Stack {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "stack_id")
     private Long id;
 
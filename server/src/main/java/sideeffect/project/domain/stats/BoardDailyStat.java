@@ -0,0 +1,67 @@
+package sideeffect.project.domain.stats;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
+import java.time.LocalDate;
+import java.time.ZoneId;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sideeffect.project.redis.BoardType;
+
+@Getter
+@Entity
+@Table(
+    name = "board_daily_stats",
+    indexes = {
+        @Index(name = "board_date_index", columnList = "board_type, board_id, stat_date", unique = true)
+    }
+)
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class BoardDailyStat {
+
+    public static final ZoneId STAT_ZONE = ZoneId.of("Asia/Seoul");
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
+    private Long id;
+
+    @Enumerated(EnumType.STRING)
+    @Column(name = "board_type", nullable = false)
+    private BoardType boardType;
+
+    @Column(name = "board_id", nullable = false)
+    private Long boardId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    private long views;
+    private long likes;
+    private long comments;
+    private long applications;
+
+    public static BoardDailyStat of(BoardType boardType, Long boardId, LocalDate statDate) {
+        BoardDailyStat stat = new BoardDailyStat();
+        stat.boardType = boardType;
+        stat.boardId = boardId;
+        stat.statDate = statDate;
+        return stat;
+    }
+
+    public void add(StatMetric metric, long delta) {
+        switch (metric) {
+            case VIEWS -> this.views += delta;
+            case LIKES -> this.likes += delta;
+            case COMMENTS -> this.comments += delta;
+            case APPLICATIONS -> this.applications += delta;
+        }
+    }
+}
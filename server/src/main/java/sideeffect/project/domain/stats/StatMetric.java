@@ -0,0 +1,8 @@
+package sideeffect.project.domain.stats;
+
+public enum StatMetric {
+    VIEWS,
+    LIKES,
+    COMMENTS,
+    APPLICATIONS
+}
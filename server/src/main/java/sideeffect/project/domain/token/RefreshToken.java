@@ -2,14 +2,10 @@ package sideeffect.project.domain.token;
 
 import lombok.Builder;
 import lombok.Getter;
-import org.springframework.data.annotation.Id;
-import org.springframework.data.redis.core.RedisHash;
 
 @Getter
-@RedisHash(value = "refreshToken", timeToLive = 60 * 60 * 24 * 3)
 public class RefreshToken {
 
-    @Id
     private String refreshToken;
     private Long userId;
 
@@ -3,15 +3,17 @@ package sideeffect.project.domain.user;
 import lombok.*;
 import sideeffect.project.domain.applicant.Applicant;
 import sideeffect.project.common.domain.BaseTimeEntity;
+import sideeffect.project.common.domain.CollectionSync;
 import sideeffect.project.domain.comment.Comment;
 import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.like.Like;
 import sideeffect.project.domain.like.RecruitLike;
-import sideeffect.project.domain.notification.Notification;
 import sideeffect.project.domain.penalty.Penalty;
 import sideeffect.project.domain.position.PositionType;
 import sideeffect.project.domain.recruit.RecruitBoard;
 
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import jakarta.persistence.*;
 import java.util.ArrayList;
 import java.util.HashSet;
@@ -31,9 +33,11 @@ import java.util.Set;
                 )
         }
 )
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
 public class User extends BaseTimeEntity {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE)
     @Column(name = "user_id")
     private Long id;
 
@@ -59,6 +63,8 @@ public class User extends BaseTimeEntity {
     private String githubUrl;
     private String portfolioUrl;
 
+    private boolean deleted;
+
     @Builder.Default
     @OneToMany(fetch = FetchType.LAZY, mappedBy = "user")
     @OrderBy("id desc")
@@ -91,10 +97,6 @@ public class User extends BaseTimeEntity {
     @OneToMany(mappedBy = "user", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     private List<UserStack> userStacks = new ArrayList<>();
 
-    @Builder.Default
-    @OneToMany(mappedBy = "user", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
-    private List<Notification> notifications = new ArrayList<>();
-
     @Builder.Default
     @OneToMany(mappedBy = "user", cascade = {CascadeType.PERSIST, CascadeType.REMOVE}, orphanRemoval = true)
     private Set<Penalty> penalties = new HashSet<>();
@@ -168,14 +170,6 @@ public class User extends BaseTimeEntity {
         this.recruitLikes.remove(recruitLike);
     }
 
-    public void addNotification(Notification notification){
-        this.notifications.add(notification);
-    }
-
-    public void deleteNotification(Notification notification){
-        this.notifications.remove(notification);
-    }
-
     public void addPenalty(Penalty penalty) {
         this.penalties.add(penalty);
     }
@@ -207,13 +201,17 @@ public class User extends BaseTimeEntity {
         }
     }
 
+    public void markDeleted() {
+        this.deleted = true;
+    }
+
     public void updateImgUrl(String filepath){
         this.imgUrl = filepath;
     }
-    public void updateUserStack(List<UserStack> userStacks) {
-        if(userStacks!=null){
-            this.userStacks.clear();
-            this.userStacks.addAll(userStacks);
+    public void updateUserStack(List<String> stacks) {
+        if(stacks!=null){
+            CollectionSync.sync(this.userStacks, stacks, UserStack::getStack,
+                    stack -> UserStack.builder().user(this).stack(stack).build());
         }
     }
 }
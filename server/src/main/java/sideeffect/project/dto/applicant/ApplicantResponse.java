@@ -1,5 +1,6 @@
 package sideeffect.project.dto.applicant;
 
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
 import sideeffect.project.domain.applicant.Applicant;
 import sideeffect.project.domain.applicant.ApplicantStatus;
@@ -12,6 +13,8 @@ public class ApplicantResponse {
 
     private Long id;
     private ApplicantStatus status;
+    @JsonIgnore
+    private Long recruitBoardId;
 
     public static ApplicantResponse of(Applicant applicant) {
         return ApplicantResponse.builder()
@@ -20,4 +23,12 @@ public class ApplicantResponse {
                 .build();
     }
 
+    public static ApplicantResponse of(Applicant applicant, Long recruitBoardId) {
+        return ApplicantResponse.builder()
+                .id(applicant.getId())
+                .status(applicant.getStatus())
+                .recruitBoardId(recruitBoardId)
+                .build();
+    }
+
 }
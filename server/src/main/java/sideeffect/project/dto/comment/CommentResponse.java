@@ -8,6 +8,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sideeffect.project.domain.comment.Comment;
+import sideeffect.project.dto.user.UserSummary;
 
 @Getter
 @Builder
@@ -21,6 +22,13 @@ public class CommentResponse {
     private String writer;
     private Long writerId;
 
+    public CommentResponse(Long commentId, Long boardId, String content, Long writerId) {
+        this.commentId = commentId;
+        this.boardId = boardId;
+        this.content = content;
+        this.writerId = writerId;
+    }
+
     public static CommentResponse of(Comment comment) {
         return CommentResponse.builder()
             .commentId(comment.getId())
@@ -34,4 +42,8 @@ public class CommentResponse {
     public static List<CommentResponse> listOf(List<Comment> comments) {
         return comments.stream().map(CommentResponse::of).collect(Collectors.toList());
     }
+
+    public void updateWriter(UserSummary writer) {
+        this.writer = writer == null ? null : writer.getNickname();
+    }
 }
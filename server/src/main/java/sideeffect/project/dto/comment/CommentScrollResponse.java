@@ -0,0 +1,30 @@
+package sideeffect.project.dto.comment;
+
+import java.util.ArrayList;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class CommentScrollResponse {
+
+    private List<CommentResponse> comments;
+    private Long lastId;
+    private boolean hasNext;
+
+    public static CommentScrollResponse of(List<CommentResponse> comments, int size) {
+        boolean hasNext = comments.size() > size;
+        List<CommentResponse> page = hasNext ? new ArrayList<>(comments.subList(0, size)) : comments;
+        return CommentScrollResponse.builder()
+            .comments(page)
+            .lastId(page.isEmpty() ? null : page.get(page.size() - 1).getCommentId())
+            .hasNext(hasNext)
+            .build();
+    }
+}
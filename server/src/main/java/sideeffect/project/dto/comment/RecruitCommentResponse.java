@@ -2,6 +2,7 @@ package sideeffect.project.dto.comment;
 
 import lombok.*;
 import sideeffect.project.domain.comment.RecruitComment;
+import sideeffect.project.dto.user.UserSummary;
 
 import java.util.List;
 import java.util.stream.Collectors;
@@ -18,6 +19,13 @@ public class RecruitCommentResponse {
     private String writer;
     private Long writerId;
 
+    public RecruitCommentResponse(Long commentId, Long recruitBoardId, String content, Long writerId) {
+        this.commentId = commentId;
+        this.recruitBoardId = recruitBoardId;
+        this.content = content;
+        this.writerId = writerId;
+    }
+
     public static RecruitCommentResponse of(RecruitComment recruitComment) {
         return RecruitCommentResponse.builder()
             .commentId(recruitComment.getId())
@@ -31,4 +39,8 @@ public class RecruitCommentResponse {
     public static List<RecruitCommentResponse> listOf(List<RecruitComment> recruitComments) {
         return recruitComments.stream().map(RecruitCommentResponse::of).collect(Collectors.toList());
     }
+
+    public void updateWriter(UserSummary writer) {
+        this.writer = writer == null ? null : writer.getNickname();
+    }
 }
@@ -13,7 +13,7 @@ import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.dto.comment.CommentResponse;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @AllArgsConstructor
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 public class DetailedFreeBoardResponse {
@@ -22,6 +22,7 @@ public class DetailedFreeBoardResponse {
     private String imgUrl;
     private String subTitle;
     private int views;
+    private long uniqueViews;
     private Long userId;
     private String writer;
     private String title;
@@ -33,9 +34,10 @@ public class DetailedFreeBoardResponse {
     private boolean like;
     private int likeNum;
     private List<CommentResponse> comments;
+    private long commentNum;
 
-    public static DetailedFreeBoardResponse of(FreeBoard freeBoard, boolean like) {
-        DetailedFreeBoardResponse response = DetailedFreeBoardResponse.builder()
+    public static DetailedFreeBoardResponse of(FreeBoard freeBoard, List<CommentResponse> comments, long commentNum) {
+        return DetailedFreeBoardResponse.builder()
             .id(freeBoard.getId())
             .views(freeBoard.getViews())
             .title(freeBoard.getTitle())
@@ -47,10 +49,22 @@ public class DetailedFreeBoardResponse {
             .projectName(freeBoard.getProjectName())
             .imgUrl(freeBoard.getImgUrl())
             .likeNum(freeBoard.getLikes().size())
-            .comments(CommentResponse.listOf(freeBoard.getComments()))
+            .comments(comments)
+            .commentNum(commentNum)
             .createdAt(freeBoard.getCreateAt())
             .build();
-        response.like = like;
-        return response;
+    }
+
+    public DetailedFreeBoardResponse withLike(boolean like, int likeNum) {
+        return toBuilder()
+            .like(like)
+            .likeNum(likeNum)
+            .build();
+    }
+
+    public DetailedFreeBoardResponse withUniqueViews(long uniqueViews) {
+        return toBuilder()
+            .uniqueViews(uniqueViews)
+            .build();
     }
 }
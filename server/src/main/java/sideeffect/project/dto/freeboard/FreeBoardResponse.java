@@ -30,6 +30,13 @@ public class FreeBoardResponse {
     private boolean like;
     private int likeNum;
     private int commentNum;
+    private long uniqueViews;
+
+    public FreeBoardResponse(Long id, String imgUrl, String subTitle, Integer views, String title,
+        LocalDateTime createdAt, boolean like, int likeNum, int commentNum) {
+        this(id, imgUrl, subTitle, views, title, createdAt, like, likeNum, commentNum, 0L);
+    }
+
     public static List<FreeBoardResponse> listOf(List<FreeBoard> freeBoards) {
         return freeBoards.stream()
             .map(FreeBoardResponse::of)
@@ -48,4 +55,8 @@ public class FreeBoardResponse {
             .createdAt(freeBoard.getCreateAt())
             .build();
     }
+
+    public void updateUniqueViews(long uniqueViews) {
+        this.uniqueViews = uniqueViews;
+    }
 }
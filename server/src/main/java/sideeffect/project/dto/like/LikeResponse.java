@@ -6,6 +6,7 @@ import lombok.Builder;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.user.User;
 
 @Getter
 @Builder
@@ -23,4 +24,12 @@ public class LikeResponse {
             .message(message.getMessage())
             .build();
     }
+
+    public static LikeResponse of(Long boardId, User user, LikeResult message) {
+        return LikeResponse.builder()
+            .boardId(boardId)
+            .userNickname(user.getNickname())
+            .message(message.getMessage())
+            .build();
+    }
 }
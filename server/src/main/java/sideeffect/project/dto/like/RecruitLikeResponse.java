@@ -2,6 +2,7 @@ package sideeffect.project.dto.like;
 
 import lombok.*;
 import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.domain.user.User;
 
 @Getter
 @Builder
@@ -19,4 +20,12 @@ public class RecruitLikeResponse {
                 .message(message.getMessage())
                 .build();
     }
+
+    public static RecruitLikeResponse of(Long recruitBoardId, User user, LikeResult message) {
+        return RecruitLikeResponse.builder()
+                .recruitBoardId(recruitBoardId)
+                .userNickname(user.getNickname())
+                .message(message.getMessage())
+                .build();
+    }
 }
@@ -0,0 +1,20 @@
+package sideeffect.project.dto.notification;
+
+import lombok.*;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationBulkResponse {
+
+    private int affected;
+    private long unreadCount;
+
+    public static NotificationBulkResponse of(int affected, long unreadCount){
+        return NotificationBulkResponse.builder()
+                .affected(affected)
+                .unreadCount(unreadCount)
+                .build();
+    }
+}
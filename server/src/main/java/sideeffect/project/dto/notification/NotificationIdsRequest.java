@@ -0,0 +1,18 @@
+package sideeffect.project.dto.notification;
+
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.*;
+
+import java.util.List;
+
+@Builder
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class NotificationIdsRequest {
+
+    @NotEmpty(message = "알림을 하나 이상 선택해야 합니다.")
+    @Size(max = 1000, message = "알림은 한 번에 1000개까지 처리할 수 있습니다.")
+    private List<Long> ids;
+}
@@ -4,9 +4,11 @@ import com.fasterxml.jackson.annotation.JsonFormat;
 import lombok.*;
 import sideeffect.project.domain.notification.Notification;
 import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.dto.user.UserSummary;
 
 import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Getter
@@ -25,24 +27,28 @@ public class NotificationResponse {
     private NotificationType category;
     private String nickname;
     private Long userId;
+    private int actorCount;
 
-    public static NotificationResponse of(Notification notification){
+    public static NotificationResponse of(Notification notification, UserSummary sendingUser){
         return NotificationResponse.builder()
                 .id(notification.getId())
                 .title(notification.getTitle())
-                .contents(notification.getContents())
+                .contents(notification.isCollapsed()
+                        ? notification.getNotificationType().collapsedContents(notification.getActorCount() - 1)
+                        : notification.getContents())
                 .link(notification.getLink())
                 .watched(notification.getWatched())
                 .createdAt(notification.getCreatedAt())
                 .userId(notification.getSendingUser().getId())
                 .category(notification.getNotificationType())
-                .nickname(notification.getSendingUser().getNickname())
+                .nickname(sendingUser == null ? null : sendingUser.getNickname())
+                .actorCount(notification.getActorCount())
                 .build();
     }
 
-    public static List<NotificationResponse> listOf(List<Notification> notifications){
+    public static List<NotificationResponse> listOf(List<Notification> notifications, Map<Long, UserSummary> sendingUsers){
         return notifications.stream()
-                .map(notification -> of(notification))
+                .map(notification -> of(notification, sendingUsers.get(notification.getSendingUser().getId())))
                 .collect(Collectors.toList());
     }
 }
@@ -7,7 +7,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class DetailedBoardPositionResponse {
@@ -33,8 +33,10 @@ public class DetailedBoardPositionResponse {
                 .collect(Collectors.toList());
     }
 
-    public void updateSupported() {
-        this.supported = true;
+    public DetailedBoardPositionResponse withSupported(boolean supported) {
+        return toBuilder()
+                .supported(supported)
+                .build();
     }
 
 }
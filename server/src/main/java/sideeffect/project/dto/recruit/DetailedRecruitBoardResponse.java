@@ -1,14 +1,18 @@
 package sideeffect.project.dto.recruit;
 
 import com.fasterxml.jackson.annotation.JsonFormat;
+import com.fasterxml.jackson.annotation.JsonIgnore;
 import lombok.*;
+import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.dto.comment.RecruitCommentResponse;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.stream.Collectors;
 
 @Getter
-@Builder
+@Builder(toBuilder = true)
 @NoArgsConstructor(access = AccessLevel.PRIVATE)
 @AllArgsConstructor
 public class DetailedRecruitBoardResponse {
@@ -21,6 +25,7 @@ public class DetailedRecruitBoardResponse {
     private String content;
     private String imgSrc;
     private int views;
+    private long uniqueViews;
     private boolean like;
     private int likeNum;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
@@ -28,23 +33,42 @@ public class DetailedRecruitBoardResponse {
     private List<DetailedBoardPositionResponse> positions;
     private List<BoardStackResponse> tags;
     private List<RecruitCommentResponse> comments;
+    private long commentNum;
+    @JsonIgnore
+    private boolean archived;
 
-    public static DetailedRecruitBoardResponse ofLike(RecruitBoardAndLikeDto recruitBoardAndLikeDto) {
+    public static DetailedRecruitBoardResponse of(RecruitBoard recruitBoard, List<RecruitCommentResponse> comments, long commentNum) {
         return DetailedRecruitBoardResponse.builder()
-                .id(recruitBoardAndLikeDto.getRecruitBoard().getId())
-                .userId(recruitBoardAndLikeDto.getRecruitBoard().getUser().getId())
-                .writer(recruitBoardAndLikeDto.getRecruitBoard().getUser().getNickname())
-                .projectName(recruitBoardAndLikeDto.getRecruitBoard().getProjectName())
-                .title(recruitBoardAndLikeDto.getRecruitBoard().getTitle())
-                .content(recruitBoardAndLikeDto.getRecruitBoard().getContents())
-                .imgSrc(recruitBoardAndLikeDto.getRecruitBoard().getImgSrc())
-                .views(recruitBoardAndLikeDto.getRecruitBoard().getViews())
-                .like(recruitBoardAndLikeDto.isLike())
-                .likeNum(recruitBoardAndLikeDto.getRecruitBoard().getRecruitLikes().size())
-                .createdAt(recruitBoardAndLikeDto.getRecruitBoard().getCreateAt())
-                .positions(DetailedBoardPositionResponse.listOf(recruitBoardAndLikeDto.getRecruitBoard().getBoardPositions()))
-                .tags(BoardStackResponse.listOf(recruitBoardAndLikeDto.getRecruitBoard().getBoardStacks()))
-                .comments(RecruitCommentResponse.listOf(recruitBoardAndLikeDto.getRecruitBoard().getRecruitComments()))
+                .id(recruitBoard.getId())
+                .userId(recruitBoard.getUser().getId())
+                .writer(recruitBoard.getUser().getNickname())
+                .projectName(recruitBoard.getProjectName())
+                .title(recruitBoard.getTitle())
+                .content(recruitBoard.getContents())
+                .imgSrc(recruitBoard.getImgSrc())
+                .views(recruitBoard.getViews())
+                .likeNum(recruitBoard.getRecruitLikes().size())
+                .createdAt(recruitBoard.getCreateAt())
+                .positions(DetailedBoardPositionResponse.listOf(recruitBoard.getBoardPositions()))
+                .tags(BoardStackResponse.listOf(recruitBoard.getBoardStacks()))
+                .comments(comments)
+                .commentNum(commentNum)
+                .build();
+    }
+
+    public DetailedRecruitBoardResponse withUserState(boolean like, int likeNum, Collection<Long> supportedPositionIds) {
+        return toBuilder()
+                .like(like)
+                .likeNum(likeNum)
+                .positions(positions.stream()
+                        .map(position -> position.withSupported(supportedPositionIds.contains(position.getId())))
+                        .collect(Collectors.toList()))
+                .build();
+    }
+
+    public DetailedRecruitBoardResponse withUniqueViews(long uniqueViews) {
+        return toBuilder()
+                .uniqueViews(uniqueViews)
                 .build();
     }
 }
@@ -10,4 +10,9 @@ import sideeffect.project.domain.recruit.RecruitBoard;
 public class RecruitBoardAndLikeDto {
     private RecruitBoard recruitBoard;
     private boolean like;
+    private String preview;
+
+    public RecruitBoardAndLikeDto(RecruitBoard recruitBoard, boolean like) {
+        this(recruitBoard, like, null);
+    }
 }
@@ -21,6 +21,7 @@ public class RecruitBoardListResponse {
     private String content;
     private String imgSrc;
     private int views;
+    private long uniqueViews;
     private boolean like;
     private int likeNum;
     @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd", timezone = "Asia/Seoul")
@@ -50,7 +51,7 @@ public class RecruitBoardListResponse {
                 .userId(recruitBoardAndLikeDto.getRecruitBoard().getUser().getId())
                 .projectName(recruitBoardAndLikeDto.getRecruitBoard().getProjectName())
                 .title(recruitBoardAndLikeDto.getRecruitBoard().getTitle())
-                .content(recruitBoardAndLikeDto.getRecruitBoard().getContents())
+                .content(recruitBoardAndLikeDto.getPreview())
                 .imgSrc(recruitBoardAndLikeDto.getRecruitBoard().getImgSrc())
                 .views(recruitBoardAndLikeDto.getRecruitBoard().getViews())
                 .like(recruitBoardAndLikeDto.isLike())
@@ -72,4 +73,8 @@ public class RecruitBoardListResponse {
                 .map(RecruitBoardListResponse::ofLike)
                 .collect(Collectors.toList());
     }
+
+    public void updateUniqueViews(long uniqueViews) {
+        this.uniqueViews = uniqueViews;
+    }
 }
@@ -21,6 +21,7 @@ public class RecruitBoardResponse {
     private boolean closed;
     private String title;
     private int views;
+    private long uniqueViews;
     private boolean like;
     private int likeNum;
     private int commentNum;
@@ -90,4 +91,8 @@ public class RecruitBoardResponse {
         this.closed = true;
     }
 
+    public void updateUniqueViews(long uniqueViews) {
+        this.uniqueViews = uniqueViews;
+    }
+
 }
@@ -19,6 +19,12 @@ public class RecruitBoardScrollRequest {
     private int size;
     private String keyword;
     private List<StackType> stackTypes;
+    private RecruitOrderType orderType;
+    private Double lastScore;
+
+    public boolean isTrending() {
+        return this.orderType == RecruitOrderType.TRENDING;
+    }
 
     public List<StackType> validateStackTypes() {
         if(this.stackTypes != null && this.stackTypes.contains(null)) {
@@ -3,6 +3,7 @@ package sideeffect.project.dto.recruit;
 import lombok.*;
 
 import java.util.List;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -12,6 +13,7 @@ public class RecruitBoardScrollResponse {
 
     private List<RecruitBoardResponse> recruitBoards;
     private Long lastId;
+    private Double lastScore;
     private boolean hasNext;
 
     public static RecruitBoardScrollResponse of(List<RecruitBoardResponse> recruitBoards, boolean hasNext) {
@@ -29,4 +31,20 @@ public class RecruitBoardScrollResponse {
                 .build();
     }
 
+    public static RecruitBoardScrollResponse of(List<RecruitBoardResponse> recruitBoards, Map<Long, Double> scores, boolean hasNext) {
+        RecruitBoardScrollResponse response = of(recruitBoards, hasNext);
+        if (response.lastId != null) {
+            response.lastScore = scores.get(response.lastId);
+        }
+        return response;
+    }
+
+    public static RecruitBoardScrollResponse ofScanned(List<RecruitBoardResponse> recruitBoards, Long lastId, Double lastScore) {
+        return RecruitBoardScrollResponse.builder()
+                .recruitBoards(recruitBoards)
+                .lastId(lastId)
+                .lastScore(lastScore)
+                .hasNext(true)
+                .build();
+    }
 }
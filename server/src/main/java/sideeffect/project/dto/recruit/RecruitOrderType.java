@@ -0,0 +1,30 @@
+package sideeffect.project.dto.recruit;
+
+import static sideeffect.project.common.exception.ErrorCode.INVALID_FILTER_VALUE;
+
+import com.fasterxml.jackson.annotation.JsonCreator;
+import java.util.Arrays;
+import sideeffect.project.common.exception.InvalidValueException;
+
+public enum RecruitOrderType {
+    LATEST("latest"),
+    TRENDING("trending");
+
+    private final String value;
+
+    RecruitOrderType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+
+    @JsonCreator
+    public static RecruitOrderType parse(String value) {
+        return Arrays.stream(RecruitOrderType.values())
+            .filter(orderType -> orderType.getValue().equals(value))
+            .findFirst()
+            .orElseThrow(() -> new InvalidValueException(INVALID_FILTER_VALUE));
+    }
+}
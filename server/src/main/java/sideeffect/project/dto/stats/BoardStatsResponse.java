@@ -0,0 +1,33 @@
+package sideeffect.project.dto.stats;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardStatsResponse {
+
+    private Long boardId;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate from;
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate to;
+    private List<DailyStatResponse> stats;
+
+    public static BoardStatsResponse of(Long boardId, LocalDate from, LocalDate to, List<DailyStatResponse> stats) {
+        return BoardStatsResponse.builder()
+            .boardId(boardId)
+            .from(from)
+            .to(to)
+            .stats(stats)
+            .build();
+    }
+}
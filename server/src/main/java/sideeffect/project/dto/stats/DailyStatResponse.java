@@ -0,0 +1,40 @@
+package sideeffect.project.dto.stats;
+
+import com.fasterxml.jackson.annotation.JsonFormat;
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sideeffect.project.domain.stats.BoardDailyStat;
+
+@Getter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class DailyStatResponse {
+
+    @JsonFormat(shape = JsonFormat.Shape.STRING, pattern = "yyyy-MM-dd")
+    private LocalDate date;
+    private long views;
+    private long likes;
+    private long comments;
+    private long applications;
+
+    public static DailyStatResponse of(BoardDailyStat stat) {
+        return DailyStatResponse.builder()
+            .date(stat.getStatDate())
+            .views(stat.getViews())
+            .likes(stat.getLikes())
+            .comments(stat.getComments())
+            .applications(stat.getApplications())
+            .build();
+    }
+
+    public static DailyStatResponse empty(LocalDate date) {
+        return DailyStatResponse.builder()
+            .date(date)
+            .build();
+    }
+}
@@ -4,7 +4,6 @@ import lombok.*;
 import sideeffect.project.domain.applicant.Applicant;
 import sideeffect.project.domain.applicant.ApplicantStatus;
 import sideeffect.project.domain.position.PositionType;
-import sideeffect.project.domain.user.User;
 
 import java.util.Collections;
 import java.util.List;
@@ -24,20 +23,19 @@ public class ApplyBoardResponse {
     private ApplicantStatus status;
     private Boolean closed;
 
-    public static List<ApplyBoardResponse> listOf(User user){
+    public static List<ApplyBoardResponse> listOf(List<Applicant> applicants){
 
         List<ApplyBoardResponse> applyBoardResponseList = Collections.emptyList();
-        List<Applicant> applicants = user.getApplicants();
         if(applicants!=null && !applicants.isEmpty()) {
             applyBoardResponseList = applicants.stream()
-                    .map(applicant -> getApplyBoardResponse(user, applicant))
+                    .map(ApplyBoardResponse::getApplyBoardResponse)
                     .collect(Collectors.toList());
         }
 
         return applyBoardResponseList;
     }
 
-    private static ApplyBoardResponse getApplyBoardResponse(User user, Applicant applicant) {
+    private static ApplyBoardResponse getApplyBoardResponse(Applicant applicant) {
         return ApplyBoardResponse.builder()
                 .category("recruits")
                 .positionId(applicant.getBoardPosition().getId())
@@ -9,13 +9,13 @@ import sideeffect.project.domain.recruit.BoardPosition;
 import sideeffect.project.domain.recruit.BoardStack;
 import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.stack.StackType;
-import sideeffect.project.domain.user.User;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.Collections;
 import java.util.List;
-import java.util.Set;
+import java.util.Map;
 import java.util.stream.Collectors;
 @Builder
 @Getter
@@ -37,14 +37,12 @@ public class LikeBoardResponse {
     private List<PositionType> positions;
     private Boolean closed;
 
-    public static List<LikeBoardResponse> listOf(User user){
+    public static List<LikeBoardResponse> listOf(Collection<Like> likes, List<RecruitLike> recruitLikes, Map<Long, String> previews){
         List<LikeBoardResponse> likeBoardResponses = new ArrayList<>();
-        Set<Like> likes = user.getLikes();
-        List<RecruitLike> recruitLikes = user.getRecruitLikes();
 
         if(likes!=null && !likes.isEmpty()){
             likeBoardResponses.addAll(likes.stream()
-                    .map(like -> getLikeBoardOfFree(like))
+                    .map(like -> getLikeBoardOfFree(like, previews))
                     .collect(Collectors.toList()));
         }
 
@@ -103,13 +101,13 @@ public class LikeBoardResponse {
         return stackTypes;
     }
 
-    private static LikeBoardResponse getLikeBoardOfFree(Like like) {
+    private static LikeBoardResponse getLikeBoardOfFree(Like like, Map<Long, String> previews) {
         FreeBoard freeBoard = like.getFreeBoard();
         return LikeBoardResponse.builder()
                 .category("projects")
                 .id(freeBoard.getId())
                 .title(freeBoard.getTitle())
-                .content(freeBoard.getContent())
+                .content(previews.get(freeBoard.getId()))
                 .createdAt(freeBoard.getCreateAt())
                 .commentNum(freeBoard.getComments().size())
                 .like(true)
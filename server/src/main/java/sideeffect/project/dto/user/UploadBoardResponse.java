@@ -9,12 +9,12 @@ import sideeffect.project.domain.recruit.BoardPosition;
 import sideeffect.project.domain.recruit.BoardStack;
 import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.stack.StackType;
-import sideeffect.project.domain.user.User;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.stream.Collectors;
 
@@ -38,15 +38,14 @@ public class UploadBoardResponse {
     private List<PositionType> positions;
     private Boolean closed;
 
-    public static List<UploadBoardResponse> listOf(User user) {
+    public static List<UploadBoardResponse> listOf(Long userId, List<FreeBoard> freeBoards, List<RecruitBoard> recruitBoards,
+                                                   Map<Long, String> previews) {
         List<UploadBoardResponse> uploadBoardResponseList = new ArrayList<>();
-        List<FreeBoard> freeBoards = user.getFreeBoards();
-        List<RecruitBoard> recruitBoards = user.getRecruitBoards();
 
         if(freeBoards!=null && !freeBoards.isEmpty()){
             uploadBoardResponseList.addAll(
                     freeBoards.stream()
-                            .map(freeBoard -> getUploadBoardOfFree(user, freeBoard))
+                            .map(freeBoard -> getUploadBoardOfFree(userId, freeBoard, previews))
                             .collect(Collectors.toList())
             );
         }
@@ -54,7 +53,7 @@ public class UploadBoardResponse {
         if(recruitBoards!=null && !recruitBoards.isEmpty()){
             uploadBoardResponseList.addAll(
                     recruitBoards.stream()
-                            .map(recruitBoard -> getUploadBoardOfRecruit(user, recruitBoard))
+                            .map(recruitBoard -> getUploadBoardOfRecruit(userId, recruitBoard))
                             .collect(Collectors.toList())
             );
         }
@@ -62,13 +61,13 @@ public class UploadBoardResponse {
         return uploadBoardResponseList;
     }
 
-    private static UploadBoardResponse getUploadBoardOfRecruit(User user, RecruitBoard recruitBoard) {
+    private static UploadBoardResponse getUploadBoardOfRecruit(Long userId, RecruitBoard recruitBoard) {
         return UploadBoardResponse.builder()
                 .category("recruits")
                 .id(recruitBoard.getId())
                 .title(recruitBoard.getTitle())
                 .createdAt(recruitBoard.getCreateAt())
-                .like(isRecruitBoardLiked(user.getId(), recruitBoard.getRecruitLikes()))
+                .like(isRecruitBoardLiked(userId, recruitBoard.getRecruitLikes()))
                 .likeNum(recruitBoard.getRecruitLikes().size())
                 .views(recruitBoard.getViews())
                 .tags(getStackType(recruitBoard.getBoardStacks()))
@@ -117,15 +116,15 @@ public class UploadBoardResponse {
         return stackTypes;
     }
 
-    private static UploadBoardResponse getUploadBoardOfFree(User user, FreeBoard freeBoard) {
+    private static UploadBoardResponse getUploadBoardOfFree(Long userId, FreeBoard freeBoard, Map<Long, String> previews) {
         return UploadBoardResponse.builder()
                 .category("projects")
                 .id(freeBoard.getId())
                 .title(freeBoard.getTitle())
-                .content(freeBoard.getContent())
+                .content(previews.get(freeBoard.getId()))
                 .createdAt(freeBoard.getCreateAt())
                 .commentNum(freeBoard.getComments().size())
-                .like(isFreeBoardLiked(user.getId(), freeBoard.getLikes()))
+                .like(isFreeBoardLiked(userId, freeBoard.getLikes()))
                 .likeNum(freeBoard.getLikes().size())
                 .views(freeBoard.getViews())
                 .imgUrl(freeBoard.getImgUrl())
@@ -30,24 +30,28 @@ public class UserResponse {
     private List<ApplyBoardResponse> applyBoards;
 
     private Boolean isOwner;
+    private boolean partial;
 
-    public static UserResponse ownerOf(User user){
+    public static UserResponse ownerOf(User user, int boards, List<String> tags, List<LikeBoardResponse> likeBoards,
+                                       List<UploadBoardResponse> uploadBoards, List<ApplyBoardResponse> applyBoards, boolean partial){
         return UserResponse.builder()
                 .id(user.getId())
                 .email(user.getEmail())
                 .nickname(user.getNickname())
                 .introduction(user.getIntroduction())
-                .boards(getBoards(user))
+                .boards(boards)
                 .position(user.getPosition())
                 .career(user.getCareer())
-                .tags(listOf(user.getUserStacks()))
+                .tags(tags)
                 .imgUrl(user.getImgUrl())
                 .blogUrl(user.getBlogUrl())
                 .githubUrl(user.getGithubUrl())
                 .portfolioUrl(user.getPortfolioUrl())
-                .likeBoards(LikeBoardResponse.listOf(user))
-                .uploadBoards(UploadBoardResponse.listOf(user))
-                .applyBoards(ApplyBoardResponse.listOf(user))
+                .likeBoards(likeBoards)
+                .uploadBoards(uploadBoards)
+                .applyBoards(applyBoards)
+                .isOwner(true)
+                .partial(partial)
                 .build();
     }
 
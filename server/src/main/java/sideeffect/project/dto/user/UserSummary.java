@@ -0,0 +1,13 @@
+package sideeffect.project.dto.user;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+@Getter
+@AllArgsConstructor
+public class UserSummary {
+
+    private final Long id;
+    private final String nickname;
+    private final String imgUrl;
+}
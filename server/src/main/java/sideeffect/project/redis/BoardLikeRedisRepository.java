@@ -0,0 +1,146 @@
+package sideeffect.project.redis;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardLikeRedisRepository {
+
+    private static final String KEY_PREFIX = "likes:";
+    private static final String FIELD_DELIMITER = ":";
+    private static final String LIKED = "1";
+    private static final String CANCELED = "0";
+    private static final int SCAN_COUNT = 1000;
+    private static final RedisScript<Long> TOGGLE_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('SADD', KEYS[1], ARGV[1]) == 1 then "
+            + "redis.call('HSET', KEYS[2], ARGV[2], '" + LIKED + "') "
+            + "return 1 "
+            + "end "
+            + "redis.call('SREM', KEYS[1], ARGV[1]) "
+            + "redis.call('HSET', KEYS[2], ARGV[2], '" + CANCELED + "') "
+            + "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public boolean toggle(BoardType type, Long boardId, Long userId) {
+        Long result = redisTemplate.execute(TOGGLE_SCRIPT,
+            List.of(likesKey(type, boardId), pendingKey(type)),
+            String.valueOf(userId), toField(boardId, userId));
+        return Long.valueOf(1L).equals(result);
+    }
+
+    public LikeStatus findStatus(BoardType type, Long boardId, Long userId) {
+        String likesKey = likesKey(type, boardId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.sIsMember(likesKey, String.valueOf(userId));
+            stringConnection.sCard(likesKey);
+            return null;
+        });
+        boolean liked = userId != null && Boolean.TRUE.equals(results.get(0));
+        return new LikeStatus(liked, ((Long) results.get(1)).intValue());
+    }
+
+    public void deleteBoard(BoardType type, Long boardId) {
+        redisTemplate.delete(likesKey(type, boardId));
+    }
+
+    public void deleteUser(BoardType type, Long userId, Collection<Long> likedBoardIds) {
+        String member = String.valueOf(userId);
+        Set<Long> boardIds = new HashSet<>(likedBoardIds);
+        List<String> pendingFields = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().match("*" + FIELD_DELIMITER + userId).count(SCAN_COUNT).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(pendingKey(type), options)) {
+            while (cursor.hasNext()) {
+                String field = (String) cursor.next().getKey();
+                pendingFields.add(field);
+                boardIds.add(toLikeChange(field, CANCELED).getBoardId());
+            }
+        }
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            boardIds.forEach(boardId -> stringConnection.sRem(likesKey(type, boardId), member));
+            if (!pendingFields.isEmpty()) {
+                stringConnection.hDel(pendingKey(type), pendingFields.toArray(String[]::new));
+            }
+            return null;
+        });
+    }
+
+    public void addAll(BoardType type, List<LikeChange> likes) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            likes.forEach(like -> stringConnection.sAdd(likesKey(type, like.getBoardId()), String.valueOf(like.getUserId())));
+            return null;
+        });
+    }
+
+    public List<LikeChange> drainPending(BoardType type) {
+        String flushingKey = flushingKey(type);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey))
+            && Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey(type)))) {
+            redisTemplate.rename(pendingKey(type), flushingKey);
+        }
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+        return entries.entrySet().stream()
+            .map(entry -> toLikeChange((String) entry.getKey(), (String) entry.getValue()))
+            .collect(Collectors.toList());
+    }
+
+    public void completeFlush(BoardType type) {
+        redisTemplate.delete(flushingKey(type));
+    }
+
+    public boolean isLoaded(BoardType type) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(loadedKey(type)));
+    }
+
+    public void markLoaded(BoardType type) {
+        redisTemplate.opsForValue().set(loadedKey(type), LIKED);
+    }
+
+    private LikeChange toLikeChange(String field, String value) {
+        String[] ids = field.split(FIELD_DELIMITER);
+        return new LikeChange(Long.valueOf(ids[0]), Long.valueOf(ids[1]), LIKED.equals(value));
+    }
+
+    private String toField(Long boardId, Long userId) {
+        return boardId + FIELD_DELIMITER + userId;
+    }
+
+    private String likesKey(BoardType type, Long boardId) {
+        return KEY_PREFIX + type.getValue() + ":" + boardId;
+    }
+
+    private String pendingKey(BoardType type) {
+        return KEY_PREFIX + type.getValue() + ":pending";
+    }
+
+    private String flushingKey(BoardType type) {
+        return KEY_PREFIX + type.getValue() + ":flushing";
+    }
+
+    private String loadedKey(BoardType type) {
+        return KEY_PREFIX + type.getValue() + ":loaded";
+    }
+}
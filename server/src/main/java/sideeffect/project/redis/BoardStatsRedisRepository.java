@@ -0,0 +1,84 @@
+package sideeffect.project.redis;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+import sideeffect.project.domain.stats.StatMetric;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardStatsRedisRepository {
+
+    private static final String KEY_PREFIX = "stats:";
+    private static final String FIELD_DELIMITER = ":";
+    private static final int SCAN_COUNT = 1000;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void increment(BoardType type, Long boardId, StatMetric metric, LocalDate statDate, long delta) {
+        redisTemplate.opsForHash().increment(pendingKey(type), toField(statDate, boardId, metric), delta);
+    }
+
+    public List<StatChange> drainPending(BoardType type) {
+        String flushingKey = flushingKey(type);
+        if (!Boolean.TRUE.equals(redisTemplate.hasKey(flushingKey))
+            && Boolean.TRUE.equals(redisTemplate.hasKey(pendingKey(type)))) {
+            redisTemplate.rename(pendingKey(type), flushingKey);
+        }
+
+        Map<Object, Object> entries = redisTemplate.opsForHash().entries(flushingKey);
+        return entries.entrySet().stream()
+            .map(entry -> toStatChange((String) entry.getKey(), (String) entry.getValue()))
+            .filter(change -> change.getDelta() != 0)
+            .collect(Collectors.toList());
+    }
+
+    public void deleteBoards(BoardType type, Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return;
+        }
+        List<Object> fields = new ArrayList<>();
+        ScanOptions options = ScanOptions.scanOptions().count(SCAN_COUNT).build();
+        try (Cursor<Map.Entry<Object, Object>> cursor = redisTemplate.opsForHash().scan(pendingKey(type), options)) {
+            while (cursor.hasNext()) {
+                String field = (String) cursor.next().getKey();
+                if (boardIds.contains(Long.valueOf(field.split(FIELD_DELIMITER)[1]))) {
+                    fields.add(field);
+                }
+            }
+        }
+        if (!fields.isEmpty()) {
+            redisTemplate.opsForHash().delete(pendingKey(type), fields.toArray());
+        }
+    }
+
+    public void completeFlush(BoardType type) {
+        redisTemplate.delete(flushingKey(type));
+    }
+
+    private StatChange toStatChange(String field, String value) {
+        String[] parts = field.split(FIELD_DELIMITER);
+        return new StatChange(LocalDate.parse(parts[0]), Long.valueOf(parts[1]), StatMetric.valueOf(parts[2]),
+            Long.parseLong(value));
+    }
+
+    private String toField(LocalDate statDate, Long boardId, StatMetric metric) {
+        return statDate + FIELD_DELIMITER + boardId + FIELD_DELIMITER + metric.name();
+    }
+
+    private String pendingKey(BoardType type) {
+        return KEY_PREFIX + type.getValue() + ":pending";
+    }
+
+    private String flushingKey(BoardType type) {
+        return KEY_PREFIX + type.getValue() + ":flushing";
+    }
+}
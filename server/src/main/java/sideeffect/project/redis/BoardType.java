@@ -0,0 +1,16 @@
+package sideeffect.project.redis;
+
+public enum BoardType {
+    FREE("free"),
+    RECRUIT("recruit");
+
+    private final String value;
+
+    BoardType(String value) {
+        this.value = value;
+    }
+
+    public String getValue() {
+        return value;
+    }
+}
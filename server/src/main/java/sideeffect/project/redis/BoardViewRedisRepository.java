@@ -0,0 +1,78 @@
+package sideeffect.project.redis;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardViewRedisRepository {
+
+    private static final String KEY_PREFIX = "views:";
+    private static final String USER_VIEWER_PREFIX = "u:";
+    private static final String ADDRESS_VIEWER_PREFIX = "a:";
+    private static final int ADDRESS_HASH_BYTES = 16;
+
+    private final StringRedisTemplate redisTemplate;
+
+    public ViewStatus addViewer(BoardType type, Long boardId, String viewer) {
+        String key = viewersKey(type, boardId);
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.pfAdd(key, viewer);
+            stringConnection.pfCount(key);
+            return null;
+        });
+        return new ViewStatus(Long.valueOf(1L).equals(results.get(0)), (Long) results.get(1));
+    }
+
+    public Map<Long, Long> countViewers(BoardType type, List<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Map.of();
+        }
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            boardIds.forEach(boardId -> stringConnection.pfCount(viewersKey(type, boardId)));
+            return null;
+        });
+
+        Map<Long, Long> counts = new HashMap<>();
+        for (int i = 0; i < boardIds.size(); i++) {
+            counts.put(boardIds.get(i), (Long) results.get(i));
+        }
+        return counts;
+    }
+
+    public void deleteBoard(BoardType type, Long boardId) {
+        redisTemplate.delete(viewersKey(type, boardId));
+    }
+
+    public static String toViewer(Long userId, String address) {
+        if (userId != null) {
+            return USER_VIEWER_PREFIX + userId;
+        }
+        return ADDRESS_VIEWER_PREFIX + hash(String.valueOf(address));
+    }
+
+    private static String hash(String address) {
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(address.getBytes(StandardCharsets.UTF_8));
+            return HexFormat.of().formatHex(digest, 0, ADDRESS_HASH_BYTES);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private String viewersKey(BoardType type, Long boardId) {
+        return KEY_PREFIX + type.getValue() + ":" + boardId;
+    }
+}
@@ -0,0 +1,25 @@
+package sideeffect.project.redis;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class CacheInvalidationRedisRepository {
+
+    public static final String CHANNEL = "second-level-cache-invalidations";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void publish(List<String> invalidations) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            invalidations.forEach(invalidation -> stringConnection.publish(CHANNEL, invalidation));
+            return null;
+        });
+    }
+}
@@ -0,0 +1,16 @@
+package sideeffect.project.redis;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class LikeChange {
+
+    private Long boardId;
+    private Long userId;
+    private boolean liked;
+}
@@ -1,9 +1,189 @@
 package sideeffect.project.redis;
 
-import org.springframework.data.repository.CrudRepository;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
 import sideeffect.project.domain.token.RefreshToken;
 
-public interface RefreshTokenRepository extends CrudRepository<RefreshToken, String> {
+@Repository
+@RequiredArgsConstructor
+public class RefreshTokenRepository {
 
-    boolean existsByRefreshToken(String refreshToken);
+    public static final Duration TIME_TO_LIVE = Duration.ofDays(3);
+
+    private static final String KEY_PREFIX = "rt:";
+    private static final String SESSION_KEY_PREFIX = "rt:sessions:";
+    private static final String LEGACY_KEY_PREFIX = "refreshToken:";
+    private static final String LEGACY_IDS_KEY = "refreshToken";
+    private static final String LEGACY_PHANTOM_SUFFIX = ":phantom";
+    private static final String LEGACY_USER_ID_FIELD = "userId";
+    private static final String LEGACY_MIGRATED_KEY = "rt:legacy-migrated";
+
+    private final StringRedisTemplate redisTemplate;
+    private volatile boolean legacyMigrated;
+
+    public RefreshToken save(RefreshToken refreshToken) {
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            write((StringRedisConnection) connection, refreshToken, TIME_TO_LIVE.toMillis());
+            return null;
+        });
+        return refreshToken;
+    }
+
+    public Optional<RefreshToken> findById(String token) {
+        String userId = redisTemplate.opsForValue().get(tokenKey(token));
+        if (userId != null) {
+            return Optional.of(new RefreshToken(token, Long.valueOf(userId)));
+        }
+        if (isLegacyMigrated()) {
+            return Optional.empty();
+        }
+        return migrate(List.of(token), false).stream().findFirst();
+    }
+
+    public void deleteById(String token) {
+        String userId = redisTemplate.opsForValue().get(tokenKey(token));
+        if (userId == null && isLegacyMigrated()) {
+            return;
+        }
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            if (userId == null) {
+                deleteLegacy(stringConnection, token);
+                return null;
+            }
+            stringConnection.del(tokenKey(token));
+            stringConnection.zRem(sessionKey(Long.valueOf(userId)), token);
+            return null;
+        });
+    }
+
+    public void deleteAllByUserId(Long userId) {
+        String sessionKey = sessionKey(userId);
+        Set<String> tokens = redisTemplate.opsForZSet().range(sessionKey, 0, -1);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            if (tokens != null && !tokens.isEmpty()) {
+                stringConnection.del(tokens.stream().map(this::tokenKey).toArray(String[]::new));
+            }
+            stringConnection.del(sessionKey);
+            return null;
+        });
+    }
+
+    public int migrateLegacyTokens(int batchSize) {
+        if (isLegacyMigrated()) {
+            return 0;
+        }
+        int migrated = 0;
+        List<String> batch = new ArrayList<>(batchSize);
+        try (Cursor<String> cursor = redisTemplate.opsForSet()
+            .scan(LEGACY_IDS_KEY, ScanOptions.scanOptions().count(batchSize).build())) {
+            while (cursor.hasNext()) {
+                batch.add(cursor.next());
+                if (batch.size() == batchSize) {
+                    migrated += migrate(batch, true).size();
+                    batch.clear();
+                }
+            }
+        }
+        if (!batch.isEmpty()) {
+            migrated += migrate(batch, true).size();
+        }
+        Long remaining = redisTemplate.opsForSet().size(LEGACY_IDS_KEY);
+        if (remaining == null || remaining == 0) {
+            redisTemplate.opsForValue().set(LEGACY_MIGRATED_KEY, String.valueOf(System.currentTimeMillis()));
+            legacyMigrated = true;
+        }
+        return migrated;
+    }
+
+    public boolean isLegacyMigrated() {
+        if (!legacyMigrated) {
+            legacyMigrated = Boolean.TRUE.equals(redisTemplate.hasKey(LEGACY_MIGRATED_KEY));
+        }
+        return legacyMigrated;
+    }
+
+    private List<RefreshToken> migrate(List<String> tokens, boolean removeExpired) {
+        List<Object> results = redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            tokens.forEach(token -> {
+                stringConnection.hGet(legacyKey(token), LEGACY_USER_ID_FIELD);
+                stringConnection.pTtl(legacyKey(token));
+            });
+            return null;
+        });
+
+        List<RefreshToken> migrated = new ArrayList<>();
+        List<Long> timeToLives = new ArrayList<>();
+        List<String> expired = new ArrayList<>();
+        for (int i = 0; i < tokens.size(); i++) {
+            String userId = (String) results.get(i * 2);
+            if (userId == null) {
+                if (removeExpired) {
+                    expired.add(tokens.get(i));
+                }
+                continue;
+            }
+            migrated.add(new RefreshToken(tokens.get(i), Long.valueOf(userId)));
+            timeToLives.add(toTimeToLive((Long) results.get(i * 2 + 1)));
+        }
+        if (migrated.isEmpty() && expired.isEmpty()) {
+            return migrated;
+        }
+
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            for (int i = 0; i < migrated.size(); i++) {
+                write(stringConnection, migrated.get(i), timeToLives.get(i));
+                deleteLegacy(stringConnection, migrated.get(i).getRefreshToken());
+            }
+            expired.forEach(token -> deleteLegacy(stringConnection, token));
+            return null;
+        });
+        return migrated;
+    }
+
+    private void write(StringRedisConnection connection, RefreshToken refreshToken, long timeToLive) {
+        long now = System.currentTimeMillis();
+        String sessionKey = sessionKey(refreshToken.getUserId());
+        connection.pSetEx(tokenKey(refreshToken.getRefreshToken()), timeToLive, String.valueOf(refreshToken.getUserId()));
+        connection.zAdd(sessionKey, now + timeToLive, refreshToken.getRefreshToken());
+        connection.zRemRangeByScore(sessionKey, Double.NEGATIVE_INFINITY, now);
+        connection.pExpire(sessionKey, TIME_TO_LIVE.toMillis());
+    }
+
+    private void deleteLegacy(StringRedisConnection connection, String token) {
+        connection.del(legacyKey(token), legacyKey(token) + LEGACY_PHANTOM_SUFFIX);
+        connection.sRem(LEGACY_IDS_KEY, token);
+    }
+
+    private long toTimeToLive(Long remaining) {
+        if (remaining == null || remaining <= 0) {
+            return TIME_TO_LIVE.toMillis();
+        }
+        return remaining;
+    }
+
+    private String tokenKey(String token) {
+        return KEY_PREFIX + token;
+    }
+
+    private String sessionKey(Long userId) {
+        return SESSION_KEY_PREFIX + userId;
+    }
+
+    private String legacyKey(String token) {
+        return LEGACY_KEY_PREFIX + token;
+    }
 }
@@ -0,0 +1,67 @@
+package sideeffect.project.redis;
+
+import java.time.Duration;
+import java.util.Set;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class RevokedTokenRedisRepository {
+
+    public static final String CHANNEL = "revoked-tokens";
+
+    private static final String KEY_PREFIX = "revoked:";
+    private static final String INDEX_KEY = "revoked:index";
+    private static final String USER_PREFIX = "user:";
+    private static final String REVOKED = "1";
+
+    private final StringRedisTemplate redisTemplate;
+
+    public void revoke(String tokenId, Duration timeToLive) {
+        long now = System.currentTimeMillis();
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.pSetEx(revokedKey(tokenId), timeToLive.toMillis(), REVOKED);
+            stringConnection.zAdd(INDEX_KEY, now + timeToLive.toMillis(), tokenId);
+            stringConnection.zRemRangeByScore(INDEX_KEY, Double.NEGATIVE_INFINITY, now);
+            stringConnection.publish(CHANNEL, tokenId);
+            return null;
+        });
+    }
+
+    public void revokeUser(Long userId, long revokedAt, Duration timeToLive) {
+        String member = userMember(userId);
+        redisTemplate.executePipelined((RedisCallback<Object>) connection -> {
+            StringRedisConnection stringConnection = (StringRedisConnection) connection;
+            stringConnection.pSetEx(revokedKey(member), timeToLive.toMillis(), String.valueOf(revokedAt));
+            stringConnection.zAdd(INDEX_KEY, revokedAt + timeToLive.toMillis(), member);
+            stringConnection.publish(CHANNEL, member);
+            return null;
+        });
+    }
+
+    public Long findUserRevokedAt(Long userId) {
+        String revokedAt = redisTemplate.opsForValue().get(revokedKey(userMember(userId)));
+        return revokedAt == null ? null : Long.valueOf(revokedAt);
+    }
+
+    public static String userMember(Long userId) {
+        return USER_PREFIX + userId;
+    }
+
+    public boolean isRevoked(String tokenId) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(revokedKey(tokenId)));
+    }
+
+    public Set<String> findActiveTokenIds() {
+        return redisTemplate.opsForZSet().rangeByScore(INDEX_KEY, System.currentTimeMillis(), Double.POSITIVE_INFINITY);
+    }
+
+    private String revokedKey(String tokenId) {
+        return KEY_PREFIX + tokenId;
+    }
+}
@@ -0,0 +1,43 @@
+package sideeffect.project.redis;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class SchedulerLockRedisRepository {
+
+    private static final String KEY_PREFIX = "scheduler:";
+    private static final RedisScript<Long> UNLOCK_SCRIPT = new DefaultRedisScript<>(
+        "if redis.call('GET', KEYS[1]) == ARGV[1] then "
+            + "return redis.call('DEL', KEYS[1]) "
+            + "end "
+            + "return 0",
+        Long.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public Optional<String> tryLock(String name, Duration timeout) {
+        String token = UUID.randomUUID().toString();
+        if (Boolean.TRUE.equals(redisTemplate.opsForValue().setIfAbsent(lockKey(name), token, timeout))) {
+            return Optional.of(token);
+        }
+        return Optional.empty();
+    }
+
+    public boolean unlock(String name, String token) {
+        Long released = redisTemplate.execute(UNLOCK_SCRIPT, List.of(lockKey(name)), token);
+        return Long.valueOf(1L).equals(released);
+    }
+
+    private String lockKey(String name) {
+        return KEY_PREFIX + name + ":lock";
+    }
+}
@@ -0,0 +1,19 @@
+package sideeffect.project.redis;
+
+import java.time.LocalDate;
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import sideeffect.project.domain.stats.StatMetric;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class StatChange {
+
+    private LocalDate statDate;
+    private Long boardId;
+    private StatMetric metric;
+    private long delta;
+}
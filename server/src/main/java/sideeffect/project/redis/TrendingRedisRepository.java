@@ -0,0 +1,114 @@
+package sideeffect.project.redis;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Repository;
+
+@Repository
+@RequiredArgsConstructor
+public class TrendingRedisRepository {
+
+    private static final String KEY_PREFIX = "trending:";
+    private static final String LOADED = "1";
+    private static final Comparator<TrendingScore> SCORE_ORDER = Comparator
+        .comparingDouble(TrendingScore::getScore).reversed()
+        .thenComparing(TrendingScore::getBoardId, Comparator.reverseOrder());
+    private static final RedisScript<String> INCREASE_SCRIPT = new DefaultRedisScript<>(
+        "local added = tonumber(ARGV[2]) "
+            + "local current = redis.call('ZSCORE', KEYS[1], ARGV[1]) "
+            + "if current then "
+            + "local score = tonumber(current) "
+            + "local max = math.max(score, added) "
+            + "added = max + math.log(math.exp(score - max) + math.exp(added - max)) "
+            + "end "
+            + "local result = string.format('%.17g', added) "
+            + "redis.call('ZADD', KEYS[1], result, ARGV[1]) "
+            + "return result",
+        String.class);
+    @SuppressWarnings("rawtypes")
+    private static final RedisScript<List> PAGE_SCRIPT = new DefaultRedisScript<>(
+        "local candidates = {} "
+            + "local max = '+inf' "
+            + "if ARGV[1] ~= '' then "
+            + "local ties = redis.call('ZRANGEBYSCORE', KEYS[1], ARGV[1], ARGV[1], 'WITHSCORES') "
+            + "for i = 1, #ties do candidates[#candidates + 1] = ties[i] end "
+            + "max = '(' .. ARGV[1] "
+            + "end "
+            + "local page = redis.call('ZREVRANGEBYSCORE', KEYS[1], max, '-inf', 'WITHSCORES', 'LIMIT', 0, ARGV[2]) "
+            + "for i = 1, #page do candidates[#candidates + 1] = page[i] end "
+            + "if #page > 0 then "
+            + "local last = page[#page] "
+            + "local ties = redis.call('ZRANGEBYSCORE', KEYS[1], last, last, 'WITHSCORES') "
+            + "for i = 1, #ties do candidates[#candidates + 1] = ties[i] end "
+            + "end "
+            + "return candidates",
+        List.class);
+
+    private final StringRedisTemplate redisTemplate;
+
+    public double increase(BoardType type, Long boardId, double logScore) {
+        String result = redisTemplate.execute(INCREASE_SCRIPT, List.of(trendingKey(type)),
+            String.valueOf(boardId), String.valueOf(logScore));
+        return Double.parseDouble(result);
+    }
+
+    @SuppressWarnings("unchecked")
+    public List<TrendingScore> findPage(BoardType type, Double lastScore, Long lastId, int count) {
+        List<String> candidates = redisTemplate.execute(PAGE_SCRIPT, List.of(trendingKey(type)),
+            lastScore == null ? "" : String.valueOf(lastScore), String.valueOf(count));
+        if (candidates == null || candidates.isEmpty()) {
+            return new ArrayList<>();
+        }
+
+        Map<Long, TrendingScore> scores = new LinkedHashMap<>();
+        for (int i = 0; i < candidates.size(); i += 2) {
+            Long boardId = Long.valueOf(candidates.get(i));
+            scores.putIfAbsent(boardId, new TrendingScore(boardId, Double.parseDouble(candidates.get(i + 1))));
+        }
+        return scores.values().stream()
+            .filter(score -> isAfterCursor(score, lastScore, lastId))
+            .sorted(SCORE_ORDER)
+            .limit(count)
+            .collect(Collectors.toList());
+    }
+
+    public void remove(BoardType type, Long boardId) {
+        redisTemplate.opsForZSet().remove(trendingKey(type), String.valueOf(boardId));
+    }
+
+    public long removeBelow(BoardType type, double logScore) {
+        Long removed = redisTemplate.opsForZSet().removeRangeByScore(trendingKey(type), Double.NEGATIVE_INFINITY, logScore);
+        return removed == null ? 0 : removed;
+    }
+
+    public boolean isLoaded(BoardType type) {
+        return Boolean.TRUE.equals(redisTemplate.hasKey(loadedKey(type)));
+    }
+
+    public void markLoaded(BoardType type) {
+        redisTemplate.opsForValue().set(loadedKey(type), LOADED);
+    }
+
+    private boolean isAfterCursor(TrendingScore score, Double lastScore, Long lastId) {
+        if (lastScore == null || score.getScore() != lastScore) {
+            return true;
+        }
+        return lastId != null && score.getBoardId() < lastId;
+    }
+
+    private String trendingKey(BoardType type) {
+        return KEY_PREFIX + type.getValue();
+    }
+
+    private String loadedKey(BoardType type) {
+        return KEY_PREFIX + type.getValue() + ":loaded";
+    }
+}
@@ -0,0 +1,15 @@
+package sideeffect.project.redis;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PRIVATE)
+public class ViewStatus {
+
+    private boolean newViewer;
+    private long uniqueViews;
+}
@@ -5,6 +5,7 @@ import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.applicant.Applicant;
 
+import java.util.List;
 import java.util.Optional;
 
 public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
@@ -14,4 +15,16 @@ public interface ApplicantRepository extends JpaRepository<Applicant, Long> {
             "WHERE a.boardPosition.id = :boardPositionId AND a.user.id = :userId")
     Optional<Applicant> isUserApplicantForBoardPosition(@Param("userId") Long userId, @Param("boardPositionId") Long boardPositionId);
 
+    @Query("SELECT a.boardPosition.id " +
+            "FROM Applicant a " +
+            "WHERE a.user.id = :userId AND a.boardPosition.recruitBoard.id = :boardId")
+    List<Long> findBoardPositionIds(@Param("userId") Long userId, @Param("boardId") Long boardId);
+
+    @Query("SELECT a " +
+            "FROM Applicant a " +
+            "JOIN FETCH a.boardPosition bp " +
+            "JOIN FETCH bp.recruitBoard " +
+            "WHERE a.user.id = :userId")
+    List<Applicant> findWithBoardByUserId(@Param("userId") Long userId);
+
 }
@@ -0,0 +1,186 @@
+package sideeffect.project.repository;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stack.StackType;
+import sideeffect.project.dto.comment.RecruitCommentResponse;
+import sideeffect.project.dto.recruit.BoardStackResponse;
+import sideeffect.project.dto.recruit.DetailedBoardPositionResponse;
+import sideeffect.project.dto.recruit.DetailedRecruitBoardResponse;
+
+@Repository
+@RequiredArgsConstructor
+public class BoardArchiveRepository {
+
+    private static final String ARCHIVABLE_FREE_BOARDS = "SELECT free_board_id FROM free_boards "
+        + "WHERE deleted = true ORDER BY free_board_id LIMIT :limit";
+    private static final String ARCHIVABLE_RECRUIT_BOARDS = "SELECT recruit_board_id FROM recruit_board "
+        + "WHERE deleted = false AND closed_at < :closedBefore ORDER BY recruit_board_id LIMIT :limit";
+
+    private static final String ARCHIVED_RECRUIT_BOARD = "SELECT rb.recruit_board_id, rb.user_id, u.nickname, "
+        + "rb.title, rb.project_name, rb.contents, rb.img_src, rb.views, rb.create_at "
+        + "FROM recruit_board_archive rb LEFT JOIN users u ON u.user_id = rb.user_id "
+        + "WHERE rb.recruit_board_id = :boardId";
+    private static final String ARCHIVED_BOARD_POSITIONS = "SELECT bp.board_position_id, p.position_name, "
+        + "bp.target_number, bp.current_number FROM board_position_archive bp "
+        + "JOIN positions p ON p.position_id = bp.position_id "
+        + "WHERE bp.recruit_board_id = :boardId ORDER BY bp.board_position_id";
+    private static final String ARCHIVED_BOARD_STACKS = "SELECT s.stack_name, s.url FROM board_stack_archive bs "
+        + "JOIN stacks s ON s.stack_id = bs.stack_id "
+        + "WHERE bs.recruit_board_id = :boardId ORDER BY bs.board_stack_id";
+    private static final String ARCHIVED_RECRUIT_LIKE_COUNT = "SELECT COUNT(*) FROM recruit_likes_archive "
+        + "WHERE recruit_board_id = :boardId";
+    private static final String ARCHIVED_RECRUIT_COMMENTS = "SELECT recruit_comment_id, recruit_board_id, content, user_id "
+        + "FROM recruit_comments_archive WHERE recruit_board_id = :boardId "
+        + "ORDER BY recruit_comment_id DESC LIMIT :limit";
+    private static final String ARCHIVED_RECRUIT_COMMENT_COUNT = "SELECT COUNT(*) FROM recruit_comments_archive "
+        + "WHERE recruit_board_id = :boardId";
+
+    private static final Map<ArchiveTarget, List<ArchiveStep>> PLANS = Map.of(
+        ArchiveTarget.FREE_BOARD, freeBoardSteps(),
+        ArchiveTarget.RECRUIT_BOARD, recruitBoardSteps());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<ArchiveStep> findSteps(ArchiveTarget target) {
+        return PLANS.get(target);
+    }
+
+    public List<Long> findArchivableIds(ArchiveTarget target, LocalDateTime closedBefore, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("limit", limit);
+        if (target == ArchiveTarget.FREE_BOARD) {
+            return jdbcTemplate.queryForList(ARCHIVABLE_FREE_BOARDS, params, Long.class);
+        }
+        return jdbcTemplate.queryForList(ARCHIVABLE_RECRUIT_BOARDS, params.addValue("closedBefore", closedBefore), Long.class);
+    }
+
+    public List<Long> moveByBoardIds(ArchiveStep step, Collection<Long> boardIds) {
+        List<Long> ids = jdbcTemplate.queryForList(step.getSelectSql(), new MapSqlParameterSource("boardIds", boardIds), Long.class);
+        if (ids.isEmpty()) {
+            return ids;
+        }
+        MapSqlParameterSource params = new MapSqlParameterSource("ids", ids);
+        jdbcTemplate.update(step.getInsertSql(), params);
+        jdbcTemplate.update(step.getDeleteSql(), params);
+        return ids;
+    }
+
+    public Optional<DetailedRecruitBoardResponse> findRecruitBoard(Long boardId) {
+        MapSqlParameterSource params = new MapSqlParameterSource("boardId", boardId);
+        List<DetailedRecruitBoardResponse.DetailedRecruitBoardResponseBuilder> boards = jdbcTemplate.query(
+            ARCHIVED_RECRUIT_BOARD, params, (rs, rowNum) -> DetailedRecruitBoardResponse.builder()
+                .id(rs.getLong("recruit_board_id"))
+                .userId(rs.getObject("user_id", Long.class))
+                .writer(rs.getString("nickname"))
+                .title(rs.getString("title"))
+                .projectName(rs.getString("project_name"))
+                .content(rs.getString("contents"))
+                .imgSrc(rs.getString("img_src"))
+                .views(rs.getInt("views"))
+                .createdAt(rs.getObject("create_at", LocalDateTime.class))
+                .archived(true));
+        if (boards.isEmpty()) {
+            return Optional.empty();
+        }
+        return Optional.of(boards.get(0)
+            .positions(jdbcTemplate.query(ARCHIVED_BOARD_POSITIONS, params, (rs, rowNum) -> DetailedBoardPositionResponse.builder()
+                .id(rs.getLong("board_position_id"))
+                .positionType(PositionType.valueOf(rs.getString("position_name")).getValue())
+                .targetNumber(rs.getInt("target_number"))
+                .currentNumber(rs.getInt("current_number"))
+                .build()))
+            .tags(jdbcTemplate.query(ARCHIVED_BOARD_STACKS, params, (rs, rowNum) -> BoardStackResponse.builder()
+                .stackType(StackType.valueOf(rs.getString("stack_name")).getValue())
+                .url(rs.getString("url"))
+                .build()))
+            .likeNum(jdbcTemplate.queryForObject(ARCHIVED_RECRUIT_LIKE_COUNT, params, Integer.class))
+            .build());
+    }
+
+    public List<RecruitCommentResponse> findRecruitComments(Long boardId, int limit) {
+        return jdbcTemplate.query(ARCHIVED_RECRUIT_COMMENTS,
+            new MapSqlParameterSource("boardId", boardId).addValue("limit", limit),
+            (rs, rowNum) -> new RecruitCommentResponse(rs.getLong("recruit_comment_id"), rs.getLong("recruit_board_id"),
+                rs.getString("content"), rs.getObject("user_id", Long.class)));
+    }
+
+    public long countRecruitComments(Long boardId) {
+        Long count = jdbcTemplate.queryForObject(ARCHIVED_RECRUIT_COMMENT_COUNT,
+            new MapSqlParameterSource("boardId", boardId), Long.class);
+        return count == null ? 0 : count;
+    }
+
+    private static List<ArchiveStep> freeBoardSteps() {
+        return List.of(
+            new ArchiveStep("comments", "comment_id",
+                "create_at, update_at, content, user_id, free_board_id", "free_board_id IN (:boardIds)"),
+            new ArchiveStep("likes", "id",
+                "user_id, free_board_id, created_at", "free_board_id IN (:boardIds)"),
+            new ArchiveStep("free_boards", "free_board_id",
+                "create_at, update_at, views, title, project_url, content, img_url, project_name, sub_title, user_id, deleted",
+                "free_board_id IN (:boardIds)"));
+    }
+
+    private static List<ArchiveStep> recruitBoardSteps() {
+        return List.of(
+            new ArchiveStep("applicant", "applicant_id",
+                "create_at, update_at, status, user_id, board_position_id", "board_position_id IN ("
+                + "SELECT board_position_id FROM board_position WHERE recruit_board_id IN (:boardIds))"),
+            new ArchiveStep("board_position", "board_position_id",
+                "target_number, current_number, position_id, recruit_board_id", "recruit_board_id IN (:boardIds)",
+                BoardPosition.class.getName(), List.of()),
+            new ArchiveStep("board_stack", "board_stack_id",
+                "stack_id, recruit_board_id", "recruit_board_id IN (:boardIds)",
+                BoardStack.class.getName(), List.of()),
+            new ArchiveStep("recruit_likes", "recruit_like_id",
+                "user_id, recruit_board_id", "recruit_board_id IN (:boardIds)"),
+            new ArchiveStep("recruit_comments", "recruit_comment_id",
+                "create_at, update_at, content, user_id, recruit_board_id", "recruit_board_id IN (:boardIds)"),
+            new ArchiveStep("penalties", "id",
+                "user_id, recruit_board_id, created_at", "recruit_board_id IN (:boardIds)"),
+            new ArchiveStep("recruit_board", "recruit_board_id",
+                "create_at, update_at, title, project_name, contents, img_src, views, deleted, closed_at, user_id",
+                "recruit_board_id IN (:boardIds)",
+                null, List.of(RecruitBoard.class.getName() + ".boardPositions", RecruitBoard.class.getName() + ".boardStacks")));
+    }
+
+    @Getter
+    public static class ArchiveStep {
+
+        private final String table;
+        private final String selectSql;
+        private final String insertSql;
+        private final String deleteSql;
+        private final String cachedEntity;
+        private final List<String> cachedCollections;
+
+        private ArchiveStep(String table, String idColumn, String columns, String condition) {
+            this(table, idColumn, columns, condition, null, List.of());
+        }
+
+        private ArchiveStep(String table, String idColumn, String columns, String condition,
+            String cachedEntity, List<String> cachedCollections) {
+            String archivedColumns = idColumn + ", " + columns;
+            this.table = table;
+            this.cachedEntity = cachedEntity;
+            this.cachedCollections = cachedCollections;
+            this.selectSql = "SELECT " + idColumn + " FROM " + table + " WHERE " + condition;
+            this.insertSql = "INSERT INTO " + table + "_archive (" + archivedColumns + ", archived_at) "
+                + "SELECT " + archivedColumns + ", CURRENT_TIMESTAMP FROM " + table + " WHERE " + idColumn + " IN (:ids)";
+            this.deleteSql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (:ids)";
+        }
+    }
+}
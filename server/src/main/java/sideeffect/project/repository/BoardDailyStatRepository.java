@@ -0,0 +1,27 @@
+package sideeffect.project.repository;
+
+import java.time.LocalDate;
+import java.util.Collection;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sideeffect.project.domain.stats.BoardDailyStat;
+import sideeffect.project.redis.BoardType;
+
+public interface BoardDailyStatRepository extends JpaRepository<BoardDailyStat, Long> {
+
+    @Query("SELECT s FROM BoardDailyStat s "
+        + "WHERE s.boardType = :boardType AND s.boardId = :boardId AND s.statDate BETWEEN :from AND :to "
+        + "ORDER BY s.statDate")
+    List<BoardDailyStat> findStats(@Param("boardType") BoardType boardType, @Param("boardId") Long boardId,
+        @Param("from") LocalDate from, @Param("to") LocalDate to);
+
+    @Query("SELECT s FROM BoardDailyStat s "
+        + "WHERE s.boardType = :boardType AND s.statDate IN :statDates AND s.boardId IN :boardIds")
+    List<BoardDailyStat> findDailyStats(@Param("boardType") BoardType boardType,
+        @Param("statDates") Collection<LocalDate> statDates, @Param("boardIds") Collection<Long> boardIds);
+
+    @Query("SELECT s FROM BoardDailyStat s WHERE s.boardType = :boardType AND s.statDate >= :from")
+    List<BoardDailyStat> findRecentStats(@Param("boardType") BoardType boardType, @Param("from") LocalDate from);
+}
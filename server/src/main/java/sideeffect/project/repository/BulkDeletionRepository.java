@@ -0,0 +1,127 @@
+package sideeffect.project.repository;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.function.UnaryOperator;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sideeffect.project.domain.deletion.DeletionTarget;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.user.User;
+
+@Repository
+@RequiredArgsConstructor
+public class BulkDeletionRepository {
+
+    private static final String USER_RECRUIT_BOARDS = "SELECT recruit_board_id FROM recruit_board WHERE user_id = :targetId";
+    private static final String USER_FREE_BOARDS = "SELECT free_board_id FROM free_boards WHERE user_id = :targetId";
+    private static final String USER_ARCHIVED_RECRUIT_BOARDS =
+        "SELECT recruit_board_id FROM recruit_board_archive WHERE user_id = :targetId";
+    private static final String USER_ARCHIVED_FREE_BOARDS =
+        "SELECT free_board_id FROM free_boards_archive WHERE user_id = :targetId";
+
+    private static final Map<DeletionTarget, List<DeletionStep>> PLANS = Map.of(
+        DeletionTarget.RECRUIT_BOARD, recruitBoardSteps(column -> column + " = :targetId"),
+        DeletionTarget.USER, userSteps());
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public List<DeletionStep> findSteps(DeletionTarget target) {
+        return PLANS.get(target);
+    }
+
+    public List<Long> findIds(DeletionStep step, Long targetId, int limit) {
+        return jdbcTemplate.queryForList(step.getSelectSql(),
+            new MapSqlParameterSource("targetId", targetId).addValue("limit", limit), Long.class);
+    }
+
+    public int deleteByIds(DeletionStep step, Collection<Long> ids) {
+        return jdbcTemplate.update(step.getDeleteSql(), new MapSqlParameterSource("ids", ids));
+    }
+
+    private static List<DeletionStep> recruitBoardSteps(UnaryOperator<String> boards) {
+        return List.of(
+            new DeletionStep("applicant", "applicant_id", "board_position_id IN ("
+                + "SELECT board_position_id FROM board_position WHERE " + boards.apply("recruit_board_id") + ")"),
+            new DeletionStep("board_position", "board_position_id", boards.apply("recruit_board_id"),
+                BoardPosition.class.getName(), List.of()),
+            new DeletionStep("board_stack", "board_stack_id", boards.apply("recruit_board_id"),
+                BoardStack.class.getName(), List.of()),
+            new DeletionStep("recruit_likes", "recruit_like_id", boards.apply("recruit_board_id")),
+            new DeletionStep("recruit_comments", "recruit_comment_id", boards.apply("recruit_board_id")),
+            new DeletionStep("penalties", "id", boards.apply("recruit_board_id")),
+            new DeletionStep("board_daily_stats", "id", "board_type = 'RECRUIT' AND " + boards.apply("board_id")),
+            new DeletionStep("recruit_board", "recruit_board_id", boards.apply("recruit_board_id"),
+                null, List.of(RecruitBoard.class.getName() + ".boardPositions", RecruitBoard.class.getName() + ".boardStacks")));
+    }
+
+    private static List<DeletionStep> userSteps() {
+        List<DeletionStep> steps = new ArrayList<>(
+            recruitBoardSteps(column -> column + " IN (" + USER_RECRUIT_BOARDS + ")"));
+        steps.addAll(List.of(
+            new DeletionStep("applicant", "applicant_id", "user_id = :targetId"),
+            new DeletionStep("recruit_likes", "recruit_like_id", "user_id = :targetId"),
+            new DeletionStep("recruit_comments", "recruit_comment_id", "user_id = :targetId"),
+            new DeletionStep("penalties", "id", "user_id = :targetId"),
+            new DeletionStep("comments", "comment_id", "free_board_id IN (" + USER_FREE_BOARDS + ")"),
+            new DeletionStep("likes", "id", "free_board_id IN (" + USER_FREE_BOARDS + ")"),
+            new DeletionStep("board_daily_stats", "id", "board_type = 'FREE' AND board_id IN (" + USER_FREE_BOARDS + ")"),
+            new DeletionStep("free_boards", "free_board_id", "user_id = :targetId"),
+            new DeletionStep("comments", "comment_id", "user_id = :targetId"),
+            new DeletionStep("likes", "id", "user_id = :targetId"),
+            new DeletionStep("applicant_archive", "applicant_id", "board_position_id IN ("
+                + "SELECT board_position_id FROM board_position_archive WHERE recruit_board_id IN ("
+                + USER_ARCHIVED_RECRUIT_BOARDS + "))"),
+            new DeletionStep("board_position_archive", "board_position_id", "recruit_board_id IN (" + USER_ARCHIVED_RECRUIT_BOARDS + ")"),
+            new DeletionStep("board_stack_archive", "board_stack_id", "recruit_board_id IN (" + USER_ARCHIVED_RECRUIT_BOARDS + ")"),
+            new DeletionStep("recruit_likes_archive", "recruit_like_id", "recruit_board_id IN (" + USER_ARCHIVED_RECRUIT_BOARDS + ")"),
+            new DeletionStep("recruit_comments_archive", "recruit_comment_id", "recruit_board_id IN (" + USER_ARCHIVED_RECRUIT_BOARDS + ")"),
+            new DeletionStep("penalties_archive", "id", "recruit_board_id IN (" + USER_ARCHIVED_RECRUIT_BOARDS + ")"),
+            new DeletionStep("board_daily_stats", "id", "board_type = 'RECRUIT' AND board_id IN (" + USER_ARCHIVED_RECRUIT_BOARDS + ")"),
+            new DeletionStep("recruit_board_archive", "recruit_board_id", "user_id = :targetId"),
+            new DeletionStep("comments_archive", "comment_id", "free_board_id IN (" + USER_ARCHIVED_FREE_BOARDS + ")"),
+            new DeletionStep("likes_archive", "id", "free_board_id IN (" + USER_ARCHIVED_FREE_BOARDS + ")"),
+            new DeletionStep("board_daily_stats", "id", "board_type = 'FREE' AND board_id IN (" + USER_ARCHIVED_FREE_BOARDS + ")"),
+            new DeletionStep("free_boards_archive", "free_board_id", "user_id = :targetId"),
+            new DeletionStep("applicant_archive", "applicant_id", "user_id = :targetId"),
+            new DeletionStep("recruit_likes_archive", "recruit_like_id", "user_id = :targetId"),
+            new DeletionStep("recruit_comments_archive", "recruit_comment_id", "user_id = :targetId"),
+            new DeletionStep("penalties_archive", "id", "user_id = :targetId"),
+            new DeletionStep("comments_archive", "comment_id", "user_id = :targetId"),
+            new DeletionStep("likes_archive", "id", "user_id = :targetId"),
+            new DeletionStep("notifications", "id", "user_id = :targetId OR sending_user_id = :targetId"),
+            new DeletionStep("user_stack", "id", "user_id = :targetId"),
+            new DeletionStep("users", "user_id", "user_id = :targetId", User.class.getName(), List.of())));
+        return List.copyOf(steps);
+    }
+
+    @Getter
+    public static class DeletionStep {
+
+        private final String table;
+        private final String selectSql;
+        private final String deleteSql;
+        private final String cachedEntity;
+        private final List<String> cachedCollections;
+
+        private DeletionStep(String table, String idColumn, String condition) {
+            this(table, idColumn, condition, null, List.of());
+        }
+
+        private DeletionStep(String table, String idColumn, String condition,
+            String cachedEntity, List<String> cachedCollections) {
+            this.table = table;
+            this.cachedEntity = cachedEntity;
+            this.cachedCollections = cachedCollections;
+            this.selectSql = "SELECT " + idColumn + " FROM " + table + " WHERE " + condition + " LIMIT :limit";
+            this.deleteSql = "DELETE FROM " + table + " WHERE " + idColumn + " IN (:ids)";
+        }
+    }
+}
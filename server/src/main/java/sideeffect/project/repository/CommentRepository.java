@@ -1,10 +1,21 @@
 package sideeffect.project.repository;
 
 import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.comment.Comment;
+import sideeffect.project.dto.comment.CommentResponse;
 
 public interface CommentRepository extends JpaRepository<Comment, Long> {
 
-    List<Comment> findAllByFreeBoardIdOrderByIdDesc(Long freeBoardId);
+    @Query("SELECT new sideeffect.project.dto.comment.CommentResponse(c.id, c.freeBoard.id, c.content, c.user.id) "
+        + "FROM Comment c "
+        + "WHERE c.freeBoard.id = :boardId AND (:lastId IS NULL OR c.id < :lastId) "
+        + "ORDER BY c.id DESC")
+    List<CommentResponse> findCommentResponses(@Param("boardId") Long boardId, @Param("lastId") Long lastId,
+        Pageable pageable);
+
+    long countByFreeBoardId(Long freeBoardId);
 }
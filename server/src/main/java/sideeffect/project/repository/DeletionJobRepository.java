@@ -0,0 +1,43 @@
+package sideeffect.project.repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import sideeffect.project.domain.deletion.DeletionJob;
+
+public interface DeletionJobRepository extends JpaRepository<DeletionJob, Long> {
+
+    String RESUMABLE = "j.attempts < :maxAttempts AND (j.status IN ("
+        + "sideeffect.project.domain.deletion.DeletionStatus.PENDING, "
+        + "sideeffect.project.domain.deletion.DeletionStatus.FAILED) "
+        + "OR (j.status = sideeffect.project.domain.deletion.DeletionStatus.RUNNING AND j.heartbeatAt < :staleBefore))";
+
+    @Query("SELECT j.id FROM DeletionJob j WHERE " + RESUMABLE + " ORDER BY j.id")
+    List<Long> findResumableIds(@Param("staleBefore") LocalDateTime staleBefore,
+        @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE DeletionJob j SET j.status = sideeffect.project.domain.deletion.DeletionStatus.RUNNING, "
+        + "j.attempts = j.attempts + 1, j.heartbeatAt = :now WHERE j.id = :jobId AND " + RESUMABLE)
+    int claim(@Param("jobId") Long jobId, @Param("now") LocalDateTime now,
+        @Param("staleBefore") LocalDateTime staleBefore, @Param("maxAttempts") int maxAttempts);
+
+    @Modifying
+    @Query("UPDATE DeletionJob j SET j.currentStep = :step, j.deletedRows = j.deletedRows + :rows, "
+        + "j.heartbeatAt = :now WHERE j.id = :jobId")
+    int addProgress(@Param("jobId") Long jobId, @Param("step") String step, @Param("rows") long rows,
+        @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE DeletionJob j SET j.status = sideeffect.project.domain.deletion.DeletionStatus.COMPLETED, "
+        + "j.currentStep = null, j.heartbeatAt = :now WHERE j.id = :jobId")
+    int complete(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("UPDATE DeletionJob j SET j.status = sideeffect.project.domain.deletion.DeletionStatus.FAILED, "
+        + "j.heartbeatAt = :now WHERE j.id = :jobId")
+    int fail(@Param("jobId") Long jobId, @Param("now") LocalDateTime now);
+}
@@ -1,7 +1,10 @@
 package sideeffect.project.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.freeboard.FreeBoard;
@@ -12,7 +15,26 @@ public interface FreeBoardRepository extends JpaRepository<FreeBoard, Long>, Fre
     boolean existsByProjectUrl(String projectUrl);
 
     @Query("SELECT distinct b from FreeBoard b "
+        + "join fetch b.user "
         + "left outer join fetch b.likes "
         + "where b.id = :boardId ")
     Optional<FreeBoard> searchBoardFetchJoin(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("UPDATE FreeBoard b SET b.views = b.views + 1 WHERE b.id = :boardId")
+    int increaseViews(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("UPDATE FreeBoard b SET b.deleted = true WHERE b.user.id = :userId")
+    int markDeletedByUserId(@Param("userId") Long userId);
+
+    long countByUserId(Long userId);
+
+    List<FreeBoard> findByUserId(Long userId);
+
+    @Query("SELECT b.id FROM FreeBoard b WHERE b.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT b.id FROM FreeBoard b WHERE b.id IN :boardIds")
+    List<Long> findExistingIds(@Param("boardIds") Collection<Long> boardIds);
 }
@@ -1,15 +1,37 @@
 package sideeffect.project.repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.like.Like;
+import sideeffect.project.redis.LikeChange;
 
 public interface LikeRepository extends JpaRepository<Like, Long> {
 
     @Query("SELECT l from Like l join fetch l.freeBoard where l.user.id = :userId and l.freeBoard.id = :freeBoardId")
     Optional<Like> searchLike(@Param("userId") Long userId,@Param("freeBoardId") Long freeBoardId);
 
+    @Query("SELECT l FROM Like l JOIN FETCH l.freeBoard WHERE l.user.id = :userId")
+    List<Like> findWithBoardByUserId(@Param("userId") Long userId);
+
     boolean existsByUserIdAndFreeBoardId(Long userId, Long boardId);
+
+    @Query("SELECT l.freeBoard.id FROM Like l WHERE l.user.id = :userId")
+    List<Long> findBoardIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT l.user.id FROM Like l WHERE l.freeBoard.id = :boardId AND l.user.id IN :userIds")
+    List<Long> findUserIds(@Param("boardId") Long boardId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM Like l WHERE l.freeBoard.id = :boardId AND l.user.id IN :userIds")
+    int deleteLikes(@Param("boardId") Long boardId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new sideeffect.project.redis.LikeChange(l.freeBoard.id, l.user.id, true) FROM Like l ORDER BY l.id")
+    Slice<LikeChange> findLikeChanges(Pageable pageable);
 }
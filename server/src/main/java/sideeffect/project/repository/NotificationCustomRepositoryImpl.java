@@ -6,6 +6,7 @@ import sideeffect.project.domain.notification.Notification;
 import sideeffect.project.domain.user.User;
 
 import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.List;
 
 @RequiredArgsConstructor
@@ -13,20 +14,24 @@ public class NotificationCustomRepositoryImpl implements NotificationCustomRepos
     private final EntityManager em;
 
     @Override
-    public List<Notification> findByLastId(User user, Long lastId) {
+    public List<Notification> findByLastId(User user, Long lastId, LocalDateTime since) {
         if(lastId==null || lastId==-1){
             return em.createQuery("SELECT n FROM Notification n " +
                             "WHERE n.user = :user " +
+                            "AND n.createdAt >= :since " +
                             "ORDER BY n.id desc", Notification.class)
                     .setParameter("user", user)
+                    .setParameter("since", since)
                     .setMaxResults(10).getResultList();
         }else{
             return em.createQuery( "SELECT n FROM Notification n " +
                             "WHERE n.user = :user " +
                             "AND n.id < :lastId " +
+                            "AND n.createdAt >= :since " +
                             "ORDER BY n.id desc", Notification.class)
                     .setParameter("user", user)
                     .setParameter("lastId", lastId)
+                    .setParameter("since", since)
                     .setMaxResults(10).getResultList();
         }
     }
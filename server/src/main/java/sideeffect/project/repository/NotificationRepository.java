@@ -1,8 +1,47 @@
 package sideeffect.project.repository;
 
+import jakarta.persistence.LockModeType;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.notification.Notification;
 
 public interface NotificationRepository extends JpaRepository<Notification, Long>, NotificationCustomRepository {
 
+    List<Notification> findByUserId(Long userId);
+
+    long countByUserIdAndWatchedFalse(Long userId);
+
+    @Query("SELECT n.id FROM Notification n WHERE n.user.id = :userId AND n.collapseKey = :collapseKey "
+        + "AND n.watched = false AND n.createdAt >= :since ORDER BY n.id DESC")
+    List<Long> findCollapsibleIds(@Param("userId") Long userId, @Param("collapseKey") String collapseKey,
+        @Param("since") LocalDateTime since, Pageable pageable);
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT n FROM Notification n WHERE n.id = :id")
+    Optional<Notification> findByIdForUpdate(@Param("id") Long id);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.watched = true WHERE n.user.id = :userId AND n.watched = false")
+    int watchAll(@Param("userId") Long userId);
+
+    @Modifying(clearAutomatically = true)
+    @Query("UPDATE Notification n SET n.watched = true "
+        + "WHERE n.user.id = :userId AND n.id IN :ids AND n.watched = false")
+    int watchByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId AND n.id IN :ids")
+    int deleteByIds(@Param("userId") Long userId, @Param("ids") Collection<Long> ids);
+
+    @Modifying(clearAutomatically = true)
+    @Query("DELETE FROM Notification n WHERE n.user.id = :userId AND n.id < :beforeId")
+    int deleteBefore(@Param("userId") Long userId, @Param("beforeId") Long beforeId);
 }
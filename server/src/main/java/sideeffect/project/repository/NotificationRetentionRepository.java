@@ -0,0 +1,81 @@
+package sideeffect.project.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.namedparam.MapSqlParameterSource;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.stereotype.Repository;
+import sideeffect.project.domain.notification.NotificationType;
+
+@Repository
+@RequiredArgsConstructor
+public class NotificationRetentionRepository {
+
+    private static final String MAX_PARTITION = "pmax";
+    private static final String PARTITIONS = "SELECT partition_name, partition_description FROM information_schema.partitions "
+        + "WHERE table_schema = DATABASE() AND table_name = 'notifications' AND partition_name IS NOT NULL "
+        + "ORDER BY partition_ordinal_position";
+    private static final String EXPIRED_IDS = "SELECT id FROM notifications "
+        + "WHERE category = :category AND created_at < :cutoff LIMIT :limit";
+    private static final String EXPIRED_UNCATEGORIZED_IDS = "SELECT id FROM notifications "
+        + "WHERE category IS NULL AND created_at < :cutoff LIMIT :limit";
+
+    private final NamedParameterJdbcTemplate jdbcTemplate;
+
+    public boolean supportsPartitioning() {
+        String product = jdbcTemplate.getJdbcOperations().execute(
+            (ConnectionCallback<String>) connection -> connection.getMetaData().getDatabaseProductName());
+        return "MariaDB".equalsIgnoreCase(product) || "MySQL".equalsIgnoreCase(product);
+    }
+
+    public List<NotificationPartition> findPartitions() {
+        return jdbcTemplate.query(PARTITIONS, new MapSqlParameterSource(), (rs, rowNum) ->
+            new NotificationPartition(rs.getString("partition_name"), toLessThan(rs.getString("partition_description"))));
+    }
+
+    public void addPartition(String name, LocalDate lessThan) {
+        jdbcTemplate.getJdbcOperations().execute("ALTER TABLE notifications REORGANIZE PARTITION " + MAX_PARTITION
+            + " INTO (PARTITION " + name + " VALUES LESS THAN ('" + lessThan + "'), "
+            + "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    public void dropPartition(String name) {
+        jdbcTemplate.getJdbcOperations().execute("ALTER TABLE notifications DROP PARTITION " + name);
+    }
+
+    public List<Long> findExpiredIds(NotificationType type, LocalDateTime cutoff, int limit) {
+        MapSqlParameterSource params = new MapSqlParameterSource("cutoff", cutoff).addValue("limit", limit);
+        if (type == null) {
+            return jdbcTemplate.queryForList(EXPIRED_UNCATEGORIZED_IDS, params, Long.class);
+        }
+        return jdbcTemplate.queryForList(EXPIRED_IDS, params.addValue("category", type.name()), Long.class);
+    }
+
+    public int deleteByIds(Collection<Long> ids) {
+        return jdbcTemplate.update("DELETE FROM notifications WHERE id IN (:ids)", new MapSqlParameterSource("ids", ids));
+    }
+
+    private static LocalDate toLessThan(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", "").substring(0, 10));
+    }
+
+    @Getter
+    @RequiredArgsConstructor
+    public static class NotificationPartition {
+
+        private final String name;
+        private final LocalDate lessThan;
+
+        public boolean isBounded() {
+            return lessThan != null;
+        }
+    }
+}
@@ -3,6 +3,7 @@ package sideeffect.project.repository;
 import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.dto.recruit.RecruitBoardAndLikeDto;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -10,6 +11,8 @@ public interface RecruitBoardCustomRepository {
 
     List<RecruitBoardAndLikeDto> findWithSearchConditions(Long userId, Long lastId, String keyword, List<StackType> stackTypes, Integer size);
 
+    List<RecruitBoardAndLikeDto> findWithIds(Long userId, Collection<Long> ids, String keyword, List<StackType> stackTypes);
+
     Optional<RecruitBoardAndLikeDto> findByBoardIdAndUserId(Long boardId, Long userId);
 
     List<RecruitBoardAndLikeDto> findByAllWithLike(Long userId);
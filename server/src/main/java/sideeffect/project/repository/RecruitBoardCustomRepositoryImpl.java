@@ -11,11 +11,13 @@ import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import sideeffect.project.common.domain.ContentPreview;
 import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.dto.recruit.RecruitBoardAndLikeDto;
 
 import jakarta.persistence.EntityManager;
 import jakarta.persistence.LockModeType;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -36,15 +38,27 @@ public class RecruitBoardCustomRepositoryImpl implements RecruitBoardCustomRepos
 
     @Override
     public List<RecruitBoardAndLikeDto> findWithSearchConditions(Long userId, Long lastId, String keyword, List<StackType> stackTypes, Integer size) {
+        return searchQuery(userId, stackTypes)
+                .where(lastIdLt(lastId), addKeywordCondition(keyword), addStackTypeCondition(stackTypes))
+                .orderBy(recruitBoard.id.desc())
+                .limit(size).fetch();
+    }
+
+    @Override
+    public List<RecruitBoardAndLikeDto> findWithIds(Long userId, Collection<Long> ids, String keyword, List<StackType> stackTypes) {
+        return searchQuery(userId, stackTypes)
+                .where(recruitBoard.id.in(ids), addKeywordCondition(keyword), addStackTypeCondition(stackTypes))
+                .fetch();
+    }
+
+    private JPAQuery<RecruitBoardAndLikeDto> searchQuery(Long userId, List<StackType> stackTypes) {
         JPAQuery<RecruitBoardAndLikeDto> query = jpaQueryFactory.selectDistinct(getResponseConstructor(userId)).from(recruitBoard);
 
         if(stackTypes != null && !stackTypes.isEmpty()) {
             query.innerJoin(recruitBoard.boardStacks, boardStack).innerJoin(boardStack.stack, stack);
         }
 
-        return query.where(lastIdLt(lastId), addKeywordCondition(keyword), addStackTypeCondition(stackTypes))
-                .orderBy(recruitBoard.id.desc())
-                .limit(size).fetch();
+        return query;
     }
 
     @Override
@@ -60,18 +74,25 @@ public class RecruitBoardCustomRepositoryImpl implements RecruitBoardCustomRepos
 
     @Override
     public List<RecruitBoardAndLikeDto> findByAllWithLike(Long userId) {
-        return jpaQueryFactory.select(getResponseConstructor(userId))
+        return jpaQueryFactory.select(getPreviewConstructor(userId))
                 .from(recruitBoard)
                 .fetch();
     }
 
     private ConstructorExpression<RecruitBoardAndLikeDto> getResponseConstructor(Long userId) {
-
         return Projections.constructor(RecruitBoardAndLikeDto.class,
                 recruitBoard,
                 getLikeExpression(userId)
         );
     }
+
+    private ConstructorExpression<RecruitBoardAndLikeDto> getPreviewConstructor(Long userId) {
+        return Projections.constructor(RecruitBoardAndLikeDto.class,
+                recruitBoard,
+                getLikeExpression(userId),
+                ContentPreview.of(recruitBoard.contents)
+        );
+    }
     private Expression<Boolean> getLikeExpression(Long userId) {
         if (userId == null) {
             return Expressions.asBoolean(false).isTrue();
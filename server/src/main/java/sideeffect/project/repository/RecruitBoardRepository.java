@@ -1,13 +1,17 @@
 package sideeffect.project.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.applicant.ApplicantStatus;
 import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.dto.applicant.ApplicantListResponse;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface RecruitBoardRepository extends JpaRepository<RecruitBoard, Long>, RecruitBoardCustomRepository {
 
@@ -20,4 +24,25 @@ public interface RecruitBoardRepository extends JpaRepository<RecruitBoard, Long
             "ON a.status = :status " +
             "JOIN a.user u")
     List<ApplicantListResponse> getApplicantsByPosition(@Param("boardId") Long boardId, @Param("status") ApplicantStatus status);
+
+    @EntityGraph("RecruitBoard.detail")
+    Optional<RecruitBoard> findDetailById(Long boardId);
+
+    @Modifying
+    @Query("UPDATE RecruitBoard rb SET rb.views = rb.views + 1 WHERE rb.id = :boardId")
+    int increaseViews(@Param("boardId") Long boardId);
+
+    @Modifying
+    @Query("UPDATE RecruitBoard rb SET rb.deleted = true WHERE rb.user.id = :userId")
+    int markDeletedByUserId(@Param("userId") Long userId);
+
+    long countByUserId(Long userId);
+
+    List<RecruitBoard> findByUserId(Long userId);
+
+    @Query("SELECT rb.id FROM RecruitBoard rb WHERE rb.user.id = :userId")
+    List<Long> findIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT rb.id FROM RecruitBoard rb WHERE rb.id IN :boardIds")
+    List<Long> findExistingIds(@Param("boardIds") Collection<Long> boardIds);
 }
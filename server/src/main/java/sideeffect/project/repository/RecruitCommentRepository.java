@@ -1,7 +1,21 @@
 package sideeffect.project.repository;
 
+import java.util.List;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.comment.RecruitComment;
+import sideeffect.project.dto.comment.RecruitCommentResponse;
 
 public interface RecruitCommentRepository extends JpaRepository<RecruitComment, Long> {
+
+    @Query("SELECT new sideeffect.project.dto.comment.RecruitCommentResponse(c.id, c.recruitBoard.id, c.content, c.user.id) "
+        + "FROM RecruitComment c "
+        + "WHERE c.recruitBoard.id = :boardId AND (:lastId IS NULL OR c.id < :lastId) "
+        + "ORDER BY c.id DESC")
+    List<RecruitCommentResponse> findCommentResponses(@Param("boardId") Long boardId, @Param("lastId") Long lastId,
+        Pageable pageable);
+
+    long countByRecruitBoardId(Long recruitBoardId);
 }
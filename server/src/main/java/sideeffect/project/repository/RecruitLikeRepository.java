@@ -1,10 +1,36 @@
 package sideeffect.project.repository;
 
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.redis.LikeChange;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 public interface RecruitLikeRepository extends JpaRepository<RecruitLike, Long> {
     Optional<RecruitLike> findByUserIdAndRecruitBoardId(Long userId, Long recruitBoardId);
+
+    @Query("SELECT rl FROM RecruitLike rl JOIN FETCH rl.recruitBoard WHERE rl.user.id = :userId")
+    List<RecruitLike> findWithBoardByUserId(@Param("userId") Long userId);
+
+    boolean existsByUserIdAndRecruitBoardId(Long userId, Long recruitBoardId);
+
+    @Query("SELECT rl.recruitBoard.id FROM RecruitLike rl WHERE rl.user.id = :userId")
+    List<Long> findBoardIdsByUserId(@Param("userId") Long userId);
+
+    @Query("SELECT rl.user.id FROM RecruitLike rl WHERE rl.recruitBoard.id = :boardId AND rl.user.id IN :userIds")
+    List<Long> findUserIds(@Param("boardId") Long boardId, @Param("userIds") Collection<Long> userIds);
+
+    @Modifying
+    @Query("DELETE FROM RecruitLike rl WHERE rl.recruitBoard.id = :boardId AND rl.user.id IN :userIds")
+    int deleteRecruitLikes(@Param("boardId") Long boardId, @Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new sideeffect.project.redis.LikeChange(rl.recruitBoard.id, rl.user.id, true) FROM RecruitLike rl ORDER BY rl.id")
+    Slice<LikeChange> findLikeChanges(Pageable pageable);
 }
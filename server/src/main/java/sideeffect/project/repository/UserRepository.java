@@ -1,11 +1,15 @@
 package sideeffect.project.repository;
 
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.UserSummary;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 import sideeffect.project.repository.user.UserRepositoryCustom;
 
@@ -16,4 +20,12 @@ public interface UserRepository extends JpaRepository<User, Long>, UserRepositor
             "WHERE u.email = :email " +
             "AND u.providerType = :providerType")
     Optional<User> findByEmailAndProvider(@Param("email") String email, @Param("providerType") ProviderType providerType);
+    @Query("SELECT u.id FROM User u WHERE u.id IN :userIds AND u.deleted = false")
+    List<Long> findExistingIds(@Param("userIds") Collection<Long> userIds);
+
+    @Query("SELECT new sideeffect.project.dto.user.UserSummary(u.id, u.nickname, u.imgUrl) FROM User u WHERE u.id IN :userIds")
+    List<UserSummary> findSummaries(@Param("userIds") Collection<Long> userIds);
+
+    @EntityGraph(attributePaths = "userStacks")
+    Optional<User> findWithStacksById(Long id);
 }
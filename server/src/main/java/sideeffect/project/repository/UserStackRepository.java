@@ -1,7 +1,13 @@
 package sideeffect.project.repository;
 
+import java.util.List;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import sideeffect.project.domain.user.UserStack;
 
 public interface UserStackRepository extends JpaRepository<UserStack, Long> {
+
+    @Query("SELECT us.stack FROM UserStack us WHERE us.user.id = :userId ORDER BY us.id")
+    List<String> findStacks(@Param("userId") Long userId);
 }
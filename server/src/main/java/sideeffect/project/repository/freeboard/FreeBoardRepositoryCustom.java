@@ -1,7 +1,9 @@
 package sideeffect.project.repository.freeboard;
 
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import sideeffect.project.dto.freeboard.FreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardScrollDto;
 import sideeffect.project.dto.freeboard.RankResponse;
@@ -14,4 +16,6 @@ public interface FreeBoardRepositoryCustom {
 
     List<RankResponse> searchRankBoard(Integer size, Integer days, Long userId, ChronoUnit chronoUnit);
 
+    Map<Long, String> findPreviews(Collection<Long> boardIds);
+
 }
@@ -7,6 +7,7 @@ import static sideeffect.project.dto.freeboard.OrderType.COMMENT;
 import static sideeffect.project.dto.freeboard.OrderType.LIKE;
 import static sideeffect.project.dto.freeboard.OrderType.VIEWS;
 
+import com.querydsl.core.Tuple;
 import com.querydsl.core.types.ConstructorExpression;
 import com.querydsl.core.types.Expression;
 import com.querydsl.core.types.ExpressionUtils;
@@ -15,15 +16,21 @@ import com.querydsl.core.types.OrderSpecifier;
 import com.querydsl.core.types.Projections;
 import com.querydsl.core.types.dsl.BooleanExpression;
 import com.querydsl.core.types.dsl.Expressions;
+import com.querydsl.core.types.dsl.StringExpression;
 import com.querydsl.jpa.JPAExpressions;
 import com.querydsl.jpa.impl.JPAQuery;
 import com.querydsl.jpa.impl.JPAQueryFactory;
 import java.time.LocalDateTime;
 import java.time.temporal.ChronoUnit;
+import java.util.Collection;
+import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Repository;
+import sideeffect.project.common.domain.ContentPreview;
 import sideeffect.project.dto.freeboard.FreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardScrollDto;
 import sideeffect.project.dto.freeboard.OrderType;
@@ -76,6 +83,21 @@ public class FreeBoardRepositoryImpl implements FreeBoardRepositoryCustom {
             .fetch();
     }
 
+    @Override
+    public Map<Long, String> findPreviews(Collection<Long> boardIds) {
+        if (boardIds.isEmpty()) {
+            return Collections.emptyMap();
+        }
+        StringExpression preview = ContentPreview.of(freeBoard.content);
+        List<Tuple> tuples = jpaQueryFactory.select(freeBoard.id, preview)
+            .from(freeBoard)
+            .where(freeBoard.id.in(boardIds))
+            .fetch();
+        return tuples.stream()
+            .filter(tuple -> tuple.get(preview) != null)
+            .collect(Collectors.toMap(tuple -> tuple.get(freeBoard.id), tuple -> tuple.get(preview)));
+    }
+
     private BooleanExpression filterByOrderType(FreeBoardScrollDto scrollDto, Integer filterNumber) {
         if (scrollDto.getLastId() == null || scrollDto.getSize() == null) {
             return null;
@@ -154,7 +176,7 @@ public class FreeBoardRepositoryImpl implements FreeBoardRepositoryCustom {
             freeBoard.id,
             freeBoard.imgUrl,
             freeBoard.subTitle,
-            freeBoard.content,
+            ContentPreview.of(freeBoard.content),
             freeBoard.views,
             freeBoard.title,
             freeBoard.createAt,
@@ -0,0 +1,13 @@
+package sideeffect.project.security;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import sideeffect.project.domain.token.RefreshToken;
+
+@Getter
+@AllArgsConstructor
+public class IssuedTokens {
+
+    private final RefreshToken refreshToken;
+    private final String accessToken;
+}
@@ -15,7 +15,10 @@ import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 
+import java.time.Duration;
 import java.util.Date;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -27,6 +30,7 @@ public class JwtTokenProvider {
 
     private final AuthProperties authProperties;
     private final UserDetailsServiceImpl userDetailsService;
+    private final TokenRevocationService tokenRevocationService;
 
     public boolean validateAccessToken(String accessToken){
         try {
@@ -55,25 +59,41 @@ public class JwtTokenProvider {
 
         //access token
         return Jwts.builder()
+                .setId(UUID.randomUUID().toString())
                 .setSubject(authentication.getName())
                 .claim("auth", authorities)
+                .setIssuedAt(new Date(now))
                 .setExpiration(new Date(now + 1000 * 60 * 30))
                 .signWith(SignatureAlgorithm.HS256, authProperties.getSecret())
                 .compact();
     }
 
     public String createAccessToken(Long userId) {
-        User user = getUser(userId);
+        return createAccessToken(getUser(userId));
+    }
 
+    public String createAccessToken(User user) {
+        long now = issuedAt(user.getId());
         return Jwts.builder()
+            .setId(UUID.randomUUID().toString())
             .setSubject(user.getEmail())
             .claim("auth", UserRoleType.ROLE_USER)
             .claim("providerType", user.getProviderType())
-            .setExpiration(createExpiration())
+            .setIssuedAt(new Date(now))
+            .setExpiration(new Date(now + EXPIRATION_TIME))
             .signWith(SignatureAlgorithm.HS256, authProperties.getSecret())
             .compact();
     }
 
+    private long issuedAt(Long userId) {
+        long now = System.currentTimeMillis();
+        Long revokedAt = tokenRevocationService.findRevokedAt(userId);
+        if (revokedAt == null) {
+            return now;
+        }
+        return Math.max(now, TimeUnit.SECONDS.toMillis(TimeUnit.MILLISECONDS.toSeconds(revokedAt) + 1));
+    }
+
     private User getUser(Long userId) {
         UserDetailsImpl userDetails = (UserDetailsImpl) userDetailsService.loadUserByUserId(userId);
         return userDetails.getUser();
@@ -81,28 +101,60 @@ public class JwtTokenProvider {
 
     public Authentication getAuthentication(String token){
         JwtTokenDto jwtTokenDto = decodeAccessToken(token);
+        if (jwtTokenDto.getTokenId() != null && tokenRevocationService.isRevoked(jwtTokenDto.getTokenId())) {
+            throw new AuthException(ErrorCode.ACCESS_TOKEN_REVOKED);
+        }
         UserDetails userDetails = userDetailsService
             .loadUserByUsernameAndProviderType(jwtTokenDto.getUsername(), jwtTokenDto.getProviderType());
+        Long userId = ((UserDetailsImpl) userDetails).getUser().getId();
+        if (tokenRevocationService.isRevokedBefore(userId, jwtTokenDto.getIssuedAt())) {
+            throw new AuthException(ErrorCode.ACCESS_TOKEN_REVOKED);
+        }
 
         return new UsernamePasswordAuthenticationToken(userDetails, userDetails.getPassword(), userDetails.getAuthorities());
     }
 
-    private Date createExpiration() {
-        return new Date(System.currentTimeMillis() + EXPIRATION_TIME);
+    public void revokeAccessToken(String accessToken) {
+        Claims claims;
+        try {
+            claims = Jwts.parser().setSigningKey(authProperties.getSecret()).parseClaimsJws(accessToken).getBody();
+        } catch (JwtException | IllegalArgumentException e) {
+            return;
+        }
+        if (claims.getId() == null || claims.getExpiration() == null) {
+            return;
+        }
+        long remaining = claims.getExpiration().getTime() - System.currentTimeMillis();
+        if (remaining > 0) {
+            tokenRevocationService.revoke(claims.getId(), Duration.ofMillis(remaining));
+        }
+    }
+
+    public void revokeAllAccessTokens(Long userId) {
+        tokenRevocationService.revokeUser(userId, System.currentTimeMillis(), Duration.ofMillis(EXPIRATION_TIME));
     }
 
     private JwtTokenDto decodeAccessToken(String accessToken) {
         Claims claims = Jwts.parser().setSigningKey(authProperties.getSecret()).parseClaimsJws(accessToken).getBody();
-        return new JwtTokenDto(claims.getSubject(), ProviderType.valueOf((String) claims.get("providerType")));
+        return new JwtTokenDto(claims.getId(), claims.getSubject(),
+            ProviderType.valueOf((String) claims.get("providerType")), claims.getIssuedAt());
     }
 
     private static class JwtTokenDto {
+        private final String tokenId;
         private final String username;
         private final ProviderType providerType;
+        private final Date issuedAt;
 
-        public JwtTokenDto(String username, ProviderType providerType) {
+        public JwtTokenDto(String tokenId, String username, ProviderType providerType, Date issuedAt) {
+            this.tokenId = tokenId;
             this.username = username;
             this.providerType = providerType;
+            this.issuedAt = issuedAt;
+        }
+
+        public String getTokenId() {
+            return tokenId;
         }
 
         public String getUsername() {
@@ -112,5 +164,9 @@ public class JwtTokenProvider {
         public ProviderType getProviderType() {
             return providerType;
         }
+
+        public Date getIssuedAt() {
+            return issuedAt;
+        }
     }
 }
@@ -8,7 +8,6 @@ import org.springframework.http.ResponseCookie;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.web.authentication.AuthenticationSuccessHandler;
 import org.springframework.transaction.annotation.Transactional;
-import sideeffect.project.domain.token.RefreshToken;
 import sideeffect.project.dto.user.RefreshTokenResponse;
 
 import jakarta.servlet.http.HttpServletRequest;
@@ -24,12 +23,11 @@ public class LoginSuccessHandler implements AuthenticationSuccessHandler {
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
         Authentication authentication) throws IOException{
 
-        RefreshToken refreshToken = refreshTokenProvider.createRefreshToken(authentication);
-        String accessToken = refreshTokenProvider.issueAccessToken(refreshToken.getRefreshToken());
+        IssuedTokens tokens = refreshTokenProvider.issueTokens(authentication);
 
-        addHeaders(response, refreshToken.getRefreshToken(), accessToken);
+        addHeaders(response, tokens.getRefreshToken().getRefreshToken(), tokens.getAccessToken());
 
-        response.getWriter().write(new ObjectMapper().writeValueAsString(RefreshTokenResponse.of(refreshToken)));
+        response.getWriter().write(new ObjectMapper().writeValueAsString(RefreshTokenResponse.of(tokens.getRefreshToken())));
     }
 
     private void addHeaders(HttpServletResponse response, String refreshToken, String accessToken) {
@@ -19,6 +19,8 @@ import java.util.UUID;
 @Transactional
 public class RefreshTokenProvider {
 
+    private static final String BEARER_PREFIX = "Bearer ";
+
     private final RefreshTokenRepository refreshTokenRepository;
     private final JwtTokenProvider jwtTokenProvider;
 
@@ -28,16 +30,31 @@ public class RefreshTokenProvider {
         return jwtTokenProvider.createAccessToken(token.getUserId());
     }
 
-    public RefreshToken createRefreshToken(Authentication authentication) {
-        User user = getUserFromAuthentication(authentication);
-        RefreshToken refreshToken = generateRefreshToken(user);
-        return refreshTokenRepository.save(refreshToken);
+    public IssuedTokens issueTokens(User user) {
+        RefreshToken refreshToken = refreshTokenRepository.save(generateRefreshToken(user));
+        return new IssuedTokens(refreshToken, jwtTokenProvider.createAccessToken(user));
+    }
+
+    public IssuedTokens issueTokens(Authentication authentication) {
+        return issueTokens(getUserFromAuthentication(authentication));
     }
 
     public void deleteToken(String refreshToken) {
         refreshTokenRepository.deleteById(refreshToken);
     }
 
+    public void revokeAccessToken(String authorization) {
+        if (authorization == null || !authorization.startsWith(BEARER_PREFIX)) {
+            return;
+        }
+        jwtTokenProvider.revokeAccessToken(authorization.substring(BEARER_PREFIX.length()));
+    }
+
+    public void deleteAllTokens(Long userId) {
+        refreshTokenRepository.deleteAllByUserId(userId);
+        jwtTokenProvider.revokeAllAccessTokens(userId);
+    }
+
     private User getUserFromAuthentication(Authentication authentication) {
         UserDetailsImpl userDetails = (UserDetailsImpl) authentication.getPrincipal();
         return userDetails.getUser();
@@ -0,0 +1,97 @@
+package sideeffect.project.security;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.connection.MessageListener;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import sideeffect.project.redis.RevokedTokenRedisRepository;
+
+@Service
+@RequiredArgsConstructor
+public class TokenRevocationService implements MessageListener {
+
+    private static final int EXPECTED_INSERTIONS = 100_000;
+    private static final double FALSE_POSITIVE_RATE = 0.01;
+
+    private final RevokedTokenRedisRepository revokedTokenRedisRepository;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    private volatile BloomFilter current = createFilter();
+    private volatile BloomFilter previous;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void initialize() {
+        redisMessageListenerContainer.addMessageListener(this, new ChannelTopic(RevokedTokenRedisRepository.CHANNEL));
+        rebuild();
+    }
+
+    @Scheduled(fixedDelayString = "${token.revocation.rebuild-delay:600000}",
+        initialDelayString = "${token.revocation.rebuild-delay:600000}")
+    public void rebuild() {
+        BloomFilter next = createFilter();
+        previous = current;
+        current = next;
+        Set<String> tokenIds = revokedTokenRedisRepository.findActiveTokenIds();
+        if (tokenIds != null) {
+            tokenIds.forEach(next::put);
+        }
+        previous = null;
+    }
+
+    public void revoke(String tokenId, Duration timeToLive) {
+        current.put(tokenId);
+        revokedTokenRedisRepository.revoke(tokenId, timeToLive);
+    }
+
+    public void revokeUser(Long userId, long revokedAt, Duration timeToLive) {
+        current.put(RevokedTokenRedisRepository.userMember(userId));
+        revokedTokenRedisRepository.revokeUser(userId, revokedAt, timeToLive);
+    }
+
+    public boolean isRevokedBefore(Long userId, Date issuedAt) {
+        Long revokedAt = findRevokedAt(userId);
+        return revokedAt != null && (issuedAt == null || toSeconds(issuedAt.getTime()) <= toSeconds(revokedAt));
+    }
+
+    public Long findRevokedAt(Long userId) {
+        if (userId == null || !mightBeRevoked(RevokedTokenRedisRepository.userMember(userId))) {
+            return null;
+        }
+        return revokedTokenRedisRepository.findUserRevokedAt(userId);
+    }
+
+    public boolean isRevoked(String tokenId) {
+        if (!mightBeRevoked(tokenId)) {
+            return false;
+        }
+        return revokedTokenRedisRepository.isRevoked(tokenId);
+    }
+
+    @Override
+    public void onMessage(Message message, byte[] pattern) {
+        current.put(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+
+    private boolean mightBeRevoked(String tokenId) {
+        BloomFilter previous = this.previous;
+        return current.mightContain(tokenId) || (previous != null && previous.mightContain(tokenId));
+    }
+
+    private static long toSeconds(long millis) {
+        return TimeUnit.MILLISECONDS.toSeconds(millis);
+    }
+
+    private static BloomFilter createFilter() {
+        return new BloomFilter(EXPECTED_INSERTIONS, FALSE_POSITIVE_RATE);
+    }
+}
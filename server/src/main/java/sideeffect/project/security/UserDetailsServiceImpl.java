@@ -23,14 +23,18 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Override
     @Transactional
     public UserDetails loadUserByUsername(String email) throws UsernameNotFoundException {
-        User user = userRepository.findByEmail(email).orElseThrow(() -> new JoinException(email));
+        User user = userRepository.findByEmail(email)
+            .filter(findUser -> !findUser.isDeleted())
+            .orElseThrow(() -> new JoinException(email));
 
         return UserDetailsImpl.of(user);
     }
 
     @Transactional
     public UserDetails loadUserByUsernameAndProviderType(String email, ProviderType providerType) throws UsernameNotFoundException {
-        User user = userRepository.findByEmailAndProvider(email, providerType).orElseThrow(() -> new JoinException(email));
+        User user = userRepository.findByEmailAndProvider(email, providerType)
+            .filter(findUser -> !findUser.isDeleted())
+            .orElseThrow(() -> new JoinException(email));
 
         return UserDetailsImpl.of(user);
     }
@@ -38,6 +42,7 @@ public class UserDetailsServiceImpl implements UserDetailsService {
     @Transactional
     public UserDetails loadUserByUserId(Long userId) {
         User user = userRepository.findById(userId)
+            .filter(findUser -> !findUser.isDeleted())
             .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
 
         return UserDetailsImpl.of(user);
@@ -0,0 +1,87 @@
+package sideeffect.project.security.oauth;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import java.io.IOException;
+import java.net.http.HttpClient;
+import java.time.Duration;
+import java.util.function.Function;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.client.JdkClientHttpRequestFactory;
+import org.springframework.stereotype.Component;
+import org.springframework.web.client.HttpClientErrorException;
+import org.springframework.web.client.RestClient;
+import org.springframework.web.client.RestClientException;
+import sideeffect.project.common.cache.NearCache;
+import sideeffect.project.common.exception.BaseException;
+import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.domain.user.ProviderType;
+import sideeffect.project.dto.user.ResponseUserInfo;
+
+@Slf4j
+@Component
+public class OauthClient {
+
+    private static final String BEARER_PREFIX = "Bearer ";
+    private static final int CACHE_SIZE = 10_000;
+
+    private final RestClient restClient;
+    private final ObjectMapper objectMapper;
+    private final MeterRegistry meterRegistry;
+    private final NearCache<String, ResponseUserInfo> userInfoCache;
+
+    public OauthClient(ObjectMapper objectMapper, MeterRegistry meterRegistry,
+        @Value("${oauth.client.connect-timeout:2000}") long connectTimeoutMillis,
+        @Value("${oauth.client.read-timeout:3000}") long readTimeoutMillis,
+        @Value("${oauth.client.cache-ttl:60000}") long cacheTimeToLiveMillis) {
+        HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofMillis(connectTimeoutMillis))
+            .build();
+        JdkClientHttpRequestFactory requestFactory = new JdkClientHttpRequestFactory(httpClient);
+        requestFactory.setReadTimeout(Duration.ofMillis(readTimeoutMillis));
+
+        this.restClient = RestClient.builder().requestFactory(requestFactory).build();
+        this.objectMapper = objectMapper;
+        this.meterRegistry = meterRegistry;
+        this.userInfoCache = new NearCache<>(Duration.ofMillis(cacheTimeToLiveMillis), CACHE_SIZE);
+    }
+
+    public <T> ResponseUserInfo getUserInfo(ProviderType providerType, String url, String token,
+        Class<T> type, Function<T, ResponseUserInfo> mapper) {
+        String provider = providerType.name().toLowerCase();
+        boolean[] loaded = new boolean[1];
+        ResponseUserInfo userInfo = userInfoCache.get(provider + ":" + token, key -> {
+            loaded[0] = true;
+            return mapper.apply(request(provider, url, token, type));
+        });
+        meterRegistry.counter("oauth.client.lookups", "provider", provider, "cache", loaded[0] ? "miss" : "hit")
+            .increment();
+        return userInfo;
+    }
+
+    private <T> T request(String provider, String url, String token, Class<T> type) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "success";
+        try {
+            byte[] body = restClient.get()
+                .uri(url)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_PREFIX + token)
+                .retrieve()
+                .body(byte[].class);
+            return objectMapper.readValue(body, type);
+        } catch (HttpClientErrorException e) {
+            outcome = "rejected";
+            throw new InvalidValueException(ErrorCode.USER_SOCIAL_ACCESS_TOKEN_EXPIRED);
+        } catch (RestClientException | IOException | IllegalArgumentException e) {
+            outcome = "error";
+            log.warn("소셜 서버 요청 실패 provider={}", provider, e);
+            throw new BaseException(ErrorCode.USER_SOCIAL_SERVER_UNAVAILABLE);
+        } finally {
+            sample.stop(meterRegistry.timer("oauth.client.requests", "provider", provider, "outcome", outcome));
+        }
+    }
+}
@@ -4,6 +4,7 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.common.cache.BoardDetailCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.common.exception.ErrorCode;
@@ -18,6 +19,7 @@ import sideeffect.project.dto.applicant.*;
 import sideeffect.project.repository.ApplicantRepository;
 import sideeffect.project.repository.BoardPositionRepository;
 import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.UserRepository;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -34,6 +36,8 @@ public class ApplicantService {
     private final RecruitBoardRepository recruitBoardRepository;
     private final BoardPositionRepository boardPositionRepository;
     private final MailService mailService;
+    private final BoardDetailCache boardDetailCache;
+    private final UserRepository userRepository;
 
     @Transactional
     public ApplicantResponse register(User user, Long boardPositionId) {
@@ -48,9 +52,9 @@ public class ApplicantService {
         isDuplicateApplicant(findBoardPosition.getRecruitBoard().getId(), user.getId());
 
         Applicant applicant = Applicant.builder().build();
-        applicant.associate(user, findBoardPosition);
+        applicant.associate(userRepository.getReferenceById(user.getId()), findBoardPosition);
 
-        return ApplicantResponse.of(applicantRepository.save(applicant));
+        return ApplicantResponse.of(applicantRepository.save(applicant), findBoardPosition.getRecruitBoard().getId());
     }
 
     @Transactional(readOnly = true)
@@ -85,6 +89,8 @@ public class ApplicantService {
 
         findApplicant.updateStatus(applicantUpdateRequest.getStatus());
         findBoardPosition.increaseCurrentNumber();
+        findRecruitBoard.refreshClosedAt();
+        boardDetailCache.evictRecruitBoard(findRecruitBoard.getId());
 
         mailService.sendMail(findRecruitBoard.getProjectName(), findApplicant.getUser(), APPROVED);
     }
@@ -123,6 +129,8 @@ public class ApplicantService {
 
         findApplicant.updateStatus(REJECTED);
         findBoardPosition.decreaseCurrentNumber();
+        findRecruitBoard.refreshClosedAt();
+        boardDetailCache.evictRecruitBoard(findRecruitBoard.getId());
     }
 
     @Transactional
@@ -0,0 +1,101 @@
+package sideeffect.project.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.SecondLevelCacheInvalidator;
+import sideeffect.project.common.cache.UserSummaryCache;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.dto.comment.RecruitCommentResponse;
+import sideeffect.project.dto.recruit.DetailedRecruitBoardResponse;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.repository.BoardArchiveRepository;
+import sideeffect.project.repository.BoardArchiveRepository.ArchiveStep;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class BoardArchiveService {
+
+    static final int CHUNK_SIZE = 100;
+    private static final int COMMENT_PAGE_SIZE = 20;
+
+    private final BoardArchiveRepository boardArchiveRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardLikeRedisRepository boardLikeRedisRepository;
+    private final BoardViewRedisRepository boardViewRedisRepository;
+    private final TrendingService trendingService;
+    private final UserSummaryCache userSummaryCache;
+    private final MeterRegistry meterRegistry;
+
+    public int archive(ArchiveTarget target, LocalDateTime closedBefore) {
+        int archived = 0;
+        List<Long> boardIds;
+        do {
+            boardIds = transactionTemplate.execute(status -> archiveChunk(target, closedBefore));
+            boardIds.forEach(boardId -> evictCaches(target, boardId));
+            archived += boardIds.size();
+        } while (boardIds.size() == CHUNK_SIZE);
+        if (archived > 0) {
+            meterRegistry.counter("archive.boards", "target", target.name()).increment(archived);
+            log.info("게시판 보관 완료 target={} count={}", target, archived);
+        }
+        return archived;
+    }
+
+    public Optional<DetailedRecruitBoardResponse> findRecruitBoard(Long boardId) {
+        return boardArchiveRepository.findRecruitBoard(boardId)
+            .map(board -> {
+                List<RecruitCommentResponse> comments = boardArchiveRepository.findRecruitComments(boardId, COMMENT_PAGE_SIZE);
+                userSummaryCache.populate(comments, RecruitCommentResponse::getWriterId, RecruitCommentResponse::updateWriter);
+                return board.toBuilder()
+                    .comments(comments)
+                    .commentNum(boardArchiveRepository.countRecruitComments(boardId))
+                    .build();
+            });
+    }
+
+    private List<Long> archiveChunk(ArchiveTarget target, LocalDateTime closedBefore) {
+        List<Long> boardIds = boardArchiveRepository.findArchivableIds(target, closedBefore, CHUNK_SIZE);
+        if (boardIds.isEmpty()) {
+            return boardIds;
+        }
+        for (ArchiveStep step : boardArchiveRepository.findSteps(target)) {
+            List<Long> movedIds = boardArchiveRepository.moveByBoardIds(step, boardIds);
+            meterRegistry.counter("archive.rows", "target", target.name(), "table", step.getTable()).increment(movedIds.size());
+            evictSecondLevelCache(step, movedIds);
+        }
+        return boardIds;
+    }
+
+    private void evictSecondLevelCache(ArchiveStep step, List<Long> movedIds) {
+        for (Long id : movedIds) {
+            if (step.getCachedEntity() != null) {
+                secondLevelCacheInvalidator.evictEntity(step.getCachedEntity(), id);
+            }
+            step.getCachedCollections().forEach(role -> secondLevelCacheInvalidator.evictCollection(role, id));
+        }
+    }
+
+    private void evictCaches(ArchiveTarget target, Long boardId) {
+        BoardType boardType = target == ArchiveTarget.FREE_BOARD ? BoardType.FREE : BoardType.RECRUIT;
+        if (target == ArchiveTarget.FREE_BOARD) {
+            boardDetailCache.evictFreeBoard(boardId);
+        } else {
+            boardDetailCache.evictRecruitBoard(boardId);
+        }
+        boardLikeRedisRepository.deleteBoard(boardType, boardId);
+        boardViewRedisRepository.deleteBoard(boardType, boardId);
+        trendingService.remove(boardType, boardId);
+    }
+}
@@ -0,0 +1,112 @@
+package sideeffect.project.service;
+
+import java.time.LocalDate;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.common.exception.AuthException;
+import sideeffect.project.common.exception.EntityNotFoundException;
+import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stats.BoardDailyStat;
+import sideeffect.project.domain.stats.StatMetric;
+import sideeffect.project.dto.stats.BoardStatsResponse;
+import sideeffect.project.dto.stats.DailyStatResponse;
+import sideeffect.project.redis.BoardStatsRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.StatChange;
+import sideeffect.project.repository.BoardDailyStatRepository;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+
+@Service
+@RequiredArgsConstructor
+public class BoardStatsService {
+
+    private static final int DEFAULT_PERIOD_DAYS = 30;
+    private static final int MAX_PERIOD_DAYS = 366;
+
+    private final BoardDailyStatRepository boardDailyStatRepository;
+    private final BoardStatsRedisRepository boardStatsRedisRepository;
+    private final FreeBoardRepository freeBoardRepository;
+    private final RecruitBoardRepository recruitBoardRepository;
+
+    public void record(BoardType type, Long boardId, StatMetric metric, long delta) {
+        boardStatsRedisRepository.increment(type, boardId, metric, LocalDate.now(BoardDailyStat.STAT_ZONE), delta);
+    }
+
+    public void discard(BoardType type, Collection<Long> boardIds) {
+        boardStatsRedisRepository.deleteBoards(type, boardIds);
+    }
+
+    @Transactional(readOnly = true)
+    public BoardStatsResponse findFreeBoardStats(Long userId, Long boardId, LocalDate from, LocalDate to) {
+        FreeBoard freeBoard = freeBoardRepository.findById(boardId)
+            .orElseThrow(() -> new EntityNotFoundException(ErrorCode.FREE_BOARD_NOT_FOUND));
+        if (!freeBoard.getUser().getId().equals(userId)) {
+            throw new AuthException(ErrorCode.FREE_BOARD_UNAUTHORIZED);
+        }
+        return findStats(BoardType.FREE, boardId, from, to);
+    }
+
+    @Transactional(readOnly = true)
+    public BoardStatsResponse findRecruitBoardStats(Long userId, Long boardId, LocalDate from, LocalDate to) {
+        RecruitBoard recruitBoard = recruitBoardRepository.findById(boardId)
+            .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
+        if (!recruitBoard.getUser().getId().equals(userId)) {
+            throw new AuthException(ErrorCode.RECRUIT_BOARD_UNAUTHORIZED);
+        }
+        return findStats(BoardType.RECRUIT, boardId, from, to);
+    }
+
+    @Transactional
+    public void flush(BoardType type, List<StatChange> changes) {
+        Set<LocalDate> statDates = changes.stream().map(StatChange::getStatDate).collect(Collectors.toSet());
+        Set<Long> boardIds = changes.stream().map(StatChange::getBoardId).collect(Collectors.toSet());
+        Map<String, BoardDailyStat> stats = boardDailyStatRepository.findDailyStats(type, statDates, boardIds).stream()
+            .collect(Collectors.toMap(stat -> toKey(stat.getStatDate(), stat.getBoardId()), Function.identity()));
+
+        for (StatChange change : changes) {
+            BoardDailyStat stat = stats.computeIfAbsent(toKey(change.getStatDate(), change.getBoardId()),
+                key -> BoardDailyStat.of(type, change.getBoardId(), change.getStatDate()));
+            stat.add(change.getMetric(), change.getDelta());
+        }
+        boardDailyStatRepository.saveAll(stats.values());
+    }
+
+    private BoardStatsResponse findStats(BoardType type, Long boardId, LocalDate from, LocalDate to) {
+        LocalDate end = to == null ? LocalDate.now(BoardDailyStat.STAT_ZONE) : to;
+        LocalDate start = from == null ? end.minusDays(DEFAULT_PERIOD_DAYS - 1) : from;
+        validatePeriod(start, end);
+
+        Map<LocalDate, BoardDailyStat> stats = boardDailyStatRepository.findStats(type, boardId, start, end).stream()
+            .collect(Collectors.toMap(BoardDailyStat::getStatDate, Function.identity()));
+
+        List<DailyStatResponse> responses = new ArrayList<>();
+        for (LocalDate date = start; !date.isAfter(end); date = date.plusDays(1)) {
+            BoardDailyStat stat = stats.get(date);
+            responses.add(stat == null ? DailyStatResponse.empty(date) : DailyStatResponse.of(stat));
+        }
+        return BoardStatsResponse.of(boardId, start, end, responses);
+    }
+
+    private void validatePeriod(LocalDate from, LocalDate to) {
+        if (from.isAfter(to) || ChronoUnit.DAYS.between(from, to) >= MAX_PERIOD_DAYS) {
+            throw new InvalidValueException(ErrorCode.BOARD_STATS_INVALID_PERIOD);
+        }
+    }
+
+    private String toKey(LocalDate statDate, Long boardId) {
+        return statDate + ":" + boardId;
+    }
+}
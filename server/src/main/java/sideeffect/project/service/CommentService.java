@@ -1,9 +1,13 @@
 package sideeffect.project.service;
 
+import java.util.List;
 import java.util.Objects;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.common.exception.ErrorCode;
@@ -12,29 +16,38 @@ import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.comment.CommentRequest;
 import sideeffect.project.dto.comment.CommentResponse;
-import sideeffect.project.dto.comment.FreeBoardCommentsResponse;
+import sideeffect.project.dto.comment.CommentScrollResponse;
 import sideeffect.project.repository.CommentRepository;
 import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
 public class CommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final CommentRepository commentRepository;
     private final FreeBoardRepository freeBoardRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final UserSummaryCache userSummaryCache;
+    private final UserRepository userRepository;
 
     @Transactional
     public CommentResponse registerComment(CommentRequest request, User user) {
         FreeBoard freeBoard = findFreeBoard(request);
         Comment comment = request.toComment();
-        comment.associate(user, freeBoard);
+        comment.associate(userRepository.getReferenceById(user.getId()), freeBoard);
+        boardDetailCache.evictFreeBoard(freeBoard.getId());
         return CommentResponse.of(commentRepository.save(comment));
     }
 
-    @Transactional
-    public FreeBoardCommentsResponse findBoardComments(Long boardId) {
-        return FreeBoardCommentsResponse
-            .of(CommentResponse.listOf(commentRepository.findAllByFreeBoardIdOrderByIdDesc(boardId)));
+    @Transactional(readOnly = true)
+    public CommentScrollResponse findBoardComments(Long boardId, Long lastId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<CommentResponse> comments = commentRepository.findCommentResponses(boardId, lastId, PageRequest.of(0, pageSize + 1));
+        userSummaryCache.populate(comments, CommentResponse::getWriterId, CommentResponse::updateWriter);
+        return CommentScrollResponse.of(comments, pageSize);
     }
 
     @Transactional
@@ -42,6 +55,7 @@ public class CommentService {
         Comment comment = findComment(commentId);
         validateOwner(userId, comment.getUser().getId());
         comment.update(updateComment);
+        boardDetailCache.evictFreeBoard(comment.getFreeBoard().getId());
     }
 
     @Transactional
@@ -49,6 +63,7 @@ public class CommentService {
         Comment comment = findComment(commentId);
         validateOwner(userId, comment.getUser().getId());
         commentRepository.delete(comment);
+        boardDetailCache.evictFreeBoard(comment.getFreeBoard().getId());
     }
 
     private void validateOwner(Long userId, Long ownerId) {
@@ -0,0 +1,97 @@
+package sideeffect.project.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Async;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.common.cache.SecondLevelCacheInvalidator;
+import sideeffect.project.domain.deletion.DeletionJob;
+import sideeffect.project.repository.BulkDeletionRepository;
+import sideeffect.project.repository.BulkDeletionRepository.DeletionStep;
+import sideeffect.project.repository.DeletionJobRepository;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class DeletionJobRunner {
+
+    static final int CHUNK_SIZE = 500;
+    static final int MAX_ATTEMPTS = 5;
+    static final Duration STALE_AFTER = Duration.ofMinutes(5);
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final BulkDeletionRepository bulkDeletionRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+    private final MeterRegistry meterRegistry;
+
+    @Async("deletionExecutor")
+    public void runAsync(Long jobId) {
+        run(jobId);
+    }
+
+    public void resume() {
+        deletionJobRepository.findResumableIds(LocalDateTime.now().minus(STALE_AFTER), MAX_ATTEMPTS)
+            .forEach(this::run);
+    }
+
+    public void run(Long jobId) {
+        if (!claim(jobId)) {
+            return;
+        }
+        DeletionJob job = deletionJobRepository.findById(jobId).orElseThrow();
+        try {
+            for (DeletionStep step : bulkDeletionRepository.findSteps(job.getTargetType())) {
+                deleteStep(job, step);
+            }
+            transactionTemplate.executeWithoutResult(status -> deletionJobRepository.complete(jobId, LocalDateTime.now()));
+            meterRegistry.counter("deletion.jobs", "target", job.getTargetType().name(), "result", "completed").increment();
+            log.info("삭제 작업 완료 jobId={} target={} targetId={}", jobId, job.getTargetType(), job.getTargetId());
+        } catch (RuntimeException e) {
+            transactionTemplate.executeWithoutResult(status -> deletionJobRepository.fail(jobId, LocalDateTime.now()));
+            meterRegistry.counter("deletion.jobs", "target", job.getTargetType().name(), "result", "failed").increment();
+            log.error("삭제 작업 실패 jobId={} target={} targetId={}", jobId, job.getTargetType(), job.getTargetId(), e);
+        }
+    }
+
+    private boolean claim(Long jobId) {
+        LocalDateTime now = LocalDateTime.now();
+        Integer claimed = transactionTemplate.execute(status ->
+            deletionJobRepository.claim(jobId, now, now.minus(STALE_AFTER), MAX_ATTEMPTS));
+        return claimed != null && claimed == 1;
+    }
+
+    private void deleteStep(DeletionJob job, DeletionStep step) {
+        int selected;
+        do {
+            selected = transactionTemplate.execute(status -> deleteChunk(job, step));
+        } while (selected == CHUNK_SIZE);
+    }
+
+    private int deleteChunk(DeletionJob job, DeletionStep step) {
+        List<Long> ids = bulkDeletionRepository.findIds(step, job.getTargetId(), CHUNK_SIZE);
+        if (ids.isEmpty()) {
+            return 0;
+        }
+        int deleted = bulkDeletionRepository.deleteByIds(step, ids);
+        evictSecondLevelCache(step, ids);
+        deletionJobRepository.addProgress(job.getId(), step.getTable(), deleted, LocalDateTime.now());
+        meterRegistry.counter("deletion.rows", "target", job.getTargetType().name(), "table", step.getTable())
+            .increment(deleted);
+        return ids.size();
+    }
+
+    private void evictSecondLevelCache(DeletionStep step, List<Long> deletedIds) {
+        for (Long id : deletedIds) {
+            if (step.getCachedEntity() != null) {
+                secondLevelCacheInvalidator.evictEntity(step.getCachedEntity(), id);
+            }
+            step.getCachedCollections().forEach(role -> secondLevelCacheInvalidator.evictCollection(role, id));
+        }
+    }
+}
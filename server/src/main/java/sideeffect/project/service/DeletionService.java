@@ -0,0 +1,91 @@
+package sideeffect.project.service;
+
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.domain.deletion.DeletionJob;
+import sideeffect.project.domain.deletion.DeletionTarget;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.repository.DeletionJobRepository;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.LikeRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitLikeRepository;
+
+@Service
+@RequiredArgsConstructor
+public class DeletionService {
+
+    private final DeletionJobRepository deletionJobRepository;
+    private final RecruitBoardRepository recruitBoardRepository;
+    private final FreeBoardRepository freeBoardRepository;
+    private final LikeRepository likeRepository;
+    private final RecruitLikeRepository recruitLikeRepository;
+    private final DeletionJobRunner deletionJobRunner;
+    private final BoardDetailCache boardDetailCache;
+    private final BoardLikeRedisRepository boardLikeRedisRepository;
+    private final BoardViewRedisRepository boardViewRedisRepository;
+    private final BoardStatsService boardStatsService;
+    private final TrendingService trendingService;
+
+    @Transactional
+    public DeletionJob deleteUser(User user) {
+        Long userId = user.getId();
+        List<Long> recruitBoardIds = recruitBoardRepository.findIdsByUserId(userId);
+        List<Long> freeBoardIds = freeBoardRepository.findIdsByUserId(userId);
+        List<Long> likedRecruitBoardIds = recruitLikeRepository.findBoardIdsByUserId(userId);
+        List<Long> likedFreeBoardIds = likeRepository.findBoardIdsByUserId(userId);
+
+        user.markDeleted();
+        recruitBoardRepository.markDeletedByUserId(userId);
+        freeBoardRepository.markDeletedByUserId(userId);
+        DeletionJob job = schedule(DeletionTarget.USER, userId);
+
+        recruitBoardIds.forEach(boardDetailCache::evictRecruitBoard);
+        freeBoardIds.forEach(boardDetailCache::evictFreeBoard);
+        clearBoards(BoardType.RECRUIT, recruitBoardIds);
+        clearBoards(BoardType.FREE, freeBoardIds);
+        boardLikeRedisRepository.deleteUser(BoardType.RECRUIT, userId, likedRecruitBoardIds);
+        boardLikeRedisRepository.deleteUser(BoardType.FREE, userId, likedFreeBoardIds);
+        return job;
+    }
+
+    @Transactional
+    public DeletionJob deleteRecruitBoard(RecruitBoard recruitBoard) {
+        recruitBoard.markDeleted();
+        boardStatsService.discard(BoardType.RECRUIT, List.of(recruitBoard.getId()));
+        return schedule(DeletionTarget.RECRUIT_BOARD, recruitBoard.getId());
+    }
+
+    private void clearBoards(BoardType type, List<Long> boardIds) {
+        for (Long boardId : boardIds) {
+            boardLikeRedisRepository.deleteBoard(type, boardId);
+            boardViewRedisRepository.deleteBoard(type, boardId);
+            trendingService.remove(type, boardId);
+        }
+        boardStatsService.discard(type, boardIds);
+    }
+
+    private DeletionJob schedule(DeletionTarget target, Long targetId) {
+        DeletionJob job = deletionJobRepository.save(DeletionJob.of(target, targetId));
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            deletionJobRunner.runAsync(job.getId());
+            return job;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                deletionJobRunner.runAsync(job.getId());
+            }
+        });
+        return job;
+    }
+}
@@ -3,10 +3,15 @@ package sideeffect.project.service;
 import java.io.IOException;
 import java.time.temporal.ChronoUnit;
 import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.BaseException;
 import sideeffect.project.common.exception.EntityNotFoundException;
@@ -15,6 +20,7 @@ import sideeffect.project.common.exception.InvalidValueException;
 import sideeffect.project.common.fileupload.service.FreeBoardUploadService;
 import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.comment.CommentResponse;
 import sideeffect.project.dto.freeboard.FreeBoardKeyWordRequest;
 import sideeffect.project.dto.freeboard.FreeBoardRequest;
 import sideeffect.project.dto.freeboard.DetailedFreeBoardResponse;
@@ -23,8 +29,14 @@ import sideeffect.project.dto.freeboard.FreeBoardScrollDto;
 import sideeffect.project.dto.freeboard.FreeBoardScrollRequest;
 import sideeffect.project.dto.freeboard.FreeBoardScrollResponse;
 import sideeffect.project.dto.freeboard.RankResponse;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.redis.LikeStatus;
+import sideeffect.project.redis.ViewStatus;
+import sideeffect.project.repository.CommentRepository;
 import sideeffect.project.repository.FreeBoardRepository;
-import sideeffect.project.repository.LikeRepository;
+import sideeffect.project.repository.UserRepository;
 
 @Service
 @RequiredArgsConstructor
@@ -32,17 +44,23 @@ public class FreeBoardService {
 
     private static final int RANK_NUMBER = 8;
     private static final int RANK_DAYS = 30;
+    private static final int COMMENT_PAGE_SIZE = 20;
 
     private final FreeBoardRepository repository;
     private final FreeBoardUploadService uploadService;
-    private final LikeRepository likeRepository;
+    private final BoardLikeRedisRepository boardLikeRedisRepository;
+    private final BoardViewRedisRepository boardViewRedisRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final CommentRepository commentRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final UserRepository userRepository;
 
     @Transactional
-    public FreeBoard register(User user, FreeBoardRequest request) {
+    public FreeBoardResponse register(User user, FreeBoardRequest request) {
         FreeBoard freeBoard = request.toFreeBoard();
-        freeBoard.associateUser(user);
+        freeBoard.associateUser(userRepository.getReferenceById(user.getId()));
         validateDuplicateProjectUrl(request);
-        return repository.save(freeBoard);
+        return FreeBoardResponse.of(repository.save(freeBoard));
     }
 
     @Transactional(readOnly = true)
@@ -67,15 +85,18 @@ public class FreeBoardService {
     }
 
     @Transactional
-    public DetailedFreeBoardResponse findBoard(Long boardId, User user) {
-        FreeBoard freeBoard = findFreeBoard(boardId);
-        freeBoard.increaseViews();
-
-        if (User.isEmpty(user)) {
-            return DetailedFreeBoardResponse.of(freeBoard, false);
+    public DetailedFreeBoardResponse findBoard(Long boardId, User user, String address) {
+        DetailedFreeBoardResponse response = boardDetailCache.getFreeBoard(boardId, this::loadDetailedBoard);
+        Long userId = User.isEmpty(user) ? null : user.getId();
+        ViewStatus viewStatus = boardViewRedisRepository.addViewer(BoardType.FREE, boardId,
+            BoardViewRedisRepository.toViewer(userId, address));
+        if (viewStatus.isNewViewer()) {
+            repository.increaseViews(boardId);
         }
+        LikeStatus likeStatus = boardLikeRedisRepository.findStatus(BoardType.FREE, boardId, userId);
 
-        return DetailedFreeBoardResponse.of(freeBoard, likeRepository.existsByUserIdAndFreeBoardId(user.getId(), boardId));
+        return response.withLike(likeStatus.isLiked(), likeStatus.getLikeNum())
+            .withUniqueViews(viewStatus.getUniqueViews());
     }
 
     @Transactional
@@ -83,6 +104,7 @@ public class FreeBoardService {
         FreeBoard freeBoard = findBoardById(boardId);
         validateOwner(userId, freeBoard);
         freeBoard.update(request.toFreeBoard());
+        boardDetailCache.evictFreeBoard(boardId);
     }
 
     @Transactional
@@ -90,6 +112,9 @@ public class FreeBoardService {
         FreeBoard freeBoard = findBoardById(boardId);
         validateOwner(userId, freeBoard);
         repository.delete(freeBoard);
+        boardDetailCache.evictFreeBoard(boardId);
+        boardLikeRedisRepository.deleteBoard(BoardType.FREE, boardId);
+        boardViewRedisRepository.deleteBoard(BoardType.FREE, boardId);
     }
 
     @Transactional
@@ -97,6 +122,7 @@ public class FreeBoardService {
         FreeBoard freeBoard = findBoardById(boardId);
         validateOwner(user.getId(), freeBoard);
         saveImageFile(file, freeBoard);
+        boardDetailCache.evictFreeBoard(boardId);
     }
 
     public String getFreeBoardImageFullPath(String imagePath) {
@@ -108,6 +134,13 @@ public class FreeBoardService {
             .orElseThrow(() -> new EntityNotFoundException(ErrorCode.FREE_BOARD_NOT_FOUND));
     }
 
+    private DetailedFreeBoardResponse loadDetailedBoard(Long boardId) {
+        FreeBoard freeBoard = findFreeBoard(boardId);
+        List<CommentResponse> comments = commentRepository.findCommentResponses(boardId, null, PageRequest.of(0, COMMENT_PAGE_SIZE));
+        userSummaryCache.populate(comments, CommentResponse::getWriterId, CommentResponse::updateWriter);
+        return DetailedFreeBoardResponse.of(freeBoard, comments, commentRepository.countByFreeBoardId(boardId));
+    }
+
     private FreeBoard findFreeBoard(Long boardId) {
         return repository.searchBoardFetchJoin(boardId)
             .orElseThrow(() -> new EntityNotFoundException(ErrorCode.FREE_BOARD_NOT_FOUND));
@@ -115,6 +148,7 @@ public class FreeBoardService {
 
     private FreeBoardScrollResponse searchScrollWithKeyword(FreeBoardScrollDto scrollDto, Long userId) {
         List<FreeBoardResponse> responses = repository.searchScrollWithKeyword(scrollDto, userId);
+        updateUniqueViews(responses);
         return FreeBoardScrollResponse.of(responses, hasNextBoards(responses.size(), scrollDto.getSize()));
     }
 
@@ -126,9 +160,17 @@ public class FreeBoardService {
 
     private FreeBoardScrollResponse searchScroll(FreeBoardScrollDto scrollDto, Long userId) {
         List<FreeBoardResponse> responses = repository.searchScroll(scrollDto, userId);
+        updateUniqueViews(responses);
         return FreeBoardScrollResponse.of(responses, hasNextBoards(responses.size(), scrollDto.getSize()));
     }
 
+    private void updateUniqueViews(List<FreeBoardResponse> responses) {
+        Map<Long, Long> uniqueViews = boardViewRedisRepository.countViewers(BoardType.FREE, responses.stream()
+            .map(FreeBoardResponse::getId)
+            .collect(Collectors.toList()));
+        responses.forEach(response -> response.updateUniqueViews(uniqueViews.getOrDefault(response.getId(), 0L)));
+    }
+
     private void validateOwner(Long userId, FreeBoard freeBoard) {
         if (!userId.equals(freeBoard.getUser().getId())) {
             throw new AuthException(ErrorCode.FREE_BOARD_UNAUTHORIZED);
@@ -0,0 +1,133 @@
+package sideeffect.project.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Slice;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.LikeChange;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.LikeRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitLikeRepository;
+import sideeffect.project.repository.UserRepository;
+
+@Service
+@RequiredArgsConstructor
+public class LikeFlushService {
+
+    private static final int LOAD_PAGE_SIZE = 1000;
+
+    private final LikeRepository likeRepository;
+    private final RecruitLikeRepository recruitLikeRepository;
+    private final FreeBoardRepository freeBoardRepository;
+    private final RecruitBoardRepository recruitBoardRepository;
+    private final UserRepository userRepository;
+    private final BoardLikeRedisRepository boardLikeRedisRepository;
+
+    @Transactional
+    public void flush(BoardType type, List<LikeChange> changes) {
+        if (type == BoardType.FREE) {
+            flushFreeBoardLikes(changes);
+            return;
+        }
+        flushRecruitBoardLikes(changes);
+    }
+
+    @Transactional(readOnly = true)
+    public void loadLikes(BoardType type) {
+        Pageable pageable = PageRequest.of(0, LOAD_PAGE_SIZE);
+        Slice<LikeChange> likes;
+        do {
+            likes = findLikeChanges(type, pageable);
+            boardLikeRedisRepository.addAll(type, likes.getContent());
+            pageable = likes.nextPageable();
+        } while (likes.hasNext());
+    }
+
+    private void flushFreeBoardLikes(List<LikeChange> changes) {
+        Set<Long> userIds = new HashSet<>(userRepository.findExistingIds(getUserIds(changes)));
+        Set<Long> boardIds = new HashSet<>(freeBoardRepository.findExistingIds(getBoardIds(changes)));
+
+        groupByBoard(changes, boardIds).forEach((boardId, boardChanges) -> {
+            List<Long> canceledUserIds = filterUserIds(boardChanges, false, userIds);
+            if (!canceledUserIds.isEmpty()) {
+                likeRepository.deleteLikes(boardId, canceledUserIds);
+            }
+
+            List<Long> likedUserIds = filterUserIds(boardChanges, true, userIds);
+            if (likedUserIds.isEmpty()) {
+                return;
+            }
+            likedUserIds.removeAll(likeRepository.findUserIds(boardId, likedUserIds));
+            FreeBoard freeBoard = freeBoardRepository.getReferenceById(boardId);
+            likeRepository.saveAll(likedUserIds.stream()
+                .map(userId -> Like.of(userRepository.getReferenceById(userId), freeBoard))
+                .collect(Collectors.toList()));
+        });
+    }
+
+    private void flushRecruitBoardLikes(List<LikeChange> changes) {
+        Set<Long> userIds = new HashSet<>(userRepository.findExistingIds(getUserIds(changes)));
+        Set<Long> boardIds = new HashSet<>(recruitBoardRepository.findExistingIds(getBoardIds(changes)));
+
+        groupByBoard(changes, boardIds).forEach((boardId, boardChanges) -> {
+            List<Long> canceledUserIds = filterUserIds(boardChanges, false, userIds);
+            if (!canceledUserIds.isEmpty()) {
+                recruitLikeRepository.deleteRecruitLikes(boardId, canceledUserIds);
+            }
+
+            List<Long> likedUserIds = filterUserIds(boardChanges, true, userIds);
+            if (likedUserIds.isEmpty()) {
+                return;
+            }
+            likedUserIds.removeAll(recruitLikeRepository.findUserIds(boardId, likedUserIds));
+            RecruitBoard recruitBoard = recruitBoardRepository.getReferenceById(boardId);
+            recruitLikeRepository.saveAll(likedUserIds.stream()
+                .map(userId -> RecruitLike.of(userRepository.getReferenceById(userId), recruitBoard))
+                .collect(Collectors.toList()));
+        });
+    }
+
+    private Slice<LikeChange> findLikeChanges(BoardType type, Pageable pageable) {
+        if (type == BoardType.FREE) {
+            return likeRepository.findLikeChanges(pageable);
+        }
+        return recruitLikeRepository.findLikeChanges(pageable);
+    }
+
+    private Map<Long, List<LikeChange>> groupByBoard(List<LikeChange> changes, Set<Long> boardIds) {
+        return changes.stream()
+            .filter(change -> boardIds.contains(change.getBoardId()))
+            .collect(Collectors.groupingBy(LikeChange::getBoardId));
+    }
+
+    private List<Long> filterUserIds(List<LikeChange> changes, boolean liked, Set<Long> userIds) {
+        return changes.stream()
+            .filter(change -> change.isLiked() == liked)
+            .map(LikeChange::getUserId)
+            .filter(userIds::contains)
+            .collect(Collectors.toList());
+    }
+
+    private Collection<Long> getUserIds(List<LikeChange> changes) {
+        return changes.stream().map(LikeChange::getUserId).collect(Collectors.toSet());
+    }
+
+    private Collection<Long> getBoardIds(List<LikeChange> changes) {
+        return changes.stream().map(LikeChange::getBoardId).collect(Collectors.toSet());
+    }
+}
@@ -0,0 +1,99 @@
+package sideeffect.project.service;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.function.Supplier;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Qualifier;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.ApplyBoardResponse;
+import sideeffect.project.dto.user.LikeBoardResponse;
+import sideeffect.project.dto.user.UploadBoardResponse;
+import sideeffect.project.dto.user.UserResponse;
+
+@Slf4j
+@Component
+public class MypageAssembler {
+
+    public static final int SECTIONS = 5;
+
+    private final MypageLoader mypageLoader;
+    private final Executor mypageExecutor;
+    private final Duration timeout;
+
+    public MypageAssembler(MypageLoader mypageLoader, @Qualifier("mypageExecutor") Executor mypageExecutor,
+        @Value("${mypage.timeout:2000}") long timeoutMillis) {
+        this.mypageLoader = mypageLoader;
+        this.mypageExecutor = mypageExecutor;
+        this.timeout = Duration.ofMillis(timeoutMillis);
+    }
+
+    public UserResponse assemble(User owner) {
+        CompletableFuture<Integer> boards = submit("boards", () -> mypageLoader.countBoards(owner));
+        CompletableFuture<List<String>> tags = submit("tags", () -> mypageLoader.loadTags(owner));
+        CompletableFuture<List<LikeBoardResponse>> likeBoards = submit("likeBoards", () -> mypageLoader.loadLikeBoards(owner));
+        CompletableFuture<List<UploadBoardResponse>> uploadBoards = submit("uploadBoards", () -> mypageLoader.loadUploadBoards(owner));
+        CompletableFuture<List<ApplyBoardResponse>> applyBoards = submit("applyBoards", () -> mypageLoader.loadApplyBoards(owner));
+
+        awaitAll(boards, tags, likeBoards, uploadBoards, applyBoards);
+
+        boolean partial = isMissing(boards) || isMissing(tags) || isMissing(likeBoards)
+            || isMissing(uploadBoards) || isMissing(applyBoards);
+        return UserResponse.ownerOf(owner,
+            getOrDefault(boards, 0),
+            getOrDefault(tags, Collections.emptyList()),
+            getOrDefault(likeBoards, Collections.emptyList()),
+            getOrDefault(uploadBoards, Collections.emptyList()),
+            getOrDefault(applyBoards, Collections.emptyList()),
+            partial);
+    }
+
+    public UserResponse findProfile(Long userId) {
+        return mypageLoader.loadProfile(userId);
+    }
+
+    private <T> CompletableFuture<T> submit(String section, Supplier<T> loader) {
+        try {
+            return CompletableFuture.supplyAsync(loader, mypageExecutor)
+                .exceptionally(e -> {
+                    log.warn("마이페이지 로드 실패 section={}", section, e);
+                    return null;
+                });
+        } catch (RejectedExecutionException e) {
+            log.warn("마이페이지 로드 거절 section={}", section);
+            return CompletableFuture.completedFuture(null);
+        }
+    }
+
+    private void awaitAll(CompletableFuture<?>... futures) {
+        try {
+            CompletableFuture.allOf(futures).get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            log.warn("마이페이지 로드 시간 초과 timeout={}", timeout);
+        } catch (ExecutionException e) {
+            log.warn("마이페이지 로드 실패", e);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private boolean isMissing(CompletableFuture<?> future) {
+        return !future.isDone() || future.join() == null;
+    }
+
+    private <T> T getOrDefault(CompletableFuture<T> future, T defaultValue) {
+        if (isMissing(future)) {
+            return defaultValue;
+        }
+        return future.join();
+    }
+}
@@ -0,0 +1,72 @@
+package sideeffect.project.service;
+
+import java.util.List;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.ApplyBoardResponse;
+import sideeffect.project.dto.user.LikeBoardResponse;
+import sideeffect.project.dto.user.UploadBoardResponse;
+import sideeffect.project.dto.user.UserResponse;
+import sideeffect.project.repository.ApplicantRepository;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.LikeRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitLikeRepository;
+import sideeffect.project.repository.UserRepository;
+import sideeffect.project.repository.UserStackRepository;
+
+@Component
+@RequiredArgsConstructor
+@Transactional(readOnly = true, timeoutString = "${mypage.query-timeout:2}")
+public class MypageLoader {
+
+    private final UserRepository userRepository;
+    private final UserStackRepository userStackRepository;
+    private final FreeBoardRepository freeBoardRepository;
+    private final RecruitBoardRepository recruitBoardRepository;
+    private final LikeRepository likeRepository;
+    private final RecruitLikeRepository recruitLikeRepository;
+    private final ApplicantRepository applicantRepository;
+
+    public UserResponse loadProfile(Long userId) {
+        return UserResponse.justOf(userRepository.findById(userId)
+            .orElseThrow(() -> new InvalidValueException(ErrorCode.USER_NOT_FOUND)));
+    }
+
+    public Integer countBoards(User user) {
+        return Math.toIntExact(freeBoardRepository.countByUserId(user.getId()) + recruitBoardRepository.countByUserId(user.getId()));
+    }
+
+    public List<String> loadTags(User user) {
+        return userStackRepository.findStacks(user.getId());
+    }
+
+    public List<LikeBoardResponse> loadLikeBoards(User user) {
+        List<Like> likes = likeRepository.findWithBoardByUserId(user.getId());
+        List<Long> boardIds = likes.stream()
+            .map(like -> like.getFreeBoard().getId())
+            .collect(Collectors.toList());
+        return LikeBoardResponse.listOf(likes, recruitLikeRepository.findWithBoardByUserId(user.getId()),
+            freeBoardRepository.findPreviews(boardIds));
+    }
+
+    public List<UploadBoardResponse> loadUploadBoards(User user) {
+        List<FreeBoard> freeBoards = freeBoardRepository.findByUserId(user.getId());
+        List<Long> boardIds = freeBoards.stream()
+            .map(FreeBoard::getId)
+            .collect(Collectors.toList());
+        return UploadBoardResponse.listOf(user.getId(), freeBoards, recruitBoardRepository.findByUserId(user.getId()),
+            freeBoardRepository.findPreviews(boardIds));
+    }
+
+    public List<ApplyBoardResponse> loadApplyBoards(User user) {
+        return ApplyBoardResponse.listOf(applicantRepository.findWithBoardByUserId(user.getId()));
+    }
+}
@@ -0,0 +1,95 @@
+package sideeffect.project.service;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.config.notification.NotificationRetentionProperties;
+import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.repository.NotificationRetentionRepository;
+import sideeffect.project.repository.NotificationRetentionRepository.NotificationPartition;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class NotificationRetentionService {
+
+    static final int CHUNK_SIZE = 1000;
+    private static final DateTimeFormatter PARTITION_NAME = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private final NotificationRetentionRepository notificationRetentionRepository;
+    private final NotificationRetentionProperties notificationRetentionProperties;
+    private final TransactionTemplate transactionTemplate;
+    private final MeterRegistry meterRegistry;
+
+    public LocalDateTime visibleSince(LocalDateTime now) {
+        return now.minus(notificationRetentionProperties.maxTtl());
+    }
+
+    public void purge(LocalDateTime now) {
+        preparePartitions(now);
+        for (NotificationType type : NotificationType.values()) {
+            purgeExpired(type, now);
+        }
+        purgeExpired(null, now);
+    }
+
+    public void preparePartitions(LocalDateTime now) {
+        if (notificationRetentionRepository.supportsPartitioning()) {
+            maintainPartitions(now);
+        }
+    }
+
+    private void maintainPartitions(LocalDateTime now) {
+        List<NotificationPartition> partitions = notificationRetentionRepository.findPartitions();
+        if (partitions.isEmpty()) {
+            return;
+        }
+        LocalDateTime cutoff = visibleSince(now);
+        LocalDate lastBound = null;
+        for (NotificationPartition partition : partitions) {
+            if (!partition.isBounded()) {
+                continue;
+            }
+            lastBound = partition.getLessThan();
+            if (!partition.getLessThan().atStartOfDay().isAfter(cutoff)) {
+                notificationRetentionRepository.dropPartition(partition.getName());
+                meterRegistry.counter("notification.retention.partitions", "action", "dropped").increment();
+                log.info("만료된 알림 파티션 삭제 partition={}", partition.getName());
+            }
+        }
+        if (lastBound == null) {
+            return;
+        }
+        LocalDate horizon = now.toLocalDate().withDayOfMonth(1)
+            .plusMonths(notificationRetentionProperties.getFuturePartitions() + 1L);
+        while (lastBound.isBefore(horizon)) {
+            notificationRetentionRepository.addPartition(lastBound.format(PARTITION_NAME), lastBound.plusMonths(1));
+            meterRegistry.counter("notification.retention.partitions", "action", "added").increment();
+            lastBound = lastBound.plusMonths(1);
+        }
+    }
+
+    private void purgeExpired(NotificationType type, LocalDateTime now) {
+        LocalDateTime cutoff = now.minus(notificationRetentionProperties.ttlOf(type));
+        long purged = 0;
+        int selected;
+        do {
+            List<Long> ids = notificationRetentionRepository.findExpiredIds(type, cutoff, CHUNK_SIZE);
+            selected = ids.size();
+            if (!ids.isEmpty()) {
+                purged += transactionTemplate.execute(status -> notificationRetentionRepository.deleteByIds(ids));
+            }
+        } while (selected == CHUNK_SIZE);
+        if (purged > 0) {
+            String category = type == null ? "NONE" : type.name();
+            meterRegistry.counter("notification.retention.rows", "type", category).increment(purged);
+            log.info("만료된 알림 삭제 type={} count={}", category, purged);
+        }
+    }
+}
@@ -2,19 +2,38 @@ package sideeffect.project.service;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.domain.applicant.Applicant;
+import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.notification.Notification;
+import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.notification.NotificationBulkResponse;
 import sideeffect.project.dto.notification.NotificationResponse;
 import sideeffect.project.dto.notification.NotificationScrollResponse;
+import sideeffect.project.dto.user.UserSummary;
+import sideeffect.project.repository.ApplicantRepository;
+import sideeffect.project.repository.BoardPositionRepository;
+import sideeffect.project.repository.FreeBoardRepository;
 import sideeffect.project.repository.NotificationRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.UserRepository;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.stream.Collectors;
 
 @Slf4j
@@ -23,14 +42,23 @@ import java.util.stream.Collectors;
 @Transactional
 public class NotificationService {
 
+    private static final int MAX_BULK_SIZE = 1000;
+    private static final Duration COLLAPSE_WINDOW = Duration.ofHours(1);
+
     private final NotificationRepository notificationRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final FreeBoardRepository freeBoardRepository;
+    private final RecruitBoardRepository recruitBoardRepository;
+    private final BoardPositionRepository boardPositionRepository;
+    private final ApplicantRepository applicantRepository;
+    private final UserRepository userRepository;
+    private final NotificationRetentionService notificationRetentionService;
+
     public List<NotificationResponse> view(User user){
         List<NotificationResponse> notificationResponses = Collections.emptyList();
-        List<Notification> notifications = user.getNotifications();
+        List<Notification> notifications = notificationRepository.findByUserId(user.getId());
         if(notifications!=null && !notifications.isEmpty()){
-            notificationResponses = notifications.stream()
-                    .map(notification -> NotificationResponse.of(notification))
-                    .collect(Collectors.toList());
+            notificationResponses = toResponses(notifications);
         }
 
         return notificationResponses;
@@ -50,19 +78,152 @@ public class NotificationService {
         return "delete success";
     }
 
+    public NotificationBulkResponse watchAll(User user){
+        return toBulkResponse(user, notificationRepository.watchAll(user.getId()));
+    }
+
+    public NotificationBulkResponse watch(User user, List<Long> ids){
+        validateBulkSize(ids);
+        return toBulkResponse(user, notificationRepository.watchByIds(user.getId(), ids));
+    }
+
+    public NotificationBulkResponse deleteAll(User user, List<Long> ids, Long beforeId){
+        boolean hasIds = ids != null && !ids.isEmpty();
+        if(hasIds == (beforeId != null)) throw new InvalidValueException(ErrorCode.NOTIFICATION_INVALID_BULK_TARGET);
+        if(hasIds){
+            validateBulkSize(ids);
+            return toBulkResponse(user, notificationRepository.deleteByIds(user.getId(), ids));
+        }
+        return toBulkResponse(user, notificationRepository.deleteBefore(user.getId(), beforeId));
+    }
+
     public NotificationScrollResponse scroll(User user, Long lastId){
-        List<Notification> notifications = notificationRepository.findByLastId(user, lastId);
-        return NotificationScrollResponse.of(NotificationResponse.listOf(notifications));
+        List<Notification> notifications = notificationRepository.findByLastId(user, lastId,
+                notificationRetentionService.visibleSince(LocalDateTime.now()));
+        return NotificationScrollResponse.of(toResponses(notifications));
+    }
+
+    private List<NotificationResponse> toResponses(List<Notification> notifications) {
+        Map<Long, UserSummary> sendingUsers = userSummaryCache.getAll(notifications.stream()
+                .map(notification -> notification.getSendingUser().getId())
+                .collect(Collectors.toList()));
+        return NotificationResponse.listOf(notifications, sendingUsers);
     }
 
     public int getViewCount(User user){
-        int count = 0;
-        List<Notification> notifications = user.getNotifications();
-        for (Notification notification : notifications) {
-            if(!notification.getWatched()) count++;
+        return (int) notificationRepository.countByUserIdAndWatchedFalse(user.getId());
+    }
+
+    public void notifyFreeComment(Long boardId, Long sendingUserId) {
+        FreeBoard freeBoard = freeBoardRepository.findById(boardId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.FREE_BOARD_NOT_FOUND));
+        send(Notification.builder()
+                .user(freeBoard.getUser())
+                .sendingUser(userRepository.getReferenceById(sendingUserId))
+                .title(freeBoard.getTitle())
+                .contents("님이 댓글을 달았습니다")
+                .link("/projects/" + boardId)
+                .watched(false)
+                .notificationType(NotificationType.COMMENT)
+                .build());
+    }
+
+    public void notifyRecruitComment(Long boardId, Long sendingUserId) {
+        RecruitBoard recruitBoard = findRecruitBoard(boardId);
+        send(Notification.builder()
+                .user(recruitBoard.getUser())
+                .sendingUser(userRepository.getReferenceById(sendingUserId))
+                .title(recruitBoard.getTitle())
+                .contents("님이 댓글을 달았습니다")
+                .link("/recruits/" + boardId)
+                .watched(false)
+                .notificationType(NotificationType.COMMENT)
+                .build());
+    }
+
+    public void notifyApproved(Long sendingUserId, Long applicantId, Long boardId) {
+        Applicant applicant = findApplicant(applicantId);
+        RecruitBoard recruitBoard = findRecruitBoard(boardId);
+        send(Notification.builder()
+                .user(applicant.getUser())
+                .sendingUser(findUser(sendingUserId))
+                .title(recruitBoard.getTitle())
+                .contents(applicant.getBoardPosition().getPosition().getPositionType().getKoreanName() + "에 수락되었습니다")
+                .link("/recruits/" + boardId)
+                .watched(false)
+                .notificationType(NotificationType.APPROVE)
+                .build());
+    }
+
+    public void notifyRejected(Long sendingUserId, Long applicantId, Long boardId) {
+        Applicant applicant = findApplicant(applicantId);
+        findRecruitBoard(boardId);
+        send(Notification.builder()
+                .user(applicant.getUser())
+                .sendingUser(findUser(sendingUserId))
+                .contents(applicant.getBoardPosition().getPosition().getPositionType().getKoreanName() + "에 거절되었습니다")
+                .link("/recruits/" + boardId)
+                .watched(false)
+                .notificationType(NotificationType.REJECT)
+                .build());
+    }
+
+    public void notifyApplied(Long sendingUserId, Long boardPositionId) {
+        BoardPosition boardPosition = boardPositionRepository.findById(boardPositionId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.BOARD_POSITION_NOT_FOUND));
+        RecruitBoard recruitBoard = boardPosition.getRecruitBoard();
+        send(Notification.builder()
+                .user(recruitBoard.getUser())
+                .sendingUser(userRepository.getReferenceById(sendingUserId))
+                .title(recruitBoard.getTitle())
+                .contents("님이 " + boardPosition.getPosition().getPositionType().getKoreanName() + "에 지원했습니다")
+                .link("/recruits/" + recruitBoard.getId())
+                .watched(false)
+                .notificationType(NotificationType.REGISTER)
+                .build());
+    }
+
+    private void send(Notification notification) {
+        if(notification.getCollapseKey() != null) {
+            findCollapsible(notification).ifPresent(previous -> {
+                notification.absorb(previous);
+                notificationRepository.delete(previous);
+            });
         }
-        return count;
+        notificationRepository.save(notification);
+    }
+
+    private Optional<Notification> findCollapsible(Notification notification) {
+        return notificationRepository.findCollapsibleIds(notification.getUser().getId(), notification.getCollapseKey(),
+                        LocalDateTime.now().minus(COLLAPSE_WINDOW), PageRequest.of(0, 1)).stream()
+                .findFirst()
+                .flatMap(notificationRepository::findByIdForUpdate)
+                .filter(previous -> Boolean.FALSE.equals(previous.getWatched()));
+    }
+
+    private RecruitBoard findRecruitBoard(Long boardId) {
+        return recruitBoardRepository.findById(boardId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
     }
+
+    private Applicant findApplicant(Long applicantId) {
+        return applicantRepository.findById(applicantId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.APPLICANT_NOT_FOUND));
+    }
+
+    private User findUser(Long userId) {
+        return userRepository.findById(userId)
+                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.USER_NOT_FOUND));
+    }
+
+    private NotificationBulkResponse toBulkResponse(User user, int affected) {
+        return NotificationBulkResponse.of(affected, notificationRepository.countByUserIdAndWatchedFalse(user.getId()));
+    }
+
+    private void validateBulkSize(List<Long> ids) {
+        if(ids == null || ids.isEmpty() || ids.size() > MAX_BULK_SIZE) throw new InvalidValueException(ErrorCode.NOTIFICATION_INVALID_BULK_TARGET);
+    }
+
     private void validateOwner(User user, User findUser) {
         if(user.getId() != findUser.getId()) throw new AuthException(ErrorCode.USER_UNAUTHORIZED);
     }
@@ -1,89 +1,200 @@
 package sideeffect.project.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.*;
 import sideeffect.project.common.fileupload.service.RecruitUploadService;
-import sideeffect.project.domain.applicant.Applicant;
 import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
 import sideeffect.project.domain.recruit.BoardPosition;
 import sideeffect.project.domain.recruit.BoardStack;
 import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.stack.Stack;
 import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.comment.RecruitCommentResponse;
 import sideeffect.project.dto.recruit.*;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.redis.LikeStatus;
+import sideeffect.project.redis.TrendingScore;
+import sideeffect.project.redis.ViewStatus;
+import sideeffect.project.repository.ApplicantRepository;
 import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitCommentRepository;
+import sideeffect.project.repository.UserRepository;
 
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class RecruitBoardService {
 
+    private static final int COMMENT_PAGE_SIZE = 20;
+    static final int MAX_TRENDING_PAGES = 5;
+
     private final RecruitBoardRepository recruitBoardRepository;
     private final PositionService positionService;
     private final StackService stackService;
     private final RecruitUploadService recruitUploadService;
+    private final BoardLikeRedisRepository boardLikeRedisRepository;
+    private final BoardViewRedisRepository boardViewRedisRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final TrendingService trendingService;
+    private final RecruitCommentRepository recruitCommentRepository;
+    private final ApplicantRepository applicantRepository;
+    private final UserRepository userRepository;
+    private final UserSummaryCache userSummaryCache;
+    private final DeletionService deletionService;
+    private final BoardArchiveService boardArchiveService;
 
     @Transactional
     public RecruitBoardResponse register(User user, RecruitBoardRequest request) {
         RecruitBoard recruitBoard = request.toRecruitBoard();
-        recruitBoard.associateUser(user);
-        recruitBoard.updateBoardPositions(getBoardPositions(recruitBoard, request.getPositions()));
-        recruitBoard.updateBoardStacks(getBoardStacks(recruitBoard, request.getTags()));
+        recruitBoard.associateUser(userRepository.getReferenceById(user.getId()));
+        updateBoardPositions(recruitBoard, request.getPositions());
+        updateBoardStacks(recruitBoard, request.getTags());
         saveImageFile(null, recruitBoard); //기본 이미지 사용
 
         return RecruitBoardResponse.of(recruitBoardRepository.save(recruitBoard));
     }
 
     @Transactional
-    public DetailedRecruitBoardResponse findRecruitBoard(Long boardId, User user) {
-        RecruitBoardAndLikeDto findRecruitBoard = recruitBoardRepository.findByBoardIdAndUserId(boardId, user.getId())
-                .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
-        findRecruitBoard.getRecruitBoard().increaseViews();
-
-        DetailedRecruitBoardResponse detailedRecruitBoardResponse = DetailedRecruitBoardResponse.ofLike(findRecruitBoard);
+    public DetailedRecruitBoardResponse findRecruitBoard(Long boardId, User user, String address) {
+        DetailedRecruitBoardResponse cached = boardDetailCache.getRecruitBoard(boardId, this::loadDetailedRecruitBoard);
+        if (cached.isArchived()) {
+            return cached;
+        }
+        DetailedRecruitBoardResponse response = cached
+                .withUniqueViews(increaseViews(boardId, User.isEmpty(user) ? null : user.getId(), address));
 
-        if(user.getApplicants() != null && !user.getApplicants().isEmpty()) {
-            updateSupportedStatus(detailedRecruitBoardResponse, user.getApplicants());
+        if (User.isEmpty(user)) {
+            LikeStatus likeStatus = boardLikeRedisRepository.findStatus(BoardType.RECRUIT, boardId, null);
+            return response.withUserState(false, likeStatus.getLikeNum(), Collections.emptyList());
         }
 
-        return detailedRecruitBoardResponse;
+        LikeStatus likeStatus = boardLikeRedisRepository.findStatus(BoardType.RECRUIT, boardId, user.getId());
+        return response.withUserState(likeStatus.isLiked(), likeStatus.getLikeNum(), applicantRepository.findBoardPositionIds(user.getId(), boardId));
     }
 
-    private void updateSupportedStatus(DetailedRecruitBoardResponse detailedRecruitBoardResponse, List<Applicant> applicants) {
-        List<Long> applicantBoardPositionIds = applicants.stream()
-                .map(applicant -> applicant.getBoardPosition().getId())
-                .collect(Collectors.toList());
+    private long increaseViews(Long boardId, Long userId, String address) {
+        ViewStatus viewStatus = boardViewRedisRepository.addViewer(BoardType.RECRUIT, boardId,
+                BoardViewRedisRepository.toViewer(userId, address));
+        if (viewStatus.isNewViewer()) {
+            recruitBoardRepository.increaseViews(boardId);
+        }
+        return viewStatus.getUniqueViews();
+    }
 
-        detailedRecruitBoardResponse.getPositions().stream()
-                .filter(position -> applicantBoardPositionIds.contains(position.getId()))
-                .forEach(DetailedBoardPositionResponse::updateSupported);
+    private DetailedRecruitBoardResponse loadDetailedRecruitBoard(Long boardId) {
+        Optional<RecruitBoard> recruitBoard = recruitBoardRepository.findDetailById(boardId);
+        if (recruitBoard.isEmpty()) {
+            return boardArchiveService.findRecruitBoard(boardId)
+                    .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
+        }
+        RecruitBoard findRecruitBoard = recruitBoard.get();
+        List<RecruitCommentResponse> comments = recruitCommentRepository.findCommentResponses(boardId, null, PageRequest.of(0, COMMENT_PAGE_SIZE));
+        userSummaryCache.populate(comments, RecruitCommentResponse::getWriterId, RecruitCommentResponse::updateWriter);
+        return DetailedRecruitBoardResponse.of(findRecruitBoard, comments, recruitCommentRepository.countByRecruitBoardId(boardId));
     }
 
     @Transactional(readOnly = true)
     public RecruitBoardAllResponse findAllRecruitBoard(User user) {
         List<RecruitBoardAndLikeDto> allWithLike = recruitBoardRepository.findByAllWithLike(user.getId());
 
-        return RecruitBoardAllResponse.of(RecruitBoardListResponse.listOfLike(allWithLike));
+        List<RecruitBoardListResponse> responses = RecruitBoardListResponse.listOfLike(allWithLike);
+        Map<Long, Long> uniqueViews = countUniqueViews(responses.stream()
+                .map(RecruitBoardListResponse::getId)
+                .collect(Collectors.toList()));
+        responses.forEach(response -> response.updateUniqueViews(uniqueViews.getOrDefault(response.getId(), 0L)));
+
+        return RecruitBoardAllResponse.of(responses);
     }
 
     @Transactional(readOnly = true)
     public RecruitBoardScrollResponse findRecruitBoards(RecruitBoardScrollRequest request, User user) {
+        if (request.isTrending()) {
+            return findTrendingRecruitBoards(request, user);
+        }
+
         List<RecruitBoardAndLikeDto> findRecruitBoards = recruitBoardRepository.findWithSearchConditions(user.getId(), request.getLastId(), request.getKeyword(), request.validateStackTypes(), request.getSize() + 1);
         boolean hasNext = hasNextRecruitBoards(findRecruitBoards, request.getSize());
         List<RecruitBoardResponse> recruitBoardResponses = RecruitBoardResponse.listOfLike(findRecruitBoards);
         updateClosedStatus(recruitBoardResponses);
+        updateUniqueViews(recruitBoardResponses);
 
         return RecruitBoardScrollResponse.of(recruitBoardResponses, hasNext);
     }
 
+    private RecruitBoardScrollResponse findTrendingRecruitBoards(RecruitBoardScrollRequest request, User user) {
+        int limit = request.getSize() + 1;
+        List<RecruitBoardAndLikeDto> findRecruitBoards = new ArrayList<>();
+        Map<Long, Double> scores = new HashMap<>();
+        Double lastScore = request.getLastScore();
+        Long lastId = request.getLastId();
+        List<TrendingScore> trendingScores;
+        int pages = 0;
+
+        do {
+            trendingScores = trendingService.findPage(BoardType.RECRUIT, lastScore, lastId, limit);
+            if (trendingScores.isEmpty()) {
+                break;
+            }
+            Map<Long, RecruitBoardAndLikeDto> candidates = recruitBoardRepository.findWithIds(user.getId(),
+                            trendingScores.stream().map(TrendingScore::getBoardId).collect(Collectors.toList()),
+                            request.getKeyword(), request.validateStackTypes()).stream()
+                    .collect(Collectors.toMap(dto -> dto.getRecruitBoard().getId(), Function.identity()));
+            trendingScores.stream()
+                    .filter(trendingScore -> candidates.containsKey(trendingScore.getBoardId()))
+                    .limit(limit - findRecruitBoards.size())
+                    .forEach(trendingScore -> {
+                        findRecruitBoards.add(candidates.get(trendingScore.getBoardId()));
+                        scores.put(trendingScore.getBoardId(), trendingScore.getScore());
+                    });
+
+            TrendingScore last = trendingScores.get(trendingScores.size() - 1);
+            lastScore = last.getScore();
+            lastId = last.getBoardId();
+            pages++;
+        } while (findRecruitBoards.size() < limit && trendingScores.size() == limit && pages < MAX_TRENDING_PAGES);
+
+        boolean hasNext = hasNextRecruitBoards(findRecruitBoards, request.getSize());
+        List<RecruitBoardResponse> recruitBoardResponses = RecruitBoardResponse.listOfLike(findRecruitBoards);
+        updateClosedStatus(recruitBoardResponses);
+        updateUniqueViews(recruitBoardResponses);
+
+        if (!hasNext && trendingScores.size() == limit) {
+            return RecruitBoardScrollResponse.ofScanned(recruitBoardResponses, lastId, lastScore);
+        }
+        return RecruitBoardScrollResponse.of(recruitBoardResponses, scores, hasNext);
+    }
+
+    private void updateUniqueViews(List<RecruitBoardResponse> recruitBoardResponses) {
+        Map<Long, Long> uniqueViews = countUniqueViews(recruitBoardResponses.stream()
+                .map(RecruitBoardResponse::getId)
+                .collect(Collectors.toList()));
+        recruitBoardResponses.forEach(response -> response.updateUniqueViews(uniqueViews.getOrDefault(response.getId(), 0L)));
+    }
+
+    private Map<Long, Long> countUniqueViews(List<Long> boardIds) {
+        return boardViewRedisRepository.countViewers(BoardType.RECRUIT, boardIds);
+    }
+
     private void updateClosedStatus(List<RecruitBoardResponse> recruitBoardResponses) {
         recruitBoardResponses.stream()
                 .filter(response -> response.getPositionsList() != null && !response.getPositionsList().isEmpty())
@@ -97,9 +208,10 @@ public class RecruitBoardService {
         RecruitBoard findRecruitBoard = recruitBoardRepository.findById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
         validateOwner(userId, findRecruitBoard);
-        findRecruitBoard.updateBoardStacks(getBoardStacks(findRecruitBoard, request.getTags()));
+        updateBoardStacks(findRecruitBoard, request.getTags());
 
         findRecruitBoard.update(request.toRecruitBoard());
+        boardDetailCache.evictRecruitBoard(boardId);
     }
 
     @Transactional
@@ -109,6 +221,7 @@ public class RecruitBoardService {
         validateOwner(userId, findRecruitBoard);
         recruitUploadService.deleteFile(findRecruitBoard.getImgSrc());
         saveImageFile(file, findRecruitBoard);
+        boardDetailCache.evictRecruitBoard(boardId);
     }
 
     @Transactional
@@ -121,6 +234,8 @@ public class RecruitBoardService {
         isValidPosition(findRecruitBoard, targetBoardPosition);
 
         findRecruitBoard.addBoardPosition(targetBoardPosition);
+        findRecruitBoard.refreshClosedAt();
+        boardDetailCache.evictRecruitBoard(boardId);
     }
 
     @Transactional
@@ -128,35 +243,31 @@ public class RecruitBoardService {
         RecruitBoard findRecruitBoard = recruitBoardRepository.findById(boardId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
         validateOwner(userId, findRecruitBoard);
-        recruitBoardRepository.delete(findRecruitBoard);
+        deletionService.deleteRecruitBoard(findRecruitBoard);
+        boardDetailCache.evictRecruitBoard(boardId);
+        boardLikeRedisRepository.deleteBoard(BoardType.RECRUIT, boardId);
+        boardViewRedisRepository.deleteBoard(BoardType.RECRUIT, boardId);
+        trendingService.remove(BoardType.RECRUIT, boardId);
     }
 
     public String getImageFullPath(String imagePath) {
         return recruitUploadService.getFullPath(imagePath);
     }
 
-    private List<BoardPosition> getBoardPositions(RecruitBoard recruitBoard, List<BoardPositionRequest> positionRequests) {
-        List<BoardPosition> boardPositions = Collections.emptyList();
+    private void updateBoardPositions(RecruitBoard recruitBoard, List<BoardPositionRequest> positionRequests) {
+        Map<PositionType, BoardPositionRequest> requests = new LinkedHashMap<>();
 
-        if(positionRequests != null && !positionRequests.isEmpty()) {
-            boardPositions = positionRequests.stream()
-                    .map(boardPositionRequest -> this.toBoardPosition(recruitBoard, boardPositionRequest))
-                    .collect(Collectors.toList());
+        if(positionRequests != null) {
+            positionRequests.forEach(request -> requests.putIfAbsent(request.getPositionType(), request));
         }
 
-        return boardPositions;
+        recruitBoard.updateBoardPositions(requests.keySet(),
+                positionType -> toBoardPosition(recruitBoard, requests.get(positionType)));
     }
 
-    private List<BoardStack> getBoardStacks(RecruitBoard recruitBoard, List<StackType> stackRequests) {
-        List<BoardStack> boardStacks = Collections.emptyList();
-
-        if(stackRequests != null && !stackRequests.isEmpty()) {
-            boardStacks = stackRequests.stream()
-                    .map(stackType -> this.toBoardStack(recruitBoard, stackType))
-                    .collect(Collectors.toList());
-        }
-
-        return boardStacks;
+    private void updateBoardStacks(RecruitBoard recruitBoard, List<StackType> stackTypes) {
+        recruitBoard.updateBoardStacks(stackTypes == null ? Collections.emptyList() : stackTypes,
+                stackType -> toBoardStack(recruitBoard, stackType));
     }
 
     private BoardPosition toBoardPosition(RecruitBoard recruitBoard, BoardPositionRequest request) {
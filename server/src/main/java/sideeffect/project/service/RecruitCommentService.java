@@ -1,8 +1,11 @@
 package sideeffect.project.service;
 
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.common.exception.ErrorCode;
@@ -11,15 +14,22 @@ import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.comment.RecruitCommentRequest;
 import sideeffect.project.dto.comment.RecruitCommentResponse;
+import sideeffect.project.dto.comment.RecruitCommentScrollResponse;
 import sideeffect.project.repository.RecruitBoardRepository;
 import sideeffect.project.repository.RecruitCommentRepository;
 
+import java.util.List;
+
 @Service
 @RequiredArgsConstructor
 public class RecruitCommentService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final RecruitCommentRepository recruitCommentRepository;
     private final RecruitBoardRepository recruitBoardRepository;
+    private final BoardDetailCache boardDetailCache;
+    private final UserSummaryCache userSummaryCache;
 
     @Transactional
     public RecruitCommentResponse registerComment(RecruitCommentRequest request, User user) {
@@ -27,16 +37,26 @@ public class RecruitCommentService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_BOARD_NOT_FOUND));
         RecruitComment recruitComment = request.toComment();
         recruitComment.associate(user, findRecruitBoard);
+        boardDetailCache.evictRecruitBoard(findRecruitBoard.getId());
 
         return RecruitCommentResponse.of(recruitCommentRepository.save(recruitComment));
     }
 
+    @Transactional(readOnly = true)
+    public RecruitCommentScrollResponse findBoardComments(Long boardId, Long lastId, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<RecruitCommentResponse> comments = recruitCommentRepository.findCommentResponses(boardId, lastId, PageRequest.of(0, pageSize + 1));
+        userSummaryCache.populate(comments, RecruitCommentResponse::getWriterId, RecruitCommentResponse::updateWriter);
+        return RecruitCommentScrollResponse.of(comments, pageSize);
+    }
+
     @Transactional
     public void update(Long userId, Long commentId, String updateComment) {
         RecruitComment findRecruitComment = recruitCommentRepository.findById(commentId)
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_COMMENT_NOT_FOUND));
         validateOwner(userId, findRecruitComment.getUser().getId());
         findRecruitComment.update(updateComment);
+        boardDetailCache.evictRecruitBoard(findRecruitComment.getRecruitBoard().getId());
     }
 
     @Transactional
@@ -45,6 +65,7 @@ public class RecruitCommentService {
                 .orElseThrow(() -> new EntityNotFoundException(ErrorCode.RECRUIT_COMMENT_NOT_FOUND));
         validateOwner(userId, findRecruitComment.getUser().getId());
         recruitCommentRepository.delete(findRecruitComment);
+        boardDetailCache.evictRecruitBoard(findRecruitComment.getRecruitBoard().getId());
     }
 
     private void validateOwner(Long userId, Long ownerId) {
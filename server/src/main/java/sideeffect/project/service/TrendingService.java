@@ -0,0 +1,79 @@
+package sideeffect.project.service;
+
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalTime;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import sideeffect.project.domain.stats.BoardDailyStat;
+import sideeffect.project.domain.stats.StatMetric;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.TrendingRedisRepository;
+import sideeffect.project.redis.TrendingScore;
+import sideeffect.project.repository.BoardDailyStatRepository;
+
+@Service
+@RequiredArgsConstructor
+public class TrendingService {
+
+    private static final Duration HALF_LIFE = Duration.ofHours(24);
+    private static final double DECAY_RATE = Math.log(2) / HALF_LIFE.toMillis();
+    private static final double MIN_SCORE = 0.1;
+    private static final int LOAD_PERIOD_DAYS = 14;
+    private static final Map<StatMetric, Double> WEIGHTS = Map.of(
+        StatMetric.VIEWS, 1.0,
+        StatMetric.LIKES, 3.0,
+        StatMetric.COMMENTS, 4.0,
+        StatMetric.APPLICATIONS, 5.0);
+
+    private final TrendingRedisRepository trendingRedisRepository;
+    private final BoardDailyStatRepository boardDailyStatRepository;
+
+    public void record(BoardType type, Long boardId, StatMetric metric, long delta) {
+        if (delta <= 0) {
+            return;
+        }
+        trendingRedisRepository.increase(type, boardId, toLogScore(WEIGHTS.get(metric) * delta, System.currentTimeMillis()));
+    }
+
+    public List<TrendingScore> findPage(BoardType type, Double lastScore, Long lastId, int size) {
+        return trendingRedisRepository.findPage(type, lastScore, lastId, size);
+    }
+
+    public void remove(BoardType type, Long boardId) {
+        trendingRedisRepository.remove(type, boardId);
+    }
+
+    public long prune(BoardType type) {
+        return trendingRedisRepository.removeBelow(type, toLogScore(MIN_SCORE, System.currentTimeMillis()));
+    }
+
+    @Transactional(readOnly = true)
+    public void load(BoardType type) {
+        List<BoardDailyStat> stats = boardDailyStatRepository.findRecentStats(type, LocalDate.now(BoardDailyStat.STAT_ZONE).minusDays(LOAD_PERIOD_DAYS));
+        for (BoardDailyStat stat : stats) {
+            double weight = weigh(stat);
+            if (weight > 0) {
+                trendingRedisRepository.increase(type, stat.getBoardId(), toLogScore(weight, toTimestamp(stat.getStatDate())));
+            }
+        }
+    }
+
+    private double weigh(BoardDailyStat stat) {
+        return WEIGHTS.get(StatMetric.VIEWS) * stat.getViews()
+            + WEIGHTS.get(StatMetric.LIKES) * stat.getLikes()
+            + WEIGHTS.get(StatMetric.COMMENTS) * stat.getComments()
+            + WEIGHTS.get(StatMetric.APPLICATIONS) * stat.getApplications();
+    }
+
+    private long toTimestamp(LocalDate date) {
+        return date.atTime(LocalTime.NOON).atZone(BoardDailyStat.STAT_ZONE).toInstant().toEpochMilli();
+    }
+
+    private double toLogScore(double weight, long timestamp) {
+        return DECAY_RATE * timestamp + Math.log(weight);
+    }
+}
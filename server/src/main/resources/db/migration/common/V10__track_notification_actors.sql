@@ -0,0 +1 @@
+alter table notifications add column actor_ids varchar(1000);
@@ -0,0 +1,181 @@
+create table users (
+    user_id bigint not null auto_increment,
+    create_at datetime(6),
+    update_at datetime(6),
+    email varchar(255),
+    password varchar(255),
+    nickname varchar(255),
+    introduction varchar(255),
+    position tinyint,
+    career varchar(255),
+    user_role_type varchar(255),
+    provider_type varchar(255),
+    img_url varchar(255),
+    blog_url varchar(255),
+    github_url varchar(255),
+    portfolio_url varchar(255),
+    primary key (user_id),
+    constraint uk_users_email unique (email)
+);
+
+create table user_stack (
+    id bigint not null auto_increment,
+    stack_name varchar(255),
+    user_id bigint,
+    primary key (id),
+    constraint fk_user_stack_user foreign key (user_id) references users (user_id)
+);
+
+create table positions (
+    position_id bigint not null auto_increment,
+    position_name varchar(255),
+    primary key (position_id),
+    constraint uk_positions_position_name unique (position_name)
+);
+
+create table stacks (
+    stack_id bigint not null auto_increment,
+    stack_name varchar(255),
+    url varchar(255),
+    primary key (stack_id),
+    constraint uk_stacks_stack_name unique (stack_name)
+);
+
+create table free_boards (
+    free_board_id bigint not null auto_increment,
+    create_at datetime(6),
+    update_at datetime(6),
+    views integer not null,
+    title varchar(255),
+    project_url varchar(255),
+    content varchar(255),
+    img_url varchar(255),
+    project_name varchar(255),
+    sub_title varchar(255),
+    user_id bigint,
+    deleted boolean default false not null,
+    primary key (free_board_id),
+    constraint unique_project_url unique (project_url),
+    constraint fk_free_boards_user foreign key (user_id) references users (user_id)
+);
+
+create index user_index on free_boards (user_id);
+
+create table comments (
+    comment_id bigint not null auto_increment,
+    create_at datetime(6),
+    update_at datetime(6),
+    content varchar(255),
+    user_id bigint,
+    free_board_id bigint,
+    primary key (comment_id),
+    constraint fk_comments_user foreign key (user_id) references users (user_id),
+    constraint fk_comments_free_board foreign key (free_board_id) references free_boards (free_board_id)
+);
+
+create table likes (
+    id bigint not null auto_increment,
+    user_id bigint,
+    free_board_id bigint,
+    created_at datetime(6),
+    primary key (id),
+    constraint fk_likes_user foreign key (user_id) references users (user_id),
+    constraint fk_likes_free_board foreign key (free_board_id) references free_boards (free_board_id)
+);
+
+create unique index board_user_index on likes (free_board_id, user_id);
+
+create table recruit_board (
+    recruit_board_id bigint not null auto_increment,
+    create_at datetime(6),
+    update_at datetime(6),
+    title varchar(255),
+    project_name varchar(255),
+    contents varchar(255),
+    img_src varchar(255),
+    views integer not null,
+    user_id bigint,
+    primary key (recruit_board_id),
+    constraint fk_recruit_board_user foreign key (user_id) references users (user_id)
+);
+
+create table board_position (
+    board_position_id bigint not null auto_increment,
+    target_number integer not null,
+    current_number integer not null,
+    position_id bigint,
+    recruit_board_id bigint,
+    primary key (board_position_id),
+    constraint fk_board_position_position foreign key (position_id) references positions (position_id),
+    constraint fk_board_position_recruit_board foreign key (recruit_board_id) references recruit_board (recruit_board_id)
+);
+
+create table board_stack (
+    board_stack_id bigint not null auto_increment,
+    stack_id bigint,
+    recruit_board_id bigint,
+    primary key (board_stack_id),
+    constraint fk_board_stack_stack foreign key (stack_id) references stacks (stack_id),
+    constraint fk_board_stack_recruit_board foreign key (recruit_board_id) references recruit_board (recruit_board_id)
+);
+
+create table applicant (
+    applicant_id bigint not null auto_increment,
+    create_at datetime(6),
+    update_at datetime(6),
+    status varchar(255),
+    user_id bigint,
+    board_position_id bigint,
+    primary key (applicant_id),
+    constraint fk_applicant_user foreign key (user_id) references users (user_id),
+    constraint fk_applicant_board_position foreign key (board_position_id) references board_position (board_position_id)
+);
+
+create table recruit_comments (
+    recruit_comment_id bigint not null auto_increment,
+    create_at datetime(6),
+    update_at datetime(6),
+    content varchar(255),
+    user_id bigint,
+    recruit_board_id bigint,
+    primary key (recruit_comment_id),
+    constraint fk_recruit_comments_user foreign key (user_id) references users (user_id),
+    constraint fk_recruit_comments_recruit_board foreign key (recruit_board_id) references recruit_board (recruit_board_id)
+);
+
+create table recruit_likes (
+    recruit_like_id bigint not null auto_increment,
+    user_id bigint,
+    recruit_board_id bigint,
+    primary key (recruit_like_id),
+    constraint fk_recruit_likes_user foreign key (user_id) references users (user_id),
+    constraint fk_recruit_likes_recruit_board foreign key (recruit_board_id) references recruit_board (recruit_board_id)
+);
+
+create unique index recruit_user_index on recruit_likes (recruit_board_id, user_id);
+
+create table penalties (
+    id bigint not null auto_increment,
+    user_id bigint,
+    recruit_board_id bigint,
+    created_at datetime(6),
+    primary key (id),
+    constraint board_user_index unique (recruit_board_id, user_id),
+    constraint fk_penalties_user foreign key (user_id) references users (user_id),
+    constraint fk_penalties_recruit_board foreign key (recruit_board_id) references recruit_board (recruit_board_id)
+);
+
+create table notifications (
+    id bigint not null auto_increment,
+    title varchar(255),
+    contents varchar(255),
+    link varchar(255),
+    watched boolean,
+    category varchar(255),
+    created_at datetime(6),
+    user_id bigint,
+    sending_user_id bigint,
+    primary key (id),
+    constraint fk_notifications_user foreign key (user_id) references users (user_id),
+    constraint fk_notifications_sending_user foreign key (sending_user_id) references users (user_id)
+);
@@ -0,0 +1,13 @@
+create table board_daily_stats (
+    id bigint not null,
+    board_type varchar(255) not null,
+    board_id bigint not null,
+    stat_date date not null,
+    views bigint not null,
+    likes bigint not null,
+    comments bigint not null,
+    applications bigint not null,
+    primary key (id)
+);
+
+create unique index board_date_index on board_daily_stats (board_type, board_id, stat_date);
@@ -0,0 +1,18 @@
+alter table users add column deleted boolean default false not null;
+alter table recruit_board add column deleted boolean default false not null;
+
+create table deletion_jobs (
+    deletion_job_id bigint not null,
+    create_at datetime(6),
+    update_at datetime(6),
+    target_type varchar(255) not null,
+    target_id bigint not null,
+    status varchar(255) not null,
+    current_step varchar(255),
+    deleted_rows bigint not null,
+    attempts integer not null,
+    heartbeat_at datetime(6),
+    primary key (deletion_job_id)
+);
+
+create index deletion_status_index on deletion_jobs (status, heartbeat_at);
@@ -0,0 +1,22 @@
+create index notification_user_index on notifications (user_id, id);
+create index notification_unread_index on notifications (user_id, watched);
+
+create index comment_board_index on comments (free_board_id, comment_id);
+create index recruit_comment_board_index on recruit_comments (recruit_board_id, recruit_comment_id);
+
+create index applicant_position_status_index on applicant (board_position_id, status);
+create index applicant_user_position_index on applicant (user_id, board_position_id);
+
+create index user_email_provider_index on users (email, provider_type);
+create index user_nickname_index on users (nickname);
+create index user_stack_user_index on user_stack (user_id, id);
+
+create index like_created_at_index on likes (created_at);
+create index like_user_index on likes (user_id, free_board_id);
+create index recruit_like_user_index on recruit_likes (user_id, recruit_board_id);
+
+create index recruit_board_user_index on recruit_board (user_id);
+create index board_position_board_index on board_position (recruit_board_id);
+create index board_stack_board_index on board_stack (recruit_board_id);
+
+create index board_daily_stat_date_index on board_daily_stats (board_type, stat_date);
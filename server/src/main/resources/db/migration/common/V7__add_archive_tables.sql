@@ -0,0 +1,137 @@
+alter table recruit_board add column closed_at datetime(6);
+
+update recruit_board set closed_at = coalesce(update_at, create_at)
+where exists (select 1 from board_position bp where bp.recruit_board_id = recruit_board.recruit_board_id)
+  and not exists (select 1 from board_position bp
+                  where bp.recruit_board_id = recruit_board.recruit_board_id
+                    and bp.current_number < bp.target_number);
+
+create index recruit_board_closed_at_index on recruit_board (closed_at);
+create index free_board_deleted_index on free_boards (deleted, free_board_id);
+
+create table free_boards_archive (
+    free_board_id bigint not null,
+    create_at datetime(6),
+    update_at datetime(6),
+    views integer not null,
+    title varchar(255),
+    project_url varchar(255),
+    content varchar(255),
+    img_url varchar(255),
+    project_name varchar(255),
+    sub_title varchar(255),
+    user_id bigint,
+    deleted boolean default false not null,
+    archived_at datetime(6) not null,
+    primary key (free_board_id)
+);
+
+create table comments_archive (
+    comment_id bigint not null,
+    create_at datetime(6),
+    update_at datetime(6),
+    content varchar(255),
+    user_id bigint,
+    free_board_id bigint,
+    archived_at datetime(6) not null,
+    primary key (comment_id)
+);
+
+create table likes_archive (
+    id bigint not null,
+    user_id bigint,
+    free_board_id bigint,
+    created_at datetime(6),
+    archived_at datetime(6) not null,
+    primary key (id)
+);
+
+create table recruit_board_archive (
+    recruit_board_id bigint not null,
+    create_at datetime(6),
+    update_at datetime(6),
+    title varchar(255),
+    project_name varchar(255),
+    contents varchar(255),
+    img_src varchar(255),
+    views integer not null,
+    deleted boolean default false not null,
+    closed_at datetime(6),
+    user_id bigint,
+    archived_at datetime(6) not null,
+    primary key (recruit_board_id)
+);
+
+create table board_position_archive (
+    board_position_id bigint not null,
+    target_number integer not null,
+    current_number integer not null,
+    position_id bigint,
+    recruit_board_id bigint,
+    archived_at datetime(6) not null,
+    primary key (board_position_id)
+);
+
+create table board_stack_archive (
+    board_stack_id bigint not null,
+    stack_id bigint,
+    recruit_board_id bigint,
+    archived_at datetime(6) not null,
+    primary key (board_stack_id)
+);
+
+create table applicant_archive (
+    applicant_id bigint not null,
+    create_at datetime(6),
+    update_at datetime(6),
+    status varchar(255),
+    user_id bigint,
+    board_position_id bigint,
+    archived_at datetime(6) not null,
+    primary key (applicant_id)
+);
+
+create table recruit_comments_archive (
+    recruit_comment_id bigint not null,
+    create_at datetime(6),
+    update_at datetime(6),
+    content varchar(255),
+    user_id bigint,
+    recruit_board_id bigint,
+    archived_at datetime(6) not null,
+    primary key (recruit_comment_id)
+);
+
+create table recruit_likes_archive (
+    recruit_like_id bigint not null,
+    user_id bigint,
+    recruit_board_id bigint,
+    archived_at datetime(6) not null,
+    primary key (recruit_like_id)
+);
+
+create table penalties_archive (
+    id bigint not null,
+    user_id bigint,
+    recruit_board_id bigint,
+    created_at datetime(6),
+    archived_at datetime(6) not null,
+    primary key (id)
+);
+
+create index archive_free_board_user_index on free_boards_archive (user_id);
+create index archive_comment_board_index on comments_archive (free_board_id);
+create index archive_comment_user_index on comments_archive (user_id);
+create index archive_like_board_index on likes_archive (free_board_id);
+create index archive_like_user_index on likes_archive (user_id);
+create index archive_recruit_board_user_index on recruit_board_archive (user_id);
+create index archive_board_position_board_index on board_position_archive (recruit_board_id);
+create index archive_board_stack_board_index on board_stack_archive (recruit_board_id);
+create index archive_applicant_position_index on applicant_archive (board_position_id);
+create index archive_applicant_user_index on applicant_archive (user_id);
+create index archive_recruit_comment_board_index on recruit_comments_archive (recruit_board_id, recruit_comment_id);
+create index archive_recruit_comment_user_index on recruit_comments_archive (user_id);
+create index archive_recruit_like_board_index on recruit_likes_archive (recruit_board_id);
+create index archive_recruit_like_user_index on recruit_likes_archive (user_id);
+create index archive_penalty_board_index on penalties_archive (recruit_board_id);
+create index archive_penalty_user_index on penalties_archive (user_id);
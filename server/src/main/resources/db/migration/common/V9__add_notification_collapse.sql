@@ -0,0 +1,5 @@
+alter table notifications add column collapse_key varchar(255);
+alter table notifications add column actor_count integer default 1 not null;
+alter table notifications add column updated_at datetime(6);
+
+create index notification_collapse_index on notifications (user_id, collapse_key, watched);
@@ -0,0 +1 @@
+alter table penalties rename constraint board_user_index to penalty_board_user_index;
@@ -0,0 +1,7 @@
+update notifications set created_at = current_timestamp where created_at is null;
+
+alter table notifications drop constraint fk_notifications_user;
+alter table notifications drop constraint fk_notifications_sending_user;
+alter table notifications alter column created_at set not null;
+
+create index notification_category_created_index on notifications (category, created_at);
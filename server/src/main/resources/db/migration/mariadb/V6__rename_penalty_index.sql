@@ -0,0 +1,2 @@
+create unique index penalty_board_user_index on penalties (recruit_board_id, user_id);
+drop index board_user_index on penalties;
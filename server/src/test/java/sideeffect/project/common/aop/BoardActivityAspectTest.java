@@ -0,0 +1,61 @@
+package sideeffect.project.common.aop;
+
+import static org.assertj.core.api.Assertions.assertThatCode;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.doThrow;
+import static org.mockito.Mockito.verify;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.domain.applicant.ApplicantStatus;
+import sideeffect.project.domain.stats.StatMetric;
+import sideeffect.project.dto.applicant.ApplicantResponse;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.service.BoardStatsService;
+import sideeffect.project.service.TrendingService;
+
+@ExtendWith(MockitoExtension.class)
+class BoardActivityAspectTest {
+
+    @InjectMocks
+    private BoardActivityAspect boardActivityAspect;
+
+    @Mock
+    private BoardStatsService boardStatsService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @DisplayName("지원 통계는 지원 응답의 모집 게시판 id로 기록한다.")
+    @Test
+    void afterRegisterApplicant() {
+        boardActivityAspect.afterRegisterApplicant(null, response());
+
+        assertAll(
+            () -> verify(boardStatsService).record(BoardType.RECRUIT, 5L, StatMetric.APPLICATIONS, 1),
+            () -> verify(trendingService).record(BoardType.RECRUIT, 5L, StatMetric.APPLICATIONS, 1)
+        );
+    }
+
+    @DisplayName("통계 기록에 실패해도 지원 요청은 실패하지 않는다.")
+    @Test
+    void afterRegisterApplicantWithFailure() {
+        doThrow(new IllegalStateException()).when(boardStatsService)
+            .record(BoardType.RECRUIT, 5L, StatMetric.APPLICATIONS, 1);
+
+        assertThatCode(() -> boardActivityAspect.afterRegisterApplicant(null, response()))
+            .doesNotThrowAnyException();
+    }
+
+    private ApplicantResponse response() {
+        return ApplicantResponse.builder()
+            .id(1L)
+            .status(ApplicantStatus.PENDING)
+            .recruitBoardId(5L)
+            .build();
+    }
+}
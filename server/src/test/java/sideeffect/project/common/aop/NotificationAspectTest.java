@@ -0,0 +1,74 @@
+package sideeffect.project.common.aop;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.only;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.domain.applicant.ApplicantStatus;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.applicant.ApplicantUpdateRequest;
+import sideeffect.project.dto.comment.CommentRequest;
+import sideeffect.project.dto.comment.RecruitCommentRequest;
+import sideeffect.project.service.NotificationService;
+
+@ExtendWith(MockitoExtension.class)
+class NotificationAspectTest {
+
+    @InjectMocks
+    private NotificationAspect notificationAspect;
+
+    @Mock
+    private NotificationService notificationService;
+
+    @Mock
+    private User user;
+
+    @DisplayName("댓글 알림은 트랜잭션 밖에서 회원 연관관계를 읽지 않고 id만 넘긴다.")
+    @Test
+    void afterRegisterComment() {
+        when(user.getId()).thenReturn(1L);
+
+        notificationAspect.afterRegisterFreeComment(null, new CommentRequest(10L, "댓글"), user);
+        notificationAspect.afterRegisterRecruitComment(null, new RecruitCommentRequest(20L, "댓글"), user);
+
+        assertAll(
+            () -> verify(notificationService).notifyFreeComment(10L, 1L),
+            () -> verify(notificationService).notifyRecruitComment(20L, 1L)
+        );
+    }
+
+    @DisplayName("지원 알림은 회원 id만 읽어 넘긴다.")
+    @Test
+    void afterRegister() {
+        when(user.getId()).thenReturn(1L);
+
+        notificationAspect.afterRegister(null, user, 30L);
+
+        assertAll(
+            () -> verify(notificationService).notifyApplied(1L, 30L),
+            () -> verify(user, only()).getId()
+        );
+    }
+
+    @DisplayName("지원 수락, 거절 알림은 요청의 id로만 알림을 만든다.")
+    @Test
+    void afterUpdateApplicant() {
+        ApplicantUpdateRequest approve = new ApplicantUpdateRequest(20L, 40L, ApplicantStatus.APPROVED);
+        ApplicantUpdateRequest reject = new ApplicantUpdateRequest(20L, 41L, ApplicantStatus.REJECTED);
+
+        notificationAspect.afterApproveApplicant(null, 1L, approve);
+        notificationAspect.afterRejectApplicant(null, 1L, reject);
+
+        assertAll(
+            () -> verify(notificationService).notifyApproved(1L, 40L, 20L),
+            () -> verify(notificationService).notifyRejected(1L, 41L, 20L)
+        );
+    }
+}
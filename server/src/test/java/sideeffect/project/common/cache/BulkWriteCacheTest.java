@@ -0,0 +1,120 @@
+package sideeffect.project.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManagerFactory;
+import jakarta.persistence.metamodel.EntityType;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.metamodel.MappingMetamodel;
+import org.hibernate.persister.entity.AbstractEntityPersister;
+import org.hibernate.persister.entity.EntityPersister;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.ApplicationContext;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.support.Repositories;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.domain.deletion.DeletionTarget;
+import sideeffect.project.repository.BoardArchiveRepository;
+import sideeffect.project.repository.BoardArchiveRepository.ArchiveStep;
+import sideeffect.project.repository.BulkDeletionRepository;
+import sideeffect.project.repository.BulkDeletionRepository.DeletionStep;
+
+class BulkWriteCacheTest extends TestDataRepository {
+
+    private static final Pattern BULK_TARGET = Pattern.compile("^\\s*(?:UPDATE|DELETE\\s+FROM|DELETE)\\s+(\\w+)",
+        Pattern.CASE_INSENSITIVE);
+    private static final List<String> UNTRACKED_JDBC_TABLES = List.of("notifications");
+
+    @Autowired
+    private ApplicationContext applicationContext;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @DisplayName("JPQL 벌크 수정과 삭제는 2차 캐시를 쓰지 않는 엔티티에만 실행한다.")
+    @Test
+    void bulkJpqlTargetsAreNotCached() {
+        List<String> cachedTargets = new ArrayList<>();
+        Repositories repositories = new Repositories(applicationContext);
+        for (Class<?> domainType : repositories) {
+            Class<?> repository = repositories.getRequiredRepositoryInformation(domainType).getRepositoryInterface();
+            for (Method method : repository.getMethods()) {
+                Query query = method.getAnnotation(Query.class);
+                if (query == null || !method.isAnnotationPresent(Modifying.class)) {
+                    continue;
+                }
+                Matcher matcher = BULK_TARGET.matcher(query.value());
+                assertThat(matcher.find()).as(method.toString()).isTrue();
+                if (findEntity(matcher.group(1)).canWriteToCache()) {
+                    cachedTargets.add(method.toString());
+                }
+            }
+        }
+
+        assertThat(cachedTargets).isEmpty();
+    }
+
+    @DisplayName("JDBC로 지우거나 옮기는 테이블이 2차 캐시에 있으면 해당 단계가 무효화할 캐시를 선언한다.")
+    @Test
+    void jdbcStepsDeclareCachedRegions() {
+        List<String> undeclared = new ArrayList<>();
+        for (DeletionTarget target : DeletionTarget.values()) {
+            for (DeletionStep step : new BulkDeletionRepository(null).findSteps(target)) {
+                undeclared.addAll(findUndeclared(step.getTable(), step.getCachedEntity(), step.getCachedCollections()));
+            }
+        }
+        for (ArchiveTarget target : ArchiveTarget.values()) {
+            for (ArchiveStep step : new BoardArchiveRepository(null).findSteps(target)) {
+                undeclared.addAll(findUndeclared(step.getTable(), step.getCachedEntity(), step.getCachedCollections()));
+            }
+        }
+        UNTRACKED_JDBC_TABLES.forEach(table -> undeclared.addAll(findUndeclared(table, null, List.of())));
+
+        assertThat(undeclared).isEmpty();
+    }
+
+    private List<String> findUndeclared(String table, String cachedEntity, List<String> cachedCollections) {
+        List<String> undeclared = new ArrayList<>();
+        MappingMetamodel metamodel = mappingMetamodel();
+        metamodel.forEachEntityDescriptor(persister -> {
+            if (mapsTable(persister, table) && persister.canWriteToCache()
+                && !persister.getEntityName().equals(cachedEntity)) {
+                undeclared.add(table + " -> " + persister.getEntityName());
+            }
+        });
+        metamodel.forEachCollectionDescriptor(persister -> {
+            if (persister.hasCache() && mapsTable(persister.getOwnerEntityPersister(), table)
+                && !cachedCollections.contains(persister.getRole())) {
+                undeclared.add(table + " -> " + persister.getRole());
+            }
+        });
+        return undeclared;
+    }
+
+    private boolean mapsTable(EntityPersister persister, String table) {
+        return persister instanceof AbstractEntityPersister entityPersister
+            && table.equalsIgnoreCase(entityPersister.getTableName());
+    }
+
+    private EntityPersister findEntity(String jpaEntityName) {
+        Class<?> javaType = entityManagerFactory.getMetamodel().getEntities().stream()
+            .filter(entity -> entity.getName().equals(jpaEntityName))
+            .map(EntityType::getJavaType)
+            .findFirst()
+            .orElseThrow();
+        return mappingMetamodel().getEntityDescriptor(javaType);
+    }
+
+    private MappingMetamodel mappingMetamodel() {
+        return entityManagerFactory.unwrap(SessionFactoryImplementor.class).getMappingMetamodel();
+    }
+}
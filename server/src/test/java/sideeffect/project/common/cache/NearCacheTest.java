@@ -0,0 +1,137 @@
+package sideeffect.project.common.cache;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sideeffect.project.common.exception.EntityNotFoundException;
+import sideeffect.project.common.exception.ErrorCode;
+
+class NearCacheTest {
+
+    private NearCache<Long, String> nearCache;
+    private AtomicInteger loadCount;
+
+    @BeforeEach
+    void setUp() {
+        nearCache = new NearCache<>(Duration.ofMinutes(1), 10);
+        loadCount = new AtomicInteger();
+    }
+
+    @DisplayName("캐시된 값이 있으면 다시 로드하지 않는다.")
+    @Test
+    void getCachedValue() {
+        nearCache.get(1L, this::load);
+        String value = nearCache.get(1L, this::load);
+
+        assertAll(
+            () -> assertThat(value).isEqualTo("board-1"),
+            () -> assertThat(loadCount.get()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("무효화된 값은 다시 로드한다.")
+    @Test
+    void evict() {
+        nearCache.get(1L, this::load);
+        nearCache.evict(1L);
+        nearCache.get(1L, this::load);
+
+        assertThat(loadCount.get()).isEqualTo(2);
+    }
+
+    @DisplayName("동시에 발생한 캐시 미스는 한 번만 로드한다.")
+    @Test
+    void collapseConcurrentMisses() throws Exception {
+        int threads = 8;
+        CountDownLatch ready = new CountDownLatch(threads);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        List<Future<String>> results = new ArrayList<>();
+
+        for (int i = 0; i < threads; i++) {
+            results.add(executor.submit(() -> {
+                ready.countDown();
+                return nearCache.get(1L, key -> {
+                    await(release);
+                    return load(key);
+                });
+            }));
+        }
+        ready.await(1, TimeUnit.SECONDS);
+        Thread.sleep(100);
+        release.countDown();
+
+        for (Future<String> result : results) {
+            assertThat(result.get(1, TimeUnit.SECONDS)).isEqualTo("board-1");
+        }
+        executor.shutdown();
+        assertThat(loadCount.get()).isEqualTo(1);
+    }
+
+    @DisplayName("로드에 실패하면 예외를 그대로 전달하고 캐시하지 않는다.")
+    @Test
+    void loadFailure() {
+        assertThatThrownBy(() -> nearCache.get(1L, key -> {
+            throw new EntityNotFoundException(ErrorCode.FREE_BOARD_NOT_FOUND);
+        })).isInstanceOf(EntityNotFoundException.class);
+
+        assertThat(nearCache.size()).isZero();
+    }
+
+    @DisplayName("최대 크기를 넘지 않는다.")
+    @Test
+    void maximumSize() {
+        for (long id = 0; id < 20; id++) {
+            nearCache.get(id, this::load);
+        }
+
+        assertThat(nearCache.size()).isLessThanOrEqualTo(10);
+    }
+
+    @DisplayName("여러 키를 조회하면 캐시에 없는 키만 한 번에 로드한다.")
+    @Test
+    void getAll() {
+        nearCache.get(1L, this::load);
+        List<Set<Long>> requestedKeys = new ArrayList<>();
+
+        Map<Long, String> values = nearCache.getAll(List.of(1L, 2L, 3L, 2L), keys -> {
+            requestedKeys.add(keys);
+            return keys.stream().filter(key -> key != 3L).collect(Collectors.toMap(key -> key, key -> "board-" + key));
+        });
+
+        assertAll(
+            () -> assertThat(values).containsOnlyKeys(1L, 2L),
+            () -> assertThat(requestedKeys).containsExactly(Set.of(2L, 3L)),
+            () -> assertThat(nearCache.size()).isEqualTo(2)
+        );
+    }
+
+    private String load(Long key) {
+        loadCount.incrementAndGet();
+        return "board-" + key;
+    }
+
+    private void await(CountDownLatch latch) {
+        try {
+            latch.await(1, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+}
@@ -48,4 +48,13 @@ public final class AuthDocsUtils {
                 .responseHeaders(headerWithName(HttpHeaders.SET_COOKIE).description("빈 쿠키"))
                 .build());
     }
+
+    public static ResourceSnippet getLogoutAllDocs() {
+        return resource(
+            ResourceSnippetParameters.builder()
+                .tag("로그인 API")
+                .description("모든 기기에서 로그아웃 한다.")
+                .responseHeaders(headerWithName(HttpHeaders.SET_COOKIE).description("빈 쿠키"))
+                .build());
+    }
 }
@@ -26,6 +26,7 @@ public final class FreeBoardDocsUtils {
                     fieldWithPath("imgUrl").type(JsonFieldType.STRING).description("게시판 이미지"),
                     fieldWithPath("subTitle").type(JsonFieldType.STRING).description("게시판 한줄 요약"),
                     fieldWithPath("views").type(JsonFieldType.NUMBER).description("조회수"),
+                    fieldWithPath("uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수"),
                     fieldWithPath("userId").type(JsonFieldType.NUMBER).description("작성자 id"),
                     fieldWithPath("writer").type(JsonFieldType.STRING).description("작성자 닉네임"),
                     fieldWithPath("title").type(JsonFieldType.STRING).description("제목"),
@@ -39,7 +40,28 @@ public final class FreeBoardDocsUtils {
                     fieldWithPath("comments[].boardId").type(JsonFieldType.NUMBER).description("게시판 id"),
                     fieldWithPath("comments[].content").type(JsonFieldType.STRING).description("게시판 내용"),
                     fieldWithPath("comments[].writer").type(JsonFieldType.STRING).description("댓글 작성자 닉네임"),
-                    fieldWithPath("comments[].writerId").type(JsonFieldType.NUMBER).description("댓글 작성자 id"))
+                    fieldWithPath("comments[].writerId").type(JsonFieldType.NUMBER).description("댓글 작성자 id"),
+                    fieldWithPath("commentNum").type(JsonFieldType.NUMBER).description("전체 댓글 수"))
+                .build());
+    }
+
+    public static ResourceSnippet getFreeBoardCommentsDocs() {
+        return resource(
+            ResourceSnippetParameters.builder()
+                .tag("자랑게시판 API")
+                .description("자랑 게시판 댓글을 스크롤 조회한다.")
+                .pathParameters(parameterWithName("id").description("자랑게시판 id"))
+                .requestParameters(
+                    parameterWithName("lastId").type(SimpleType.NUMBER).description("이전 스크롤 마지막 댓글 id").optional(),
+                    parameterWithName("size").type(SimpleType.INTEGER).description("조회할 댓글 수, 기본값 20").optional())
+                .responseFields(
+                    fieldWithPath("comments[].commentId").type(JsonFieldType.NUMBER).description("댓글 id"),
+                    fieldWithPath("comments[].boardId").type(JsonFieldType.NUMBER).description("게시판 id"),
+                    fieldWithPath("comments[].content").type(JsonFieldType.STRING).description("댓글 내용"),
+                    fieldWithPath("comments[].writer").type(JsonFieldType.STRING).description("댓글 작성자 닉네임"),
+                    fieldWithPath("comments[].writerId").type(JsonFieldType.NUMBER).description("댓글 작성자 id"),
+                    fieldWithPath("lastId").type(JsonFieldType.NUMBER).description("응답한 댓글 중 마지막 id").optional(),
+                    fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 댓글 여부"))
                 .build());
     }
 
@@ -61,6 +83,7 @@ public final class FreeBoardDocsUtils {
                     fieldWithPath("projects[].imgUrl").type(JsonFieldType.STRING).description("게시판 이미지"),
                     fieldWithPath("projects[].subTitle").type(JsonFieldType.STRING).description("게시판 한줄 요약"),
                     fieldWithPath("projects[].views").type(JsonFieldType.NUMBER).description("조회수"),
+                    fieldWithPath("projects[].uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수"),
                     fieldWithPath("projects[].title").type(JsonFieldType.STRING).description("제목"),
                     fieldWithPath("projects[].createdAt").type(JsonFieldType.STRING).description("생성일").optional(),
                     fieldWithPath("projects[].like").type(JsonFieldType.BOOLEAN).description("좋아요 유무"),
@@ -0,0 +1,19 @@
+package sideeffect.project.common.jpa;
+
+import jakarta.persistence.EntityManager;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+public final class LazyLoadingGuard {
+
+    private LazyLoadingGuard() {
+    }
+
+    public static <T, R> R render(EntityManager em, Supplier<T> loader, Function<T, R> renderer) {
+        em.flush();
+        em.clear();
+        T loaded = loader.get();
+        em.clear();
+        return renderer.apply(loaded);
+    }
+}
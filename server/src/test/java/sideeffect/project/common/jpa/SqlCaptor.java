@@ -0,0 +1,48 @@
+package sideeffect.project.common.jpa;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import javax.sql.DataSource;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCallback;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.SqlProvider;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+
+public class SqlCaptor implements StatementInspector {
+
+    public static final String PROPERTY =
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=sideeffect.project.common.jpa.SqlCaptor";
+
+    private static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+    @Override
+    public String inspect(String sql) {
+        STATEMENTS.add(sql);
+        return sql;
+    }
+
+    public static void clear() {
+        STATEMENTS.clear();
+    }
+
+    public static String firstSelect() {
+        return STATEMENTS.stream()
+            .filter(sql -> sql.stripLeading().regionMatches(true, 0, "select", 0, 6))
+            .findFirst()
+            .orElseThrow(() -> new IllegalStateException("실행된 조회 쿼리가 없습니다."));
+    }
+
+    public static NamedParameterJdbcTemplate jdbcTemplate(DataSource dataSource) {
+        return new NamedParameterJdbcTemplate(new JdbcTemplate(dataSource) {
+            @Override
+            public <T> T execute(PreparedStatementCreator psc, PreparedStatementCallback<T> action) {
+                if (psc instanceof SqlProvider provider) {
+                    STATEMENTS.add(provider.getSql());
+                }
+                return super.execute(psc, action);
+            }
+        });
+    }
+}
@@ -0,0 +1,60 @@
+package sideeffect.project.common.metrics;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.FilterChain;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class FilterChainTimingFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private FilterChainTimingFilter startFilter;
+    private FilterChainTimingFilter stopFilter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        startFilter = FilterChainTimingFilter.start(meterRegistry);
+        stopFilter = FilterChainTimingFilter.stop(meterRegistry);
+    }
+
+    @DisplayName("필터 체인 통과 시간을 체인별로 기록한다.")
+    @Test
+    void record() throws Exception {
+        MockHttpServletRequest imageRequest = new MockHttpServletRequest("GET", "/api/user/image/a.jpg");
+        imageRequest.setServletPath("/api/user/image/a.jpg");
+        MockHttpServletRequest boardRequest = new MockHttpServletRequest("GET", "/api/free-boards/1");
+        boardRequest.setServletPath("/api/free-boards/1");
+
+        pass(imageRequest);
+        pass(boardRequest);
+
+        assertAll(
+            () -> assertThat(meterRegistry.timer("http.server.filter-chain", "chain", "public").count()).isEqualTo(1),
+            () -> assertThat(meterRegistry.timer("http.server.filter-chain", "chain", "default").count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("이미지 업로드 요청은 기본 체인으로 분류한다.")
+    @Test
+    void recordImageUpload() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/free-boards/image/1");
+        request.setServletPath("/api/free-boards/image/1");
+
+        pass(request);
+
+        assertThat(meterRegistry.timer("http.server.filter-chain", "chain", "default").count()).isEqualTo(1);
+    }
+
+    private void pass(MockHttpServletRequest request) throws Exception {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        FilterChain handler = (req, res) -> { };
+        startFilter.doFilter(request, response, (req, res) -> stopFilter.doFilter(req, res, handler));
+    }
+}
@@ -0,0 +1,70 @@
+package sideeffect.project.common.web;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import java.util.regex.Pattern;
+import org.apache.catalina.valves.RemoteIpValve;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.web.ServerProperties;
+import org.springframework.boot.autoconfigure.web.embedded.TomcatWebServerFactoryCustomizer;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.test.context.ConfigDataApplicationContextInitializer;
+import org.springframework.boot.web.embedded.tomcat.TomcatServletWebServerFactory;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.test.context.junit.jupiter.SpringJUnitConfig;
+
+@SpringJUnitConfig(classes = ForwardedHeaderConfigTest.Config.class,
+    initializers = ConfigDataApplicationContextInitializer.class)
+class ForwardedHeaderConfigTest {
+
+    @Autowired
+    private Environment environment;
+
+    @Autowired
+    private ServerProperties serverProperties;
+
+    private RemoteIpValve remoteIpValve;
+
+    @BeforeEach
+    void setUp() {
+        TomcatServletWebServerFactory factory = new TomcatServletWebServerFactory();
+        new TomcatWebServerFactoryCustomizer(environment, serverProperties).customize(factory);
+        remoteIpValve = factory.getEngineValves().stream()
+            .filter(RemoteIpValve.class::isInstance)
+            .map(RemoteIpValve.class::cast)
+            .findFirst()
+            .orElseThrow();
+    }
+
+    @DisplayName("X-Forwarded-For는 Tomcat RemoteIpValve가 처리한다.")
+    @Test
+    void remoteIpValveReadsForwardedFor() {
+        assertThat(remoteIpValve.getRemoteIpHeader()).isEqualToIgnoringCase("X-Forwarded-For");
+    }
+
+    @DisplayName("내부 프록시에서 온 요청의 X-Forwarded-For만 신뢰한다.")
+    @Test
+    void trustOnlyInternalProxies() {
+        Pattern internalProxies = Pattern.compile(remoteIpValve.getInternalProxies());
+
+        assertAll(
+            () -> assertThat(internalProxies.matcher("127.0.0.1").matches()).isTrue(),
+            () -> assertThat(internalProxies.matcher("10.0.0.2").matches()).isTrue(),
+            () -> assertThat(internalProxies.matcher("172.16.0.2").matches()).isTrue(),
+            () -> assertThat(internalProxies.matcher("192.168.0.2").matches()).isTrue(),
+            () -> assertThat(internalProxies.matcher("172.32.0.2").matches()).isFalse(),
+            () -> assertThat(internalProxies.matcher("203.0.113.7").matches()).isFalse()
+        );
+    }
+
+    @Configuration
+    @EnableConfigurationProperties(ServerProperties.class)
+    static class Config {
+
+    }
+}
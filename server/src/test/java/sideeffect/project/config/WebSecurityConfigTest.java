@@ -0,0 +1,139 @@
+package sideeffect.project.config;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
+import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.test.web.servlet.MockMvc;
+import sideeffect.project.common.exception.AuthException;
+import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.controller.FreeBoardController;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.security.JwtTokenProvider;
+import sideeffect.project.security.RefreshTokenProvider;
+import sideeffect.project.security.UserDetailsImpl;
+import sideeffect.project.service.BoardStatsService;
+import sideeffect.project.service.CommentService;
+import sideeffect.project.service.FreeBoardService;
+
+@WebMvcTest(FreeBoardController.class)
+@Import(WebSecurityConfig.class)
+class WebSecurityConfigTest {
+
+    private static final String BEARER_TOKEN = "Bearer access-token";
+
+    @Autowired
+    private MockMvc mvc;
+
+    @MockBean
+    private JwtTokenProvider jwtTokenProvider;
+
+    @MockBean
+    private RefreshTokenProvider refreshTokenProvider;
+
+    @MockBean
+    private FreeBoardService freeBoardService;
+
+    @MockBean
+    private BoardStatsService boardStatsService;
+
+    @MockBean
+    private CommentService commentService;
+
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .id(1L)
+            .email("tester@naver.com")
+            .nickname("tester")
+            .userRoleType(UserRoleType.ROLE_USER)
+            .build();
+    }
+
+    @DisplayName("이미지 조회는 public 체인에서 처리되어 토큰을 검사하지 않는다.")
+    @Test
+    void downloadImageWithoutTokenCheck(@TempDir Path directory) throws Exception {
+        Path image = Files.write(directory.resolve("image.jpg"), new byte[] {1, 2, 3});
+        given(freeBoardService.getFreeBoardImageFullPath("image.jpg")).willReturn(image.toString());
+
+        mvc.perform(get("/api/free-boards/image/{filename}", "image.jpg")
+                .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+            .andExpect(status().isOk());
+
+        verify(jwtTokenProvider, never()).validateAccessToken(any());
+    }
+
+    @DisplayName("토큰 없이 공개 게시판을 조회할 수 있다.")
+    @Test
+    void findBoardWithoutToken() throws Exception {
+        mvc.perform(get("/api/free-boards/{id}", 1L))
+            .andExpect(status().isOk());
+    }
+
+    @DisplayName("토큰 없이 게시판을 등록하면 필터 체인에서 거부된다.")
+    @Test
+    void registerBoardWithoutToken() throws Exception {
+        mvc.perform(post("/api/free-boards")
+                .contentType(MediaType.APPLICATION_JSON)
+                .content("{}"))
+            .andExpect(status().isForbidden());
+
+        verify(freeBoardService, never()).register(any(), any());
+    }
+
+    @DisplayName("토큰 없이 인증이 필요한 조회를 하면 거부된다.")
+    @Test
+    void findBoardStatsWithoutToken() throws Exception {
+        mvc.perform(get("/api/free-boards/{id}/stats", 1L))
+            .andExpect(status().isForbidden());
+
+        verify(boardStatsService, never()).findFreeBoardStats(any(), any(), any(), any());
+    }
+
+    @DisplayName("유효한 토큰이면 JwtFilter가 인증해 인증이 필요한 조회를 할 수 있다.")
+    @Test
+    void findBoardStatsWithToken() throws Exception {
+        UserDetailsImpl userDetails = UserDetailsImpl.of(user);
+        given(jwtTokenProvider.getAuthentication("access-token")).willReturn(
+            new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities()));
+
+        mvc.perform(get("/api/free-boards/{id}/stats", 1L)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+            .andExpect(status().isOk());
+
+        verify(boardStatsService).findFreeBoardStats(1L, 1L, null, null);
+    }
+
+    @DisplayName("잘못된 토큰이면 401 응답을 받는다.")
+    @Test
+    void findBoardWithInvalidToken() throws Exception {
+        given(jwtTokenProvider.validateAccessToken("access-token"))
+            .willThrow(new AuthException(ErrorCode.ACCESS_TOKEN_MALFORMED));
+
+        mvc.perform(get("/api/free-boards/{id}", 1L)
+                .header(HttpHeaders.AUTHORIZATION, BEARER_TOKEN))
+            .andExpect(status().isUnauthorized());
+
+        verify(freeBoardService, never()).findBoard(any(), any(), any());
+    }
+}
@@ -0,0 +1,181 @@
+package sideeffect.project.config.datasource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.sql.Connection;
+import java.time.Clock;
+import java.time.Duration;
+import java.time.Instant;
+import java.time.ZoneId;
+import java.time.ZoneOffset;
+import java.util.Map;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.security.UserDetailsImpl;
+
+class ReplicaRoutingDataSourceTest {
+
+    private static final Duration STICKY_WINDOW = Duration.ofSeconds(5);
+
+    private MeterRegistry meterRegistry;
+    private JdbcTemplate replicaJdbcTemplate;
+    private ReplicaLagMonitor replicaLagMonitor;
+    private MutableClock clock;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        DataSource primary = h2("primary");
+        DataSource replica = h2("replica");
+        new JdbcTemplate(primary).execute("INSERT INTO node VALUES ('primary')");
+        replicaJdbcTemplate = new JdbcTemplate(replica);
+        replicaJdbcTemplate.execute("INSERT INTO node VALUES ('replica')");
+        replicaJdbcTemplate.execute("CREATE TABLE replica_status (seconds_behind BIGINT)");
+        replicaJdbcTemplate.execute("INSERT INTO replica_status VALUES (0)");
+
+        ReplicaProperties properties = new ReplicaProperties();
+        properties.setLagQuery("SELECT seconds_behind FROM replica_status");
+        properties.setLagColumn("seconds_behind");
+        properties.setStickyWindow(STICKY_WINDOW);
+        replicaLagMonitor = new ReplicaLagMonitor(replica, properties, meterRegistry);
+        replicaLagMonitor.check();
+        clock = new MutableClock();
+
+        ReplicaRoutingDataSource routingDataSource = new ReplicaRoutingDataSource(replicaLagMonitor,
+            new ReadYourWritesTracker(STICKY_WINDOW, clock), meterRegistry);
+        routingDataSource.setTargetDataSources(Map.of(
+            DataSourceType.PRIMARY, primary,
+            DataSourceType.REPLICA, replica));
+        routingDataSource.setDefaultTargetDataSource(primary);
+        routingDataSource.afterPropertiesSet();
+        LazyConnectionDataSourceProxy dataSource = new LazyConnectionDataSourceProxy();
+        dataSource.setDefaultAutoCommit(true);
+        dataSource.setDefaultTransactionIsolation(Connection.TRANSACTION_READ_COMMITTED);
+        dataSource.setTargetDataSource(routingDataSource);
+        dataSource.afterPropertiesSet();
+
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @DisplayName("읽기 전용 트랜잭션은 레플리카로, 쓰기 트랜잭션은 프라이머리로 보낸다.")
+    @Test
+    void routeByTransactionType() {
+        assertAll(
+            () -> assertThat(readNode(readOnlyTransaction)).isEqualTo("replica"),
+            () -> assertThat(readNode(writeTransaction)).isEqualTo("primary"),
+            () -> assertThat(meterRegistry.counter("datasource.routing", "target", "replica").count()).isEqualTo(1),
+            () -> assertThat(meterRegistry.counter("datasource.routing", "target", "primary").count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("레플리카 지연이 허용치를 넘으면 읽기 전용 트랜잭션도 프라이머리로 보낸다.")
+    @Test
+    void fallbackWhenReplicaLags() {
+        replicaJdbcTemplate.update("UPDATE replica_status SET seconds_behind = 30");
+        replicaLagMonitor.check();
+
+        assertAll(
+            () -> assertThat(readNode(readOnlyTransaction)).isEqualTo("primary"),
+            () -> assertThat(meterRegistry.counter("datasource.replica.fallback", "reason", "lag").count()).isEqualTo(1),
+            () -> assertThat(meterRegistry.get("datasource.replica.lag").gauge().value()).isEqualTo(30)
+        );
+    }
+
+    @DisplayName("레플리카 지연을 확인할 수 없으면 프라이머리로 보낸다.")
+    @Test
+    void fallbackWhenLagUnknown() {
+        replicaJdbcTemplate.update("UPDATE replica_status SET seconds_behind = NULL");
+        replicaLagMonitor.check();
+
+        assertThat(readNode(readOnlyTransaction)).isEqualTo("primary");
+    }
+
+    @DisplayName("쓰기 직후 일정 시간 동안 같은 유저의 읽기는 프라이머리로 보낸다.")
+    @Test
+    void readYourWrites() {
+        login(1L);
+        writeTransaction.executeWithoutResult(status -> jdbcTemplate.update("UPDATE node SET name = name"));
+
+        String afterWrite = readNode(readOnlyTransaction);
+        login(2L);
+        String otherUser = readNode(readOnlyTransaction);
+        login(1L);
+        clock.advance(STICKY_WINDOW.plusMillis(1));
+        String afterWindow = readNode(readOnlyTransaction);
+
+        assertAll(
+            () -> assertThat(afterWrite).isEqualTo("primary"),
+            () -> assertThat(otherUser).isEqualTo("replica"),
+            () -> assertThat(afterWindow).isEqualTo("replica"),
+            () -> assertThat(meterRegistry.counter("datasource.replica.fallback", "reason", "sticky").count()).isEqualTo(1)
+        );
+    }
+
+    private String readNode(TransactionTemplate transactionTemplate) {
+        return transactionTemplate.execute(status -> jdbcTemplate.queryForObject("SELECT name FROM node", String.class));
+    }
+
+    private void login(Long userId) {
+        UserDetailsImpl principal = UserDetailsImpl.of(User.builder().id(userId).userRoleType(UserRoleType.ROLE_USER).build());
+        SecurityContextHolder.getContext()
+            .setAuthentication(new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+    }
+
+    private static DataSource h2(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource(
+            "jdbc:h2:mem:" + name + "-" + System.nanoTime() + ";DB_CLOSE_DELAY=-1");
+        new JdbcTemplate(dataSource).execute("CREATE TABLE node (name VARCHAR(20))");
+        return dataSource;
+    }
+
+    private static class MutableClock extends Clock {
+
+        private Instant instant = Instant.parse("2023-09-01T00:00:00Z");
+
+        void advance(Duration duration) {
+            instant = instant.plus(duration);
+        }
+
+        @Override
+        public ZoneId getZone() {
+            return ZoneOffset.UTC;
+        }
+
+        @Override
+        public Clock withZone(ZoneId zone) {
+            return this;
+        }
+
+        @Override
+        public Instant instant() {
+            return instant;
+        }
+    }
+}
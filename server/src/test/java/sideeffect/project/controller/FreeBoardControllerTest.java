@@ -3,6 +3,7 @@ package sideeffect.project.controller;
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
@@ -17,6 +18,7 @@ import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
+import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -39,11 +41,17 @@ import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.like.Like;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.dto.comment.CommentResponse;
+import sideeffect.project.dto.comment.CommentScrollResponse;
 import sideeffect.project.dto.freeboard.FreeBoardRequest;
 import sideeffect.project.dto.freeboard.DetailedFreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardScrollResponse;
 import sideeffect.project.dto.freeboard.RankResponse;
+import sideeffect.project.dto.stats.BoardStatsResponse;
+import sideeffect.project.dto.stats.DailyStatResponse;
+import sideeffect.project.service.BoardStatsService;
+import sideeffect.project.service.CommentService;
 import sideeffect.project.service.FreeBoardService;
 
 import java.util.List;
@@ -54,6 +62,12 @@ class FreeBoardControllerTest extends ControllerTestDocument {
     @MockBean
     private FreeBoardService freeBoardService;
 
+    @MockBean
+    private BoardStatsService boardStatsService;
+
+    @MockBean
+    private CommentService commentService;
+
     private FreeBoard freeBoard;
     private User user;
     private ObjectMapper objectMapper;
@@ -91,8 +105,9 @@ class FreeBoardControllerTest extends ControllerTestDocument {
         List<Comment> comments = generateComments(1L, 1L);
         comments.forEach(comment -> comment.associate(user, freeBoard));
         like(recommendNumber, freeBoard);
-        DetailedFreeBoardResponse response = DetailedFreeBoardResponse.of(freeBoard, false);
-        given(freeBoardService.findBoard(any(), any())).willReturn(response);
+        DetailedFreeBoardResponse response = DetailedFreeBoardResponse.of(freeBoard, CommentResponse.listOf(comments),
+            comments.size());
+        given(freeBoardService.findBoard(any(), any(), any())).willReturn(response);
 
         mvc.perform(RestDocumentationRequestBuilders.get("/api/free-boards/{id}", 1L)
                 .contentType(MediaType.APPLICATION_JSON))
@@ -106,11 +121,12 @@ class FreeBoardControllerTest extends ControllerTestDocument {
             .andExpect(jsonPath("$.projectUrl").value(response.getProjectUrl()))
             .andExpect(jsonPath("$.imgUrl").value(response.getImgUrl()))
             .andExpect(jsonPath("$.comments.size()").value(1))
+            .andExpect(jsonPath("$.commentNum").value(1))
             .andExpect(jsonPath("$.likeNum").value(recommendNumber))
             .andExpect(jsonPath("$.like").value(false))
             .andDo(print())
             .andDo(document("free-board/find", FreeBoardDocsUtils.getFreeBoardFindDocs()));
-        verify(freeBoardService).findBoard(any(), any());
+        verify(freeBoardService).findBoard(any(), any(), any());
     }
 
     @DisplayName("게시판 스크롤 요청한다.")
@@ -173,6 +189,48 @@ class FreeBoardControllerTest extends ControllerTestDocument {
             .andDo(print());
     }
 
+    @DisplayName("게시판 댓글을 커서 기반으로 조회한다.")
+    @WithCustomUser
+    @Test
+    void findBoardComments() throws Exception {
+        CommentScrollResponse response = CommentScrollResponse.of(List.of(
+            new CommentResponse(12L, 1L, "댓글2", "hello", 1L),
+            new CommentResponse(11L, 1L, "댓글1", "hello", 1L)), 2);
+        given(commentService.findBoardComments(any(), any(), anyInt())).willReturn(response);
+
+        mvc.perform(RestDocumentationRequestBuilders.get("/api/free-boards/{id}/comments", 1L)
+                .param("lastId", "13")
+                .param("size", "2"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.comments.size()").value(2))
+            .andExpect(jsonPath("$.lastId").value(11L))
+            .andExpect(jsonPath("$.hasNext").value(false))
+            .andDo(document("free-board/comments", FreeBoardDocsUtils.getFreeBoardCommentsDocs()));
+        verify(commentService).findBoardComments(1L, 13L, 2);
+    }
+
+    @DisplayName("게시판의 일별 통계를 조회한다.")
+    @WithCustomUser
+    @Test
+    void findBoardStats() throws Exception {
+        LocalDate from = LocalDate.of(2023, 9, 1);
+        LocalDate to = LocalDate.of(2023, 9, 2);
+        BoardStatsResponse response = BoardStatsResponse.of(1L, from, to, List.of(
+            new DailyStatResponse(from, 10, 2, 1, 0),
+            DailyStatResponse.empty(to)));
+        given(boardStatsService.findFreeBoardStats(any(), any(), any(), any())).willReturn(response);
+
+        mvc.perform(get("/api/free-boards/1/stats")
+                .param("from", "2023-09-01")
+                .param("to", "2023-09-02"))
+            .andExpect(status().isOk())
+            .andExpect(jsonPath("$.stats.size()").value(2))
+            .andExpect(jsonPath("$.stats[0].date").value("2023-09-01"))
+            .andExpect(jsonPath("$.stats[0].views").value(10))
+            .andExpect(jsonPath("$.stats[1].views").value(0));
+        verify(boardStatsService).findFreeBoardStats(1L, 1L, from, to);
+    }
+
     @DisplayName("게시판을 등록한다.")
     @WithCustomUser
     @Test
@@ -184,7 +242,7 @@ class FreeBoardControllerTest extends ControllerTestDocument {
             .projectName("게시판")
             .subTitle("테스트 게시판")
             .build();
-        given(freeBoardService.register(any(), any())).willReturn(freeBoard);
+        given(freeBoardService.register(any(), any())).willReturn(FreeBoardResponse.of(freeBoard));
         mvc.perform(RestDocumentationRequestBuilders.post("/api/free-boards")
                 .with(csrf())
                 .contentType(MediaType.APPLICATION_JSON)
@@ -1,15 +1,19 @@
 package sideeffect.project.controller;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
+import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import sideeffect.project.common.security.WithCustomUser;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.dto.notification.NotificationBulkResponse;
+import sideeffect.project.dto.notification.NotificationIdsRequest;
 import sideeffect.project.dto.notification.NotificationResponse;
 import sideeffect.project.dto.notification.NotificationScrollResponse;
 import sideeffect.project.service.NotificationService;
@@ -18,6 +22,7 @@ import java.util.ArrayList;
 import java.util.List;
 
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
@@ -79,6 +84,82 @@ class NotificationControllerTest {
                 .andExpect(status().isOk());
     }
 
+    @DisplayName("알림 전체 읽음 표시")
+    @Test
+    @WithCustomUser
+    void watchAll() throws Exception {
+        doReturn(NotificationBulkResponse.of(3, 0)).when(notificationService).watchAll(any());
+
+        mockMvc.perform(post("/api/notice/watch-all")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(3))
+                .andExpect(jsonPath("$.unreadCount").value(0));
+
+        verify(notificationService).watchAll(any());
+    }
+
+    @DisplayName("선택한 알림 읽음 표시")
+    @Test
+    @WithCustomUser
+    void watchByIds() throws Exception {
+        NotificationIdsRequest request = NotificationIdsRequest.builder().ids(List.of(1L, 2L)).build();
+        doReturn(NotificationBulkResponse.of(2, 1)).when(notificationService).watch(any(), eq(List.of(1L, 2L)));
+
+        mockMvc.perform(post("/api/notice/watch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(request)))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2))
+                .andExpect(jsonPath("$.unreadCount").value(1));
+
+        verify(notificationService).watch(any(), eq(List.of(1L, 2L)));
+    }
+
+    @DisplayName("선택한 알림이 없으면 읽음 표시할 수 없다")
+    @Test
+    @WithCustomUser
+    void watchByEmptyIds() throws Exception {
+        NotificationIdsRequest request = NotificationIdsRequest.builder().ids(List.of()).build();
+
+        mockMvc.perform(post("/api/notice/watch")
+                .with(csrf())
+                .contentType(MediaType.APPLICATION_JSON)
+                .content(new ObjectMapper().writeValueAsString(request)))
+                .andExpect(status().isBadRequest());
+    }
+
+    @DisplayName("기준 알림 이전의 알림 일괄 삭제")
+    @Test
+    @WithCustomUser
+    void deleteBefore() throws Exception {
+        doReturn(NotificationBulkResponse.of(10, 0)).when(notificationService).deleteAll(any(), any(), eq(11L));
+
+        mockMvc.perform(delete("/api/notice")
+                .param("beforeId", "11")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(10));
+
+        verify(notificationService).deleteAll(any(), any(), eq(11L));
+    }
+
+    @DisplayName("선택한 알림 일괄 삭제")
+    @Test
+    @WithCustomUser
+    void deleteByIds() throws Exception {
+        doReturn(NotificationBulkResponse.of(2, 0)).when(notificationService).deleteAll(any(), eq(List.of(1L, 2L)), any());
+
+        mockMvc.perform(delete("/api/notice")
+                .param("ids", "1", "2")
+                .with(csrf()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.affected").value(2));
+
+        verify(notificationService).deleteAll(any(), eq(List.of(1L, 2L)), any());
+    }
+
     @DisplayName("스크롤")
     @Test
     @WithCustomUser
@@ -24,6 +24,7 @@ import sideeffect.project.domain.token.RefreshToken;
 import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.security.IssuedTokens;
 import sideeffect.project.security.RefreshTokenProvider;
 import sideeffect.project.service.OauthService;
 
@@ -64,8 +65,8 @@ class OauthControllerTest extends ControllerTestDocument {
             .build();
 
         given(oauthService.login(any(), any())).willReturn(user);
-        given(refreshTokenProvider.createRefreshToken(any())).willReturn(refreshToken);
-        given(refreshTokenProvider.issueAccessToken(any())).willReturn(generateAccessToken());
+        given(refreshTokenProvider.issueTokens(any(User.class)))
+            .willReturn(new IssuedTokens(refreshToken, generateAccessToken()));
 
         mvc.perform(RestDocumentationRequestBuilders.post("/api/social/login")
                 .header("providerType", providerType)
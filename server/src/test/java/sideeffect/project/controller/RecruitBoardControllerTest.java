@@ -31,12 +31,18 @@ import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 import sideeffect.project.dto.comment.RecruitCommentResponse;
+import sideeffect.project.dto.comment.RecruitCommentScrollResponse;
 import sideeffect.project.dto.like.LikeResult;
 import sideeffect.project.dto.like.RecruitLikeResponse;
 import sideeffect.project.dto.recruit.*;
+import sideeffect.project.dto.stats.BoardStatsResponse;
+import sideeffect.project.dto.stats.DailyStatResponse;
+import sideeffect.project.service.BoardStatsService;
 import sideeffect.project.service.RecruitBoardService;
+import sideeffect.project.service.RecruitCommentService;
 import sideeffect.project.service.RecruitLikeService;
 
+import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.List;
 import java.util.stream.Collectors;
@@ -44,6 +50,7 @@ import java.util.stream.LongStream;
 
 import static com.epages.restdocs.apispec.ResourceDocumentation.resource;
 import static org.mockito.BDDMockito.any;
+import static org.mockito.BDDMockito.anyInt;
 import static org.mockito.BDDMockito.given;
 import static org.mockito.Mockito.doThrow;
 import static org.mockito.Mockito.verify;
@@ -71,6 +78,12 @@ class RecruitBoardControllerTest {
     @MockBean
     private RecruitLikeService recruitLikeService;
 
+    @MockBean
+    private BoardStatsService boardStatsService;
+
+    @MockBean
+    private RecruitCommentService recruitCommentService;
+
     private MockMvc mvc;
     private User user;
     private RecruitBoard recruitBoard;
@@ -119,9 +132,10 @@ class RecruitBoardControllerTest {
             .positions(List.of(new DetailedBoardPositionResponse(1L, PositionType.BACKEND.getValue(), 3, 0, false)))
             .tags(List.of(new BoardStackResponse(StackType.SPRING.getValue(), "url")))
             .comments(RecruitCommentResponse.listOf(generateRecruitComments(1L,10L)))
+            .commentNum(25)
             .build();
 
-        given(recruitBoardService.findRecruitBoard(any(), any())).willReturn(response);
+        given(recruitBoardService.findRecruitBoard(any(), any(), any())).willReturn(response);
 
         mvc.perform(RestDocumentationRequestBuilders.get("/api/recruit-board/{id}", 1L)
                 .contentType(MediaType.APPLICATION_JSON))
@@ -146,6 +160,7 @@ class RecruitBoardControllerTest {
                                 fieldWithPath("writer").description("작성자"),
                                 fieldWithPath("projectName").description("프로젝트명"),
                                 fieldWithPath("views").description("조회수"),
+                                fieldWithPath("uniqueViews").description("순 방문자 수"),
                                 fieldWithPath("title").description("제목"),
                                 fieldWithPath("content").description("내용"),
                                 fieldWithPath("imgSrc").description("게시글 이미지"),
@@ -163,11 +178,52 @@ class RecruitBoardControllerTest {
                                 fieldWithPath("comments[].recruitBoardId").description("게시글 댓글"),
                                 fieldWithPath("comments[].content").description("게시글 댓글"),
                                 fieldWithPath("comments[].writer").description("게시글 댓글"),
-                                fieldWithPath("comments[].writerId").description("게시글 댓글")
+                                fieldWithPath("comments[].writerId").description("게시글 댓글"),
+                                fieldWithPath("commentNum").description("전체 댓글 수")
                             ).build())
                 ));
 
-        verify(recruitBoardService).findRecruitBoard(any(), any());
+        verify(recruitBoardService).findRecruitBoard(any(), any(), any());
+    }
+
+    @DisplayName("모집게시글 댓글을 커서 기반으로 조회한다.")
+    @WithCustomUser
+    @Test
+    void findRecruitBoardComments() throws Exception {
+        RecruitCommentScrollResponse response = RecruitCommentScrollResponse.of(List.of(
+                new RecruitCommentResponse(12L, 1L, "댓글2", "test", 1L),
+                new RecruitCommentResponse(11L, 1L, "댓글1", "test", 1L),
+                new RecruitCommentResponse(10L, 1L, "댓글0", "test", 1L)), 2);
+        given(recruitCommentService.findBoardComments(any(), any(), anyInt())).willReturn(response);
+
+        mvc.perform(RestDocumentationRequestBuilders.get("/api/recruit-board/{id}/comments", 1L)
+                .param("size", "2"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.comments.length()").value(2))
+                .andExpect(jsonPath("$.lastId").value(11L))
+                .andExpect(jsonPath("$.hasNext").value(true))
+                .andDo(MockMvcRestDocumentationWrapper.document("recruit-board/comments",
+                        resource(
+                                ResourceSnippetParameters.builder()
+                                        .tag("모집게시판 API")
+                                        .description("모집게시판 댓글을 스크롤 조회한다.")
+                                        .pathParameters(parameterWithName("id").description("모집 게시글 아이디"))
+                                        .requestParameters(
+                                                parameterWithName("size").description("조회할 댓글 수, 기본값 20").optional(),
+                                                parameterWithName("lastId").description("이전 응답의 lastId, 없으면 첫 페이지").optional()
+                                        )
+                                        .responseFields(
+                                                fieldWithPath("comments[].commentId").type(JsonFieldType.NUMBER).description("댓글 아이디"),
+                                                fieldWithPath("comments[].recruitBoardId").type(JsonFieldType.NUMBER).description("게시글 아이디"),
+                                                fieldWithPath("comments[].content").type(JsonFieldType.STRING).description("댓글 내용"),
+                                                fieldWithPath("comments[].writer").type(JsonFieldType.STRING).description("작성자 닉네임"),
+                                                fieldWithPath("comments[].writerId").type(JsonFieldType.NUMBER).description("작성자 아이디"),
+                                                fieldWithPath("lastId").type(JsonFieldType.NUMBER).description("응답한 댓글 중 마지막 아이디").optional(),
+                                                fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 댓글 여부")
+                                        ).build())
+                ));
+
+        verify(recruitCommentService).findBoardComments(1L, null, 2);
     }
 
     @DisplayName("모집게시글 목록을 조회한다.")
@@ -199,13 +255,16 @@ class RecruitBoardControllerTest {
                                                 parameterWithName("size").description("응답 받을 게시글 수"),
                                                 parameterWithName("keyword").description("검색어(제목 + 내용)").optional(),
                                                 parameterWithName("stackType").description("기술 스택 포함 검색").optional(),
-                                                parameterWithName("lastId").description("이전 응답에서 가장 작은 ID 값, 없으면 첫 페이지").optional()
+                                                parameterWithName("lastId").description("이전 응답에서 가장 작은 ID 값, 없으면 첫 페이지").optional(),
+                                                parameterWithName("orderType").description("정렬 기준(latest, trending), 기본값 latest").optional(),
+                                                parameterWithName("lastScore").description("인기순 조회 시 이전 응답의 lastScore").optional()
                                         )
                                         .responseFields(
                                             fieldWithPath("recruitBoards[].id").type(JsonFieldType.NUMBER).description("게시글 아이디"),
                                             fieldWithPath("recruitBoards[].closed").type(JsonFieldType.BOOLEAN).description("모집 마감 여부"),
                                             fieldWithPath("recruitBoards[].title").type(JsonFieldType.STRING).description("내용"),
                                             fieldWithPath("recruitBoards[].views").type(JsonFieldType.NUMBER).description("조회수"),
+                                            fieldWithPath("recruitBoards[].uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수"),
                                             fieldWithPath("recruitBoards[].like").type(JsonFieldType.BOOLEAN).description("좋아요 여부"),
                                             fieldWithPath("recruitBoards[].likeNum").type(JsonFieldType.NUMBER).description("좋아요 수"),
                                             fieldWithPath("recruitBoards[].commentNum").type(JsonFieldType.NUMBER).description("댓글 수"),
@@ -213,6 +272,7 @@ class RecruitBoardControllerTest {
                                             fieldWithPath("recruitBoards[].positions[]").type(JsonFieldType.ARRAY).description("모집 포지션 종류"),
                                             fieldWithPath("recruitBoards[].tags[]").type(JsonFieldType.ARRAY).description("모집 기술 태그 종류"),
                                             fieldWithPath("lastId").type(JsonFieldType.NUMBER).description("응답한 게시글 중 마지막 아이디"),
+                                            fieldWithPath("lastScore").type(JsonFieldType.NUMBER).description("인기순 조회 시 마지막 게시글의 인기 점수").optional(),
                                             fieldWithPath("hasNext").type(JsonFieldType.BOOLEAN).description("다음 게시글 여부")
                                      ).build())
                 ));
@@ -253,9 +313,10 @@ class RecruitBoardControllerTest {
                                                         fieldWithPath("recruitBoards[].userId").type(JsonFieldType.NUMBER).description("작성자 아이디"),
                                                         fieldWithPath("recruitBoards[].title").type(JsonFieldType.STRING).description("제목"),
                                                         fieldWithPath("recruitBoards[].projectName").type(JsonFieldType.STRING).description("프로젝트 이름"),
-                                                        fieldWithPath("recruitBoards[].content").type(JsonFieldType.STRING).description("내용"),
+                                                        fieldWithPath("recruitBoards[].content").type(JsonFieldType.STRING).description("내용 미리보기 (최대 100자)"),
                                                         fieldWithPath("recruitBoards[].imgSrc").type(JsonFieldType.STRING).description("게시글 이미지"),
                                                         fieldWithPath("recruitBoards[].views").type(JsonFieldType.NUMBER).description("조회수"),
+                                                        fieldWithPath("recruitBoards[].uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수"),
                                                         fieldWithPath("recruitBoards[].like").type(JsonFieldType.BOOLEAN).description("좋아요 여부"),
                                                         fieldWithPath("recruitBoards[].likeNum").type(JsonFieldType.NUMBER).description("좋아요 수"),
                                                         fieldWithPath("recruitBoards[].createdAt").type(JsonFieldType.STRING).description("작성일"),
@@ -271,6 +332,34 @@ class RecruitBoardControllerTest {
         verify(recruitBoardService).findAllRecruitBoard(any());
     }
 
+    @DisplayName("모집 게시판의 일별 통계를 조회한다.")
+    @WithCustomUser
+    @Test
+    void findRecruitBoardStats() throws Exception {
+        LocalDate date = LocalDate.of(2023, 9, 1);
+        BoardStatsResponse response = BoardStatsResponse.of(1L, date, date, List.of(new DailyStatResponse(date, 5, 1, 2, 3)));
+        given(boardStatsService.findRecruitBoardStats(any(), any(), any(), any())).willReturn(response);
+
+        mvc.perform(get("/api/recruit-board/1/stats")
+                        .param("from", "2023-09-01")
+                        .param("to", "2023-09-01"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.boardId").value(1L))
+                .andExpect(jsonPath("$.stats[0].applications").value(3));
+        verify(boardStatsService).findRecruitBoardStats(1L, 1L, date, date);
+    }
+
+    @DisplayName("모집 게시판 작성자가 아니라면 통계를 조회할 수 없다.")
+    @WithCustomUser
+    @Test
+    void findRecruitBoardStatsByNonOwner() throws Exception {
+        given(boardStatsService.findRecruitBoardStats(any(), any(), any(), any()))
+                .willThrow(new AuthException(ErrorCode.RECRUIT_BOARD_UNAUTHORIZED));
+
+        mvc.perform(get("/api/recruit-board/1/stats"))
+                .andExpect(status().isForbidden());
+    }
+
     @DisplayName("모집 게시판을 등록한다.")
     @WithCustomUser
     @Test
@@ -315,6 +404,7 @@ class RecruitBoardControllerTest {
                                                         fieldWithPath("closed").type(JsonFieldType.BOOLEAN).description("모집 마감 여부"),
                                                         fieldWithPath("title").type(JsonFieldType.STRING).description("내용"),
                                                         fieldWithPath("views").type(JsonFieldType.NUMBER).description("조회수"),
+                                                        fieldWithPath("uniqueViews").type(JsonFieldType.NUMBER).description("순 방문자 수"),
                                                         fieldWithPath("like").type(JsonFieldType.BOOLEAN).description("좋아요 여부"),
                                                         fieldWithPath("likeNum").type(JsonFieldType.NUMBER).description("좋아요 수"),
                                                         fieldWithPath("commentNum").type(JsonFieldType.NUMBER).description("댓글 수"),
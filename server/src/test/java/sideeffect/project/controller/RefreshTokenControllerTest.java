@@ -3,6 +3,7 @@ package sideeffect.project.controller;
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.security.test.web.servlet.request.SecurityMockMvcRequestPostProcessors.csrf;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
@@ -77,6 +78,19 @@ class RefreshTokenControllerTest extends ControllerTestDocument {
             .andDo(document("auth/logout", AuthDocsUtils.getLogoutTokenDocs()));
     }
 
+    @DisplayName("모든 기기에서 로그아웃 하면 유저의 refresh token을 모두 삭제한다.")
+    @WithCustomUser
+    @Test
+    void logoutAll() throws Exception {
+        mvc.perform(RestDocumentationRequestBuilders.delete("/api/token/sessions")
+                .with(csrf()))
+            .andExpect(status().isOk())
+            .andDo(print())
+            .andDo(document("auth/logout-all", AuthDocsUtils.getLogoutAllDocs()));
+
+        verify(refreshTokenProvider).deleteAllTokens(any());
+    }
+
     private String generateAccessToken() {
         return Jwts.builder()
             .setSubject(user.getEmail())
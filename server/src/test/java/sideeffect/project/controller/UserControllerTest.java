@@ -26,10 +26,12 @@ import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 import sideeffect.project.dto.user.*;
+import sideeffect.project.security.IssuedTokens;
 import sideeffect.project.security.RefreshTokenProvider;
 import sideeffect.project.service.UserService;
 
 import java.util.List;
+import java.util.Map;
 
 import static com.epages.restdocs.apispec.MockMvcRestDocumentationWrapper.document;
 import static com.epages.restdocs.apispec.ResourceDocumentation.parameterWithName;
@@ -120,9 +122,9 @@ class UserControllerTest {
                 .blogUrl("tistory/tlsrl6427")
                 .githubUrl("github/tlsrl6427")
                 .portfolioUrl("naver.com/tlsrl6427")
-                .likeBoards(LikeBoardResponse.listOf(user))
-                .uploadBoards(UploadBoardResponse.listOf(user))
-                .applyBoards(ApplyBoardResponse.listOf(user))
+                .likeBoards(LikeBoardResponse.listOf(user.getLikes(), user.getRecruitLikes(), Map.of()))
+                .uploadBoards(UploadBoardResponse.listOf(user.getId(), user.getFreeBoards(), user.getRecruitBoards(), Map.of()))
+                .applyBoards(ApplyBoardResponse.listOf(user.getApplicants()))
                 .isOwner(true)
                 .build();
     }
@@ -136,8 +138,7 @@ class UserControllerTest {
                 .build();
 
         doReturn(user).when(userService).join(any());
-        doReturn(refreshToken).when(refreshTokenProvider).createRefreshToken(any());
-        doReturn("accessToken").when(refreshTokenProvider).issueAccessToken(any());
+        doReturn(new IssuedTokens(refreshToken, "accessToken")).when(refreshTokenProvider).issueTokens(any(User.class));
 
         mockMvc.perform(post("/api/user/join")
                         .contentType(MediaType.APPLICATION_JSON)
@@ -176,8 +177,8 @@ class UserControllerTest {
 
         assertAll(
                 () -> verify(userService).join(any()),
-                () -> verify(refreshTokenProvider).createRefreshToken(any()),
-                () -> verify(refreshTokenProvider).issueAccessToken(any())
+                () -> verify(refreshTokenProvider).issueTokens(any(User.class)),
+                () -> verify(refreshTokenProvider, never()).issueAccessToken(any())
         );
     }
 
@@ -223,7 +224,8 @@ class UserControllerTest {
                                                 fieldWithPath("likeBoards").type(JsonFieldType.ARRAY).description("좋아요한 게시글"),
                                                 fieldWithPath("uploadBoards").type(JsonFieldType.ARRAY).description("등록한 게시글"),
                                                 fieldWithPath("applyBoards").type(JsonFieldType.ARRAY).description("지원한 게시글"),
-                                                fieldWithPath("isOwner").type(JsonFieldType.BOOLEAN).description("Owner 여부")
+                                                fieldWithPath("isOwner").type(JsonFieldType.BOOLEAN).description("Owner 여부"),
+                                                fieldWithPath("partial").type(JsonFieldType.BOOLEAN).description("일부 항목 로드 실패 여부")
                                         )
                                         .build()
                         )
@@ -341,6 +343,8 @@ class UserControllerTest {
                                         )
                                         .build()
                         )));
+
+        verify(refreshTokenProvider).deleteAllTokens(1L);
     }
 
     @DisplayName("닉네임 중복여부 검사")
@@ -0,0 +1,73 @@
+package sideeffect.project.domain.notification;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import sideeffect.project.domain.user.User;
+
+class NotificationTest {
+
+    private final User owner = User.builder().id(1L).build();
+
+    @DisplayName("합칠 때 새 발신자만 인원 수에 더한다.")
+    @Test
+    void absorbCountsDistinctActors() {
+        Notification first = register(2L);
+        Notification second = register(3L);
+        second.absorb(first);
+        Notification third = register(2L);
+        third.absorb(second);
+
+        assertAll(
+            () -> assertThat(second.getActorCount()).isEqualTo(2),
+            () -> assertThat(third.getActorCount()).isEqualTo(2),
+            () -> assertThat(third.getActorIds()).isEqualTo("2,3"),
+            () -> assertThat(third.isCollapsed()).isTrue()
+        );
+    }
+
+    @DisplayName("발신자 목록이 없는 이전 알림은 이전 발신자를 참여자로 본다.")
+    @Test
+    void absorbWithoutActorIds() {
+        Notification previous = register(2L);
+        previous.setActorIds(null);
+        Notification notification = register(2L);
+
+        notification.absorb(previous);
+
+        assertThat(notification.getActorCount()).isEqualTo(1);
+    }
+
+    @DisplayName("추적할 수 있는 발신자 수를 넘으면 새 발신자는 목록에 넣지 않고 인원 수만 더한다.")
+    @Test
+    void absorbBeyondTrackedActors() {
+        Notification previous = register(2L);
+        for (long userId = 3; userId < 2 + Notification.MAX_TRACKED_ACTORS; userId++) {
+            Notification next = register(userId);
+            next.absorb(previous);
+            previous = next;
+        }
+        Notification tracked = previous;
+        Notification notification = register(1000L);
+
+        notification.absorb(tracked);
+
+        assertAll(
+            () -> assertThat(tracked.getActorCount()).isEqualTo(Notification.MAX_TRACKED_ACTORS),
+            () -> assertThat(notification.getActorCount()).isEqualTo(Notification.MAX_TRACKED_ACTORS + 1),
+            () -> assertThat(notification.getActorIds()).doesNotContain("1000")
+        );
+    }
+
+    private Notification register(Long sendingUserId) {
+        return Notification.builder()
+            .user(owner)
+            .sendingUser(User.builder().id(sendingUserId).build())
+            .link("/recruits/1")
+            .watched(false)
+            .notificationType(NotificationType.REGISTER)
+            .build();
+    }
+}
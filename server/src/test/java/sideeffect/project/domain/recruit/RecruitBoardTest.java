@@ -6,10 +6,13 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.stack.Stack;
+import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 
-import java.util.ArrayList;
 import java.util.List;
 import java.util.stream.Stream;
 
@@ -41,31 +44,35 @@ class RecruitBoardTest {
     @DisplayName("게시판의 포지션을 변경한다.")
     @Test
     void updateBoardPositions() {
-        List<BoardPosition> boardPositions = new ArrayList<>();
+        List<PositionType> positionTypes = List.of(PositionType.BACKEND, PositionType.FRONTEND, PositionType.DESIGNER);
 
-        for(int i = 0; i < 3; i++) {
-            boardPositions.add(BoardPosition.builder()
-                    .targetNumber(3)
-                    .build());
-        }
+        recruitBoard.updateBoardPositions(positionTypes, positionType -> BoardPosition.builder()
+                .position(Position.builder().positionType(positionType).build())
+                .targetNumber(3)
+                .build());
 
-        recruitBoard.updateBoardPositions(boardPositions);
-
-        assertThat(recruitBoard.getBoardPositions()).hasSize(3);
+        assertAll(
+                () -> assertThat(recruitBoard.getBoardPositions()).hasSize(3),
+                () -> assertThat(recruitBoard.getBoardPositions())
+                        .allMatch(boardPosition -> boardPosition.getRecruitBoard() == recruitBoard)
+        );
     }
 
-    @DisplayName("게시판의 스택을 변경한다.")
+    @DisplayName("게시판의 스택을 변경하면 바뀐 스택만 추가, 삭제된다.")
     @Test
     void updateBoardStacks() {
-        List<BoardStack> boardStacks = new ArrayList<>();
-
-        for(int i = 0; i < 3; i++) {
-            boardStacks.add(BoardStack.builder().build());
-        }
+        recruitBoard.updateBoardStacks(List.of(StackType.SPRING, StackType.JAVA), this::createBoardStack);
+        BoardStack spring = recruitBoard.getBoardStacks().get(0);
 
-        recruitBoard.updateBoardStacks(boardStacks);
+        recruitBoard.updateBoardStacks(List.of(StackType.SPRING, StackType.REACT), this::createBoardStack);
 
-        assertThat(recruitBoard.getBoardStacks()).hasSize(3);
+        assertAll(
+                () -> assertThat(recruitBoard.getBoardStacks()).hasSize(2),
+                () -> assertThat(recruitBoard.getBoardStacks().get(0)).isSameAs(spring),
+                () -> assertThat(recruitBoard.getBoardStacks())
+                        .extracting(boardStack -> boardStack.getStack().getStackType())
+                        .containsExactly(StackType.SPRING, StackType.REACT)
+        );
     }
 
     @DisplayName("모집 게시판을 업데이트 한다.")
@@ -108,6 +115,10 @@ class RecruitBoardTest {
         );
     }
 
+    private BoardStack createBoardStack(StackType stackType) {
+        return BoardStack.builder().stack(Stack.builder().stackType(stackType).build()).build();
+    }
+
     private static Stream<Arguments> generateUpdateBoards() {
         return Stream.of(
                 Arguments.arguments(RecruitBoard.builder().title("변경").build()),
@@ -0,0 +1,152 @@
+package sideeffect.project.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.HashOperations;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+
+@ExtendWith(MockitoExtension.class)
+class BoardLikeRedisRepositoryTest {
+
+    private BoardLikeRedisRepository boardLikeRedisRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    @Mock
+    private HashOperations<String, Object, Object> hashOperations;
+
+    @BeforeEach
+    void setUp() {
+        boardLikeRedisRepository = new BoardLikeRedisRepository(redisTemplate);
+    }
+
+    @DisplayName("좋아요 토글은 좋아요 집합과 대기 hash를 한 스크립트로 갱신한다.")
+    @Test
+    void toggle() {
+        when(redisTemplate.execute(any(RedisScript.class), eq(List.of("likes:free:1", "likes:free:pending")),
+            eq("2"), eq("1:2"))).thenReturn(1L, 0L);
+
+        boolean liked = boardLikeRedisRepository.toggle(BoardType.FREE, 1L, 2L);
+        boolean canceled = boardLikeRedisRepository.toggle(BoardType.FREE, 1L, 2L);
+
+        assertAll(
+            () -> assertThat(liked).isTrue(),
+            () -> assertThat(canceled).isFalse()
+        );
+    }
+
+    @DisplayName("반영 중인 hash가 없으면 대기 hash를 반영 중으로 옮겨 읽는다.")
+    @Test
+    void drainPending() {
+        when(redisTemplate.hasKey("likes:free:flushing")).thenReturn(false);
+        when(redisTemplate.hasKey("likes:free:pending")).thenReturn(true);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("likes:free:flushing")).thenReturn(Map.of("1:2", "1"));
+
+        List<LikeChange> changes = boardLikeRedisRepository.drainPending(BoardType.FREE);
+
+        assertAll(
+            () -> verify(redisTemplate).rename("likes:free:pending", "likes:free:flushing"),
+            () -> assertThat(changes).singleElement().satisfies(change -> {
+                assertThat(change.getBoardId()).isEqualTo(1L);
+                assertThat(change.getUserId()).isEqualTo(2L);
+                assertThat(change.isLiked()).isTrue();
+            })
+        );
+    }
+
+    @DisplayName("이전 반영이 끝나지 않았으면 대기 hash를 옮기지 않고 남은 변경을 다시 읽는다.")
+    @Test
+    void drainPendingResumesFlushing() {
+        when(redisTemplate.hasKey("likes:recruit:flushing")).thenReturn(true);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("likes:recruit:flushing")).thenReturn(Map.of("3:4", "0"));
+
+        List<LikeChange> changes = boardLikeRedisRepository.drainPending(BoardType.RECRUIT);
+
+        assertAll(
+            () -> verify(redisTemplate, never()).rename(anyString(), anyString()),
+            () -> assertThat(changes).singleElement().satisfies(change -> {
+                assertThat(change.getBoardId()).isEqualTo(3L);
+                assertThat(change.getUserId()).isEqualTo(4L);
+                assertThat(change.isLiked()).isFalse();
+            })
+        );
+    }
+
+    @DisplayName("대기 중인 변경이 없으면 아무것도 옮기지 않는다.")
+    @Test
+    void drainEmptyPending() {
+        when(redisTemplate.hasKey("likes:free:flushing")).thenReturn(false);
+        when(redisTemplate.hasKey("likes:free:pending")).thenReturn(false);
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.entries("likes:free:flushing")).thenReturn(Map.of());
+
+        List<LikeChange> changes = boardLikeRedisRepository.drainPending(BoardType.FREE);
+
+        assertAll(
+            () -> verify(redisTemplate, never()).rename(anyString(), anyString()),
+            () -> assertThat(changes).isEmpty()
+        );
+    }
+
+    @DisplayName("반영을 마치면 반영 중 hash를 삭제한다.")
+    @Test
+    void completeFlush() {
+        boardLikeRedisRepository.completeFlush(BoardType.FREE);
+
+        verify(redisTemplate).delete("likes:free:flushing");
+    }
+
+    @DisplayName("회원을 지우면 좋아요 집합과 대기 중인 변경에서 모두 제거한다.")
+    @Test
+    void deleteUser() {
+        Cursor<Map.Entry<Object, Object>> cursor = mockCursor(Map.<Object, Object>entry("3:2", "1"));
+        when(redisTemplate.opsForHash()).thenReturn(hashOperations);
+        when(hashOperations.scan(eq("likes:free:pending"), any())).thenReturn(cursor);
+        when(redisTemplate.executePipelined(any(RedisCallback.class))).thenAnswer(invocation -> {
+            invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+            return List.of();
+        });
+
+        boardLikeRedisRepository.deleteUser(BoardType.FREE, 2L, List.of(1L));
+
+        assertAll(
+            () -> verify(connection).sRem("likes:free:1", "2"),
+            () -> verify(connection).sRem("likes:free:3", "2"),
+            () -> verify(connection).hDel("likes:free:pending", "3:2")
+        );
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<Map.Entry<Object, Object>> mockCursor(Map.Entry<Object, Object> entry) {
+        Cursor<Map.Entry<Object, Object>> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(entry);
+        return cursor;
+    }
+}
@@ -0,0 +1,177 @@
+package sideeffect.project.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.StringRedisConnection;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.SetOperations;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.ZSetOperations;
+import sideeffect.project.domain.token.RefreshToken;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenRepositoryTest {
+
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private StringRedisTemplate redisTemplate;
+
+    @Mock
+    private StringRedisConnection connection;
+
+    @Mock
+    private ValueOperations<String, String> valueOperations;
+
+    @Mock
+    private SetOperations<String, String> setOperations;
+
+    @Mock
+    private ZSetOperations<String, String> zSetOperations;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenRepository = new RefreshTokenRepository(redisTemplate);
+    }
+
+    @DisplayName("refresh token은 rt:{token}에 회원 id를, rt:sessions:{userId}에 만료 시각으로 저장한다.")
+    @Test
+    void save() {
+        givenPipeline(List.of());
+
+        refreshTokenRepository.save(new RefreshToken("token", 1L));
+
+        assertAll(
+            () -> verify(connection).pSetEx("rt:token", RefreshTokenRepository.TIME_TO_LIVE.toMillis(), "1"),
+            () -> verify(connection).zAdd(eq("rt:sessions:1"), anyDouble(), eq("token")),
+            () -> verify(connection).zRemRangeByScore(eq("rt:sessions:1"), eq(Double.NEGATIVE_INFINITY), anyDouble()),
+            () -> verify(connection).pExpire("rt:sessions:1", RefreshTokenRepository.TIME_TO_LIVE.toMillis())
+        );
+    }
+
+    @DisplayName("refresh token을 삭제하면 세션 목록에서도 제거한다.")
+    @Test
+    void deleteById() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(valueOperations.get("rt:token")).thenReturn("1");
+        givenPipeline(List.of());
+
+        refreshTokenRepository.deleteById("token");
+
+        assertAll(
+            () -> verify(connection).del("rt:token"),
+            () -> verify(connection).zRem("rt:sessions:1", "token")
+        );
+    }
+
+    @DisplayName("모든 기기에서 로그아웃하면 세션 목록의 refresh token을 모두 삭제한다.")
+    @Test
+    void deleteAllByUserId() {
+        when(redisTemplate.opsForZSet()).thenReturn(zSetOperations);
+        when(zSetOperations.range("rt:sessions:1", 0, -1)).thenReturn(Set.of("token"));
+        givenPipeline(List.of());
+
+        refreshTokenRepository.deleteAllByUserId(1L);
+
+        assertAll(
+            () -> verify(connection).del("rt:token"),
+            () -> verify(connection).del("rt:sessions:1")
+        );
+    }
+
+    @DisplayName("이전하지 않은 token은 기존 hash에서 찾아 새 구조로 옮긴다.")
+    @Test
+    void findByIdWithLegacyToken() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey("rt:legacy-migrated")).thenReturn(false);
+        givenPipeline(Arrays.asList("1", 1000L), List.of());
+
+        Optional<RefreshToken> refreshToken = refreshTokenRepository.findById("token");
+
+        assertAll(
+            () -> assertThat(refreshToken).map(RefreshToken::getUserId).contains(1L),
+            () -> verify(connection).pSetEx("rt:token", 1000L, "1"),
+            () -> verify(connection).del("refreshToken:token", "refreshToken:token:phantom"),
+            () -> verify(connection).sRem("refreshToken", "token")
+        );
+    }
+
+    @DisplayName("기존 token을 모두 이전하면 완료 표시를 남긴다.")
+    @Test
+    void migrateLegacyTokens() {
+        Cursor<String> cursor = mockCursor("token");
+        when(redisTemplate.hasKey("rt:legacy-migrated")).thenReturn(false);
+        when(redisTemplate.opsForSet()).thenReturn(setOperations);
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(setOperations.scan(eq("refreshToken"), any())).thenReturn(cursor);
+        when(setOperations.size("refreshToken")).thenReturn(0L);
+        givenPipeline(Arrays.asList("1", -1L), List.of());
+
+        int migrated = refreshTokenRepository.migrateLegacyTokens(10);
+
+        assertAll(
+            () -> assertThat(migrated).isEqualTo(1),
+            () -> verify(connection).pSetEx("rt:token", RefreshTokenRepository.TIME_TO_LIVE.toMillis(), "1"),
+            () -> verify(valueOperations).set(eq("rt:legacy-migrated"), anyString()),
+            () -> assertThat(refreshTokenRepository.isLegacyMigrated()).isTrue()
+        );
+    }
+
+    @DisplayName("이전이 끝나면 없는 token을 기존 hash에서 다시 찾지 않는다.")
+    @Test
+    void findByIdAfterMigration() {
+        when(redisTemplate.opsForValue()).thenReturn(valueOperations);
+        when(redisTemplate.hasKey("rt:legacy-migrated")).thenReturn(true);
+
+        Optional<RefreshToken> refreshToken = refreshTokenRepository.findById("token");
+        refreshTokenRepository.deleteById("token");
+
+        assertAll(
+            () -> assertThat(refreshToken).isEmpty(),
+            () -> verify(redisTemplate, never()).executePipelined(any(RedisCallback.class)),
+            () -> verify(connection, never()).hGet(anyString(), anyString()),
+            () -> verify(connection, never()).pSetEx(anyString(), anyLong(), anyString())
+        );
+    }
+
+    @SafeVarargs
+    private void givenPipeline(List<Object>... results) {
+        var stubbing = when(redisTemplate.executePipelined(any(RedisCallback.class)));
+        for (List<Object> result : results) {
+            stubbing = stubbing.thenAnswer(invocation -> {
+                invocation.<RedisCallback<?>>getArgument(0).doInRedis(connection);
+                return result;
+            });
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private Cursor<String> mockCursor(String token) {
+        Cursor<String> cursor = mock(Cursor.class);
+        when(cursor.hasNext()).thenReturn(true, false);
+        when(cursor.next()).thenReturn(token);
+        return cursor;
+    }
+}
@@ -0,0 +1,287 @@
+package sideeffect.project.redis;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Method;
+import java.lang.reflect.Proxy;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.data.annotation.Id;
+import org.springframework.data.annotation.TypeAlias;
+import org.springframework.data.redis.connection.RedisConnection;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisHash;
+import org.springframework.data.redis.core.RedisKeyValueAdapter;
+import org.springframework.data.redis.core.RedisKeyValueTemplate;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.StringRedisTemplate;
+import org.springframework.data.redis.core.mapping.RedisMappingContext;
+import org.springframework.data.redis.repository.support.RedisRepositoryFactory;
+import org.springframework.data.repository.CrudRepository;
+import sideeffect.project.domain.token.RefreshToken;
+
+class RefreshTokenStoreBenchmarkTest {
+
+    private static final Logger log = LoggerFactory.getLogger(RefreshTokenStoreBenchmarkTest.class);
+
+    private final String token = UUID.randomUUID().toString();
+    private CommandRecorder recorder;
+    private LegacyRefreshTokenRepository legacyRepository;
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @BeforeEach
+    void setUp() {
+        recorder = new CommandRecorder();
+        RedisConnectionFactory connectionFactory = mock(RedisConnectionFactory.class);
+        when(connectionFactory.getConnection()).thenAnswer(invocation -> recorder.connection());
+
+        RedisTemplate<byte[], byte[]> legacyTemplate = new RedisTemplate<>();
+        legacyTemplate.setConnectionFactory(connectionFactory);
+        legacyTemplate.afterPropertiesSet();
+        RedisMappingContext mappingContext = new RedisMappingContext();
+        RedisKeyValueTemplate keyValueTemplate = new RedisKeyValueTemplate(
+            new RedisKeyValueAdapter(legacyTemplate, mappingContext), mappingContext);
+        legacyRepository = new RedisRepositoryFactory(keyValueTemplate).getRepository(LegacyRefreshTokenRepository.class);
+
+        refreshTokenRepository = new RefreshTokenRepository(new StringRedisTemplate(connectionFactory));
+    }
+
+    @DisplayName("새 저장 구조는 기존 @RedisHash 저장소보다 적은 왕복과 바이트로 refresh token을 저장한다.")
+    @Test
+    void save() {
+        Usage legacy = recorder.measure(() -> legacyRepository.save(new LegacyRefreshToken(token, 1L)));
+        Usage compact = recorder.measure(() -> refreshTokenRepository.save(new RefreshToken(token, 1L)));
+
+        log.info("save legacy: {}", legacy);
+        log.info("save compact: {}", compact);
+        assertAll(
+            () -> assertThat(compact.commands()).containsExactly("pSetEx", "zAdd", "zRemRangeByScore", "pExpire"),
+            () -> assertThat(compact.roundTrips()).isEqualTo(1),
+            () -> assertThat(compact.roundTrips()).isLessThanOrEqualTo(legacy.roundTrips()),
+            () -> assertThat(compact.keys()).containsExactlyInAnyOrder("rt:" + token, "rt:sessions:1"),
+            () -> assertThat(compact.bytes()).isLessThan(legacy.bytes())
+        );
+    }
+
+    @DisplayName("새 저장 구조의 조회는 기존 저장소보다 많은 명령을 보내지 않는다.")
+    @Test
+    void findById() {
+        recorder.respond("hGetAll", Map.of(
+            bytes("refreshToken"), bytes(token),
+            bytes("userId"), bytes("1")));
+        recorder.respond("get", bytes("1"));
+
+        Usage legacy = recorder.measure(() -> assertThat(legacyRepository.findById(token)).isPresent());
+        Usage compact = recorder.measure(() -> assertThat(refreshTokenRepository.findById(token))
+            .map(RefreshToken::getUserId).contains(1L));
+
+        log.info("findById legacy: {}", legacy);
+        log.info("findById compact: {}", compact);
+        assertAll(
+            () -> assertThat(compact.commands()).containsExactly("get"),
+            () -> assertThat(compact.commands().size()).isLessThanOrEqualTo(legacy.commands().size()),
+            () -> assertThat(compact.roundTrips()).isLessThanOrEqualTo(legacy.roundTrips())
+        );
+    }
+
+    private static byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @TypeAlias("sideeffect.project.domain.token.RefreshToken")
+    @RedisHash(value = "refreshToken", timeToLive = 60 * 60 * 24 * 3)
+    static class LegacyRefreshToken {
+
+        @Id
+        private String refreshToken;
+        private Long userId;
+
+        LegacyRefreshToken() {
+        }
+
+        LegacyRefreshToken(String refreshToken, Long userId) {
+            this.refreshToken = refreshToken;
+            this.userId = userId;
+        }
+    }
+
+    public interface LegacyRefreshTokenRepository extends CrudRepository<LegacyRefreshToken, String> {
+
+    }
+
+    private static class Usage {
+
+        private final List<String> commands;
+        private final Set<String> keys;
+        private final int roundTrips;
+        private final long bytes;
+
+        Usage(List<String> commands, Set<String> keys, int roundTrips, long bytes) {
+            this.commands = commands;
+            this.keys = keys;
+            this.roundTrips = roundTrips;
+            this.bytes = bytes;
+        }
+
+        List<String> commands() {
+            return commands;
+        }
+
+        Set<String> keys() {
+            return keys;
+        }
+
+        int roundTrips() {
+            return roundTrips;
+        }
+
+        long bytes() {
+            return bytes;
+        }
+
+        @Override
+        public String toString() {
+            return commands.size() + " commands " + commands + ", " + roundTrips + " round trips, "
+                + keys.size() + " keys, " + bytes + " bytes sent";
+        }
+    }
+
+    private static class CommandRecorder {
+
+        private final Map<String, Object> responses = new HashMap<>();
+        private final List<String> commands = new ArrayList<>();
+        private final Set<String> keys = new LinkedHashSet<>();
+        private boolean pipelined;
+        private int roundTrips;
+        private long bytes;
+
+        void respond(String command, Object response) {
+            responses.put(command, response);
+        }
+
+        Usage measure(Runnable action) {
+            commands.clear();
+            keys.clear();
+            roundTrips = 0;
+            bytes = 0;
+            action.run();
+            return new Usage(List.copyOf(commands), Set.copyOf(keys), roundTrips, bytes);
+        }
+
+        RedisConnection connection() {
+            return (RedisConnection) proxy(RedisConnection.class);
+        }
+
+        private Object proxy(Class<?> type) {
+            return Proxy.newProxyInstance(getClass().getClassLoader(), new Class<?>[]{type},
+                (proxy, method, args) -> invoke(proxy, method, args));
+        }
+
+        private Object invoke(Object proxy, Method method, Object[] args) {
+            String name = method.getName();
+            switch (name) {
+                case "toString":
+                    return "CommandRecorder";
+                case "hashCode":
+                    return System.identityHashCode(proxy);
+                case "equals":
+                    return proxy == args[0];
+                case "isPipelined":
+                    return pipelined;
+                case "openPipeline":
+                    pipelined = true;
+                    return null;
+                case "closePipeline":
+                    pipelined = false;
+                    roundTrips++;
+                    return new ArrayList<>();
+                case "close":
+                case "isClosed":
+                case "isQueueing":
+                case "getNativeConnection":
+                    return defaultValue(method.getReturnType());
+                default:
+                    break;
+            }
+            if (name.endsWith("Commands") && method.getParameterCount() == 0 && method.getReturnType().isInterface()) {
+                return proxy(method.getReturnType());
+            }
+            record(name, args);
+            return responses.getOrDefault(name, defaultValue(method.getReturnType()));
+        }
+
+        private void record(String command, Object[] args) {
+            commands.add(command);
+            if (!pipelined) {
+                roundTrips++;
+            }
+            if (args == null) {
+                return;
+            }
+            if (args.length > 0 && args[0] instanceof byte[] key) {
+                keys.add(new String(key, StandardCharsets.UTF_8));
+            }
+            for (Object arg : args) {
+                bytes += countBytes(arg);
+            }
+        }
+
+        private long countBytes(Object arg) {
+            if (arg instanceof byte[] value) {
+                return value.length;
+            }
+            if (arg instanceof byte[][] values) {
+                long sum = 0;
+                for (byte[] value : values) {
+                    sum += value.length;
+                }
+                return sum;
+            }
+            if (arg instanceof Map<?, ?> map) {
+                return map.entrySet().stream()
+                    .mapToLong(entry -> countBytes(entry.getKey()) + countBytes(entry.getValue()))
+                    .sum();
+            }
+            return 0;
+        }
+
+        private Object defaultValue(Class<?> type) {
+            if (type == Long.class || type == long.class) {
+                return 0L;
+            }
+            if (type == Integer.class || type == int.class) {
+                return 0;
+            }
+            if (type == Double.class || type == double.class) {
+                return 0.0;
+            }
+            if (type == Boolean.class || type == boolean.class) {
+                return false;
+            }
+            if (List.class.isAssignableFrom(type)) {
+                return new ArrayList<>();
+            }
+            if (Set.class.isAssignableFrom(type)) {
+                return new LinkedHashSet<>();
+            }
+            if (Map.class.isAssignableFrom(type)) {
+                return new HashMap<>();
+            }
+            return null;
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.domain.comment.Comment;
+import sideeffect.project.domain.comment.RecruitComment;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stack.Stack;
+import sideeffect.project.domain.stack.StackType;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.recruit.DetailedRecruitBoardResponse;
+import sideeffect.project.repository.BoardArchiveRepository.ArchiveStep;
+
+@Import(BoardArchiveRepository.class)
+class BoardArchiveRepositoryTest extends TestDataRepository {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    BoardArchiveRepository boardArchiveRepository;
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    private User user;
+    private RecruitBoard closedRecruitBoard;
+    private RecruitBoard openRecruitBoard;
+    private FreeBoard removedFreeBoard;
+
+    @BeforeEach
+    void setUp() {
+        Position position = Position.builder().positionType(PositionType.BACKEND).build();
+        Stack stack = Stack.builder().stackType(StackType.SPRING).build();
+        em.persist(position);
+        em.persist(stack);
+
+        user = User.builder().nickname("tester").email("test@naver.com").build();
+        em.persist(user);
+
+        closedRecruitBoard = createRecruitBoard(position, stack);
+        openRecruitBoard = createRecruitBoard(position, stack);
+        em.persist(RecruitLike.of(user, closedRecruitBoard));
+        RecruitComment recruitComment = RecruitComment.builder().content("모집 댓글").build();
+        recruitComment.associate(user, closedRecruitBoard);
+        em.persist(recruitComment);
+
+        removedFreeBoard = createFreeBoard("removed-url");
+        createFreeBoard("other-url");
+        Comment comment = new Comment("댓글");
+        comment.associate(user, removedFreeBoard);
+        em.persist(comment);
+        em.persist(Like.of(user, removedFreeBoard));
+        em.flush();
+
+        jdbcTemplate.update("UPDATE free_boards SET deleted = true WHERE free_board_id = :id",
+            Map.of("id", removedFreeBoard.getId()));
+        jdbcTemplate.update("UPDATE recruit_board SET closed_at = :closedAt WHERE recruit_board_id = :id",
+            Map.of("closedAt", LocalDateTime.now().minusDays(100), "id", closedRecruitBoard.getId()));
+        em.clear();
+    }
+
+    @DisplayName("삭제된 자랑 게시판은 댓글, 좋아요와 함께 보관 테이블로 옮긴다.")
+    @Test
+    void archiveFreeBoard() {
+        archive(ArchiveTarget.FREE_BOARD, LocalDateTime.now());
+
+        assertAll(
+            () -> assertThat(count("free_boards")).isEqualTo(1),
+            () -> assertThat(count("comments")).isZero(),
+            () -> assertThat(count("likes")).isZero(),
+            () -> assertThat(count("free_boards_archive")).isEqualTo(1),
+            () -> assertThat(count("comments_archive")).isEqualTo(1),
+            () -> assertThat(count("likes_archive")).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("마감된 지 오래된 모집 게시판만 보관 테이블로 옮긴다.")
+    @Test
+    void archiveClosedRecruitBoard() {
+        archive(ArchiveTarget.RECRUIT_BOARD, LocalDateTime.now().minusDays(90));
+
+        assertAll(
+            () -> assertThat(count("recruit_board")).isEqualTo(1),
+            () -> assertThat(count("board_position")).isEqualTo(1),
+            () -> assertThat(count("board_stack")).isEqualTo(1),
+            () -> assertThat(count("recruit_likes")).isZero(),
+            () -> assertThat(count("recruit_comments")).isZero(),
+            () -> assertThat(count("recruit_board_archive")).isEqualTo(1),
+            () -> assertThat(em.find(RecruitBoard.class, openRecruitBoard.getId())).isNotNull()
+        );
+    }
+
+    @DisplayName("보관된 모집 게시판을 상세 조회한다.")
+    @Test
+    void findArchivedRecruitBoard() {
+        archive(ArchiveTarget.RECRUIT_BOARD, LocalDateTime.now().minusDays(90));
+
+        DetailedRecruitBoardResponse response = boardArchiveRepository.findRecruitBoard(closedRecruitBoard.getId()).orElseThrow();
+
+        assertAll(
+            () -> assertThat(response.getWriter()).isEqualTo("tester"),
+            () -> assertThat(response.getPositions()).hasSize(1),
+            () -> assertThat(response.getTags()).hasSize(1),
+            () -> assertThat(response.getLikeNum()).isEqualTo(1),
+            () -> assertThat(boardArchiveRepository.findRecruitComments(closedRecruitBoard.getId(), 20)).hasSize(1),
+            () -> assertThat(boardArchiveRepository.countRecruitComments(closedRecruitBoard.getId())).isEqualTo(1),
+            () -> assertThat(boardArchiveRepository.findRecruitBoard(openRecruitBoard.getId())).isEmpty()
+        );
+    }
+
+    private void archive(ArchiveTarget target, LocalDateTime closedBefore) {
+        List<Long> boardIds = boardArchiveRepository.findArchivableIds(target, closedBefore, 1);
+        while (!boardIds.isEmpty()) {
+            for (ArchiveStep step : boardArchiveRepository.findSteps(target)) {
+                boardArchiveRepository.moveByBoardIds(step, boardIds);
+            }
+            boardIds = boardArchiveRepository.findArchivableIds(target, closedBefore, 1);
+        }
+        em.clear();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Map.of(), Long.class);
+    }
+
+    private RecruitBoard createRecruitBoard(Position position, Stack stack) {
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        recruitBoard.addBoardPosition(BoardPosition.builder().position(position).targetNumber(1).build());
+        recruitBoard.addBoardStack(BoardStack.builder().stack(stack).build());
+        em.persist(recruitBoard);
+        return recruitBoard;
+    }
+
+    private FreeBoard createFreeBoard(String projectUrl) {
+        FreeBoard freeBoard = FreeBoard.builder().title("자랑 게시판").content("자랑합니다.").projectUrl(projectUrl).build();
+        freeBoard.associateUser(user);
+        em.persist(freeBoard);
+        return freeBoard;
+    }
+}
@@ -0,0 +1,196 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import java.util.Map;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.applicant.Applicant;
+import sideeffect.project.domain.comment.Comment;
+import sideeffect.project.domain.comment.RecruitComment;
+import sideeffect.project.domain.deletion.DeletionTarget;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.domain.notification.Notification;
+import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.domain.penalty.Penalty;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stack.Stack;
+import sideeffect.project.domain.stack.StackType;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.repository.BulkDeletionRepository.DeletionStep;
+
+@Import(BulkDeletionRepository.class)
+class BulkDeletionRepositoryTest extends TestDataRepository {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    BulkDeletionRepository bulkDeletionRepository;
+
+    @Autowired
+    NamedParameterJdbcTemplate jdbcTemplate;
+
+    private Position position;
+    private Stack stack;
+    private User owner;
+    private User other;
+    private RecruitBoard ownerRecruitBoard;
+    private RecruitBoard otherRecruitBoard;
+    private FreeBoard otherFreeBoard;
+
+    @BeforeEach
+    void setUp() {
+        position = Position.builder().positionType(PositionType.BACKEND).build();
+        stack = Stack.builder().stackType(StackType.SPRING).build();
+        em.persist(position);
+        em.persist(stack);
+
+        owner = User.builder().nickname("owner").email("owner@naver.com").build();
+        owner.updateUserStack(List.of("spring", "java"));
+        other = User.builder().nickname("other").email("other@naver.com").build();
+        em.persist(owner);
+        em.persist(other);
+
+        ownerRecruitBoard = createRecruitBoard(owner);
+        otherRecruitBoard = createRecruitBoard(other);
+        apply(other, ownerRecruitBoard);
+        apply(owner, otherRecruitBoard);
+        em.persist(RecruitLike.of(other, ownerRecruitBoard));
+        em.persist(RecruitLike.of(owner, otherRecruitBoard));
+        em.persist(Penalty.penalize(other, ownerRecruitBoard));
+        commentOn(other, ownerRecruitBoard);
+        commentOn(owner, otherRecruitBoard);
+
+        FreeBoard ownerFreeBoard = createFreeBoard(owner, "owner-url");
+        FreeBoard removedFreeBoard = createFreeBoard(owner, "removed-url");
+        otherFreeBoard = createFreeBoard(other, "other-url");
+        commentOn(other, ownerFreeBoard);
+        commentOn(owner, otherFreeBoard);
+        em.persist(Like.of(other, ownerFreeBoard));
+        em.persist(Like.of(owner, otherFreeBoard));
+        em.flush();
+        em.remove(removedFreeBoard);
+
+        sendNotification(owner, other);
+        sendNotification(other, owner);
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("회원 삭제는 회원이 만든 게시판과 다른 회원의 게시판에 남긴 흔적까지 모두 지운다.")
+    @Test
+    void deleteUser() {
+        purge(DeletionTarget.USER, owner.getId());
+
+        assertAll(
+            () -> assertThat(count("users")).isEqualTo(1),
+            () -> assertThat(count("user_stack")).isZero(),
+            () -> assertThat(count("recruit_board")).isEqualTo(1),
+            () -> assertThat(count("board_position")).isEqualTo(1),
+            () -> assertThat(count("board_stack")).isEqualTo(1),
+            () -> assertThat(count("applicant")).isZero(),
+            () -> assertThat(count("recruit_likes")).isZero(),
+            () -> assertThat(count("recruit_comments")).isZero(),
+            () -> assertThat(count("penalties")).isZero(),
+            () -> assertThat(count("free_boards")).isEqualTo(1),
+            () -> assertThat(count("comments")).isZero(),
+            () -> assertThat(count("likes")).isZero(),
+            () -> assertThat(count("notifications")).isZero(),
+            () -> assertThat(em.find(FreeBoard.class, otherFreeBoard.getId())).isNotNull()
+        );
+    }
+
+    @DisplayName("모집 게시판 삭제는 해당 게시판에 딸린 행만 지운다.")
+    @Test
+    void deleteRecruitBoard() {
+        purge(DeletionTarget.RECRUIT_BOARD, ownerRecruitBoard.getId());
+
+        assertAll(
+            () -> assertThat(count("users")).isEqualTo(2),
+            () -> assertThat(count("recruit_board")).isEqualTo(1),
+            () -> assertThat(count("board_position")).isEqualTo(1),
+            () -> assertThat(count("board_stack")).isEqualTo(1),
+            () -> assertThat(count("applicant")).isEqualTo(1),
+            () -> assertThat(count("recruit_likes")).isEqualTo(1),
+            () -> assertThat(count("recruit_comments")).isEqualTo(1),
+            () -> assertThat(count("penalties")).isZero(),
+            () -> assertThat(em.find(RecruitBoard.class, otherRecruitBoard.getId())).isNotNull()
+        );
+    }
+
+    private void purge(DeletionTarget target, Long targetId) {
+        for (DeletionStep step : bulkDeletionRepository.findSteps(target)) {
+            List<Long> ids = bulkDeletionRepository.findIds(step, targetId, 1);
+            while (!ids.isEmpty()) {
+                bulkDeletionRepository.deleteByIds(step, ids);
+                ids = bulkDeletionRepository.findIds(step, targetId, 1);
+            }
+        }
+        em.clear();
+    }
+
+    private long count(String table) {
+        return jdbcTemplate.queryForObject("SELECT COUNT(*) FROM " + table, Map.of(), Long.class);
+    }
+
+    private RecruitBoard createRecruitBoard(User user) {
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        recruitBoard.addBoardPosition(BoardPosition.builder().position(position).targetNumber(2).build());
+        recruitBoard.addBoardStack(BoardStack.builder().stack(stack).build());
+        em.persist(recruitBoard);
+        return recruitBoard;
+    }
+
+    private FreeBoard createFreeBoard(User user, String projectUrl) {
+        FreeBoard freeBoard = FreeBoard.builder().title("자랑 게시판").content("자랑합니다.").projectUrl(projectUrl).build();
+        freeBoard.associateUser(user);
+        em.persist(freeBoard);
+        return freeBoard;
+    }
+
+    private void apply(User user, RecruitBoard recruitBoard) {
+        Applicant applicant = Applicant.builder().build();
+        applicant.associate(user, recruitBoard.getBoardPositions().get(0));
+        em.persist(applicant);
+    }
+
+    private void commentOn(User user, RecruitBoard recruitBoard) {
+        RecruitComment comment = RecruitComment.builder().content("댓글").build();
+        comment.associate(user, recruitBoard);
+        em.persist(comment);
+    }
+
+    private void commentOn(User user, FreeBoard freeBoard) {
+        Comment comment = new Comment("댓글");
+        comment.associate(user, freeBoard);
+        em.persist(comment);
+    }
+
+    private void sendNotification(User receiver, User sender) {
+        em.persist(Notification.builder()
+            .title("알림")
+            .contents("님이 댓글을 달았습니다")
+            .link("/projects/1")
+            .watched(false)
+            .user(receiver)
+            .sendingUser(sender)
+            .notificationType(NotificationType.COMMENT)
+            .build());
+    }
+}
@@ -0,0 +1,132 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stack.Stack;
+import sideeffect.project.domain.stack.StackType;
+import sideeffect.project.domain.user.User;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class CollectionSyncBenchmarkTest extends TestDataRepository {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    RecruitBoardRepository recruitBoardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private Statistics statistics;
+    private Map<StackType, Stack> stacks;
+    private Long boardId;
+    private Long userId;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        stacks = Arrays.stream(StackType.values()).limit(5)
+            .map(type -> Stack.builder().stackType(type).build())
+            .collect(Collectors.toMap(Stack::getStackType, Function.identity()));
+        stacks.values().forEach(em::persist);
+
+        User user = User.builder().nickname("writer").email("writer@naver.com").build();
+        user.updateUserStack(List.of("spring", "java", "react"));
+        em.persist(user);
+        userId = user.getId();
+
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        recruitBoard.updateBoardStacks(List.copyOf(stacks.keySet()), this::createBoardStack);
+        em.persist(recruitBoard);
+        boardId = recruitBoard.getId();
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("같은 스택으로 게시판을 수정하면 스택 테이블에 쿼리가 나가지 않는다.")
+    @Test
+    void updateBoardStacksWithoutChange() {
+        RecruitBoard recruitBoard = recruitBoardRepository.findById(boardId).orElseThrow();
+        List<StackType> stackTypes = recruitBoard.getBoardStacks().stream()
+            .map(boardStack -> boardStack.getStack().getStackType())
+            .toList();
+
+        statistics.clear();
+        recruitBoard.updateBoardStacks(stackTypes, this::createBoardStack);
+        em.flush();
+
+        assertAll(
+            () -> assertThat(statistics.getEntityInsertCount()).isZero(),
+            () -> assertThat(statistics.getEntityDeleteCount()).isZero()
+        );
+    }
+
+    @DisplayName("게시판 스택 하나를 바꾸면 하나만 삭제하고 하나만 추가한다.")
+    @Test
+    void updateBoardStacksWithOneChange() {
+        RecruitBoard recruitBoard = recruitBoardRepository.findById(boardId).orElseThrow();
+        List<StackType> stackTypes = recruitBoard.getBoardStacks().stream()
+            .map(boardStack -> boardStack.getStack().getStackType())
+            .skip(1)
+            .collect(Collectors.toList());
+        StackType added = Arrays.stream(StackType.values()).skip(5).findFirst().orElseThrow();
+        Stack addedStack = Stack.builder().stackType(added).build();
+        em.persist(addedStack);
+        stacks.put(added, addedStack);
+        em.flush();
+        stackTypes.add(added);
+
+        statistics.clear();
+        recruitBoard.updateBoardStacks(stackTypes, this::createBoardStack);
+        em.flush();
+        em.clear();
+
+        assertAll(
+            () -> assertThat(statistics.getEntityInsertCount()).isEqualTo(1),
+            () -> assertThat(statistics.getEntityDeleteCount()).isEqualTo(1),
+            () -> assertThat(recruitBoardRepository.findById(boardId).orElseThrow().getBoardStacks())
+                .extracting(boardStack -> boardStack.getStack().getStackType())
+                .containsExactlyInAnyOrderElementsOf(stackTypes)
+        );
+    }
+
+    @DisplayName("회원 스택은 추가, 삭제된 스택만 반영한다.")
+    @Test
+    void updateUserStack() {
+        User user = userRepository.findById(userId).orElseThrow();
+
+        statistics.clear();
+        user.updateUserStack(List.of("spring", "java", "kotlin"));
+        em.flush();
+
+        assertAll(
+            () -> assertThat(statistics.getEntityInsertCount()).isEqualTo(1),
+            () -> assertThat(statistics.getEntityDeleteCount()).isEqualTo(1),
+            () -> assertThat(user.getUserStacks()).extracting("stack")
+                .containsExactlyInAnyOrder("spring", "java", "kotlin")
+        );
+    }
+
+    private BoardStack createBoardStack(StackType stackType) {
+        return BoardStack.builder().stack(stacks.get(stackType)).build();
+    }
+}
@@ -11,6 +11,7 @@ import static sideeffect.project.dto.freeboard.OrderType.VIEWS;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
 import java.util.stream.LongStream;
@@ -19,11 +20,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import sideeffect.project.common.domain.ContentPreview;
+import sideeffect.project.common.jpa.LazyLoadingGuard;
 import sideeffect.project.common.jpa.TestDataRepository;
 import sideeffect.project.domain.comment.Comment;
 import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.like.Like;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.freeboard.DetailedFreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardScrollDto;
 import sideeffect.project.dto.freeboard.OrderType;
@@ -183,6 +187,42 @@ class FreeBoardRepositoryTest extends TestDataRepository {
         return freeBoards;
     }
 
+    @DisplayName("상세 조회는 작성자와 좋아요를 함께 가져와 영속성 컨텍스트 밖에서도 응답을 만든다.")
+    @Test
+    void searchBoardFetchJoin() {
+        FreeBoard freeBoard = FreeBoard.builder().title("상세 게시판").content("내용").build();
+        freeBoard.associateUser(em.find(User.class, user.getId()));
+        repository.save(freeBoard);
+        like(freeBoard, 2);
+
+        DetailedFreeBoardResponse response = LazyLoadingGuard.render(em,
+            () -> repository.searchBoardFetchJoin(freeBoard.getId()).orElseThrow(),
+            board -> DetailedFreeBoardResponse.of(board, List.of(), 0));
+
+        assertAll(
+            () -> assertThat(response.getWriter()).isEqualTo("hello"),
+            () -> assertThat(response.getLikeNum()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("게시판 본문은 미리보기 길이만큼 잘라서 조회한다.")
+    @Test
+    void findPreviews() {
+        FreeBoard longBoard = FreeBoard.builder().title("긴 게시판").content("a".repeat(ContentPreview.LENGTH * 2)).build();
+        FreeBoard shortBoard = FreeBoard.builder().title("짧은 게시판").content("short").build();
+        em.persist(longBoard);
+        em.persist(shortBoard);
+        em.flush();
+        em.clear();
+
+        Map<Long, String> previews = repository.findPreviews(List.of(longBoard.getId(), shortBoard.getId()));
+
+        assertAll(
+            () -> assertThat(previews.get(longBoard.getId())).hasSize(ContentPreview.LENGTH),
+            () -> assertThat(previews.get(shortBoard.getId())).isEqualTo("short")
+        );
+    }
+
     private void increaseFreeBoardsViews(List<FreeBoard> freeBoards, List<Integer> viewsNumbers) {
         for (int i = 0; i < freeBoards.size(); i++) {
             Integer views = viewsNumbers.get(i);
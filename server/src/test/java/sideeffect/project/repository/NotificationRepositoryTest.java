@@ -4,10 +4,14 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
 import sideeffect.project.common.jpa.TestDataRepository;
 import sideeffect.project.domain.notification.Notification;
+import sideeffect.project.domain.notification.NotificationType;
 import sideeffect.project.domain.user.User;
 
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
 
@@ -23,6 +27,9 @@ class NotificationRepositoryTest extends TestDataRepository {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    EntityManager em;
+
     User user;
     @BeforeEach
     void beforeEach(){
@@ -38,7 +45,7 @@ class NotificationRepositoryTest extends TestDataRepository {
 
         List<Notification> notifications = createNotifications(user, 5);
         Long lastId = notificationRepository.saveAll(notifications).get(4).getId();
-        List<Notification> findNotifications = notificationRepository.findByLastId(user, lastId+1);
+        List<Notification> findNotifications = notificationRepository.findByLastId(user, lastId+1, LocalDateTime.now().minusDays(30));
 
         assertAll(
                 () -> assertThat(findNotifications).hasSize(5),
@@ -52,8 +59,8 @@ class NotificationRepositoryTest extends TestDataRepository {
 
         List<Notification> notifications = createNotifications(user, 5);
         notificationRepository.saveAll(notifications);
-        //List<Notification> findNotifications = notificationRepository.findByLastId(user, -1L);
-        List<Notification> findNotifications = notificationRepository.findByLastId(user, null);
+        //List<Notification> findNotifications = notificationRepository.findByLastId(user, -1L, LocalDateTime.now().minusDays(30));
+        List<Notification> findNotifications = notificationRepository.findByLastId(user, null, LocalDateTime.now().minusDays(30));
 
         assertAll(
                 () -> assertThat(findNotifications).hasSize(5),
@@ -61,6 +68,99 @@ class NotificationRepositoryTest extends TestDataRepository {
         );
     }
 
+    @DisplayName("보관 기간이 지난 Notification은 조회하지 않는다")
+    @Test
+    void findByLastIdWithinRetention(){
+
+        List<Notification> notifications = notificationRepository.saveAll(createNotifications(user, 3));
+        em.flush();
+        em.createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.id = :id")
+                .setParameter("createdAt", LocalDateTime.now().minusDays(100))
+                .setParameter("id", notifications.get(0).getId())
+                .executeUpdate();
+        em.clear();
+
+        List<Notification> findNotifications = notificationRepository.findByLastId(user, null, LocalDateTime.now().minusDays(90));
+
+        assertThat(findNotifications).extracting(Notification::getId)
+                .containsExactly(notifications.get(2).getId(), notifications.get(1).getId());
+    }
+
+    @DisplayName("알림 일괄 읽음 처리는 본인의 알림만 변경한다")
+    @Test
+    void watchByIds(){
+        User other = userRepository.save(User.builder().email("other@gmail.com").build());
+        List<Notification> notifications = notificationRepository.saveAll(createNotifications(user, 3));
+        Notification othersNotification = notificationRepository.save(createNotifications(other, 1).get(0));
+
+        int watched = notificationRepository.watchByIds(user.getId(),
+                List.of(notifications.get(0).getId(), notifications.get(1).getId(), othersNotification.getId()));
+
+        assertAll(
+                () -> assertThat(watched).isEqualTo(2),
+                () -> assertThat(notificationRepository.countByUserIdAndWatchedFalse(user.getId())).isEqualTo(1),
+                () -> assertThat(notificationRepository.countByUserIdAndWatchedFalse(other.getId())).isEqualTo(1),
+                () -> assertThat(notificationRepository.watchAll(user.getId())).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("기준 알림 이전의 본인 알림만 일괄 삭제한다")
+    @Test
+    void deleteBefore(){
+        User other = userRepository.save(User.builder().email("other@gmail.com").build());
+        List<Notification> notifications = notificationRepository.saveAll(createNotifications(user, 3));
+        notificationRepository.save(createNotifications(other, 1).get(0));
+
+        int deleted = notificationRepository.deleteBefore(user.getId(), notifications.get(2).getId());
+
+        assertAll(
+                () -> assertThat(deleted).isEqualTo(2),
+                () -> assertThat(notificationRepository.findByUserId(user.getId())).hasSize(1),
+                () -> assertThat(notificationRepository.findByUserId(other.getId())).hasSize(1)
+        );
+    }
+
+    @DisplayName("읽지 않은 같은 대상 알림을 잠그고 가져온다")
+    @Test
+    void findCollapsible(){
+        Notification notification = notificationRepository.save(Notification.builder()
+                .user(user)
+                .sendingUser(user)
+                .contents("님이 백엔드에 지원했습니다")
+                .link("/recruits/1")
+                .watched(false)
+                .notificationType(NotificationType.REGISTER)
+                .build());
+        em.flush();
+        em.clear();
+
+        List<Long> collapsibleIds = notificationRepository.findCollapsibleIds(user.getId(), "REGISTER:/recruits/1",
+                LocalDateTime.now().minusHours(1), PageRequest.of(0, 1));
+        Notification previous = notificationRepository.findByIdForUpdate(notification.getId()).orElseThrow();
+
+        assertAll(
+                () -> assertThat(collapsibleIds).containsExactly(notification.getId()),
+                () -> assertThat(previous.getActorIds()).isEqualTo(String.valueOf(user.getId()))
+        );
+    }
+
+    @DisplayName("이미 읽은 알림은 합치지 않는다")
+    @Test
+    void collapseWatched(){
+        notificationRepository.save(Notification.builder()
+                .user(user)
+                .link("/recruits/1")
+                .watched(true)
+                .notificationType(NotificationType.REGISTER)
+                .build());
+        em.flush();
+
+        List<Long> collapsibleIds = notificationRepository.findCollapsibleIds(user.getId(), "REGISTER:/recruits/1",
+                LocalDateTime.now().minusHours(1), PageRequest.of(0, 1));
+
+        assertThat(collapsibleIds).isEmpty();
+    }
+
     private List<Notification> createNotifications(User user, int n) {
         List<Notification> notifications = new ArrayList<>();
 
@@ -0,0 +1,82 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.notification.Notification;
+import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.domain.user.User;
+
+@Import(NotificationRetentionRepository.class)
+class NotificationRetentionRepositoryTest extends TestDataRepository {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    NotificationRetentionRepository notificationRetentionRepository;
+
+    private Notification expiredComment;
+    private Notification recentComment;
+    private Notification expiredApprove;
+
+    @BeforeEach
+    void setUp() {
+        User user = User.builder().nickname("tester").email("test@naver.com").build();
+        em.persist(user);
+
+        expiredComment = createNotification(user, NotificationType.COMMENT);
+        recentComment = createNotification(user, NotificationType.COMMENT);
+        expiredApprove = createNotification(user, NotificationType.APPROVE);
+        em.flush();
+        em.createQuery("UPDATE Notification n SET n.createdAt = :createdAt WHERE n.id IN :ids")
+            .setParameter("createdAt", LocalDateTime.now().minusDays(40))
+            .setParameter("ids", List.of(expiredComment.getId(), expiredApprove.getId()))
+            .executeUpdate();
+        em.clear();
+    }
+
+    @DisplayName("H2는 파티션을 지원하지 않아 배치 삭제로 정리한다.")
+    @Test
+    void supportsPartitioning() {
+        assertThat(notificationRetentionRepository.supportsPartitioning()).isFalse();
+    }
+
+    @DisplayName("알림 종류별 보관 기간이 지난 알림만 찾아 삭제한다.")
+    @Test
+    void deleteExpired() {
+        LocalDateTime cutoff = LocalDateTime.now().minusDays(30);
+
+        List<Long> expiredIds = notificationRetentionRepository.findExpiredIds(NotificationType.COMMENT, cutoff, 10);
+        int deleted = notificationRetentionRepository.deleteByIds(expiredIds);
+
+        assertAll(
+            () -> assertThat(expiredIds).containsExactly(expiredComment.getId()),
+            () -> assertThat(deleted).isEqualTo(1),
+            () -> assertThat(em.find(Notification.class, recentComment.getId())).isNotNull(),
+            () -> assertThat(em.find(Notification.class, expiredApprove.getId())).isNotNull()
+        );
+    }
+
+    private Notification createNotification(User user, NotificationType type) {
+        Notification notification = Notification.builder()
+            .title("알림")
+            .contents("내용")
+            .watched(false)
+            .user(user)
+            .sendingUser(user)
+            .notificationType(type)
+            .build();
+        em.persist(notification);
+        return notification;
+    }
+}
@@ -0,0 +1,144 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.stream.Stream;
+import javax.sql.DataSource;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.TestPropertySource;
+import sideeffect.project.common.jpa.SqlCaptor;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.applicant.ApplicantStatus;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.domain.user.ProviderType;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.redis.BoardType;
+
+@TestPropertySource(properties = SqlCaptor.PROPERTY)
+class QueryPlanTest extends TestDataRepository {
+
+    private static final String FULL_SCAN = "tableScan";
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private DataSource dataSource;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private CommentRepository commentRepository;
+
+    @Autowired
+    private RecruitCommentRepository recruitCommentRepository;
+
+    @Autowired
+    private RecruitBoardRepository recruitBoardRepository;
+
+    @Autowired
+    private FreeBoardRepository freeBoardRepository;
+
+    @Autowired
+    private ApplicantRepository applicantRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private UserStackRepository userStackRepository;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private RecruitLikeRepository recruitLikeRepository;
+
+    @Autowired
+    private BoardDailyStatRepository boardDailyStatRepository;
+
+    private NotificationRetentionRepository notificationRetentionRepository;
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @BeforeEach
+    void setUp() {
+        notificationRetentionRepository = new NotificationRetentionRepository(SqlCaptor.jdbcTemplate(dataSource));
+        boardArchiveRepository = new BoardArchiveRepository(SqlCaptor.jdbcTemplate(dataSource));
+        SqlCaptor.clear();
+    }
+
+    @DisplayName("자주 실행되는 조회는 전체 테이블을 스캔하지 않는다.")
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotQueries")
+    void hotQueryUsesIndex(String query, HotQuery hotQuery) {
+        hotQuery.run(this);
+        String sql = SqlCaptor.firstSelect();
+
+        String plan = jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+
+        assertThat(plan).as(plan).doesNotContainIgnoringCase(FULL_SCAN);
+    }
+
+    private static Stream<Arguments> hotQueries() {
+        User user = User.builder().id(1L).build();
+        LocalDateTime since = LocalDateTime.now().minusDays(30);
+        LocalDate today = LocalDate.now();
+        return Stream.of(
+            Arguments.of("알림 커서 조회", (HotQuery) test ->
+                test.notificationRepository.findByLastId(user, 100L, since)),
+            Arguments.of("보관 기간이 지난 알림 조회", (HotQuery) test ->
+                test.notificationRetentionRepository.findExpiredIds(NotificationType.COMMENT, since, 1000)),
+            Arguments.of("합칠 알림 조회", (HotQuery) test ->
+                test.notificationRepository.findCollapsibleIds(1L, "REGISTER:/recruits/1", since, PageRequest.of(0, 1))),
+            Arguments.of("읽지 않은 알림 수", (HotQuery) test ->
+                test.notificationRepository.countByUserIdAndWatchedFalse(1L)),
+            Arguments.of("자랑 게시판 댓글 커서 조회", (HotQuery) test ->
+                test.commentRepository.findCommentResponses(1L, 100L, PageRequest.of(0, 20))),
+            Arguments.of("모집 게시판 댓글 커서 조회", (HotQuery) test ->
+                test.recruitCommentRepository.findCommentResponses(1L, 100L, PageRequest.of(0, 20))),
+            Arguments.of("포지션별 지원자 조회", (HotQuery) test ->
+                test.recruitBoardRepository.getApplicantsByPosition(1L, ApplicantStatus.PENDING)),
+            Arguments.of("지원 여부 조회", (HotQuery) test ->
+                test.applicantRepository.isUserApplicantForBoardPosition(1L, 1L)),
+            Arguments.of("이메일과 제공자로 회원 조회", (HotQuery) test ->
+                test.userRepository.findByEmailAndProvider("test@naver.com", ProviderType.GOOGLE)),
+            Arguments.of("닉네임으로 회원 조회", (HotQuery) test ->
+                test.userRepository.findByNickname("tester")),
+            Arguments.of("회원 기술 스택 조회", (HotQuery) test ->
+                test.userStackRepository.findStacks(1L)),
+            Arguments.of("회원 좋아요 조회", (HotQuery) test ->
+                test.likeRepository.searchLike(1L, 1L)),
+            Arguments.of("모집 게시판 좋아요 여부 조회", (HotQuery) test ->
+                test.recruitLikeRepository.findByUserIdAndRecruitBoardId(1L, 1L)),
+            Arguments.of("회원 게시글 수", (HotQuery) test ->
+                test.recruitBoardRepository.countByUserId(1L)),
+            Arguments.of("자랑 게시판 회원 게시글 수", (HotQuery) test ->
+                test.freeBoardRepository.countByUserId(1L)),
+            Arguments.of("게시판 일별 통계 조회", (HotQuery) test ->
+                test.boardDailyStatRepository.findStats(BoardType.FREE, 1L, today.minusDays(30), today)),
+            Arguments.of("최근 일별 통계 조회", (HotQuery) test ->
+                test.boardDailyStatRepository.findRecentStats(BoardType.FREE, today.minusDays(7))),
+            Arguments.of("보관 대상 모집 게시판 조회", (HotQuery) test ->
+                test.boardArchiveRepository.findArchivableIds(ArchiveTarget.RECRUIT_BOARD, since, 100)),
+            Arguments.of("보관된 모집 게시판 댓글 조회", (HotQuery) test ->
+                test.boardArchiveRepository.findRecruitComments(1L, 20))
+        );
+    }
+
+    @FunctionalInterface
+    private interface HotQuery {
+
+        void run(QueryPlanTest test);
+    }
+}
@@ -1,9 +1,13 @@
 package sideeffect.project.repository;
 
+import org.hibernate.Hibernate;
+import org.hibernate.LazyInitializationException;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import sideeffect.project.common.domain.ContentPreview;
+import sideeffect.project.common.jpa.LazyLoadingGuard;
 import sideeffect.project.common.jpa.TestDataRepository;
 import sideeffect.project.domain.applicant.Applicant;
 import sideeffect.project.domain.applicant.ApplicantStatus;
@@ -18,6 +22,7 @@ import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 import sideeffect.project.dto.applicant.ApplicantListResponse;
+import sideeffect.project.dto.recruit.DetailedBoardPositionResponse;
 import sideeffect.project.dto.recruit.RecruitBoardAndLikeDto;
 
 import jakarta.persistence.EntityManager;
@@ -28,6 +33,7 @@ import java.util.stream.Collectors;
 import java.util.stream.LongStream;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 
 class RecruitBoardRepositoryTest extends TestDataRepository {
@@ -93,7 +99,8 @@ class RecruitBoardRepositoryTest extends TestDataRepository {
 
         assertAll(
                 () -> assertThat(findRecruitBoards).hasSize(10),
-                () -> assertThat(returnBoardIds).isEqualTo(answerBoardIds)
+                () -> assertThat(returnBoardIds).isEqualTo(answerBoardIds),
+                () -> assertThat(findRecruitBoards).extracting(RecruitBoardAndLikeDto::getPreview).containsOnlyNulls()
         );
     }
 
@@ -373,6 +380,60 @@ class RecruitBoardRepositoryTest extends TestDataRepository {
         );
     }
 
+    @DisplayName("상세 조회는 작성자와 모집 포지션을 함께 가져온다.")
+    @Test
+    void findDetailById() {
+        Long boardId = saveRecruitBoardWithPosition();
+
+        List<DetailedBoardPositionResponse> positions = LazyLoadingGuard.render(em,
+                () -> recruitBoardRepository.findDetailById(boardId).orElseThrow(),
+                board -> {
+                    assertThat(board.getUser().getNickname()).isEqualTo("tester");
+                    return DetailedBoardPositionResponse.listOf(board.getBoardPositions());
+                });
+
+        assertAll(
+                () -> assertThat(positions).hasSize(1),
+                () -> assertThat(positions.get(0).getPositionType()).isEqualTo(PositionType.BACKEND.getValue())
+        );
+    }
+
+    @DisplayName("조회 계획에 없는 연관관계를 트랜잭션 밖에서 읽으면 예외가 발생한다.")
+    @Test
+    void lazyLoadingOutsideFetchPlan() {
+        Long boardId = saveRecruitBoardWithPosition();
+
+        assertThatThrownBy(() -> LazyLoadingGuard.render(em,
+                () -> recruitBoardRepository.findDetailById(boardId).orElseThrow(),
+                board -> board.getRecruitLikes().size()))
+                .isInstanceOf(LazyInitializationException.class);
+    }
+
+    @DisplayName("목록 조회는 본문 대신 잘린 미리보기만 가져온다.")
+    @Test
+    void findAllWithPreview() {
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("가".repeat(ContentPreview.LENGTH * 3)).build();
+        recruitBoard.associateUser(em.find(User.class, user.getId()));
+        recruitBoardRepository.save(recruitBoard);
+        em.flush();
+        em.clear();
+
+        List<RecruitBoardAndLikeDto> boards = recruitBoardRepository.findByAllWithLike(user.getId());
+
+        assertAll(
+                () -> assertThat(boards).hasSize(1),
+                () -> assertThat(boards.get(0).getPreview()).hasSize(ContentPreview.LENGTH),
+                () -> assertThat(Hibernate.isPropertyInitialized(boards.get(0).getRecruitBoard(), "contents")).isFalse()
+        );
+    }
+
+    private Long saveRecruitBoardWithPosition() {
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("내용").build();
+        recruitBoard.associateUser(em.find(User.class, user.getId()));
+        recruitBoard.addBoardPosition(BoardPosition.builder().position(backEndPosition).targetNumber(3).build());
+        return recruitBoardRepository.save(recruitBoard).getId();
+    }
+
     private Long getLastId() {
         List<RecruitBoard> recruitBoards = recruitBoardRepository.findAll();
         return recruitBoards.get(recruitBoards.size() - 1).getId();
@@ -0,0 +1,121 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stack.Stack;
+import sideeffect.project.domain.stack.StackType;
+import sideeffect.project.domain.user.User;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class SecondLevelCacheBenchmarkTest extends TestDataRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(SecondLevelCacheBenchmarkTest.class);
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    RecruitBoardRepository recruitBoardRepository;
+
+    @Autowired
+    UserRepository userRepository;
+
+    private SessionFactory sessionFactory;
+    private Statistics statistics;
+    private User user;
+    private RecruitBoard recruitBoard;
+
+    @BeforeEach
+    void setUp() {
+        sessionFactory = em.getEntityManagerFactory().unwrap(SessionFactory.class);
+        statistics = sessionFactory.getStatistics();
+        user = User.builder().nickname("writer").email("writer@naver.com").build();
+        em.persist(user);
+        List<Position> positions = Arrays.stream(PositionType.values()).limit(3)
+            .map(type -> Position.builder().positionType(type).build())
+            .toList();
+        positions.forEach(em::persist);
+        List<Stack> stacks = Arrays.stream(StackType.values()).limit(5)
+            .map(type -> Stack.builder().stackType(type).build())
+            .toList();
+        stacks.forEach(em::persist);
+
+        recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        positions.forEach(position ->
+            recruitBoard.addBoardPosition(BoardPosition.builder().position(position).targetNumber(2).build()));
+        stacks.forEach(stack -> recruitBoard.addBoardStack(BoardStack.builder().stack(stack).build()));
+        em.persist(recruitBoard);
+        em.flush();
+        em.clear();
+        sessionFactory.getCache().evictAllRegions();
+    }
+
+    @DisplayName("2차 캐시가 채워진 뒤에는 모집 게시판 상세 조회가 게시판 쿼리 한 번으로 끝난다.")
+    @Test
+    void findRecruitBoardDetail() {
+        long coldStatements = measure("recruit board detail (cold)", this::loadRecruitBoardDetail);
+        long warmStatements = measure("recruit board detail (warm)", this::loadRecruitBoardDetail);
+
+        assertAll(
+            () -> assertThat(warmStatements).isEqualTo(1),
+            () -> assertThat(coldStatements).isGreaterThan(warmStatements),
+            () -> assertThat(statistics.getCacheRegionStatistics("recruit-board-stacks").getHitCount()).isEqualTo(1),
+            () -> assertThat(statistics.getCacheRegionStatistics("user").getHitCount()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("포지션이 바뀌면 게시판의 포지션 컬렉션 캐시가 갱신된다.")
+    @Test
+    void updateBoardPositions() {
+        measure("recruit board detail (cold)", this::loadRecruitBoardDetail);
+
+        RecruitBoard board = recruitBoardRepository.findById(recruitBoard.getId()).orElseThrow();
+        board.updateBoardPositions(List.of(board.getBoardPositions().get(0).getPosition().getPositionType()),
+            positionType -> {
+                throw new IllegalStateException();
+            });
+        em.flush();
+        em.clear();
+
+        RecruitBoard reloaded = recruitBoardRepository.findById(recruitBoard.getId()).orElseThrow();
+        assertThat(reloaded.getBoardPositions()).hasSize(1);
+    }
+
+    private void loadRecruitBoardDetail() {
+        userRepository.findById(user.getId()).orElseThrow();
+        RecruitBoard board = recruitBoardRepository.findDetailById(recruitBoard.getId()).orElseThrow();
+        board.getBoardStacks().forEach(boardStack -> boardStack.getStack().getStackType());
+        em.clear();
+    }
+
+    private long measure(String scenario, Runnable task) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        task.run();
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        long statements = statistics.getPrepareStatementCount();
+        log.info("{}: {} statements, {} second-level cache hits, {} misses, {}us", scenario, statements,
+            statistics.getSecondLevelCacheHitCount(), statistics.getSecondLevelCacheMissCount(), elapsedMicros);
+        return statements;
+    }
+}
@@ -3,9 +3,13 @@ package sideeffect.project.repository;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import sideeffect.project.common.jpa.LazyLoadingGuard;
 import sideeffect.project.common.jpa.TestDataRepository;
 import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.UserEditResponse;
 
 import static org.assertj.core.api.Assertions.assertThat;
 
@@ -14,6 +18,9 @@ class UserRepositoryTest extends TestDataRepository {
     @Autowired
     UserRepository userRepository;
 
+    @Autowired
+    EntityManager em;
+
     @DisplayName("email로 User 조회")
     @Test
     void findByEmail(){
@@ -54,4 +61,20 @@ class UserRepositoryTest extends TestDataRepository {
         User findUser = userRepository.findByEmailAndProvider("test@gmail.com", ProviderType.GOOGLE).orElse(null);
         assertThat(user).isEqualTo(findUser);
     }
+
+    @DisplayName("수정 정보 조회는 기술 스택을 함께 가져온다.")
+    @Test
+    void findWithStacksById() {
+        User user = User.builder()
+                .email("test@gmail.com")
+                .build();
+        user.updateUserStack(List.of("spring"));
+        userRepository.save(user);
+
+        UserEditResponse response = LazyLoadingGuard.render(em,
+                () -> userRepository.findWithStacksById(user.getId()).orElseThrow(),
+                UserEditResponse::of);
+
+        assertThat(response.getTags()).containsExactly("spring");
+    }
 }
@@ -0,0 +1,127 @@
+package sideeffect.project.repository;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import jakarta.persistence.EntityManager;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.IntStream;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.context.TestPropertySource;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.notification.Notification;
+import sideeffect.project.domain.notification.NotificationType;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.stack.Stack;
+import sideeffect.project.domain.stack.StackType;
+import sideeffect.project.domain.user.User;
+
+@TestPropertySource(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class WriteBatchingBenchmarkTest extends TestDataRepository {
+
+    private static final Logger log = LoggerFactory.getLogger(WriteBatchingBenchmarkTest.class);
+    private static final int NOTIFICATION_COUNT = 100;
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    RecruitBoardRepository recruitBoardRepository;
+
+    @Autowired
+    NotificationRepository notificationRepository;
+
+    private Statistics statistics;
+    private User user;
+    private List<Position> positions;
+    private List<Stack> stacks;
+
+    @BeforeEach
+    void setUp() {
+        statistics = em.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        user = User.builder().nickname("writer").email("writer@naver.com").build();
+        em.persist(user);
+        positions = Arrays.stream(PositionType.values()).limit(5)
+            .map(type -> Position.builder().positionType(type).build())
+            .toList();
+        positions.forEach(em::persist);
+        stacks = Arrays.stream(StackType.values()).limit(8)
+            .map(type -> Stack.builder().stackType(type).build())
+            .toList();
+        stacks.forEach(em::persist);
+        em.flush();
+    }
+
+    @DisplayName("포지션 5개, 스택 8개를 가진 모집 게시판 등록은 테이블당 한 번의 배치로 저장된다.")
+    @Test
+    void registerRecruitBoard() {
+        recruitBoardRepository.save(createRecruitBoard());
+        em.flush();
+
+        long statements = measure("recruit board registration", () -> {
+            recruitBoardRepository.save(createRecruitBoard());
+            em.flush();
+        });
+
+        assertThat(statements).isEqualTo(3);
+    }
+
+    @DisplayName("알림 100건 생성은 배치 크기 단위로 묶여 저장된다.")
+    @Test
+    void createNotifications() {
+        notificationRepository.save(createNotification(0));
+        em.flush();
+
+        long statements = measure("bulk notification creation", () -> {
+            notificationRepository.saveAll(IntStream.rangeClosed(1, NOTIFICATION_COUNT)
+                .mapToObj(this::createNotification)
+                .toList());
+            em.flush();
+        });
+
+        assertThat(statements).isLessThanOrEqualTo(4);
+    }
+
+    private long measure(String scenario, Runnable task) {
+        statistics.clear();
+        long startedAt = System.nanoTime();
+        task.run();
+        long elapsedMicros = (System.nanoTime() - startedAt) / 1_000;
+        long statements = statistics.getPrepareStatementCount();
+        log.info("{}: {} statements, {} entities inserted, {}us", scenario, statements,
+            statistics.getEntityInsertCount(), elapsedMicros);
+        return statements;
+    }
+
+    private RecruitBoard createRecruitBoard() {
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        positions.forEach(position ->
+            recruitBoard.addBoardPosition(BoardPosition.builder().position(position).targetNumber(2).build()));
+        stacks.forEach(stack -> recruitBoard.addBoardStack(BoardStack.builder().stack(stack).build()));
+        return recruitBoard;
+    }
+
+    private Notification createNotification(int index) {
+        return Notification.builder()
+            .title("알림" + index)
+            .contents("님이 댓글을 달았습니다")
+            .link("/projects/" + index)
+            .watched(false)
+            .user(user)
+            .sendingUser(user)
+            .notificationType(NotificationType.COMMENT)
+            .build();
+    }
+}
@@ -0,0 +1,44 @@
+package sideeffect.project.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+class BloomFilterTest {
+
+    @DisplayName("추가한 값은 항상 포함된 것으로 판단한다.")
+    @Test
+    void mightContain() {
+        BloomFilter bloomFilter = new BloomFilter(1000, 0.01);
+        List<String> values = new ArrayList<>();
+        for (int i = 0; i < 1000; i++) {
+            values.add(UUID.randomUUID().toString());
+        }
+
+        values.forEach(bloomFilter::put);
+
+        assertThat(values).allMatch(bloomFilter::mightContain);
+    }
+
+    @DisplayName("추가하지 않은 값의 오탐률은 설정한 수준에 가깝다.")
+    @Test
+    void falsePositiveRate() {
+        BloomFilter bloomFilter = new BloomFilter(10000, 0.01);
+        for (int i = 0; i < 10000; i++) {
+            bloomFilter.put(UUID.randomUUID().toString());
+        }
+
+        int falsePositives = 0;
+        for (int i = 0; i < 10000; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        assertThat(falsePositives).isLessThan(300);
+    }
+}
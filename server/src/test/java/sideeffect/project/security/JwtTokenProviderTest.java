@@ -4,19 +4,25 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.longThat;
+import static org.mockito.Mockito.mock;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
+import java.time.Duration;
 import java.util.Date;
 import java.util.UUID;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.test.util.ReflectionTestUtils;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.ErrorCode;
@@ -24,6 +30,7 @@ import sideeffect.project.config.security.AuthProperties;
 import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.redis.RevokedTokenRedisRepository;
 
 @ExtendWith(MockitoExtension.class)
 class JwtTokenProviderTest {
@@ -36,12 +43,15 @@ class JwtTokenProviderTest {
     @Mock
     private UserDetailsServiceImpl userDetailsService;
 
+    @Mock
+    private TokenRevocationService tokenRevocationService;
+
     private User user;
     private String secretKey;
 
     @BeforeEach
     void setUp() {
-        tokenProvider = new JwtTokenProvider(authProperties, userDetailsService);
+        tokenProvider = new JwtTokenProvider(authProperties, userDetailsService, tokenRevocationService);
 
         secretKey = UUID.randomUUID().toString();
 
@@ -85,6 +95,87 @@ class JwtTokenProviderTest {
         );
     }
 
+    @DisplayName("폐기된 엑세스 토큰으로는 인증할 수 없다.")
+    @Test
+    void getAuthenticationWithRevokedToken() {
+        when(authProperties.getSecret()).thenReturn(secretKey);
+        String token = tokenProvider.createAccessToken(user);
+        when(tokenRevocationService.isRevoked(any())).thenReturn(true);
+
+        assertThatThrownBy(() -> tokenProvider.getAuthentication(token))
+            .isInstanceOf(AuthException.class)
+            .hasMessage(ErrorCode.ACCESS_TOKEN_REVOKED.getMessage());
+    }
+
+    @DisplayName("모든 기기에서 로그아웃한 뒤에는 그 전에 발급된 엑세스 토큰으로 인증할 수 없다.")
+    @Test
+    void getAuthenticationIssuedBeforeUserRevocation() {
+        when(authProperties.getSecret()).thenReturn(secretKey);
+        String token = tokenProvider.createAccessToken(user);
+        when(userDetailsService.loadUserByUsernameAndProviderType(any(), any()))
+            .thenReturn(UserDetailsImpl.of(user));
+        when(tokenRevocationService.isRevokedBefore(eq(user.getId()), any())).thenReturn(true);
+
+        assertThatThrownBy(() -> tokenProvider.getAuthentication(token))
+            .isInstanceOf(AuthException.class)
+            .hasMessage(ErrorCode.ACCESS_TOKEN_REVOKED.getMessage());
+    }
+
+    @DisplayName("유저의 엑세스 토큰을 모두 폐기하면 밀리초 단위 폐기 시각을 토큰 유효 시간만큼 기록한다.")
+    @Test
+    void revokeAllAccessTokens() {
+        long before = System.currentTimeMillis();
+
+        tokenProvider.revokeAllAccessTokens(1L);
+
+        verify(tokenRevocationService).revokeUser(eq(1L),
+            longThat(revokedAt -> revokedAt >= before && revokedAt <= System.currentTimeMillis()),
+            eq(Duration.ofMinutes(30)));
+    }
+
+    @DisplayName("모든 기기에서 로그아웃한 시각과 같은 초에 발급된 엑세스 토큰도 폐기되고, 이후 재발급한 토큰은 유효하다.")
+    @Test
+    void revokeAccessTokensIssuedInSameSecond() {
+        RevokedTokenRedisRepository revokedTokenRedisRepository = mock(RevokedTokenRedisRepository.class);
+        TokenRevocationService revocationService = new TokenRevocationService(revokedTokenRedisRepository,
+            mock(RedisMessageListenerContainer.class));
+        JwtTokenProvider provider = new JwtTokenProvider(authProperties, userDetailsService, revocationService);
+        User savedUser = User.builder()
+            .id(1L)
+            .email("test@naver.com")
+            .providerType(ProviderType.DEFAULT)
+            .userRoleType(UserRoleType.ROLE_USER)
+            .build();
+        when(authProperties.getSecret()).thenReturn(secretKey);
+        when(userDetailsService.loadUserByUsernameAndProviderType(any(), any()))
+            .thenReturn(UserDetailsImpl.of(savedUser));
+
+        provider.revokeAllAccessTokens(1L);
+        ArgumentCaptor<Long> revokedAt = ArgumentCaptor.forClass(Long.class);
+        verify(revokedTokenRedisRepository).revokeUser(eq(1L), revokedAt.capture(), any());
+        when(revokedTokenRedisRepository.findUserRevokedAt(1L)).thenReturn(revokedAt.getValue());
+        String sameSecondToken = createToken(savedUser, revokedAt.getValue() / 1000 * 1000);
+        String reissuedToken = provider.createAccessToken(savedUser);
+
+        assertAll(
+            () -> assertThatThrownBy(() -> provider.getAuthentication(sameSecondToken))
+                .isInstanceOf(AuthException.class)
+                .hasMessage(ErrorCode.ACCESS_TOKEN_REVOKED.getMessage()),
+            () -> assertThat(provider.getAuthentication(reissuedToken)).isNotNull()
+        );
+    }
+
+    @DisplayName("엑세스 토큰을 폐기하면 남은 유효 시간만큼 기록한다.")
+    @Test
+    void revokeAccessToken() {
+        when(authProperties.getSecret()).thenReturn(secretKey);
+        String token = tokenProvider.createAccessToken(user);
+
+        tokenProvider.revokeAccessToken(token);
+
+        verify(tokenRevocationService).revoke(any(), any());
+    }
+
     @DisplayName("만료된 토큰을 받으면 예외가 발생한다.")
     @Test
     void inputExpiredAccessToken() {
@@ -137,6 +228,18 @@ class JwtTokenProviderTest {
     }
 
 
+    private String createToken(User user, long issuedAt) {
+        return Jwts.builder()
+            .setId(UUID.randomUUID().toString())
+            .setSubject(user.getEmail())
+            .claim("auth", user.getUserRoleType())
+            .claim("providerType", user.getProviderType())
+            .setIssuedAt(new Date(issuedAt))
+            .setExpiration(new Date(issuedAt + 1000 * 60 * 30))
+            .signWith(SignatureAlgorithm.HS256, secretKey)
+            .compact();
+    }
+
     private String createToken(Long time) {
         return Jwts.builder()
             .setSubject(user.getEmail())
@@ -3,6 +3,7 @@ package sideeffect.project.security;
 import static org.junit.jupiter.api.Assertions.*;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -55,13 +56,23 @@ class RefreshTokenProviderTest {
         );
     }
 
-    @DisplayName("refresh token을 발급한다.")
+    @DisplayName("유저 정보로 refresh token과 엑세스 토큰을 한 번에 발급한다.")
     @Test
-    void createRefreshToken() {
+    void issueTokens() {
         Authentication authentication = createAuthentication();
-        refreshTokenProvider.createRefreshToken(authentication);
+        User user = ((UserDetailsImpl) authentication.getPrincipal()).getUser();
+        when(refreshTokenRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(jwtTokenProvider.createAccessToken(user)).thenReturn("accessToken");
 
-        verify(refreshTokenRepository).save(any());
+        IssuedTokens tokens = refreshTokenProvider.issueTokens(authentication);
+
+        assertAll(
+            () -> assertEquals("accessToken", tokens.getAccessToken()),
+            () -> assertNotNull(tokens.getRefreshToken().getRefreshToken()),
+            () -> verify(refreshTokenRepository).save(any()),
+            () -> verify(refreshTokenRepository, never()).findById(any()),
+            () -> verify(jwtTokenProvider, never()).createAccessToken(anyLong())
+        );
     }
 
     @DisplayName("refresh token을 삭제한다.")
@@ -74,6 +85,17 @@ class RefreshTokenProviderTest {
         verify(refreshTokenRepository).deleteById(any());
     }
 
+    @DisplayName("유저의 refresh token을 모두 삭제하고 이미 발급한 엑세스 토큰도 폐기한다.")
+    @Test
+    void deleteAllTokens() {
+        refreshTokenProvider.deleteAllTokens(1L);
+
+        assertAll(
+            () -> verify(refreshTokenRepository).deleteAllByUserId(1L),
+            () -> verify(jwtTokenProvider).revokeAllAccessTokens(1L)
+        );
+    }
+
     private Authentication createAuthentication() {
         User user = User.builder().email(EMAIL)
             .password("12345")
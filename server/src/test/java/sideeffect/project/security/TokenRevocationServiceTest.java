@@ -0,0 +1,99 @@
+package sideeffect.project.security;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.Date;
+import java.util.Set;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import sideeffect.project.redis.RevokedTokenRedisRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TokenRevocationServiceTest {
+
+    @InjectMocks
+    private TokenRevocationService tokenRevocationService;
+
+    @Mock
+    private RevokedTokenRedisRepository revokedTokenRedisRepository;
+
+    @Mock
+    private RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @DisplayName("필터에 없는 토큰은 redis를 조회하지 않는다.")
+    @Test
+    void isRevokedWithoutFilterHit() {
+        boolean revoked = tokenRevocationService.isRevoked("token-id");
+
+        assertAll(
+            () -> assertThat(revoked).isFalse(),
+            () -> verify(revokedTokenRedisRepository, never()).isRevoked(any())
+        );
+    }
+
+    @DisplayName("폐기한 토큰은 redis에서 확인 후 폐기된 것으로 판단한다.")
+    @Test
+    void revoke() {
+        when(revokedTokenRedisRepository.isRevoked("token-id")).thenReturn(true);
+
+        tokenRevocationService.revoke("token-id", Duration.ofMinutes(30));
+
+        assertAll(
+            () -> assertThat(tokenRevocationService.isRevoked("token-id")).isTrue(),
+            () -> verify(revokedTokenRedisRepository).revoke("token-id", Duration.ofMinutes(30))
+        );
+    }
+
+    @DisplayName("유저 단위로 폐기하면 폐기 시각과 같은 초까지 발급된 토큰을 폐기된 것으로 판단한다.")
+    @Test
+    void revokeUser() {
+        when(revokedTokenRedisRepository.findUserRevokedAt(1L)).thenReturn(2500L);
+
+        tokenRevocationService.revokeUser(1L, 2500L, Duration.ofMinutes(30));
+
+        assertAll(
+            () -> assertThat(tokenRevocationService.isRevokedBefore(1L, new Date(1000L))).isTrue(),
+            () -> assertThat(tokenRevocationService.isRevokedBefore(1L, new Date(2000L))).isTrue(),
+            () -> assertThat(tokenRevocationService.isRevokedBefore(1L, new Date(3000L))).isFalse(),
+            () -> assertThat(tokenRevocationService.isRevokedBefore(2L, new Date(1000L))).isFalse(),
+            () -> assertThat(tokenRevocationService.findRevokedAt(1L)).isEqualTo(2500L),
+            () -> verify(revokedTokenRedisRepository).revokeUser(1L, 2500L, Duration.ofMinutes(30))
+        );
+    }
+
+    @DisplayName("다른 서버에서 폐기된 토큰을 메시지로 받아 필터에 추가한다.")
+    @Test
+    void onMessage() {
+        when(revokedTokenRedisRepository.isRevoked("token-id")).thenReturn(true);
+
+        tokenRevocationService.onMessage(new DefaultMessage(
+            RevokedTokenRedisRepository.CHANNEL.getBytes(StandardCharsets.UTF_8),
+            "token-id".getBytes(StandardCharsets.UTF_8)), null);
+
+        assertThat(tokenRevocationService.isRevoked("token-id")).isTrue();
+    }
+
+    @DisplayName("필터를 다시 만들면 redis에 남아있는 폐기 토큰으로 채운다.")
+    @Test
+    void rebuild() {
+        when(revokedTokenRedisRepository.findActiveTokenIds()).thenReturn(Set.of("token-id"));
+        when(revokedTokenRedisRepository.isRevoked("token-id")).thenReturn(true);
+
+        tokenRevocationService.rebuild();
+
+        assertThat(tokenRevocationService.isRevoked("token-id")).isTrue();
+    }
+}
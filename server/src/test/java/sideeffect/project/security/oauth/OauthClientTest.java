@@ -0,0 +1,144 @@
+package sideeffect.project.security.oauth;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import com.fasterxml.jackson.databind.DeserializationFeature;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.atomic.AtomicInteger;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import sideeffect.project.common.exception.BaseException;
+import sideeffect.project.common.exception.ErrorCode;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.dto.user.ResponseUserInfo;
+
+class OauthClientTest {
+
+    private static final String VALID_TOKEN = "valid-token";
+
+    private HttpServer server;
+    private SimpleMeterRegistry meterRegistry;
+    private AtomicInteger requestCount;
+    private KakaoOAuth kakaoOAuth;
+    private GoogleOAuth googleOAuth;
+
+    @BeforeEach
+    void setUp() throws IOException {
+        requestCount = new AtomicInteger();
+        server = HttpServer.create(new InetSocketAddress("localhost", 0), 0);
+        server.createContext("/kakao", exchange -> respond(exchange,
+            "{\"id\":\"1\",\"kakao_account\":{\"has_email\":true,\"email\":\"kakao@kakao.com\"},\"unknown\":1}"));
+        server.createContext("/google", exchange -> respond(exchange,
+            "{\"id\":\"1\",\"email\":\"google@gmail.com\",\"verified_email\":true}"));
+        server.createContext("/slow", exchange -> {
+            sleep(1000);
+            respond(exchange, "{}");
+        });
+        server.start();
+
+        meterRegistry = new SimpleMeterRegistry();
+        ObjectMapper objectMapper = new ObjectMapper()
+            .configure(DeserializationFeature.FAIL_ON_UNKNOWN_PROPERTIES, false);
+        OauthClient oauthClient = new OauthClient(objectMapper, meterRegistry, 500, 300, 60000);
+        kakaoOAuth = new KakaoOAuth(oauthClient, url("/kakao"));
+        googleOAuth = new GoogleOAuth(oauthClient, url("/google"));
+    }
+
+    @AfterEach
+    void tearDown() {
+        server.stop(0);
+    }
+
+    @DisplayName("소셜 서버에서 유저 이메일을 조회한다.")
+    @Test
+    void getUserInfo() {
+        ResponseUserInfo kakaoUser = kakaoOAuth.getUserInfo(VALID_TOKEN);
+        ResponseUserInfo googleUser = googleOAuth.getUserInfo(VALID_TOKEN);
+
+        assertAll(
+            () -> assertThat(kakaoUser.getEmail()).isEqualTo("kakao@kakao.com"),
+            () -> assertThat(googleUser.getEmail()).isEqualTo("google@gmail.com"),
+            () -> assertThat(meterRegistry.timer("oauth.client.requests", "provider", "kakao", "outcome", "success")
+                .count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("같은 토큰은 캐시된 결과를 사용한다.")
+    @Test
+    void getUserInfoFromCache() {
+        googleOAuth.getUserInfo(VALID_TOKEN);
+        googleOAuth.getUserInfo(VALID_TOKEN);
+
+        assertAll(
+            () -> assertThat(requestCount.get()).isEqualTo(1),
+            () -> assertThat(meterRegistry.counter("oauth.client.lookups", "provider", "google", "cache", "hit")
+                .count()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("소셜 서버가 토큰을 거절하면 예외가 발생하고 캐시하지 않는다.")
+    @Test
+    void getUserInfoWithRejectedToken() {
+        assertThatThrownBy(() -> googleOAuth.getUserInfo("expired-token"))
+            .isInstanceOf(InvalidValueException.class);
+        assertThatThrownBy(() -> googleOAuth.getUserInfo("expired-token"))
+            .isInstanceOf(InvalidValueException.class);
+
+        assertAll(
+            () -> assertThat(requestCount.get()).isEqualTo(2),
+            () -> assertThat(meterRegistry.timer("oauth.client.requests", "provider", "google", "outcome", "rejected")
+                .count()).isEqualTo(2)
+        );
+    }
+
+    @DisplayName("소셜 서버 응답이 제한 시간을 넘으면 예외가 발생한다.")
+    @Test
+    void getUserInfoWithTimeout() {
+        GoogleOAuth slowOAuth = new GoogleOAuth(
+            new OauthClient(new ObjectMapper(), meterRegistry, 500, 300, 60000), url("/slow"));
+
+        assertThatThrownBy(() -> slowOAuth.getUserInfo(VALID_TOKEN))
+            .isInstanceOf(BaseException.class)
+            .hasMessage(ErrorCode.USER_SOCIAL_SERVER_UNAVAILABLE.getMessage());
+    }
+
+    private void respond(HttpExchange exchange, String body) throws IOException {
+        requestCount.incrementAndGet();
+        String authorization = exchange.getRequestHeaders().getFirst(HttpHeaders.AUTHORIZATION);
+        if (!("Bearer " + VALID_TOKEN).equals(authorization)) {
+            exchange.sendResponseHeaders(401, -1);
+            exchange.close();
+            return;
+        }
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add(HttpHeaders.CONTENT_TYPE, "application/json");
+        exchange.sendResponseHeaders(200, bytes.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(bytes);
+        }
+    }
+
+    private void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private String url(String path) {
+        return "http://localhost:" + server.getAddress().getPort() + path;
+    }
+}
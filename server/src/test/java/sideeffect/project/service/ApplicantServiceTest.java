@@ -9,7 +9,9 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.cache.BoardDetailCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.common.exception.InvalidValueException;
@@ -21,11 +23,13 @@ import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 import sideeffect.project.dto.applicant.ApplicantListResponse;
 import sideeffect.project.dto.applicant.ApplicantPositionResponse;
+import sideeffect.project.dto.applicant.ApplicantResponse;
 import sideeffect.project.dto.applicant.ApplicantReleaseRequest;
 import sideeffect.project.dto.applicant.ApplicantUpdateRequest;
 import sideeffect.project.repository.ApplicantRepository;
 import sideeffect.project.repository.BoardPositionRepository;
 import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.UserRepository;
 
 import java.util.ArrayList;
 import java.util.List;
@@ -46,6 +50,9 @@ class ApplicantServiceTest {
     @InjectMocks
     private ApplicantService applicantService;
 
+    @Spy
+    private BoardDetailCache boardDetailCache = new BoardDetailCache();
+
     @Mock
     private RecruitBoardRepository recruitBoardRepository;
 
@@ -61,6 +68,9 @@ class ApplicantServiceTest {
     @Mock
     private MailService mailService;
 
+    @Mock
+    private UserRepository userRepository;
+
     private User user;
     private RecruitBoard recruitBoard;
     private BoardPosition boardPosition;
@@ -105,10 +115,12 @@ class ApplicantServiceTest {
         when(recruitBoardRepository.existsApplicantByRecruitBoard(any(), any())).thenReturn(false);
 //        when(penaltyService.isPenalized(any(), any())).thenReturn(false);
         when(applicantRepository.save(any())).thenReturn(applicant);
+        when(userRepository.getReferenceById(any())).thenReturn(otherUser);
 
-        applicantService.register(otherUser, boardPosition.getId());
+        ApplicantResponse response = applicantService.register(otherUser, boardPosition.getId());
 
         assertAll(
+                () -> assertThat(response.getRecruitBoardId()).isEqualTo(recruitBoard.getId()),
                 () -> verify(boardPositionRepository).findByIdWithRecruitBoard(any()),
 //                () -> verify(penaltyService).isPenalized(any(),any()),
                 () -> verify(recruitBoardRepository).existsApplicantByRecruitBoard(any(), any()),
@@ -0,0 +1,104 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.time.LocalDateTime;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.SecondLevelCacheInvalidator;
+import sideeffect.project.common.cache.UserSummaryCache;
+import sideeffect.project.domain.archive.ArchiveTarget;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.repository.BoardArchiveRepository;
+import sideeffect.project.repository.BoardArchiveRepository.ArchiveStep;
+
+@ExtendWith(MockitoExtension.class)
+class BoardArchiveServiceTest {
+
+    private BoardArchiveService boardArchiveService;
+
+    @Mock
+    private BoardArchiveRepository boardArchiveRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
+    @Mock
+    private BoardLikeRedisRepository boardLikeRedisRepository;
+
+    @Mock
+    private BoardViewRedisRepository boardViewRedisRepository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @BeforeEach
+    void setUp() {
+        boardArchiveService = new BoardArchiveService(boardArchiveRepository, transactionTemplate,
+            secondLevelCacheInvalidator, boardDetailCache, boardLikeRedisRepository, boardViewRedisRepository,
+            trendingService, userSummaryCache, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("모집 게시판을 보관하면 2차 캐시와 레디스의 게시판 상태를 함께 정리한다.")
+    @Test
+    void archiveRecruitBoard() {
+        List<ArchiveStep> steps = new BoardArchiveRepository(null).findSteps(ArchiveTarget.RECRUIT_BOARD);
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(boardArchiveRepository.findArchivableIds(eq(ArchiveTarget.RECRUIT_BOARD), any(), anyInt()))
+            .thenReturn(List.of(1L));
+        when(boardArchiveRepository.findSteps(ArchiveTarget.RECRUIT_BOARD)).thenReturn(steps);
+        when(boardArchiveRepository.moveByBoardIds(any(), eq(List.of(1L)))).thenAnswer(invocation -> {
+            ArchiveStep step = invocation.getArgument(0);
+            return switch (step.getTable()) {
+                case "board_position" -> List.of(10L);
+                case "board_stack" -> List.of(20L);
+                case "recruit_board" -> List.of(1L);
+                default -> List.of();
+            };
+        });
+
+        int archived = boardArchiveService.archive(ArchiveTarget.RECRUIT_BOARD, LocalDateTime.now());
+
+        assertAll(
+            () -> assertThat(archived).isEqualTo(1),
+            () -> verify(secondLevelCacheInvalidator).evictEntity(BoardPosition.class.getName(), 10L),
+            () -> verify(secondLevelCacheInvalidator).evictEntity(BoardStack.class.getName(), 20L),
+            () -> verify(secondLevelCacheInvalidator).evictCollection(RecruitBoard.class.getName() + ".boardPositions", 1L),
+            () -> verify(secondLevelCacheInvalidator).evictCollection(RecruitBoard.class.getName() + ".boardStacks", 1L),
+            () -> verify(boardDetailCache).evictRecruitBoard(1L),
+            () -> verify(boardLikeRedisRepository).deleteBoard(BoardType.RECRUIT, 1L),
+            () -> verify(boardViewRedisRepository).deleteBoard(BoardType.RECRUIT, 1L),
+            () -> verify(trendingService).remove(BoardType.RECRUIT, 1L)
+        );
+    }
+}
@@ -0,0 +1,157 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.exception.AuthException;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.stats.BoardDailyStat;
+import sideeffect.project.domain.stats.StatMetric;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.stats.BoardStatsResponse;
+import sideeffect.project.redis.BoardStatsRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.StatChange;
+import sideeffect.project.repository.BoardDailyStatRepository;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+
+@ExtendWith(MockitoExtension.class)
+class BoardStatsServiceTest {
+
+    @InjectMocks
+    private BoardStatsService boardStatsService;
+
+    @Mock
+    private BoardDailyStatRepository boardDailyStatRepository;
+
+    @Mock
+    private BoardStatsRedisRepository boardStatsRedisRepository;
+
+    @Mock
+    private FreeBoardRepository freeBoardRepository;
+
+    @Mock
+    private RecruitBoardRepository recruitBoardRepository;
+
+    private User user;
+    private FreeBoard freeBoard;
+
+    @BeforeEach
+    void setUp() {
+        user = User.builder()
+            .id(1L)
+            .nickname("tester")
+            .email("test@naver.com")
+            .password("1234")
+            .build();
+
+        freeBoard = FreeBoard.builder()
+            .id(1L)
+            .title("자랑 게시판")
+            .content("제가 만든 겁니다.")
+            .projectUrl("url")
+            .build();
+        freeBoard.associateUser(user);
+    }
+
+    @DisplayName("통계는 서버 시간대와 관계없이 한국 날짜로 기록한다.")
+    @Test
+    void recordWithSeoulDate() {
+        boardStatsService.record(BoardType.FREE, 1L, StatMetric.VIEWS, 1L);
+
+        ArgumentCaptor<LocalDate> statDate = ArgumentCaptor.forClass(LocalDate.class);
+        verify(boardStatsRedisRepository).increment(eq(BoardType.FREE), eq(1L), eq(StatMetric.VIEWS), statDate.capture(), eq(1L));
+        assertThat(statDate.getValue()).isIn(
+            LocalDate.now(BoardDailyStat.STAT_ZONE).minusDays(1), LocalDate.now(BoardDailyStat.STAT_ZONE));
+    }
+
+    @DisplayName("통계 조회 시 기록이 없는 날은 0으로 채운다.")
+    @Test
+    void findStats() {
+        LocalDate from = LocalDate.of(2023, 9, 1);
+        LocalDate to = LocalDate.of(2023, 9, 3);
+        BoardDailyStat stat = BoardDailyStat.of(BoardType.FREE, 1L, from.plusDays(1));
+        stat.add(StatMetric.VIEWS, 7);
+        when(freeBoardRepository.findById(any())).thenReturn(Optional.of(freeBoard));
+        when(boardDailyStatRepository.findStats(BoardType.FREE, 1L, from, to)).thenReturn(List.of(stat));
+
+        BoardStatsResponse response = boardStatsService.findFreeBoardStats(user.getId(), 1L, from, to);
+
+        assertAll(
+            () -> assertThat(response.getStats()).hasSize(3),
+            () -> assertThat(response.getStats().get(0).getViews()).isZero(),
+            () -> assertThat(response.getStats().get(1).getViews()).isEqualTo(7),
+            () -> assertThat(response.getStats().get(2).getDate()).isEqualTo(to)
+        );
+    }
+
+    @DisplayName("게시판 작성자가 아니면 통계를 조회할 수 없다.")
+    @Test
+    void findStatsByNonOwner() {
+        when(freeBoardRepository.findById(any())).thenReturn(Optional.of(freeBoard));
+
+        assertThatThrownBy(() -> boardStatsService.findFreeBoardStats(2L, 1L, null, null))
+            .isInstanceOf(AuthException.class);
+    }
+
+    @DisplayName("조회 기간이 잘못되면 예외가 발생한다.")
+    @Test
+    void findStatsWithInvalidPeriod() {
+        when(freeBoardRepository.findById(any())).thenReturn(Optional.of(freeBoard));
+
+        assertThatThrownBy(() -> boardStatsService.findFreeBoardStats(user.getId(), 1L,
+            LocalDate.of(2023, 9, 2), LocalDate.of(2023, 9, 1)))
+            .isInstanceOf(InvalidValueException.class);
+    }
+
+    @DisplayName("적재된 변경분을 기존 통계에 합산해 저장한다.")
+    @SuppressWarnings("unchecked")
+    @Test
+    void flush() {
+        LocalDate date = LocalDate.of(2023, 9, 1);
+        BoardDailyStat existing = BoardDailyStat.of(BoardType.RECRUIT, 1L, date);
+        existing.add(StatMetric.VIEWS, 3);
+        when(boardDailyStatRepository.findDailyStats(eq(BoardType.RECRUIT), anyCollection(), anyCollection()))
+            .thenReturn(List.of(existing));
+
+        boardStatsService.flush(BoardType.RECRUIT, List.of(
+            new StatChange(date, 1L, StatMetric.VIEWS, 2),
+            new StatChange(date, 1L, StatMetric.APPLICATIONS, 1),
+            new StatChange(date, 2L, StatMetric.LIKES, 4)));
+
+        ArgumentCaptor<Iterable<BoardDailyStat>> captor = ArgumentCaptor.forClass(Iterable.class);
+        verify(boardDailyStatRepository).saveAll(captor.capture());
+        List<BoardDailyStat> saved = new ArrayList<>();
+        captor.getValue().forEach(saved::add);
+
+        assertAll(
+            () -> assertThat(saved).hasSize(2),
+            () -> assertThat(existing.getViews()).isEqualTo(5),
+            () -> assertThat(existing.getApplications()).isEqualTo(1),
+            () -> assertThat(saved).anySatisfy(stat -> {
+                assertThat(stat.getBoardId()).isEqualTo(2L);
+                assertThat(stat.getLikes()).isEqualTo(4);
+            })
+        );
+    }
+}
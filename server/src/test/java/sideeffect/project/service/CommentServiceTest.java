@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -15,14 +16,20 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.domain.comment.Comment;
 import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.comment.CommentRequest;
-import sideeffect.project.dto.comment.FreeBoardCommentsResponse;
+import sideeffect.project.dto.comment.CommentResponse;
+import sideeffect.project.dto.comment.CommentScrollResponse;
+import sideeffect.project.dto.user.UserSummary;
 import sideeffect.project.repository.CommentRepository;
 import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.UserRepository;
 
 @ExtendWith(MockitoExtension.class)
 class CommentServiceTest {
@@ -35,13 +42,17 @@ class CommentServiceTest {
     @Mock
     private CommentRepository commentRepository;
 
+    @Mock
+    private UserRepository userRepository;
+
     private User user;
     private FreeBoard freeBoard;
     private Comment comment;
 
     @BeforeEach
     void setUp() {
-        commentService = new CommentService(commentRepository, freeBoardRepository);
+        commentService = new CommentService(commentRepository, freeBoardRepository, new BoardDetailCache(),
+            new UserSummaryCache(userRepository), userRepository);
 
         user = User.builder()
             .id(1L)
@@ -70,6 +81,7 @@ class CommentServiceTest {
             .boardId(freeBoard.getId()).content("hello").build();
         when(freeBoardRepository.findById(any())).thenReturn(Optional.of(freeBoard));
         when(commentRepository.save(any())).thenReturn(comment);
+        when(userRepository.getReferenceById(any())).thenReturn(user);
 
         commentService.registerComment(request, user);
 
@@ -105,20 +117,25 @@ class CommentServiceTest {
             .isInstanceOf(AuthException.class);
     }
 
-    @DisplayName("게시판 댓글을 조회한다.")
+    @DisplayName("게시판 댓글을 커서 기반으로 조회한다.")
     @Test
     void findBoardComments() {
-        Comment comment1 = new Comment("댓글1");
-        Comment comment2 = new Comment("댓글2");
-        comment1.associate(user, freeBoard);
-        comment2.associate(user, freeBoard);
-        when(commentRepository.findAllByFreeBoardIdOrderByIdDesc(any())).thenReturn(List.of(comment1, comment2));
+        List<CommentResponse> comments = List.of(
+            new CommentResponse(30L, freeBoard.getId(), "댓글3", 1L),
+            new CommentResponse(20L, freeBoard.getId(), "댓글2", 1L),
+            new CommentResponse(10L, freeBoard.getId(), "댓글1", 1L));
+        when(commentRepository.findCommentResponses(eq(freeBoard.getId()), eq(40L), any())).thenReturn(comments);
+        when(userRepository.findSummaries(any())).thenReturn(List.of(new UserSummary(1L, "tester", "/user.jpg")));
 
-        FreeBoardCommentsResponse response = commentService.findBoardComments(freeBoard.getId());
+        CommentScrollResponse response = commentService.findBoardComments(freeBoard.getId(), 40L, 2);
 
         assertAll(
-            () -> verify(commentRepository).findAllByFreeBoardIdOrderByIdDesc(any()),
-            () -> assertThat(response.getCommentResponses()).hasSize(2)
+            () -> verify(commentRepository).findCommentResponses(freeBoard.getId(), 40L, PageRequest.of(0, 3)),
+            () -> assertThat(response.getComments()).hasSize(2),
+            () -> assertThat(response.getComments()).extracting(CommentResponse::getWriter).containsOnly("tester"),
+            () -> verify(userRepository).findSummaries(any()),
+            () -> assertThat(response.getLastId()).isEqualTo(20L),
+            () -> assertThat(response.isHasNext()).isTrue()
         );
     }
 
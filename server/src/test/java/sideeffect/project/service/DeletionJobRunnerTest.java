@@ -0,0 +1,86 @@
+package sideeffect.project.service;
+
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.common.cache.SecondLevelCacheInvalidator;
+import sideeffect.project.domain.deletion.DeletionJob;
+import sideeffect.project.domain.deletion.DeletionTarget;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.BoardStack;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.repository.BulkDeletionRepository;
+import sideeffect.project.repository.BulkDeletionRepository.DeletionStep;
+import sideeffect.project.repository.DeletionJobRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DeletionJobRunnerTest {
+
+    private DeletionJobRunner deletionJobRunner;
+
+    @Mock
+    private DeletionJobRepository deletionJobRepository;
+
+    @Mock
+    private BulkDeletionRepository bulkDeletionRepository;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @Mock
+    private SecondLevelCacheInvalidator secondLevelCacheInvalidator;
+
+    @BeforeEach
+    void setUp() {
+        deletionJobRunner = new DeletionJobRunner(deletionJobRepository, bulkDeletionRepository, transactionTemplate,
+            secondLevelCacheInvalidator, new SimpleMeterRegistry());
+    }
+
+    @DisplayName("삭제한 행의 2차 캐시는 무효화 전파를 거쳐 정리한다.")
+    @Test
+    void evictDeletedRows() {
+        List<DeletionStep> steps = new BulkDeletionRepository(null).findSteps(DeletionTarget.RECRUIT_BOARD);
+        when(transactionTemplate.execute(any()))
+            .thenAnswer(invocation -> invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+        when(deletionJobRepository.claim(eq(1L), any(), any(), anyInt())).thenReturn(1);
+        when(deletionJobRepository.findById(1L)).thenReturn(Optional.of(DeletionJob.of(DeletionTarget.RECRUIT_BOARD, 5L)));
+        when(bulkDeletionRepository.findSteps(DeletionTarget.RECRUIT_BOARD)).thenReturn(steps);
+        when(bulkDeletionRepository.findIds(any(), anyLong(), anyInt())).thenAnswer(invocation -> {
+            DeletionStep step = invocation.getArgument(0);
+            return switch (step.getTable()) {
+                case "board_position" -> List.of(10L);
+                case "board_stack" -> List.of(20L);
+                case "recruit_board" -> List.of(5L);
+                default -> List.of();
+            };
+        });
+        when(bulkDeletionRepository.deleteByIds(any(), any()))
+            .thenAnswer(invocation -> invocation.<Collection<Long>>getArgument(1).size());
+
+        deletionJobRunner.run(1L);
+
+        assertAll(
+            () -> verify(secondLevelCacheInvalidator).evictEntity(BoardPosition.class.getName(), 10L),
+            () -> verify(secondLevelCacheInvalidator).evictEntity(BoardStack.class.getName(), 20L),
+            () -> verify(secondLevelCacheInvalidator).evictCollection(RecruitBoard.class.getName() + ".boardPositions", 5L),
+            () -> verify(secondLevelCacheInvalidator).evictCollection(RecruitBoard.class.getName() + ".boardStacks", 5L)
+        );
+    }
+}
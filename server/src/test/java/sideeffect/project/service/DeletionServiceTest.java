@@ -0,0 +1,132 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.domain.deletion.DeletionJob;
+import sideeffect.project.domain.deletion.DeletionStatus;
+import sideeffect.project.domain.deletion.DeletionTarget;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.repository.DeletionJobRepository;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.LikeRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitLikeRepository;
+
+@ExtendWith(MockitoExtension.class)
+class DeletionServiceTest {
+
+    @InjectMocks
+    private DeletionService deletionService;
+
+    @Mock
+    private DeletionJobRepository deletionJobRepository;
+
+    @Mock
+    private RecruitBoardRepository recruitBoardRepository;
+
+    @Mock
+    private FreeBoardRepository freeBoardRepository;
+
+    @Mock
+    private LikeRepository likeRepository;
+
+    @Mock
+    private RecruitLikeRepository recruitLikeRepository;
+
+    @Mock
+    private DeletionJobRunner deletionJobRunner;
+
+    @Mock
+    private BoardDetailCache boardDetailCache;
+
+    @Mock
+    private BoardLikeRedisRepository boardLikeRedisRepository;
+
+    @Mock
+    private BoardViewRedisRepository boardViewRedisRepository;
+
+    @Mock
+    private BoardStatsService boardStatsService;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @DisplayName("회원 삭제 요청은 회원과 게시판을 숨기고 삭제 작업을 등록한다.")
+    @Test
+    void deleteUser() {
+        User user = User.builder().id(1L).nickname("tester").email("test@naver.com").build();
+        when(deletionJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DeletionJob job = deletionService.deleteUser(user);
+
+        assertAll(
+            () -> assertThat(user.isDeleted()).isTrue(),
+            () -> verify(recruitBoardRepository).markDeletedByUserId(1L),
+            () -> verify(freeBoardRepository).markDeletedByUserId(1L),
+            () -> assertThat(job.getTargetType()).isEqualTo(DeletionTarget.USER),
+            () -> assertThat(job.getTargetId()).isEqualTo(1L),
+            () -> assertThat(job.getStatus()).isEqualTo(DeletionStatus.PENDING),
+            () -> verify(deletionJobRunner).runAsync(job.getId())
+        );
+    }
+
+    @DisplayName("회원을 삭제하면 회원 게시판의 레디스 상태와 다른 게시판의 좋아요를 함께 정리한다.")
+    @Test
+    void deleteUserClearsRedisState() {
+        User user = User.builder().id(1L).nickname("tester").email("test@naver.com").build();
+        when(recruitBoardRepository.findIdsByUserId(1L)).thenReturn(List.of(10L));
+        when(freeBoardRepository.findIdsByUserId(1L)).thenReturn(List.of(20L));
+        when(recruitLikeRepository.findBoardIdsByUserId(1L)).thenReturn(List.of(30L));
+        when(likeRepository.findBoardIdsByUserId(1L)).thenReturn(List.of(40L));
+        when(deletionJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        deletionService.deleteUser(user);
+
+        assertAll(
+            () -> verify(boardDetailCache).evictRecruitBoard(10L),
+            () -> verify(boardDetailCache).evictFreeBoard(20L),
+            () -> verify(boardLikeRedisRepository).deleteBoard(BoardType.RECRUIT, 10L),
+            () -> verify(boardLikeRedisRepository).deleteBoard(BoardType.FREE, 20L),
+            () -> verify(boardViewRedisRepository).deleteBoard(BoardType.RECRUIT, 10L),
+            () -> verify(boardViewRedisRepository).deleteBoard(BoardType.FREE, 20L),
+            () -> verify(trendingService).remove(BoardType.RECRUIT, 10L),
+            () -> verify(trendingService).remove(BoardType.FREE, 20L),
+            () -> verify(boardStatsService).discard(BoardType.RECRUIT, List.of(10L)),
+            () -> verify(boardStatsService).discard(BoardType.FREE, List.of(20L)),
+            () -> verify(boardLikeRedisRepository).deleteUser(BoardType.RECRUIT, 1L, List.of(30L)),
+            () -> verify(boardLikeRedisRepository).deleteUser(BoardType.FREE, 1L, List.of(40L))
+        );
+    }
+
+    @DisplayName("모집 게시판 삭제 요청은 게시판을 숨기고 삭제 작업을 등록한다.")
+    @Test
+    void deleteRecruitBoard() {
+        RecruitBoard recruitBoard = RecruitBoard.builder().id(1L).title("모집 게시판").build();
+        when(deletionJobRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+
+        DeletionJob job = deletionService.deleteRecruitBoard(recruitBoard);
+
+        assertAll(
+            () -> assertThat(recruitBoard.isDeleted()).isTrue(),
+            () -> assertThat(job.getTargetType()).isEqualTo(DeletionTarget.RECRUIT_BOARD),
+            () -> verify(boardStatsService).discard(BoardType.RECRUIT, List.of(1L)),
+            () -> verify(deletionJobRunner).runAsync(job.getId())
+        );
+    }
+}
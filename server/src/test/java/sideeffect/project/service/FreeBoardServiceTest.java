@@ -4,6 +4,7 @@ import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -17,24 +18,34 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.mock.web.MockMultipartFile;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.common.fileupload.service.FreeBoardUploadService;
 import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.dto.freeboard.DetailedFreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardKeyWordRequest;
 import sideeffect.project.dto.freeboard.FreeBoardRequest;
 import sideeffect.project.dto.freeboard.FreeBoardResponse;
 import sideeffect.project.dto.freeboard.FreeBoardScrollRequest;
 import sideeffect.project.dto.freeboard.FreeBoardScrollResponse;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.redis.LikeStatus;
+import sideeffect.project.redis.ViewStatus;
+import sideeffect.project.repository.CommentRepository;
 import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.UserRepository;
 
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 import java.util.stream.Stream;
-import sideeffect.project.repository.LikeRepository;
 
 @ExtendWith(MockitoExtension.class)
 class FreeBoardServiceTest {
@@ -48,14 +59,27 @@ class FreeBoardServiceTest {
     private FreeBoardUploadService freeBoardUploadService;
 
     @Mock
-    private LikeRepository likeRepository;
+    private BoardLikeRedisRepository boardLikeRedisRepository;
+
+    @Mock
+    private BoardViewRedisRepository boardViewRedisRepository;
+
+    @Mock
+    private CommentRepository commentRepository;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private UserRepository userRepository;
 
     private FreeBoard freeBoard;
     private User user;
 
     @BeforeEach
     void setUp() {
-        freeBoardService = new FreeBoardService(freeBoardRepository, freeBoardUploadService, likeRepository);
+        freeBoardService = new FreeBoardService(freeBoardRepository, freeBoardUploadService, boardLikeRedisRepository,
+            boardViewRedisRepository, new BoardDetailCache(), commentRepository, userSummaryCache, userRepository);
 
         user = User.builder()
             .id(1L)
@@ -79,6 +103,8 @@ class FreeBoardServiceTest {
     void register() {
         FreeBoardRequest request = FreeBoardRequest.builder()
             .title("자랑 게시판").content("제가 만든 겁니다.").projectUrl("url").build();
+        when(userRepository.getReferenceById(any())).thenReturn(user);
+        when(freeBoardRepository.save(any())).thenReturn(freeBoard);
 
         freeBoardService.register(user, request);
 
@@ -120,14 +146,37 @@ class FreeBoardServiceTest {
     @DisplayName("게시판을 단건 조회한다.")
     @Test
     void findBoard() {
-        int beforeViews = freeBoard.getViews();
         when(freeBoardRepository.searchBoardFetchJoin(any())).thenReturn(Optional.of(freeBoard));
+        when(boardLikeRedisRepository.findStatus(BoardType.FREE, 1L, null)).thenReturn(new LikeStatus(false, 3));
+        when(boardViewRedisRepository.addViewer(any(), any(), any())).thenReturn(new ViewStatus(true, 5L));
+        when(commentRepository.countByFreeBoardId(1L)).thenReturn(25L);
 
-        freeBoardService.findBoard(1L, null);
+        DetailedFreeBoardResponse response = freeBoardService.findBoard(1L, null, "127.0.0.1");
 
         assertAll(
             () -> verify(freeBoardRepository).searchBoardFetchJoin(any()),
-            () -> assertThat(freeBoard.getViews()).isEqualTo(beforeViews + 1)
+            () -> verify(commentRepository).findCommentResponses(1L, null, PageRequest.of(0, 20)),
+            () -> assertThat(response.getCommentNum()).isEqualTo(25L),
+            () -> verify(freeBoardRepository).increaseViews(1L),
+            () -> assertThat(response.isLike()).isFalse(),
+            () -> assertThat(response.getLikeNum()).isEqualTo(3),
+            () -> assertThat(response.getUniqueViews()).isEqualTo(5L)
+        );
+    }
+
+    @DisplayName("이미 조회한 사용자가 다시 조회하면 조회수를 올리지 않는다.")
+    @Test
+    void findBoardBySameViewer() {
+        when(freeBoardRepository.searchBoardFetchJoin(any())).thenReturn(Optional.of(freeBoard));
+        when(boardLikeRedisRepository.findStatus(any(), any(), any())).thenReturn(new LikeStatus(false, 0));
+        when(boardViewRedisRepository.addViewer(BoardType.FREE, 1L, BoardViewRedisRepository.toViewer(user.getId(), null)))
+            .thenReturn(new ViewStatus(false, 1L));
+
+        DetailedFreeBoardResponse response = freeBoardService.findBoard(1L, user, "127.0.0.1");
+
+        assertAll(
+            () -> verify(freeBoardRepository, never()).increaseViews(any()),
+            () -> assertThat(response.getUniqueViews()).isEqualTo(1L)
         );
     }
 
@@ -138,7 +187,10 @@ class FreeBoardServiceTest {
 
         freeBoardService.deleteBoard(1L, 1L);
 
-        verify(freeBoardRepository).delete(any());
+        assertAll(
+            () -> verify(freeBoardRepository).delete(any()),
+            () -> verify(boardLikeRedisRepository).deleteBoard(BoardType.FREE, 1L)
+        );
     }
 
     @DisplayName("게시판 주인이 아닌자가 삭제 시 예외가 발생")
@@ -0,0 +1,177 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.mock;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.LikeChange;
+import sideeffect.project.repository.FreeBoardRepository;
+import sideeffect.project.repository.LikeRepository;
+import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitLikeRepository;
+import sideeffect.project.repository.UserRepository;
+
+class LikeFlushServiceTest extends TestDataRepository {
+
+    @Autowired
+    private EntityManager em;
+
+    @Autowired
+    private LikeRepository likeRepository;
+
+    @Autowired
+    private RecruitLikeRepository recruitLikeRepository;
+
+    @Autowired
+    private FreeBoardRepository freeBoardRepository;
+
+    @Autowired
+    private RecruitBoardRepository recruitBoardRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    private LikeFlushService likeFlushService;
+    private User user;
+    private User other;
+    private FreeBoard freeBoard;
+    private FreeBoard otherFreeBoard;
+    private RecruitBoard recruitBoard;
+
+    @BeforeEach
+    void setUp() {
+        likeFlushService = new LikeFlushService(likeRepository, recruitLikeRepository, freeBoardRepository,
+            recruitBoardRepository, userRepository, mock(BoardLikeRedisRepository.class));
+
+        user = User.builder().nickname("tester").email("test@naver.com").build();
+        other = User.builder().nickname("other").email("other@naver.com").build();
+        em.persist(user);
+        em.persist(other);
+        freeBoard = createFreeBoard(user, "free-url");
+        otherFreeBoard = createFreeBoard(other, "other-url");
+        recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        em.persist(recruitBoard);
+        em.flush();
+        em.clear();
+    }
+
+    @DisplayName("좋아요 후 취소를 반영하면 좋아요 행이 삭제된다.")
+    @Test
+    void likeThenUnlike() {
+        likeFlushService.flush(BoardType.FREE, List.of(new LikeChange(freeBoard.getId(), user.getId(), true)));
+        long liked = countLikes(freeBoard);
+
+        likeFlushService.flush(BoardType.FREE, List.of(new LikeChange(freeBoard.getId(), user.getId(), false)));
+
+        assertAll(
+            () -> assertThat(liked).isEqualTo(1),
+            () -> assertThat(countLikes(freeBoard)).isZero()
+        );
+    }
+
+    @DisplayName("이미 반영된 좋아요를 다시 반영해도 행이 중복되지 않는다.")
+    @Test
+    void repeatedLike() {
+        likeFlushService.flush(BoardType.FREE, List.of(new LikeChange(freeBoard.getId(), user.getId(), true)));
+        likeFlushService.flush(BoardType.FREE, List.of(new LikeChange(freeBoard.getId(), user.getId(), true)));
+
+        assertThat(countLikes(freeBoard)).isEqualTo(1);
+    }
+
+    @DisplayName("없거나 삭제된 회원과 게시판의 변경은 건너뛴다.")
+    @Test
+    void skipMissingUserAndBoard() {
+        User deletedUser = User.builder().nickname("deleted").email("deleted@naver.com").build();
+        em.persist(deletedUser);
+        deletedUser.markDeleted();
+        FreeBoard deletedBoard = createFreeBoard(other, "deleted-url");
+        em.flush();
+        em.remove(deletedBoard);
+        em.flush();
+        em.clear();
+
+        likeFlushService.flush(BoardType.FREE, List.of(
+            new LikeChange(freeBoard.getId(), 9999L, true),
+            new LikeChange(9999L, user.getId(), true),
+            new LikeChange(freeBoard.getId(), deletedUser.getId(), true),
+            new LikeChange(deletedBoard.getId(), user.getId(), true),
+            new LikeChange(freeBoard.getId(), other.getId(), true)
+        ));
+
+        assertAll(
+            () -> assertThat(countLikes(freeBoard)).isEqualTo(1),
+            () -> assertThat(likeRepository.findUserIds(freeBoard.getId(), List.of(other.getId())))
+                .containsExactly(other.getId()),
+            () -> assertThat(countAllLikes()).isEqualTo(1)
+        );
+    }
+
+    @DisplayName("여러 게시판의 좋아요와 취소를 한 번에 반영한다.")
+    @Test
+    void flushMixedBatch() {
+        em.persist(Like.of(em.find(User.class, other.getId()), em.find(FreeBoard.class, freeBoard.getId())));
+        em.flush();
+        em.clear();
+
+        likeFlushService.flush(BoardType.FREE, List.of(
+            new LikeChange(freeBoard.getId(), user.getId(), true),
+            new LikeChange(freeBoard.getId(), other.getId(), false),
+            new LikeChange(otherFreeBoard.getId(), user.getId(), true),
+            new LikeChange(otherFreeBoard.getId(), other.getId(), true)
+        ));
+
+        assertAll(
+            () -> assertThat(likeRepository.findUserIds(freeBoard.getId(), List.of(user.getId(), other.getId())))
+                .containsExactly(user.getId()),
+            () -> assertThat(likeRepository.findUserIds(otherFreeBoard.getId(), List.of(user.getId(), other.getId())))
+                .containsExactlyInAnyOrder(user.getId(), other.getId())
+        );
+    }
+
+    @DisplayName("모집 게시판 좋아요도 같은 방식으로 반영한다.")
+    @Test
+    void flushRecruitBoardLikes() {
+        likeFlushService.flush(BoardType.RECRUIT, List.of(
+            new LikeChange(recruitBoard.getId(), user.getId(), true),
+            new LikeChange(recruitBoard.getId(), other.getId(), true)
+        ));
+        likeFlushService.flush(BoardType.RECRUIT, List.of(
+            new LikeChange(recruitBoard.getId(), user.getId(), false),
+            new LikeChange(recruitBoard.getId(), other.getId(), true)
+        ));
+
+        assertThat(recruitLikeRepository.findUserIds(recruitBoard.getId(), List.of(user.getId(), other.getId())))
+            .containsExactly(other.getId());
+    }
+
+    private FreeBoard createFreeBoard(User user, String projectUrl) {
+        FreeBoard freeBoard = FreeBoard.builder().title("자랑 게시판").content("자랑합니다.").projectUrl(projectUrl).build();
+        freeBoard.associateUser(user);
+        em.persist(freeBoard);
+        return freeBoard;
+    }
+
+    private long countLikes(FreeBoard freeBoard) {
+        return em.createQuery("SELECT count(l) FROM Like l WHERE l.freeBoard.id = :boardId", Long.class)
+            .setParameter("boardId", freeBoard.getId())
+            .getSingleResult();
+    }
+
+    private long countAllLikes() {
+        return em.createQuery("SELECT count(l) FROM Like l", Long.class).getSingleResult();
+    }
+}
@@ -1,25 +1,27 @@
 package sideeffect.project.service;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.Optional;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.domain.freeboard.FreeBoard;
-import sideeffect.project.domain.like.Like;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.like.LikeResult;
 import sideeffect.project.dto.like.LikeResponse;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
 import sideeffect.project.repository.FreeBoardRepository;
-import sideeffect.project.repository.LikeRepository;
 
 @ExtendWith(MockitoExtension.class)
 class LikeServiceTest {
@@ -30,15 +32,14 @@ class LikeServiceTest {
     private FreeBoardRepository freeBoardRepository;
 
     @Mock
-    private LikeRepository likeRepository;
+    private BoardLikeRedisRepository boardLikeRedisRepository;
 
     private User user;
     private FreeBoard freeBoard;
-    private Like like;
 
     @BeforeEach
     void setUp() {
-        likeService = new LikeService(likeRepository, freeBoardRepository);
+        likeService = new LikeService(boardLikeRedisRepository, freeBoardRepository);
 
         user = User.builder()
             .id(1L)
@@ -54,23 +55,20 @@ class LikeServiceTest {
             .imgUrl("/test.jpg")
             .content("test")
             .build();
-
-        like = Like.like(user, freeBoard);
     }
 
     @DisplayName("유저가 게시판을 추천한다.")
     @Test
     void likeBoard() {
-        when(likeRepository.searchLike(any(), any())).thenReturn(Optional.empty());
-        when(freeBoardRepository.findById(any())).thenReturn(Optional.of(freeBoard));
-        when(likeRepository.save(any())).thenReturn(like);
+        when(freeBoardRepository.existsById(any())).thenReturn(true);
+        when(boardLikeRedisRepository.toggle(BoardType.FREE, freeBoard.getId(), user.getId())).thenReturn(true);
 
         LikeResponse response = likeService.toggleLike(user, freeBoard.getId());
 
         assertAll(
-            () -> verify(likeRepository).searchLike(any(), any()),
-            () -> verify(freeBoardRepository).findById(any()),
-            () -> verify(likeRepository).save(any()),
+            () -> verify(boardLikeRedisRepository).toggle(BoardType.FREE, freeBoard.getId(), user.getId()),
+            () -> assertThat(response.getBoardId()).isEqualTo(freeBoard.getId()),
+            () -> assertThat(response.getUserNickname()).isEqualTo(user.getNickname()),
             () -> assertThat(response.getMessage()).isEqualTo(LikeResult.LIKE.getMessage())
         );
     }
@@ -78,14 +76,26 @@ class LikeServiceTest {
     @DisplayName("유저가 게시판 추천을 취소한다.")
     @Test
     void cancelLike() {
-        when(likeRepository.searchLike(any(), any())).thenReturn(Optional.of(like));
+        when(freeBoardRepository.existsById(any())).thenReturn(true);
+        when(boardLikeRedisRepository.toggle(BoardType.FREE, freeBoard.getId(), user.getId())).thenReturn(false);
 
         LikeResponse response = likeService.toggleLike(user, freeBoard.getId());
 
         assertAll(
-            () -> verify(likeRepository).searchLike(any(), any()),
-            () -> assertThat(response.getMessage()).isEqualTo(LikeResult.CANCEL_LIKE.getMessage()),
-            () -> verify(likeRepository).delete(any())
+            () -> verify(boardLikeRedisRepository).toggle(BoardType.FREE, freeBoard.getId(), user.getId()),
+            () -> assertThat(response.getMessage()).isEqualTo(LikeResult.CANCEL_LIKE.getMessage())
+        );
+    }
+
+    @DisplayName("존재하지 않는 게시판을 추천하면 예외가 발생한다.")
+    @Test
+    void likeNotExistingBoard() {
+        when(freeBoardRepository.existsById(any())).thenReturn(false);
+
+        assertAll(
+            () -> assertThatThrownBy(() -> likeService.toggleLike(user, freeBoard.getId()))
+                .isInstanceOf(EntityNotFoundException.class),
+            () -> verify(boardLikeRedisRepository, never()).toggle(any(), any(), any())
         );
     }
 }
@@ -0,0 +1,137 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import sideeffect.project.config.AsyncConfig;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.UserResponse;
+
+@ExtendWith(MockitoExtension.class)
+class MypageAssemblerTest {
+
+    @Mock
+    private MypageLoader mypageLoader;
+
+    private ExecutorService executor;
+    private MypageAssembler mypageAssembler;
+    private User user;
+
+    @BeforeEach
+    void setUp() {
+        executor = Executors.newFixedThreadPool(5);
+        mypageAssembler = new MypageAssembler(mypageLoader, executor, 200);
+        user = User.builder()
+            .id(1L)
+            .email("test@naver.com")
+            .nickname("tester")
+            .build();
+    }
+
+    @AfterEach
+    void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @DisplayName("마이페이지 항목들을 모두 모아 응답한다.")
+    @Test
+    void assemble() {
+        when(mypageLoader.countBoards(user)).thenReturn(3);
+        when(mypageLoader.loadTags(user)).thenReturn(List.of("java", "spring"));
+
+        UserResponse response = mypageAssembler.assemble(user);
+
+        assertAll(
+            () -> assertThat(response.getBoards()).isEqualTo(3),
+            () -> assertThat(response.getTags()).containsExactly("java", "spring"),
+            () -> assertThat(response.getIsOwner()).isTrue(),
+            () -> assertThat(response.isPartial()).isFalse()
+        );
+    }
+
+    @DisplayName("제한 시간 안에 끝나지 않은 항목은 비워두고 부분 응답으로 표시한다.")
+    @Test
+    void assembleWithSlowSection() {
+        CountDownLatch latch = new CountDownLatch(1);
+        when(mypageLoader.countBoards(user)).thenReturn(3);
+        when(mypageLoader.loadLikeBoards(user)).thenAnswer(invocation -> {
+            latch.await();
+            return List.of();
+        });
+
+        long start = System.currentTimeMillis();
+        UserResponse response = mypageAssembler.assemble(user);
+        long elapsed = System.currentTimeMillis() - start;
+        latch.countDown();
+
+        assertAll(
+            () -> assertThat(response.getBoards()).isEqualTo(3),
+            () -> assertThat(response.getLikeBoards()).isEmpty(),
+            () -> assertThat(response.isPartial()).isTrue(),
+            () -> assertThat(elapsed).isLessThan(2000)
+        );
+    }
+
+    @DisplayName("예상 동시 요청 수만큼 마이페이지를 동시에 조회해도 부분 응답 없이 모두 완성한다.")
+    @Test
+    void assembleConcurrently() throws Exception {
+        int concurrency = 10;
+        ThreadPoolTaskExecutor mypageExecutor = new AsyncConfig().mypageExecutor(concurrency, 10);
+        ExecutorService requests = Executors.newFixedThreadPool(concurrency);
+        MypageAssembler assembler = new MypageAssembler(mypageLoader, mypageExecutor, 2000);
+        when(mypageLoader.countBoards(user)).thenAnswer(invocation -> query(3));
+        when(mypageLoader.loadTags(user)).thenAnswer(invocation -> query(List.of("java")));
+        when(mypageLoader.loadLikeBoards(user)).thenAnswer(invocation -> query(List.of()));
+        when(mypageLoader.loadUploadBoards(user)).thenAnswer(invocation -> query(List.of()));
+        when(mypageLoader.loadApplyBoards(user)).thenAnswer(invocation -> query(List.of()));
+
+        try {
+            List<Future<UserResponse>> responses = requests.invokeAll(IntStream.range(0, concurrency)
+                .<Callable<UserResponse>>mapToObj(i -> () -> assembler.assemble(user))
+                .toList());
+
+            for (Future<UserResponse> response : responses) {
+                assertThat(response.get().isPartial()).isFalse();
+            }
+        } finally {
+            requests.shutdownNow();
+            mypageExecutor.shutdown();
+        }
+    }
+
+    @DisplayName("실패한 항목은 비워두고 나머지 항목으로 응답한다.")
+    @Test
+    void assembleWithFailedSection() {
+        when(mypageLoader.countBoards(user)).thenThrow(new IllegalArgumentException("fail"));
+        when(mypageLoader.loadTags(user)).thenReturn(List.of("java"));
+
+        UserResponse response = mypageAssembler.assemble(user);
+
+        assertAll(
+            () -> assertThat(response.getBoards()).isZero(),
+            () -> assertThat(response.getTags()).containsExactly("java"),
+            () -> assertThat(response.isPartial()).isTrue()
+        );
+    }
+
+    private <T> T query(T result) throws InterruptedException {
+        Thread.sleep(50);
+        return result;
+    }
+}
@@ -0,0 +1,84 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.applicant.Applicant;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.ApplyBoardResponse;
+import sideeffect.project.dto.user.LikeBoardResponse;
+import sideeffect.project.dto.user.UploadBoardResponse;
+
+@Import(MypageLoader.class)
+class MypageLoaderTest extends TestDataRepository {
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MypageLoader mypageLoader;
+
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        Position position = Position.builder().positionType(PositionType.BACKEND).build();
+        em.persist(position);
+
+        User user = User.builder().nickname("tester").email("test@naver.com").build();
+        em.persist(user);
+
+        FreeBoard freeBoard = FreeBoard.builder().title("자랑 게시판").content("자랑합니다.").projectUrl("url").build();
+        freeBoard.associateUser(user);
+        em.persist(freeBoard);
+        em.persist(Like.of(user, freeBoard));
+
+        RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+        recruitBoard.associateUser(user);
+        BoardPosition boardPosition = BoardPosition.builder().position(position).targetNumber(2).build();
+        recruitBoard.addBoardPosition(boardPosition);
+        em.persist(recruitBoard);
+        em.persist(RecruitLike.of(user, recruitBoard));
+
+        Applicant applicant = Applicant.builder().build();
+        applicant.associate(user, boardPosition);
+        em.persist(applicant);
+        em.flush();
+        em.clear();
+
+        owner = User.builder().id(user.getId()).nickname("tester").email("test@naver.com").build();
+    }
+
+    @DisplayName("마이페이지 항목은 회원 엔티티를 다시 조회하지 않고 회원 id로 불러온다.")
+    @Test
+    void loadSectionsByOwner() {
+        List<LikeBoardResponse> likeBoards = mypageLoader.loadLikeBoards(owner);
+        List<UploadBoardResponse> uploadBoards = mypageLoader.loadUploadBoards(owner);
+        List<ApplyBoardResponse> applyBoards = mypageLoader.loadApplyBoards(owner);
+
+        assertAll(
+            () -> assertThat(mypageLoader.countBoards(owner)).isEqualTo(2),
+            () -> assertThat(likeBoards).extracting(LikeBoardResponse::getCategory)
+                .containsExactlyInAnyOrder("projects", "recruits"),
+            () -> assertThat(uploadBoards).extracting(UploadBoardResponse::getCategory)
+                .containsExactlyInAnyOrder("projects", "recruits"),
+            () -> assertThat(uploadBoards).allMatch(UploadBoardResponse::getLike),
+            () -> assertThat(applyBoards).extracting(ApplyBoardResponse::getTitle).containsExactly("모집 게시판")
+        );
+    }
+}
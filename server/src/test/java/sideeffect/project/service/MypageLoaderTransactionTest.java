@@ -0,0 +1,101 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.junit.jupiter.api.Assertions.assertAll;
+
+import jakarta.persistence.EntityManager;
+import java.util.List;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.context.annotation.Import;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import sideeffect.project.common.jpa.TestDataRepository;
+import sideeffect.project.domain.applicant.Applicant;
+import sideeffect.project.domain.freeboard.FreeBoard;
+import sideeffect.project.domain.like.Like;
+import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.domain.position.Position;
+import sideeffect.project.domain.position.PositionType;
+import sideeffect.project.domain.recruit.BoardPosition;
+import sideeffect.project.domain.recruit.RecruitBoard;
+import sideeffect.project.domain.user.User;
+import sideeffect.project.dto.user.ApplyBoardResponse;
+import sideeffect.project.dto.user.LikeBoardResponse;
+import sideeffect.project.dto.user.UploadBoardResponse;
+
+@Import(MypageLoader.class)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class MypageLoaderTransactionTest extends TestDataRepository {
+
+    private static final List<String> CLEANUP = List.of("Applicant", "RecruitLike", "Like", "BoardPosition",
+        "RecruitBoard", "FreeBoard", "Position", "User");
+
+    @Autowired
+    EntityManager em;
+
+    @Autowired
+    MypageLoader mypageLoader;
+
+    @Autowired
+    PlatformTransactionManager transactionManager;
+
+    private TransactionTemplate transactionTemplate;
+    private User owner;
+
+    @BeforeEach
+    void setUp() {
+        transactionTemplate = new TransactionTemplate(transactionManager);
+        owner = transactionTemplate.execute(status -> {
+            Position position = Position.builder().positionType(PositionType.BACKEND).build();
+            em.persist(position);
+
+            User user = User.builder().nickname("tester").email("test@naver.com").build();
+            em.persist(user);
+
+            FreeBoard freeBoard = FreeBoard.builder().title("자랑 게시판").content("자랑합니다.").projectUrl("url").build();
+            freeBoard.associateUser(user);
+            em.persist(freeBoard);
+            em.persist(Like.of(user, freeBoard));
+
+            RecruitBoard recruitBoard = RecruitBoard.builder().title("모집 게시판").contents("모집합니다.").build();
+            recruitBoard.associateUser(user);
+            BoardPosition boardPosition = BoardPosition.builder().position(position).targetNumber(2).build();
+            recruitBoard.addBoardPosition(boardPosition);
+            em.persist(recruitBoard);
+            em.persist(RecruitLike.of(user, recruitBoard));
+
+            Applicant applicant = Applicant.builder().build();
+            applicant.associate(user, boardPosition);
+            em.persist(applicant);
+            return User.builder().id(user.getId()).nickname("tester").email("test@naver.com").build();
+        });
+    }
+
+    @AfterEach
+    void tearDown() {
+        transactionTemplate.executeWithoutResult(status ->
+            CLEANUP.forEach(entity -> em.createQuery("DELETE FROM " + entity).executeUpdate()));
+    }
+
+    @DisplayName("바깥 트랜잭션 없이도 마이페이지 항목의 연관관계를 로더 트랜잭션 안에서 모두 읽는다.")
+    @Test
+    void loadSectionsWithoutOuterTransaction() {
+        List<LikeBoardResponse> likeBoards = mypageLoader.loadLikeBoards(owner);
+        List<UploadBoardResponse> uploadBoards = mypageLoader.loadUploadBoards(owner);
+        List<ApplyBoardResponse> applyBoards = mypageLoader.loadApplyBoards(owner);
+
+        assertAll(
+            () -> assertThat(likeBoards).extracting(LikeBoardResponse::getLikeNum).containsOnly(1),
+            () -> assertThat(uploadBoards).extracting(UploadBoardResponse::getLikeNum).containsOnly(1),
+            () -> assertThat(uploadBoards).extracting(UploadBoardResponse::getPositions)
+                .contains(List.of(PositionType.BACKEND)),
+            () -> assertThat(applyBoards).extracting(ApplyBoardResponse::getPosition).containsExactly(PositionType.BACKEND)
+        );
+    }
+}
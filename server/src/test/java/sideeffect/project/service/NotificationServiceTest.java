@@ -7,22 +7,31 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.cache.UserSummaryCache;
+import sideeffect.project.common.exception.InvalidValueException;
+import sideeffect.project.domain.freeboard.FreeBoard;
 import sideeffect.project.domain.notification.Notification;
 import sideeffect.project.domain.notification.NotificationType;
 import sideeffect.project.domain.position.PositionType;
 import sideeffect.project.domain.user.ProviderType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
+import sideeffect.project.dto.notification.NotificationBulkResponse;
 import sideeffect.project.dto.notification.NotificationResponse;
 import sideeffect.project.dto.notification.NotificationScrollResponse;
+import sideeffect.project.repository.FreeBoardRepository;
 import sideeffect.project.repository.NotificationRepository;
+import sideeffect.project.repository.UserRepository;
 
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.Mockito.doReturn;
 import static org.mockito.Mockito.verify;
 
@@ -35,7 +44,20 @@ class NotificationServiceTest {
     @Mock
     NotificationRepository notificationRepository;
 
+    @Mock
+    UserSummaryCache userSummaryCache;
+
+    @Mock
+    NotificationRetentionService notificationRetentionService;
+
+    @Mock
+    FreeBoardRepository freeBoardRepository;
+
+    @Mock
+    UserRepository userRepository;
+
     User user;
+    List<Notification> notifications;
     Notification notification;
     @BeforeEach
     void beforeEach(){
@@ -52,13 +74,14 @@ class NotificationServiceTest {
                 .githubUrl("github/tlsrl6427")
                 .portfolioUrl("naver.com/tlsrl6427")
                 .userRoleType(UserRoleType.ROLE_USER)
-                .notifications(List.of(
-                        new Notification(1L, "제목1", "내용1", "", false, user, user, NotificationType.APPROVE),
-                        new Notification(2L, "제목2", "내용2", "", false, user, user, NotificationType.APPROVE),
-                        new Notification(3L, "제목3", "내용3", "", true, user, user, NotificationType.APPROVE)
-                ))
                 .build();
 
+        notifications = List.of(
+                new Notification(1L, "제목1", "내용1", "", false, user, user, NotificationType.APPROVE),
+                new Notification(2L, "제목2", "내용2", "", false, user, user, NotificationType.APPROVE),
+                new Notification(3L, "제목3", "내용3", "", true, user, user, NotificationType.APPROVE)
+        );
+
         notification = Notification.builder()
                 .id(1L)
                 .title("제목")
@@ -72,9 +95,14 @@ class NotificationServiceTest {
     @DisplayName("알림 목록 조회")
     @Test
     void view() {
+        doReturn(notifications).when(notificationRepository).findByUserId(any());
+
         List<NotificationResponse> notificationResponses = notificationService.view(user);
 
-        assertThat(notificationResponses).hasSize(3);
+        assertAll(
+                () -> verify(notificationRepository).findByUserId(user.getId()),
+                () -> assertThat(notificationResponses).hasSize(3)
+        );
     }
 
     @Test
@@ -103,12 +131,12 @@ class NotificationServiceTest {
 
     @Test
     void scroll() {
-        doReturn(user.getNotifications()).when(notificationRepository).findByLastId(any(), any());
+        doReturn(notifications).when(notificationRepository).findByLastId(any(), any(), any());
 
         NotificationScrollResponse notificationScrollResponse = notificationService.scroll(user, -1L);
 
         assertAll(
-                () -> verify(notificationRepository).findByLastId(any(), any()),
+                () -> verify(notificationRepository).findByLastId(any(), any(), any()),
                 () -> assertThat(notificationScrollResponse.getNotificationResponses()).hasSize(3),
                 () -> assertThat(notificationScrollResponse.getLastId()).isEqualTo(3L)
         );
@@ -116,8 +144,99 @@ class NotificationServiceTest {
 
     @Test
     void getViewCount() {
+        doReturn(2L).when(notificationRepository).countByUserIdAndWatchedFalse(any());
+
         int viewCount = notificationService.getViewCount(user);
 
         assertThat(viewCount).isEqualTo(2);
     }
-}
\ No newline at end of file
+
+    @DisplayName("알림을 모두 읽음 처리하고 남은 안읽은 알림 수를 반환한다")
+    @Test
+    void watchAll() {
+        doReturn(3).when(notificationRepository).watchAll(user.getId());
+        doReturn(0L).when(notificationRepository).countByUserIdAndWatchedFalse(user.getId());
+
+        NotificationBulkResponse response = notificationService.watchAll(user);
+
+        assertAll(
+                () -> verify(notificationRepository).watchAll(user.getId()),
+                () -> assertThat(response.getAffected()).isEqualTo(3),
+                () -> assertThat(response.getUnreadCount()).isZero()
+        );
+    }
+
+    @DisplayName("선택한 알림을 한 번에 삭제한다")
+    @Test
+    void deleteAllByIds() {
+        doReturn(2).when(notificationRepository).deleteByIds(user.getId(), List.of(1L, 2L));
+        doReturn(1L).when(notificationRepository).countByUserIdAndWatchedFalse(user.getId());
+
+        NotificationBulkResponse response = notificationService.deleteAll(user, List.of(1L, 2L), null);
+
+        assertAll(
+                () -> verify(notificationRepository).deleteByIds(user.getId(), List.of(1L, 2L)),
+                () -> assertThat(response.getAffected()).isEqualTo(2),
+                () -> assertThat(response.getUnreadCount()).isEqualTo(1L)
+        );
+    }
+
+    @DisplayName("삭제할 알림 목록과 기준 알림을 함께 지정하거나 모두 비우면 예외가 발생한다")
+    @Test
+    void deleteAllWithInvalidTarget() {
+        assertAll(
+                () -> assertThatThrownBy(() -> notificationService.deleteAll(user, List.of(1L), 10L))
+                        .isInstanceOf(InvalidValueException.class),
+                () -> assertThatThrownBy(() -> notificationService.deleteAll(user, null, null))
+                        .isInstanceOf(InvalidValueException.class)
+        );
+    }
+
+    @DisplayName("읽지 않은 같은 게시판 댓글 알림이 있으면 이전 알림을 지우고 합친 알림을 새로 저장한다")
+    @Test
+    void notifyFreeCommentCollapsed() {
+        FreeBoard freeBoard = FreeBoard.builder().id(1L).title("자랑 게시판").build();
+        freeBoard.associateUser(user);
+        doReturn(Optional.of(freeBoard)).when(freeBoardRepository).findById(1L);
+        Notification previous = new Notification(5L, "자랑 게시판", "님이 댓글을 달았습니다", "/projects/1", false, user, user, NotificationType.COMMENT);
+        doReturn(User.builder().id(2L).build()).when(userRepository).getReferenceById(2L);
+        doReturn(List.of(5L)).when(notificationRepository)
+                .findCollapsibleIds(eq(user.getId()), eq("COMMENT:/projects/1"), any(), any());
+        doReturn(Optional.of(previous)).when(notificationRepository).findByIdForUpdate(5L);
+
+        notificationService.notifyFreeComment(1L, 2L);
+
+        assertAll(
+                () -> verify(notificationRepository).delete(previous),
+                () -> verify(notificationRepository).save(argThat(saved -> saved.getActorCount() == 2))
+        );
+    }
+
+    @DisplayName("합칠 알림이 없으면 새 알림을 만든다")
+    @Test
+    void notifyFreeCommentWithoutCollapse() {
+        FreeBoard freeBoard = FreeBoard.builder().id(1L).title("자랑 게시판").build();
+        freeBoard.associateUser(user);
+        doReturn(Optional.of(freeBoard)).when(freeBoardRepository).findById(1L);
+        doReturn(List.of()).when(notificationRepository).findCollapsibleIds(any(), any(), any(), any());
+
+        notificationService.notifyFreeComment(1L, 2L);
+
+        verify(notificationRepository).save(any());
+    }
+
+    @DisplayName("합쳐진 알림은 참여한 인원 수로 내용을 보여준다")
+    @Test
+    void viewCollapsed() {
+        Notification collapsed = new Notification(4L, "제목4", "님이 백엔드에 지원했습니다", "/recruits/1", false, user, user, NotificationType.REGISTER);
+        collapsed.setActorCount(3);
+        doReturn(List.of(collapsed)).when(notificationRepository).findByUserId(any());
+
+        List<NotificationResponse> notificationResponses = notificationService.view(user);
+
+        assertAll(
+                () -> assertThat(notificationResponses.get(0).getContents()).isEqualTo("님 외 2명이 지원했습니다"),
+                () -> assertThat(notificationResponses.get(0).getActorCount()).isEqualTo(3)
+        );
+    }
+}
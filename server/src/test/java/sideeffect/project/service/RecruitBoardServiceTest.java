@@ -9,11 +9,14 @@ import org.junit.jupiter.params.provider.Arguments;
 import org.junit.jupiter.params.provider.MethodSource;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
+import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.common.exception.InvalidValueException;
 import sideeffect.project.common.fileupload.service.RecruitUploadService;
-import sideeffect.project.domain.like.RecruitLike;
 import sideeffect.project.domain.position.Position;
 import sideeffect.project.domain.position.PositionType;
 import sideeffect.project.domain.recruit.BoardPosition;
@@ -23,7 +26,16 @@ import sideeffect.project.domain.stack.StackType;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.domain.user.UserRoleType;
 import sideeffect.project.dto.recruit.*;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.BoardViewRedisRepository;
+import sideeffect.project.redis.LikeStatus;
+import sideeffect.project.redis.TrendingScore;
+import sideeffect.project.redis.ViewStatus;
+import sideeffect.project.repository.ApplicantRepository;
 import sideeffect.project.repository.RecruitBoardRepository;
+import sideeffect.project.repository.RecruitCommentRepository;
+import sideeffect.project.repository.UserRepository;
 
 import java.io.IOException;
 import java.util.ArrayList;
@@ -58,6 +70,36 @@ class RecruitBoardServiceTest {
     @Mock
     private MailService mailService;
 
+    @Mock
+    private BoardLikeRedisRepository boardLikeRedisRepository;
+
+    @Mock
+    private BoardViewRedisRepository boardViewRedisRepository;
+
+    @Mock
+    private TrendingService trendingService;
+
+    @Mock
+    private RecruitCommentRepository recruitCommentRepository;
+
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
+    @Mock
+    private ApplicantRepository applicantRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private DeletionService deletionService;
+
+    @Mock
+    private BoardArchiveService boardArchiveService;
+
+    @Spy
+    private BoardDetailCache boardDetailCache = new BoardDetailCache();
+
     private User user;
     private RecruitBoard recruitBoard;
     private Position position;
@@ -109,6 +151,7 @@ class RecruitBoardServiceTest {
         when(positionService.findByPositionType(any())).thenReturn(position);
         when(stackService.findByStackType(any())).thenReturn(stack);
         when(recruitUploadService.storeFile(any())).thenReturn(imgPath);
+        when(userRepository.getReferenceById(any())).thenReturn(user);
 
         recruitBoardService.register(user, request);
 
@@ -122,39 +165,86 @@ class RecruitBoardServiceTest {
     @DisplayName("모집 게시판을 조회한다.")
     @Test
     void getRecruitBoard() {
-        int beforeViews = recruitBoard.getViews();
-        RecruitBoardAndLikeDto likeDto = RecruitBoardAndLikeDto.builder().recruitBoard(recruitBoard).build();
+        when(recruitBoardRepository.findDetailById(any())).thenReturn(Optional.of(recruitBoard));
+        when(boardViewRedisRepository.addViewer(any(), any(), any())).thenReturn(new ViewStatus(true, 1L));
+        when(boardLikeRedisRepository.findStatus(any(), any(), any())).thenReturn(new LikeStatus(false, 0));
+
+        recruitBoardService.findRecruitBoard(1L, user, "127.0.0.1");
+
+        assertAll(
+                () -> verify(recruitBoardRepository).findDetailById(any()),
+                () -> verify(recruitBoardRepository).increaseViews(1L)
+        );
+    }
 
-        when(recruitBoardRepository.findByBoardIdAndUserId(any(),any())).thenReturn(Optional.of(likeDto));
+    @DisplayName("모집 게시판 상세 조회는 캐시된 게시판을 재사용한다.")
+    @Test
+    void getRecruitBoardFromCache() {
+        when(recruitBoardRepository.findDetailById(any())).thenReturn(Optional.of(recruitBoard));
+        when(boardViewRedisRepository.addViewer(any(), any(), any()))
+                .thenReturn(new ViewStatus(true, 1L), new ViewStatus(false, 1L));
+        when(boardLikeRedisRepository.findStatus(any(), any(), any())).thenReturn(new LikeStatus(false, 0));
 
-        recruitBoardService.findRecruitBoard(1L, user);
+        recruitBoardService.findRecruitBoard(1L, user, "127.0.0.1");
+        recruitBoardService.findRecruitBoard(1L, user, "127.0.0.1");
 
         assertAll(
-                () -> verify(recruitBoardRepository).findByBoardIdAndUserId(any(), any()),
-                () -> assertThat(recruitBoard.getViews()).isEqualTo(beforeViews + 1)
+                () -> verify(recruitBoardRepository, times(1)).findDetailById(any()),
+                () -> verify(recruitBoardRepository, times(1)).increaseViews(1L)
         );
     }
 
     @DisplayName("모집 게시판 상세 조회에 좋아요 여부도 반환한다.")
     @Test
     void getRecruitBoardWithLike() {
-        int beforeViews = recruitBoard.getViews();
-        RecruitLike recruitLike = RecruitLike.createRecruitLike(user, recruitBoard);
-
-        RecruitBoardAndLikeDto likeDto = RecruitBoardAndLikeDto.builder().recruitBoard(recruitBoard).like(true).build();
+        when(recruitBoardRepository.findDetailById(any())).thenReturn(Optional.of(recruitBoard));
+        when(boardViewRedisRepository.addViewer(any(), any(), any())).thenReturn(new ViewStatus(true, 1L));
+        when(boardLikeRedisRepository.findStatus(BoardType.RECRUIT, recruitBoard.getId(), user.getId()))
+                .thenReturn(new LikeStatus(true, 1));
 
-        when(recruitBoardRepository.findByBoardIdAndUserId(any(),any())).thenReturn(Optional.of(likeDto));
-
-        DetailedRecruitBoardResponse response = recruitBoardService.findRecruitBoard(recruitBoard.getId(), user);
+        DetailedRecruitBoardResponse response = recruitBoardService.findRecruitBoard(recruitBoard.getId(), user, "127.0.0.1");
 
         assertAll(
-                () -> verify(recruitBoardRepository).findByBoardIdAndUserId(any(), any()),
-                () -> assertThat(recruitBoard.getViews()).isEqualTo(beforeViews + 1),
+                () -> verify(recruitBoardRepository).findDetailById(any()),
+                () -> verify(boardLikeRedisRepository).findStatus(BoardType.RECRUIT, recruitBoard.getId(), user.getId()),
                 () -> assertThat(response.isLike()).isTrue(),
                 () -> assertThat(response.getLikeNum()).isEqualTo(1)
         );
     }
 
+    @DisplayName("보관된 모집 게시판은 보관 테이블에서 조회한다.")
+    @Test
+    void getArchivedRecruitBoard() {
+        DetailedRecruitBoardResponse archived = DetailedRecruitBoardResponse.builder()
+                .id(1L)
+                .likeNum(3)
+                .positions(List.of())
+                .archived(true)
+                .build();
+        when(recruitBoardRepository.findDetailById(any())).thenReturn(Optional.empty());
+        when(boardArchiveService.findRecruitBoard(1L)).thenReturn(Optional.of(archived));
+
+        DetailedRecruitBoardResponse response = recruitBoardService.findRecruitBoard(1L, user, "127.0.0.1");
+
+        assertAll(
+                () -> verify(boardArchiveService).findRecruitBoard(1L),
+                () -> assertThat(response.getId()).isEqualTo(1L),
+                () -> assertThat(response.getLikeNum()).isEqualTo(3),
+                () -> verify(recruitBoardRepository, never()).increaseViews(any()),
+                () -> verifyNoInteractions(boardViewRedisRepository, boardLikeRedisRepository)
+        );
+    }
+
+    @DisplayName("존재하지 않는 모집 게시판을 조회하면 예외가 발생한다.")
+    @Test
+    void getNotExistRecruitBoard() {
+        when(recruitBoardRepository.findDetailById(any())).thenReturn(Optional.empty());
+        when(boardArchiveService.findRecruitBoard(1L)).thenReturn(Optional.empty());
+
+        assertThatThrownBy(() -> recruitBoardService.findRecruitBoard(1L, user, "127.0.0.1"))
+                .isInstanceOf(EntityNotFoundException.class);
+    }
+
     @DisplayName("모집 게시판을 전체 조회한다.")
     @Test
     void findAllRecruitBoard() {
@@ -275,7 +365,11 @@ class RecruitBoardServiceTest {
 
         recruitBoardService.deleteRecruitBoard(1L, 1L);
 
-        verify(recruitBoardRepository).delete(any());
+        assertAll(
+                () -> verify(deletionService).deleteRecruitBoard(recruitBoard),
+                () -> verify(boardLikeRedisRepository).deleteBoard(BoardType.RECRUIT, 1L),
+                () -> verify(trendingService).remove(BoardType.RECRUIT, 1L)
+        );
     }
 
     @DisplayName("모집 게시판 주인이 아닌자가 삭제 시도 시 예외 발생")
@@ -306,6 +400,56 @@ class RecruitBoardServiceTest {
         );
     }
 
+    @DisplayName("모집 게시판 목록을 인기순으로 조회하고 조건에 맞지 않는 게시판은 건너뛴다.")
+    @Test
+    void findTrendingBoards() {
+        List<RecruitBoardAndLikeDto> recruitBoards = generateRecruitBoards(1L, 3);
+        RecruitBoardScrollRequest request = RecruitBoardScrollRequest.builder()
+                .orderType(RecruitOrderType.TRENDING).keyword("모집").size(2).build();
+        when(trendingService.findPage(eq(BoardType.RECRUIT), isNull(), isNull(), eq(3)))
+                .thenReturn(List.of(new TrendingScore(3L, 9.0), new TrendingScore(1L, 8.0), new TrendingScore(2L, 7.0)));
+        when(trendingService.findPage(BoardType.RECRUIT, 7.0, 2L, 3)).thenReturn(List.of());
+        when(recruitBoardRepository.findWithIds(any(), any(), any(), any()))
+                .thenReturn(List.of(recruitBoards.get(1), recruitBoards.get(2)));
+
+        RecruitBoardScrollResponse scrollResponse = recruitBoardService.findRecruitBoards(request, user);
+
+        assertAll(
+                () -> assertThat(scrollResponse.getRecruitBoards()).extracting(RecruitBoardResponse::getId)
+                        .containsExactly(3L, 2L),
+                () -> assertThat(scrollResponse.getLastId()).isEqualTo(2L),
+                () -> assertThat(scrollResponse.getLastScore()).isEqualTo(7.0),
+                () -> assertThat(scrollResponse.isHasNext()).isFalse(),
+                () -> verify(recruitBoardRepository, never()).findWithSearchConditions(any(), any(), any(), any(), any())
+        );
+    }
+
+    @DisplayName("인기순 조회는 정해진 페이지만 훑고 이어서 조회할 커서를 반환한다.")
+    @Test
+    void findTrendingBoardsWithScanLimit() {
+        RecruitBoardScrollRequest request = RecruitBoardScrollRequest.builder()
+                .orderType(RecruitOrderType.TRENDING).keyword("없는 키워드").size(2).build();
+        when(trendingService.findPage(eq(BoardType.RECRUIT), any(), any(), eq(3))).thenAnswer(invocation -> {
+            Long lastId = invocation.getArgument(2);
+            long start = lastId == null ? 1L : lastId + 1;
+            return List.of(new TrendingScore(start, 100.0 - start), new TrendingScore(start + 1, 99.0 - start),
+                    new TrendingScore(start + 2, 98.0 - start));
+        });
+        when(recruitBoardRepository.findWithIds(any(), any(), any(), any())).thenReturn(List.of());
+
+        RecruitBoardScrollResponse scrollResponse = recruitBoardService.findRecruitBoards(request, user);
+
+        long lastScannedId = RecruitBoardService.MAX_TRENDING_PAGES * 3L;
+        assertAll(
+                () -> verify(trendingService, times(RecruitBoardService.MAX_TRENDING_PAGES))
+                        .findPage(eq(BoardType.RECRUIT), any(), any(), eq(3)),
+                () -> assertThat(scrollResponse.getRecruitBoards()).isEmpty(),
+                () -> assertThat(scrollResponse.isHasNext()).isTrue(),
+                () -> assertThat(scrollResponse.getLastId()).isEqualTo(lastScannedId),
+                () -> assertThat(scrollResponse.getLastScore()).isEqualTo(100.0 - lastScannedId)
+        );
+    }
+
     @DisplayName("모집 게시판 목록을 키워드로 검색한다.")
     @Test
     void findBoardWithKeyword() {
@@ -6,15 +6,21 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.common.cache.BoardDetailCache;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.exception.AuthException;
 import sideeffect.project.domain.comment.RecruitComment;
 import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.comment.RecruitCommentRequest;
+import sideeffect.project.dto.comment.RecruitCommentResponse;
+import sideeffect.project.dto.comment.RecruitCommentScrollResponse;
 import sideeffect.project.repository.RecruitBoardRepository;
 import sideeffect.project.repository.RecruitCommentRepository;
 
+import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -30,12 +36,18 @@ class RecruitCommentServiceTest {
     @InjectMocks
     private RecruitCommentService recruitCommentService;
 
+    @Spy
+    private BoardDetailCache boardDetailCache = new BoardDetailCache();
+
     @Mock
     private RecruitBoardRepository recruitBoardRepository;
 
     @Mock
     private RecruitCommentRepository recruitCommentRepository;
 
+    @Mock
+    private UserSummaryCache userSummaryCache;
+
     private User user;
     private RecruitBoard recruitBoard;
     private RecruitComment recruitComment;
@@ -126,4 +138,20 @@ class RecruitCommentServiceTest {
         assertThatThrownBy(() -> recruitCommentService.delete(nonOwnerId, commentId))
             .isInstanceOf(AuthException.class);
     }
+
+    @DisplayName("마지막 페이지의 댓글을 조회하면 다음 페이지가 없다.")
+    @Test
+    void findBoardComments() {
+        when(recruitCommentRepository.findCommentResponses(any(), any(), any())).thenReturn(List.of(
+                new RecruitCommentResponse(2L, recruitBoard.getId(), "댓글2", "test", 1L),
+                new RecruitCommentResponse(1L, recruitBoard.getId(), "댓글1", "test", 1L)));
+
+        RecruitCommentScrollResponse response = recruitCommentService.findBoardComments(recruitBoard.getId(), null, 10);
+
+        assertAll(
+                () -> assertThat(response.getComments()).hasSize(2),
+                () -> assertThat(response.getLastId()).isEqualTo(1L),
+                () -> assertThat(response.isHasNext()).isFalse()
+        );
+    }
 }
@@ -7,19 +7,20 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import sideeffect.project.domain.like.RecruitLike;
+import sideeffect.project.common.exception.EntityNotFoundException;
 import sideeffect.project.domain.recruit.RecruitBoard;
 import sideeffect.project.domain.user.User;
 import sideeffect.project.dto.like.LikeResult;
 import sideeffect.project.dto.like.RecruitLikeResponse;
+import sideeffect.project.redis.BoardLikeRedisRepository;
+import sideeffect.project.redis.BoardType;
 import sideeffect.project.repository.RecruitBoardRepository;
-import sideeffect.project.repository.RecruitLikeRepository;
-
-import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.junit.jupiter.api.Assertions.assertAll;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -30,14 +31,13 @@ public class RecruitLikeServiceTest {
     private RecruitLikeService recruitLikeService;
 
     @Mock
-    RecruitLikeRepository recruitLikeRepository;
+    BoardLikeRedisRepository boardLikeRedisRepository;
 
     @Mock
     RecruitBoardRepository recruitBoardRepository;
 
     private User user;
     private RecruitBoard recruitBoard;
-    private RecruitLike recruitLike;
 
     @BeforeEach
     void setUp() {
@@ -54,39 +54,47 @@ public class RecruitLikeServiceTest {
                 .projectName("프로젝트 명")
                 .contents("모집 게시판 내용")
                 .build();
-
-        recruitLike = RecruitLike.createRecruitLike(user, recruitBoard);
     }
 
     @DisplayName("유저가 모집게시판을 추천한다.")
     @Test
     void recruitBoardLike() {
-        when(recruitLikeRepository.findByUserIdAndRecruitBoardId(any(), any())).thenReturn(Optional.empty());
-        when(recruitBoardRepository.findById(any())).thenReturn(Optional.of(recruitBoard));
-        when(recruitLikeRepository.save(any())).thenReturn(recruitLike);
+        when(recruitBoardRepository.existsById(any())).thenReturn(true);
+        when(boardLikeRedisRepository.toggle(BoardType.RECRUIT, recruitBoard.getId(), user.getId())).thenReturn(true);
 
         RecruitLikeResponse response = recruitLikeService.toggleLike(user, recruitBoard.getId());
 
         assertAll(
-                () -> verify(recruitLikeRepository).findByUserIdAndRecruitBoardId(any(), any()),
-                () -> verify(recruitBoardRepository).findById(any()),
-                () -> verify(recruitLikeRepository).save(any()),
-                () -> assertThat(response.getMessage()).isEqualTo(LikeResult.LIKE.getMessage()),
-                () -> assertThat(recruitBoard.getRecruitLikes()).contains(recruitLike)
+                () -> verify(boardLikeRedisRepository).toggle(BoardType.RECRUIT, recruitBoard.getId(), user.getId()),
+                () -> assertThat(response.getRecruitBoardId()).isEqualTo(recruitBoard.getId()),
+                () -> assertThat(response.getMessage()).isEqualTo(LikeResult.LIKE.getMessage())
         );
     }
 
     @DisplayName("유저가 모집게시판 추천을 취소한다.")
     @Test
     void cancelLike() {
-        when(recruitLikeRepository.findByUserIdAndRecruitBoardId(any(), any())).thenReturn(Optional.of(recruitLike));
+        when(recruitBoardRepository.existsById(any())).thenReturn(true);
+        when(boardLikeRedisRepository.toggle(BoardType.RECRUIT, recruitBoard.getId(), user.getId())).thenReturn(false);
 
         RecruitLikeResponse response = recruitLikeService.toggleLike(user, recruitBoard.getId());
 
         assertAll(
-                () -> verify(recruitLikeRepository).findByUserIdAndRecruitBoardId(any(), any()),
+                () -> verify(boardLikeRedisRepository).toggle(BoardType.RECRUIT, recruitBoard.getId(), user.getId()),
                 () -> assertThat(response.getMessage()).isEqualTo(LikeResult.CANCEL_LIKE.getMessage())
         );
     }
 
+    @DisplayName("존재하지 않는 모집게시판을 추천하면 예외가 발생한다.")
+    @Test
+    void likeNotExistingBoard() {
+        when(recruitBoardRepository.existsById(any())).thenReturn(false);
+
+        assertAll(
+                () -> assertThatThrownBy(() -> recruitLikeService.toggleLike(user, recruitBoard.getId()))
+                        .isInstanceOf(EntityNotFoundException.class),
+                () -> verify(boardLikeRedisRepository, never()).toggle(any(), any(), any())
+        );
+    }
+
 }
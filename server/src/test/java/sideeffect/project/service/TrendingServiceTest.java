@@ -0,0 +1,85 @@
+package sideeffect.project.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.offset;
+import static org.junit.jupiter.api.Assertions.assertAll;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyDouble;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import sideeffect.project.domain.stats.BoardDailyStat;
+import sideeffect.project.domain.stats.StatMetric;
+import sideeffect.project.redis.BoardType;
+import sideeffect.project.redis.TrendingRedisRepository;
+import sideeffect.project.repository.BoardDailyStatRepository;
+
+@ExtendWith(MockitoExtension.class)
+class TrendingServiceTest {
+
+    @InjectMocks
+    private TrendingService trendingService;
+
+    @Mock
+    private TrendingRedisRepository trendingRedisRepository;
+
+    @Mock
+    private BoardDailyStatRepository boardDailyStatRepository;
+
+    @DisplayName("가중치가 큰 활동일수록 인기 점수가 더 크게 오른다.")
+    @Test
+    void recordWithWeight() {
+        trendingService.record(BoardType.RECRUIT, 1L, StatMetric.VIEWS, 1);
+        trendingService.record(BoardType.RECRUIT, 2L, StatMetric.APPLICATIONS, 1);
+
+        ArgumentCaptor<Double> viewScore = ArgumentCaptor.forClass(Double.class);
+        ArgumentCaptor<Double> applicationScore = ArgumentCaptor.forClass(Double.class);
+        verify(trendingRedisRepository).increase(eq(BoardType.RECRUIT), eq(1L), viewScore.capture());
+        verify(trendingRedisRepository).increase(eq(BoardType.RECRUIT), eq(2L), applicationScore.capture());
+
+        assertThat(applicationScore.getValue() - viewScore.getValue()).isCloseTo(Math.log(5), offset(0.01));
+    }
+
+    @DisplayName("추천 취소처럼 음수인 활동은 인기 점수에 반영하지 않는다.")
+    @Test
+    void recordNegativeDelta() {
+        trendingService.record(BoardType.RECRUIT, 1L, StatMetric.LIKES, -1);
+
+        verify(trendingRedisRepository, never()).increase(any(), anyLong(), anyDouble());
+    }
+
+    @DisplayName("최근 통계로 인기 점수를 채우고 오래된 날일수록 낮은 점수를 준다.")
+    @Test
+    void load() {
+        BoardDailyStat recent = BoardDailyStat.of(BoardType.RECRUIT, 1L, LocalDate.now());
+        recent.add(StatMetric.VIEWS, 2);
+        BoardDailyStat old = BoardDailyStat.of(BoardType.RECRUIT, 2L, LocalDate.now().minusDays(3));
+        old.add(StatMetric.VIEWS, 2);
+        BoardDailyStat canceled = BoardDailyStat.of(BoardType.RECRUIT, 3L, LocalDate.now());
+        canceled.add(StatMetric.LIKES, -1);
+        when(boardDailyStatRepository.findRecentStats(eq(BoardType.RECRUIT), any())).thenReturn(List.of(recent, old, canceled));
+
+        trendingService.load(BoardType.RECRUIT);
+
+        ArgumentCaptor<Double> recentScore = ArgumentCaptor.forClass(Double.class);
+        ArgumentCaptor<Double> oldScore = ArgumentCaptor.forClass(Double.class);
+        assertAll(
+            () -> verify(trendingRedisRepository).increase(eq(BoardType.RECRUIT), eq(1L), recentScore.capture()),
+            () -> verify(trendingRedisRepository).increase(eq(BoardType.RECRUIT), eq(2L), oldScore.capture()),
+            () -> verify(trendingRedisRepository, never()).increase(eq(BoardType.RECRUIT), eq(3L), anyDouble()),
+            () -> assertThat(recentScore.getValue()).isGreaterThan(oldScore.getValue())
+        );
+    }
+}
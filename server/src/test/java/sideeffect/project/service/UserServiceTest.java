@@ -9,6 +9,7 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import sideeffect.project.common.cache.UserSummaryCache;
 import sideeffect.project.common.fileupload.service.UserUploadService;
 import sideeffect.project.domain.position.PositionType;
 import sideeffect.project.domain.user.ProviderType;
@@ -43,6 +44,15 @@ class UserServiceTest {
     @Mock
     UserUploadService userUploadService;
 
+    @Mock
+    UserSummaryCache userSummaryCache;
+
+    @Mock
+    MypageAssembler mypageAssembler;
+
+    @Mock
+    DeletionService deletionService;
+
     User user;
     @BeforeEach
     void beforeEach(){
@@ -89,8 +99,12 @@ class UserServiceTest {
     @DisplayName("단일 회원 조회(마이페이지일 경우)")
     @Test
     void findOne(){
+        when(mypageAssembler.assemble(user))
+                .thenReturn(UserResponse.ownerOf(user, 0, List.of(), List.of(), List.of(), List.of(), false));
+
         UserResponse userResponse = userService.findOne(user, 1L);
         assertAll(
+            ()->verify(mypageAssembler).assemble(user),
             ()->assertThat(userResponse.getEmail()).isEqualTo(user.getEmail()),
             ()->assertThat(userResponse.getNickname()).isEqualTo(user.getNickname()),
             ()->assertThat(userResponse.getIsOwner()).isEqualTo(true)
@@ -106,12 +120,11 @@ class UserServiceTest {
                 .nickname("test")
                 .build();
 
-        //when(userRepository.findById(any())).thenReturn(Optional.of(findUser));
-        doReturn(Optional.of(findUser)).when(userRepository).findById(any());
+        when(mypageAssembler.findProfile(2L)).thenReturn(UserResponse.justOf(findUser));
         UserResponse userResponse = userService.findOne(user, 2L);
 
         assertAll(
-                ()->verify(userRepository).findById(any()),
+                ()->verify(mypageAssembler).findProfile(2L),
                 ()->assertThat(userResponse.getEmail()).isEqualTo(findUser.getEmail()),
                 ()->assertThat(userResponse.getNickname()).isEqualTo(findUser.getNickname()),
                 ()->assertThat(userResponse.getIsOwner()).isEqualTo(false)
@@ -121,6 +134,8 @@ class UserServiceTest {
     @DisplayName("수정페이지 유저정보조회")
     @Test
     void findEditInfo() {
+        when(userRepository.findWithStacksById(any())).thenReturn(Optional.of(user));
+
         UserEditResponse  userEditResponse = userService.findEditInfo(user);
         assertAll(
                 () -> assertThat(userEditResponse.getNickname()).isEqualTo(user.getNickname()),
@@ -143,6 +158,7 @@ class UserServiceTest {
                 .career("senior")
                 .tags(List.of("AAA", "BBB"))
                 .build();
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         userService.update(user, 1L, request);
 
@@ -159,10 +175,14 @@ class UserServiceTest {
     @DisplayName("회원 삭제")
     @Test
     void delete(){
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         userService.delete(user, 1L);
 
-        verify(userRepository).deleteById(any());
+        assertAll(
+                () -> verify(deletionService).deleteUser(user),
+                () -> verify(userSummaryCache).evict(1L)
+        );
     }
 
     @DisplayName("닉네임 중복여부 체크")
@@ -182,11 +202,13 @@ class UserServiceTest {
     void uploadImage() throws IOException {
         String filepath = "/test.jpg";
         doReturn(filepath).when(userUploadService).storeFile(any());
+        when(userRepository.findById(any())).thenReturn(Optional.of(user));
 
         userService.uploadImage(user, new MockMultipartFile("test", "test content".getBytes()));
 
         assertAll(
                 () -> verify(userUploadService).storeFile(any()),
+                () -> verify(userSummaryCache).evict(user.getId()),
                 () -> assertThat(user.getImgUrl()).isEqualTo(filepath)
         );
     }